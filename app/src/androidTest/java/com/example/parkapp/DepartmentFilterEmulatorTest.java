@@ -0,0 +1,137 @@
+package com.example.parkapp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.ListenerRegistration;
+import com.google.firebase.firestore.QuerySnapshot;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Yetkili panelinin departman filtresini Firestore emülatörüne karşı doğrular.
+ * Bağlantı ayrıntıları için EmulatorSupport'a bakın.
+ */
+@RunWith(AndroidJUnit4.class)
+public class DepartmentFilterEmulatorTest {
+
+    private static final long TIMEOUT_SECONDS = EmulatorSupport.TIMEOUT_SECONDS;
+
+    private static final String OWN_DEPARTMENT = "Park ve Bahçeler";
+    private static final String OTHER_DEPARTMENT = "Temizlik İşleri";
+
+    private static FirebaseFirestore db;
+
+    @BeforeClass
+    public static void connectToEmulator() {
+        db = EmulatorSupport.connect();
+    }
+
+    @Before
+    public void seedComplaints() throws Exception {
+        QuerySnapshot existing = Tasks.await(db.collection("complaints").get(), TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        for (DocumentSnapshot document : existing.getDocuments()) {
+            Tasks.await(document.getReference().delete(), TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        ComplaintManager.getInstance().clear();
+
+        addComplaint("own-1", OWN_DEPARTMENT, 1);
+        addComplaint("own-2", OWN_DEPARTMENT, 2);
+        addComplaint("own-3", OWN_DEPARTMENT, 3);
+        addComplaint("other-1", OTHER_DEPARTMENT, 4);
+        addComplaint("other-2", OTHER_DEPARTMENT, 5);
+    }
+
+    @Test
+    public void getComplaintsByDepartment_returnsOnlyOwnDepartment() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<List<Complaint>> result = new AtomicReference<>();
+
+        FirebaseComplaintManager.getInstance().getComplaintsByDepartment(OWN_DEPARTMENT,
+                new FirebaseComplaintManager.OnComplaintsLoadedListener() {
+            @Override
+            public void onSuccess(List<Complaint> complaints) {
+                result.set(complaints);
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertOnlyOwnDepartment(result.get());
+    }
+
+    @Test
+    public void listenToComplaints_readsOnlyOwnDepartment() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<FirebaseComplaintManager.ComplaintChanges> initial = new AtomicReference<>();
+
+        ListenerRegistration registration = FirebaseComplaintManager.getInstance().listenToComplaints(OWN_DEPARTMENT,
+                new FirebaseComplaintManager.OnComplaintChangesListener() {
+            @Override
+            public void onChanges(FirebaseComplaintManager.ComplaintChanges changes) {
+                if (changes.isInitial) {
+                    initial.set(changes);
+                    latch.countDown();
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                latch.countDown();
+            }
+        });
+
+        try {
+            assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            // Sunucudan yalnızca kendi departmanının dokümanları okunmalı
+            assertEquals(3, initial.get().size);
+            assertOnlyOwnDepartment(initial.get().added);
+            // Yerel önbelleğe de başka departmandan şikayet girmemeli
+            assertEquals(0, ComplaintManager.getInstance().getComplaintsByDepartment(OTHER_DEPARTMENT).size());
+            assertEquals(3, ComplaintManager.getInstance().getComplaintsByDepartment(OWN_DEPARTMENT).size());
+        } finally {
+            registration.remove();
+        }
+    }
+
+    private static void assertOnlyOwnDepartment(List<Complaint> complaints) {
+        assertEquals(3, complaints.size());
+        List<String> ids = new ArrayList<>();
+        for (Complaint complaint : complaints) {
+            assertEquals(OWN_DEPARTMENT, complaint.getDepartment());
+            ids.add(complaint.getId());
+        }
+        assertTrue(ids.contains("own-1") && ids.contains("own-2") && ids.contains("own-3"));
+    }
+
+    private static void addComplaint(String id, String department, long minutesAgo) throws Exception {
+        Map<String, Object> data = new HashMap<>();
+        data.put("parkName", "Test Parkı");
+        data.put("department", department);
+        data.put("issueType", "Test");
+        data.put("description", id);
+        data.put("status", Complaint.STATUS_PENDING);
+        data.put("reportDate", new Date(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(minutesAgo)));
+        data.put("resolvedDate", null);
+        Tasks.await(db.collection("complaints").document(id).set(data), TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.parkapp;
+
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FirebaseFirestoreSettings;
+import com.google.firebase.firestore.MemoryCacheSettings;
+
+/**
+ * Emülatör testleri için ortak Firestore bağlantısı.
+ *
+ * Çalıştırmak için: firebase emulators:start --only firestore
+ * (Android emülatöründen host makineye 10.0.2.2 adresiyle erişilir.)
+ */
+final class EmulatorSupport {
+
+    static final String EMULATOR_HOST = "10.0.2.2";
+    static final int EMULATOR_PORT = 8080;
+    static final long TIMEOUT_SECONDS = 10;
+
+    private static FirebaseFirestore db;
+
+    private EmulatorSupport() {
+    }
+
+    /**
+     * useEmulator yalnızca ilk kullanımdan önce bir kez çağrılabilir; aynı
+     * süreçteki tüm test sınıfları bu bağlantıyı paylaşır.
+     */
+    static synchronized FirebaseFirestore connect() {
+        if (db == null) {
+            db = FirebaseFirestore.getInstance();
+            db.setFirestoreSettings(new FirebaseFirestoreSettings.Builder()
+                    .setLocalCacheSettings(MemoryCacheSettings.newBuilder().build())
+                    .build());
+            db.useEmulator(EMULATOR_HOST, EMULATOR_PORT);
+        }
+        return db;
+    }
+}
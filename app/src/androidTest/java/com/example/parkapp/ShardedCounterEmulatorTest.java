@@ -0,0 +1,141 @@
+package com.example.parkapp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import androidx.annotation.NonNull;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.QuerySnapshot;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * UserStatsManager artışlarının eşzamanlı yazmalarda kaybolmadığını
+ * Firestore emülatörüne karşı doğrular.
+ */
+@RunWith(AndroidJUnit4.class)
+public class ShardedCounterEmulatorTest {
+
+    private static final int INCREMENTS = 1_000;
+    private static final int THREADS = 16;
+    private static final long TIMEOUT_SECONDS = 120;
+
+    private static final String USER_ID = "stats-test-user";
+    private static final String COUNTER_ID = "stats-test-counter";
+    private static final String FIELD = "count";
+
+    private static FirebaseFirestore db;
+
+    @BeforeClass
+    public static void connectToEmulator() {
+        db = EmulatorSupport.connect();
+    }
+
+    @Before
+    public void resetCounters() throws Exception {
+        Tasks.await(db.collection("users").document(USER_ID).delete(),
+                EmulatorSupport.TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        QuerySnapshot shards = Tasks.await(db.collection("stats").document(COUNTER_ID).collection("shards").get(),
+                EmulatorSupport.TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        for (DocumentSnapshot shard : shards.getDocuments()) {
+            Tasks.await(shard.getReference().delete(), EmulatorSupport.TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void updateUserStats_concurrentIncrementsAreNotLost() throws Exception {
+        UserStatsManager stats = UserStatsManager.getInstance();
+        runConcurrently(done -> stats.updateUserStats(USER_ID, "parksVisited", 1, done));
+
+        DocumentSnapshot user = Tasks.await(db.collection("users").document(USER_ID).get(),
+                EmulatorSupport.TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(Long.valueOf(INCREMENTS), user.getLong("parksVisited"));
+    }
+
+    @Test
+    public void shardedCounter_concurrentIncrementsSumExactly() throws Exception {
+        UserStatsManager stats = UserStatsManager.getInstance();
+        runConcurrently(done -> stats.incrementShardedCounter(COUNTER_ID, FIELD, 1, done));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Map<String, Long>> totals = new AtomicReference<>();
+        stats.loadShardedCounter(COUNTER_ID, new UserStatsManager.OnShardedCountsLoadedListener() {
+            @Override
+            public void onSuccess(@NonNull Map<String, Long> result) {
+                totals.set(result);
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(@NonNull Exception e) {
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(EmulatorSupport.TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(Long.valueOf(INCREMENTS), totals.get().get(FIELD));
+
+        // Yazmalar birden fazla parçaya dağılmış olmalı
+        QuerySnapshot shards = Tasks.await(db.collection("stats").document(COUNTER_ID).collection("shards").get(),
+                EmulatorSupport.TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(shards.size() > 1 && shards.size() <= UserStatsManager.SHARD_COUNT);
+    }
+
+    private interface Increment {
+        void run(UserStatsManager.OnStatsUpdatedListener done);
+    }
+
+    /**
+     * INCREMENTS artışı THREADS iş parçacığından aynı anda başlatır ve hepsinin
+     * sunucu onayını bekler
+     */
+    private static void runConcurrently(Increment increment) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(INCREMENTS);
+        AtomicInteger failures = new AtomicInteger();
+        UserStatsManager.OnStatsUpdatedListener done = new UserStatsManager.OnStatsUpdatedListener() {
+            @Override
+            public void onSuccess() {
+                finished.countDown();
+            }
+
+            @Override
+            public void onFailure(@NonNull Exception e) {
+                failures.incrementAndGet();
+                finished.countDown();
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < INCREMENTS; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    increment.run(done);
+                });
+            }
+            start.countDown();
+            assertTrue(finished.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals(0, failures.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
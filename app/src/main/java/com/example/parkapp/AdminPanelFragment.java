@@ -1,6 +1,7 @@
 package com.example.parkapp;
 
 import android.os.Bundle;
+import android.util.SparseBooleanArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -10,6 +11,7 @@ import android.widget.Spinner;
 import android.widget.Button;
 import android.widget.Toast;
 import androidx.fragment.app.Fragment;
+import com.google.firebase.firestore.ListenerRegistration;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,7 +30,23 @@ public class AdminPanelFragment extends Fragment {
     private Spinner departmentSpinner;
     private Button filterButton;
     private Button resolveButton;
+    private Button selectAllButton;
     private String currentUserDepartment; // Kullanıcının departmanını sakla
+    private String selectedDepartment; // Listelenen departman (null = tümü)
+    private ListenerRegistration complaintsRegistration;
+    private String listeningDepartment; // Açık listener'ın departmanı (null = tümü)
+    private boolean initialSnapshotShown = false;
+    private SimpleDateFormat dateFormat;
+    
+    // Önbellekteki değişiklikleri satır bazında listeye uygular
+    private final ComplaintManager.OnComplaintsChangedListener cacheObserver = this::applyComplaintChanges;
+    
+    // Başlıktaki özet sayaçlardan beslenir; liste yeniden sayılmaz
+    private final ComplaintCounters.OnCountersChangedListener countersListener = snapshot -> {
+        if (getActivity() != null) {
+            getActivity().runOnUiThread(() -> updateSummary(snapshot));
+        }
+    };
     
     @Override
     public View onCreateView(LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
@@ -38,10 +56,12 @@ public class AdminPanelFragment extends Fragment {
         departmentSpinner = view.findViewById(R.id.department_spinner);
         filterButton = view.findViewById(R.id.filter_button);
         resolveButton = view.findViewById(R.id.resolve_button);
+        selectAllButton = view.findViewById(R.id.select_all_button);
         
         complaintStrings = new ArrayList<>();
         complaints = new ArrayList<>();
-        adapter = new ArrayAdapter<>(getContext(), android.R.layout.simple_list_item_1, complaintStrings);
+        dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm", Locale.getDefault());
+        adapter = new ArrayAdapter<>(getContext(), android.R.layout.simple_list_item_multiple_choice, complaintStrings);
         complaintsListView.setAdapter(adapter);
         
         // Yetkili kullanıcının departmanını al
@@ -59,7 +79,7 @@ public class AdminPanelFragment extends Fragment {
                     }
                 }
                 
-                // Önce tüm şikayetleri yükle, sonra filtrele
+                // Departmanın şikayetlerini canlı dinle
                 loadAllComplaintsForAdmin(userDepartment);
                 
                 // Departman spinner'ını ve filtre butonunu gizle (sadece kendi departmanını görebilsin)
@@ -85,51 +105,80 @@ public class AdminPanelFragment extends Fragment {
             }
         });
         
+        selectAllButton.setOnClickListener(v -> {
+            // Çözülmemiş tüm şikayetleri seç; hepsi seçiliyse seçimi kaldır
+            boolean selectAll = complaintsListView.getCheckedItemCount() < countUnresolved();
+            complaintsListView.clearChoices();
+            if (selectAll) {
+                for (int i = 0; i < complaints.size(); i++) {
+                    if (!"Çözüldü".equals(complaints.get(i).getStatus())) {
+                        complaintsListView.setItemChecked(i, true);
+                    }
+                }
+            }
+            adapter.notifyDataSetChanged();
+        });
+        
         resolveButton.setOnClickListener(v -> {
-            int position = complaintsListView.getCheckedItemPosition();
-            if (position >= 0 && position < complaints.size()) {
+            List<String> selectedIds = new ArrayList<>();
+            int alreadyResolved = 0;
+            SparseBooleanArray checked = complaintsListView.getCheckedItemPositions();
+            for (int i = 0; checked != null && i < checked.size(); i++) {
+                int position = checked.keyAt(i);
+                if (!checked.valueAt(i) || position >= complaints.size()) {
+                    continue;
+                }
                 Complaint complaint = complaints.get(position);
-                
                 // Şikayet zaten çözülmüş mü kontrol et
                 if ("Çözüldü".equals(complaint.getStatus())) {
-                    Toast.makeText(getContext(), "Bu şikayet zaten çözülmüş!", Toast.LENGTH_SHORT).show();
-                    return;
+                    alreadyResolved++;
+                } else {
+                    selectedIds.add(complaint.getId());
                 }
-                
-                // Kullanıcıya onay sor
-                new android.app.AlertDialog.Builder(getContext())
-                    .setTitle("Şikayet Çözüldü")
-                    .setMessage("Bu şikayeti çözüldü olarak işaretlemek istediğinizden emin misiniz?")
-                    .setPositiveButton("Evet", (dialog, which) -> {
-                        // Şikayeti çözüldü olarak işaretle
-                        FirebaseComplaintManager.getInstance().updateComplaintStatus(complaint.getId(), "Çözüldü", new FirebaseComplaintManager.OnComplaintUpdatedListener() {
-                            @Override
-                            public void onSuccess() {
-                                getActivity().runOnUiThread(() -> {
-                                    Toast.makeText(getContext(), "✅ Şikayet başarıyla çözüldü olarak işaretlendi", Toast.LENGTH_SHORT).show();
-                                    
-                                    // Sadece kendi departmanının şikayetlerini yeniden yükle
-                                    if (currentUserDepartment != null) {
-                                        loadAllComplaintsForAdmin(currentUserDepartment);
-                                    } else {
-                                        loadAllComplaints();
+            }
+            
+            if (selectedIds.isEmpty()) {
+                if (alreadyResolved > 0) {
+                    Toast.makeText(getContext(), "Seçilen şikayetler zaten çözülmüş!", Toast.LENGTH_SHORT).show();
+                } else {
+                    Toast.makeText(getContext(), "⚠️ Lütfen en az bir şikayet seçin", Toast.LENGTH_SHORT).show();
+                }
+                return;
+            }
+            
+            // Kullanıcıya onay sor
+            new android.app.AlertDialog.Builder(getContext())
+                .setTitle("Şikayet Çözüldü")
+                .setMessage(selectedIds.size() + " şikayeti çözüldü olarak işaretlemek istediğinizden emin misiniz?")
+                .setPositiveButton("Evet", (dialog, which) -> {
+                    resolveButton.setEnabled(false);
+                    // Seçilen şikayetleri WriteBatch parçalarıyla çözüldü olarak işaretle
+                    FirebaseComplaintManager.getInstance().updateComplaintStatuses(selectedIds, "Çözüldü", (succeededIds, failures) -> {
+                        if (getActivity() == null) {
+                            return;
+                        }
+                        getActivity().runOnUiThread(() -> {
+                            // Satırlar, snapshot listener'dan gelen değişikliklerle güncellenir
+                            resolveButton.setEnabled(true);
+                            complaintsListView.clearChoices();
+                            adapter.notifyDataSetChanged();
+                            if (failures.isEmpty()) {
+                                Toast.makeText(getContext(), "✅ " + succeededIds.size() + " şikayet çözüldü olarak işaretlendi", Toast.LENGTH_SHORT).show();
+                            } else {
+                                // Başarısız olanları seçili bırak ki tekrar denenebilsin
+                                for (int i = 0; i < complaints.size(); i++) {
+                                    if (failures.containsKey(complaints.get(i).getId())) {
+                                        complaintsListView.setItemChecked(i, true);
                                     }
-                                });
-                            }
-                            
-                            @Override
-                            public void onFailure(Exception e) {
-                                getActivity().runOnUiThread(() -> {
-                                    Toast.makeText(getContext(), "❌ Güncelleme sırasında hata oluştu: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                                });
+                                }
+                                Toast.makeText(getContext(), "❌ " + succeededIds.size() + " şikayet çözüldü, "
+                                        + failures.size() + " şikayet güncellenemedi", Toast.LENGTH_LONG).show();
                             }
                         });
-                    })
-                    .setNegativeButton("İptal", null)
-                    .show();
-            } else {
-                Toast.makeText(getContext(), "⚠️ Lütfen bir şikayet seçin", Toast.LENGTH_SHORT).show();
-            }
+                    });
+                })
+                .setNegativeButton("İptal", null)
+                .show();
         });
         
         // Admin değilse tüm şikayetleri yükle (normal kullanıcı için)
@@ -140,15 +189,60 @@ public class AdminPanelFragment extends Fragment {
         return view;
     }
     
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        ComplaintManager.getInstance().removeObserver(cacheObserver);
+        ComplaintManager.getInstance().getCounters().removeListener(countersListener);
+        if (complaintsRegistration != null) {
+            complaintsRegistration.remove();
+            complaintsRegistration = null;
+        }
+        initialSnapshotShown = false;
+        listeningDepartment = null;
+    }
+    
     private void loadAllComplaints() {
-        FirebaseComplaintManager.getInstance().getAllComplaints(new FirebaseComplaintManager.OnComplaintsLoadedListener() {
+        selectedDepartment = null;
+        startListening(false);
+    }
+    
+    private void loadAllComplaintsForAdmin(String department) {
+        selectedDepartment = department;
+        startListening(true);
+    }
+    
+    /**
+     * Seçili departmanın şikayetlerini canlı dinlemeye başlar. Filtre sunucu
+     * tarafında (whereEqualTo("department")) uygulanır, böylece bir departman
+     * yetkilisi yalnızca kendi departmanının dokümanlarını okur. Açık listener
+     * istenen departmanı zaten kapsıyorsa yeniden okuma yapılmaz, liste yerel
+     * önbellekten süzülür.
+     */
+    private void startListening(boolean showCount) {
+        if (complaintsRegistration != null) {
+            boolean covered = listeningDepartment == null
+                    || listeningDepartment.equals(selectedDepartment);
+            if (covered) {
+                showComplaintsFromCache(showCount);
+                return;
+            }
+            complaintsRegistration.remove();
+            complaintsRegistration = null;
+            initialSnapshotShown = false;
+        } else {
+            ComplaintManager.getInstance().addObserver(cacheObserver);
+            ComplaintManager.getInstance().getCounters().addListener(countersListener);
+        }
+        
+        listeningDepartment = selectedDepartment;
+        complaintsRegistration = FirebaseComplaintManager.getInstance().listenToComplaints(selectedDepartment, new FirebaseComplaintManager.OnComplaintChangesListener() {
             @Override
-            public void onSuccess(List<Complaint> complaintsList) {
-                if (getActivity() != null) {
-                    getActivity().runOnUiThread(() -> {
-                        complaints = complaintsList;
-                        updateComplaintList();
-                    });
+            public void onChanges(FirebaseComplaintManager.ComplaintChanges changes) {
+                // Sonraki değişiklikler cacheObserver ile satır satır uygulanır
+                if (changes.isInitial && getActivity() != null) {
+                    initialSnapshotShown = true;
+                    showComplaintsFromCache(showCount);
                 }
             }
             
@@ -163,72 +257,106 @@ public class AdminPanelFragment extends Fragment {
         });
     }
     
-
-
-    private void loadAllComplaintsForAdmin(String department) {
-        FirebaseComplaintManager.getInstance().getAllComplaints(new FirebaseComplaintManager.OnComplaintsLoadedListener() {
-            @Override
-            public void onSuccess(List<Complaint> allComplaints) {
-                if (getActivity() != null) {
-                    getActivity().runOnUiThread(() -> {
-                        // Şimdi departmana göre filtrele
-                        List<Complaint> filteredComplaints = new ArrayList<>();
-                        for (Complaint complaint : allComplaints) {
-                            if (complaint.getDepartment() != null && complaint.getDepartment().equals(department)) {
-                                filteredComplaints.add(complaint);
-                            }
-                        }
-                        
-                        complaints = filteredComplaints;
-                        updateComplaintList();
-                        Toast.makeText(getContext(), department + " için " + filteredComplaints.size() + " şikayet bulundu", Toast.LENGTH_SHORT).show();
-                    });
-                }
+    private void showComplaintsFromCache(boolean showCount) {
+        ComplaintManager cache = ComplaintManager.getInstance();
+        if (selectedDepartment != null) {
+            complaints = cache.getComplaintsByDepartment(selectedDepartment);
+        } else {
+            complaints = cache.getAllComplaints();
+        }
+        updateComplaintList();
+        if (showCount) {
+            Toast.makeText(getContext(), selectedDepartment + " için " + complaints.size() + " şikayet bulundu", Toast.LENGTH_SHORT).show();
+        }
+    }
+    
+    private boolean matchesFilter(Complaint complaint) {
+        return selectedDepartment == null || selectedDepartment.equals(complaint.getDepartment());
+    }
+    
+    private void applyComplaintChanges(List<Complaint> added, List<Complaint> modified, List<Complaint> removed) {
+        // İlk snapshot showComplaintsFromCache ile tek seferde gösterilir
+        if (getActivity() == null || !initialSnapshotShown) {
+            return;
+        }
+        boolean positionsShifted = false;
+        for (Complaint complaint : removed) {
+            int position = indexOfComplaint(complaint.getId());
+            if (position >= 0) {
+                complaints.remove(position);
+                complaintStrings.remove(position);
+                positionsShifted = true;
             }
-            
-            @Override
-            public void onFailure(Exception e) {
-                if (getActivity() != null) {
-                    getActivity().runOnUiThread(() -> {
-                        Toast.makeText(getContext(), "Şikayetler yüklenirken hata oluştu: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                    });
-                }
+        }
+        for (Complaint complaint : modified) {
+            int position = indexOfComplaint(complaint.getId());
+            if (position >= 0 && matchesFilter(complaint)) {
+                complaints.set(position, complaint);
+                complaintStrings.set(position, formatComplaint(complaint));
+            } else if (position >= 0) {
+                complaints.remove(position);
+                complaintStrings.remove(position);
+                positionsShifted = true;
+            } else if (matchesFilter(complaint)) {
+                complaints.add(complaint);
+                complaintStrings.add(formatComplaint(complaint));
             }
-        });
+        }
+        for (Complaint complaint : added) {
+            if (matchesFilter(complaint) && indexOfComplaint(complaint.getId()) < 0) {
+                complaints.add(complaint);
+                complaintStrings.add(formatComplaint(complaint));
+            }
+        }
+        if (positionsShifted) {
+            // Seçimler pozisyona bağlı; satırlar kaydıysa seçim geçersizdir
+            complaintsListView.clearChoices();
+        }
+        adapter.notifyDataSetChanged();
+    }
+    
+    private int countUnresolved() {
+        return ComplaintManager.getInstance().getCounters().getSnapshot().getUnresolved(selectedDepartment);
+    }
+    
+    private int indexOfComplaint(String complaintId) {
+        for (int i = 0; i < complaints.size(); i++) {
+            if (complaints.get(i).getId().equals(complaintId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private String formatComplaint(Complaint complaint) {
+        String statusIcon = "Çözüldü".equals(complaint.getStatus()) ? "✅" : "⏳";
+        return String.format("%s %s\n📍 %s\n🔧 %s\n📝 %s\n📅 %s\n🏢 %s",
+                statusIcon,
+                complaint.getStatus(),
+                complaint.getParkName(),
+                complaint.getIssueType(),
+                complaint.getDescription(),
+                dateFormat.format(complaint.getReportDate()),
+                complaint.getDepartment());
     }
     
     private void updateComplaintList() {
+        complaintsListView.clearChoices();
         complaintStrings.clear();
-        SimpleDateFormat sdf = new SimpleDateFormat("dd/MM/yyyy HH:mm", Locale.getDefault());
-        
         for (Complaint complaint : complaints) {
-            String statusIcon = "Çözüldü".equals(complaint.getStatus()) ? "✅" : "⏳";
-            String complaintText = String.format("%s %s\n📍 %s\n🔧 %s\n📝 %s\n📅 %s\n🏢 %s",
-                    statusIcon,
-                    complaint.getStatus(),
-                    complaint.getParkName(),
-                    complaint.getIssueType(),
-                    complaint.getDescription(),
-                    sdf.format(complaint.getReportDate()),
-                    complaint.getDepartment());
-            complaintStrings.add(complaintText);
+            complaintStrings.add(formatComplaint(complaint));
         }
         
         adapter.notifyDataSetChanged();
-        
+        updateSummary(ComplaintManager.getInstance().getCounters().getSnapshot());
+    }
+    
+    private void updateSummary(ComplaintCounters.Snapshot snapshot) {
         // Şikayet sayısını göster
         if (getActivity() != null) {
-            int totalComplaints = complaints.size();
-            int resolvedComplaints = 0;
-            int pendingComplaints = 0;
-            
-            for (Complaint complaint : complaints) {
-                if ("Çözüldü".equals(complaint.getStatus())) {
-                    resolvedComplaints++;
-                } else {
-                    pendingComplaints++;
-                }
-            }
+            int totalComplaints = snapshot.getTotal(selectedDepartment);
+            int resolvedComplaints = snapshot.getCount(selectedDepartment, Complaint.STATUS_RESOLVED);
+            int pendingComplaints = snapshot.getUnresolved(selectedDepartment);
             
             String summaryText = String.format("📊 Toplam: %d | ⏳ Bekleyen: %d | ✅ Çözülen: %d", 
                     totalComplaints, pendingComplaints, resolvedComplaints);
@@ -239,4 +367,4 @@ public class AdminPanelFragment extends Fragment {
             }
         }
     }
-} 
\ No newline at end of file
+}
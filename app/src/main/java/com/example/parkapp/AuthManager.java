@@ -33,7 +33,6 @@ public class AuthManager {
     
     // Firebase components
     private final FirebaseAuth auth;
-    private final FirebaseFirestore db;
     
     // Current user
     private User currentUser;
@@ -43,7 +42,6 @@ public class AuthManager {
      */
     private AuthManager() {
         auth = FirebaseAuth.getInstance();
-        db = FirebaseFirestore.getInstance();
     }
     
     /**
@@ -62,6 +60,14 @@ public class AuthManager {
         return instance;
     }
     
+    /**
+     * Firestore yalnızca kullanıcı kaydında gerekir; istemci açılışta değil
+     * ilk kullanımda oluşturulur
+     */
+    private static FirebaseFirestore db() {
+        return FirebaseFirestore.getInstance();
+    }
+    
     /**
      * Yeni kullanıcı kaydı yapar
      * 
@@ -142,6 +148,8 @@ public class AuthManager {
     public void logout() {
         auth.signOut();
         currentUser = null;
+        UserRepository.getInstance().clear();
+        ComplaintManager.getInstance().clear();
     }
     
     /**
@@ -199,9 +207,10 @@ public class AuthManager {
     private void saveUserToFirestore(@NonNull User user, @Nullable OnAuthListener listener) {
         Map<String, Object> userData = createUserDataMap(user);
         
-        db.collection(USERS_COLLECTION).document(user.getUid())
+        db().collection(USERS_COLLECTION).document(user.getUid())
             .set(userData)
             .addOnSuccessListener(aVoid -> {
+                UserRepository.getInstance().put(user);
                 currentUser = user;
                 if (listener != null) {
                     listener.onSuccess(user);
@@ -235,48 +244,28 @@ public class AuthManager {
     }
     
     /**
-     * Kullanıcı bilgilerini Firestore'dan yükler
+     * Kullanıcı bilgilerini UserRepository üzerinden yükler
      * 
      * @param uid Kullanıcı ID'si
      * @param listener Auth listener
      */
     private void loadUserFromFirestore(@NonNull String uid, @Nullable OnAuthListener listener) {
-        db.collection(USERS_COLLECTION).document(uid)
-            .get()
-            .addOnSuccessListener(documentSnapshot -> {
-                if (documentSnapshot.exists()) {
-                    User user = createUserFromDocument(documentSnapshot);
-                    currentUser = user;
-                    if (listener != null) {
-                        listener.onSuccess(user);
-                    }
-                } else {
-                    if (listener != null) {
-                        listener.onFailure(new Exception("Kullanıcı bilgileri bulunamadı"));
-                    }
+        UserRepository.getInstance().getUser(uid, new UserRepository.OnUserLoadedListener() {
+            @Override
+            public void onSuccess(@NonNull User user) {
+                currentUser = user;
+                if (listener != null) {
+                    listener.onSuccess(user);
                 }
-            })
-            .addOnFailureListener(e -> {
+            }
+            
+            @Override
+            public void onFailure(@NonNull Exception e) {
                 if (listener != null) {
                     listener.onFailure(e);
                 }
-            });
-    }
-    
-    /**
-     * Firestore document'ından User objesi oluşturur
-     * 
-     * @param documentSnapshot Firestore document
-     * @return User objesi
-     */
-    private User createUserFromDocument(@NonNull com.google.firebase.firestore.DocumentSnapshot documentSnapshot) {
-        User user = new User();
-        user.setUid(documentSnapshot.getString(FIELD_UID));
-        user.setEmail(documentSnapshot.getString(FIELD_EMAIL));
-        user.setName(documentSnapshot.getString(FIELD_NAME));
-        user.setRole(documentSnapshot.getString(FIELD_ROLE));
-        user.setDepartment(documentSnapshot.getString(FIELD_DEPARTMENT));
-        return user;
+            }
+        });
     }
     
     /**
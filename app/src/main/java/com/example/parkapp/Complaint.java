@@ -3,14 +3,30 @@ package com.example.parkapp;
 import java.util.Date;
 
 public class Complaint {
-    private String id;
+    public static final String STATUS_PENDING = "Beklemede";
+    public static final String STATUS_IN_PROGRESS = "İşleme Alındı";
+    public static final String STATUS_RESOLVED = "Çözüldü";
+    
+    // Yönetilen şikayette yalnızca ComplaintManager'ın yazma kilidi altında değişir
+    private volatile String id;
     private String parkName;
     private String department;
     private String issueType;
     private String description;
-    private String status;
+    // Yönetilen şikayette yalnızca ComplaintManager'ın yazma kilidi altında değişir
+    private volatile String status;
     private Date reportDate;
-    private Date resolvedDate;
+    private volatile Date resolvedDate;
+    
+    // Şikayeti tutan depoya (ComplaintManager) alan değişikliklerini yönlendirir
+    private transient ChangeListener changeListener;
+    
+    interface ChangeListener {
+        // Nesneyi, depodaki satırı ve index'leri aynı kilit altında günceller (set...Field ile)
+        void changeId(Complaint complaint, String id);
+        void changeStatus(Complaint complaint, String status);
+        void changeResolvedDate(Complaint complaint, Date resolvedDate);
+    }
     
     public Complaint(String parkName, String department, String issueType, String description) {
         this.id = generateId();
@@ -18,12 +34,26 @@ public class Complaint {
         this.department = department;
         this.issueType = issueType;
         this.description = description;
-        this.status = "Beklemede";
+        this.status = STATUS_PENDING;
         this.reportDate = new Date();
     }
     
+    // Var olan bir kaydı (Firestore dokümanı, giden kutusu kaydı, kopya) id üretmeden nesneye çevirir
+    Complaint(String id, String parkName, String department, String issueType, String description,
+              String status, Date reportDate, Date resolvedDate) {
+        this.id = id;
+        this.parkName = parkName;
+        this.department = department;
+        this.issueType = issueType;
+        this.description = description;
+        this.status = status;
+        this.reportDate = reportDate;
+        this.resolvedDate = resolvedDate;
+    }
+    
+    // Zamana göre sıralı, cihazlar arası çakışmasız id (Firestore doküman id'si olarak da kullanılır)
     private String generateId() {
-        return "COMP_" + System.currentTimeMillis();
+        return ComplaintIdGenerator.newId();
     }
     
     // Getters
@@ -37,8 +67,45 @@ public class Complaint {
     public Date getResolvedDate() { return resolvedDate; }
     
     // Setters
-    public void setId(String id) { this.id = id; }
-    public void setStatus(String status) { this.status = status; }
+    public void setId(String id) {
+        ChangeListener l = changeListener;
+        if (l != null) {
+            l.changeId(this, id);
+        } else {
+            this.id = id;
+        }
+    }
+    
+    public void setStatus(String status) {
+        ChangeListener l = changeListener;
+        if (l != null) {
+            l.changeStatus(this, status);
+        } else {
+            this.status = status;
+        }
+    }
+    
+    // Yalnızca ComplaintManager kilidi tutarken çağırır
+    void setIdField(String id) { this.id = id; }
+    void setStatusField(String status) { this.status = status; }
+    void setResolvedDateField(Date resolvedDate) { this.resolvedDate = resolvedDate; }
+    
     public void setReportDate(Date reportDate) { this.reportDate = reportDate; }
-    public void setResolvedDate(Date resolvedDate) { this.resolvedDate = resolvedDate; }
+    
+    public void setResolvedDate(Date resolvedDate) {
+        ChangeListener l = changeListener;
+        if (l != null) {
+            l.changeResolvedDate(this, resolvedDate);
+        } else {
+            this.resolvedDate = resolvedDate;
+        }
+    }
+    
+    // Adapter'ların diff için tuttuğu anlık kopya; yerinde yapılan değişiklikler kopyayı etkilemez
+    Complaint copy() {
+        return new Complaint(id, parkName, department, issueType, description, status, reportDate, resolvedDate);
+    }
+    
+    void setChangeListener(ChangeListener changeListener) { this.changeListener = changeListener; }
+    ChangeListener getChangeListener() { return changeListener; }
 } 
\ No newline at end of file
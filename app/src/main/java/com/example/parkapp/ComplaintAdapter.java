@@ -5,10 +5,18 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * ComplaintAdapter - Şikayet listesi için RecyclerView adapter'ı
@@ -16,6 +24,10 @@ import java.util.Locale;
  * Bu sınıf, şikayet listesini RecyclerView'da göstermek için kullanılır.
  * Her şikayet için detaylı bilgileri görüntüler ve durum göstergelerini yönetir.
  * 
+ * Liste güncellemeleri AsyncListDiffer ile arka planda karşılaştırılır.
+ * Şikayetler önbellekte yerinde değiştirildiği için adapter her şikayetin
+ * bir kopyasını tutar; böylece eski ve yeni liste gerçekten karşılaştırılabilir.
+ * 
  * @author Berkay Körükmez
  * @version 1.0
  */
@@ -30,8 +42,28 @@ public class ComplaintAdapter extends RecyclerView.Adapter<ComplaintAdapter.Comp
     private static final String STATUS_IN_PROGRESS = "İşleme Alındı";
     private static final String STATUS_RESOLVED = "Çözüldü";
     
+    // Şikayet id'si aynıysa aynı satır; bağlanan alanlar aynıysa içerik değişmemiştir
+    private static final DiffUtil.ItemCallback<Complaint> DIFF_CALLBACK = new DiffUtil.ItemCallback<Complaint>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull Complaint oldItem, @NonNull Complaint newItem) {
+            return oldItem.getId().equals(newItem.getId());
+        }
+        
+        @Override
+        public boolean areContentsTheSame(@NonNull Complaint oldItem, @NonNull Complaint newItem) {
+            return Objects.equals(oldItem.getParkName(), newItem.getParkName())
+                    && Objects.equals(oldItem.getIssueType(), newItem.getIssueType())
+                    && Objects.equals(oldItem.getDescription(), newItem.getDescription())
+                    && Objects.equals(oldItem.getStatus(), newItem.getStatus())
+                    && Objects.equals(oldItem.getReportDate(), newItem.getReportDate());
+        }
+    };
+    
     // Data
-    private final List<Complaint> complaints;
+    private final AsyncListDiffer<Complaint> differ = new AsyncListDiffer<>(this, DIFF_CALLBACK);
+    private final StableIds stableIds = new StableIds();
+    // En son gönderilen liste; differ henüz uygulamamış olsa da değişiklikler bunun üzerine kurulur
+    private List<Complaint> latest;
     
     /**
      * ComplaintAdapter constructor
@@ -39,7 +71,8 @@ public class ComplaintAdapter extends RecyclerView.Adapter<ComplaintAdapter.Comp
      * @param complaints Şikayet listesi
      */
     public ComplaintAdapter(@NonNull List<Complaint> complaints) {
-        this.complaints = complaints;
+        setHasStableIds(true);
+        submit(snapshot(complaints));
     }
     
     @NonNull
@@ -52,24 +85,75 @@ public class ComplaintAdapter extends RecyclerView.Adapter<ComplaintAdapter.Comp
     
     @Override
     public void onBindViewHolder(@NonNull ComplaintViewHolder holder, int position) {
-        Complaint complaint = complaints.get(position);
+        Complaint complaint = differ.getCurrentList().get(position);
         holder.bind(complaint);
     }
     
     @Override
     public int getItemCount() {
-        return complaints.size();
+        return differ.getCurrentList().size();
+    }
+    
+    @Override
+    public long getItemId(int position) {
+        return stableIds.idFor(differ.getCurrentList().get(position).getId());
     }
     
     /**
-     * Şikayet listesini günceller
+     * Önbellekten gelen değişiklikleri uygular. Yeni liste arka planda
+     * eskisiyle karşılaştırılır ve yalnızca etkilenen satırlar bildirilir.
      * 
-     * @param newComplaints Yeni şikayet listesi
+     * @param added Eklenen şikayetler
+     * @param modified Değişen şikayetler
+     * @param removed Silinen şikayetler
      */
-    public void updateComplaints(@NonNull List<Complaint> newComplaints) {
-        complaints.clear();
-        complaints.addAll(newComplaints);
-        notifyDataSetChanged();
+    public void applyChanges(@NonNull List<Complaint> added, @NonNull List<Complaint> modified,
+                             @NonNull List<Complaint> removed) {
+        Map<String, Complaint> replacements = new HashMap<>();
+        for (Complaint complaint : removed) {
+            replacements.put(complaint.getId(), null);
+        }
+        for (Complaint complaint : modified) {
+            replacements.put(complaint.getId(), complaint.copy());
+        }
+        
+        List<Complaint> next = new ArrayList<>(latest.size() + added.size());
+        Set<String> seen = new HashSet<>();
+        for (Complaint complaint : latest) {
+            String id = complaint.getId();
+            seen.add(id);
+            if (!replacements.containsKey(id)) {
+                next.add(complaint);
+            } else if (replacements.get(id) != null) {
+                next.add(replacements.get(id));
+            }
+        }
+        // Listede olmayan değişmiş şikayetler ve yeni şikayetler sona eklenir
+        for (Complaint complaint : modified) {
+            Complaint replacement = replacements.get(complaint.getId());
+            if (replacement != null && seen.add(complaint.getId())) {
+                next.add(replacement);
+            }
+        }
+        for (Complaint complaint : added) {
+            if (seen.add(complaint.getId())) {
+                next.add(complaint.copy());
+            }
+        }
+        submit(next);
+    }
+    
+    private void submit(List<Complaint> complaints) {
+        latest = complaints;
+        differ.submitList(complaints);
+    }
+    
+    private static List<Complaint> snapshot(List<Complaint> complaints) {
+        List<Complaint> copies = new ArrayList<>(complaints.size());
+        for (Complaint complaint : complaints) {
+            copies.add(complaint.copy());
+        }
+        return copies;
     }
     
     /**
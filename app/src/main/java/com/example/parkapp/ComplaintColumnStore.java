@@ -0,0 +1,516 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ComplaintColumnStore - Büyük departmanlar için sütunlu şikayet önbelleği
+ *
+ * Her Complaint nesnesi departman, durum, sorun türü ve park adının kendi
+ * String kopyalarını ve iki Date nesnesi tutar. Bu sınıf aynı veriyi
+ * sütunlar halinde saklar:
+ *
+ *  - department, status, issueType, parkName: sözlükle kodlanmış char[]
+ *    (16 bit) kodlar; her farklı değer yalnızca bir kez saklanır
+ *  - reportDate, resolvedDate: epoch ms olarak long[] (null = NO_DATE)
+ *  - description: tek bir UTF-8 byte[] havuzunda; yalnızca erişildiğinde
+ *    String'e çözülür
+ *
+ * Satırlar ekleme sırasını korur; silinen satırın yerine sonrakiler kayar.
+ * get / asList ile adapter'lar için Complaint görünümleri istek üzerine
+ * üretilir. ComplaintManager şikayetleri bu depoda tutar. Okuma ve yazmalar
+ * ReentrantReadWriteLock ile korunur.
+ *
+ * @version 1.0
+ */
+public class ComplaintColumnStore {
+
+    // Constants
+    private static final int INITIAL_CAPACITY = 64;
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Sözlükler
+    private final Dictionary departments = new Dictionary();
+    private final Dictionary statuses = new Dictionary();
+    private final Dictionary issueTypes = new Dictionary();
+    private final Dictionary parkNames = new Dictionary();
+
+    // Sütunlar
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private char[] departmentCodes = new char[INITIAL_CAPACITY];
+    private char[] statusCodes = new char[INITIAL_CAPACITY];
+    private char[] issueTypeCodes = new char[INITIAL_CAPACITY];
+    private char[] parkNameCodes = new char[INITIAL_CAPACITY];
+    private long[] reportDates = new long[INITIAL_CAPACITY];
+    private long[] resolvedDates = new long[INITIAL_CAPACITY];
+    private int[] descriptionStarts = new int[INITIAL_CAPACITY];
+    private int[] descriptionLengths = new int[INITIAL_CAPACITY];
+
+    // Açıklama havuzu; silinen ya da değişen açıklamaların baytları çöp olarak kalır
+    private byte[] descriptionBytes = new byte[INITIAL_CAPACITY * 32];
+    private int descriptionBytesUsed;
+    private int descriptionGarbage;
+
+    private final Map<String, Integer> rowById = new HashMap<>();
+    private int size;
+
+    /**
+     * Sözlük: değer <-> küçük tamsayı kod
+     */
+    private static class Dictionary {
+        private final Map<String, Character> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        char encode(@Nullable String value) {
+            Character code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            if (values.size() >= MAX_DICTIONARY_SIZE) {
+                throw new IllegalStateException("Sözlük kapasitesi aşıldı: " + MAX_DICTIONARY_SIZE);
+            }
+            char newCode = (char) values.size();
+            codes.put(value, newCode);
+            values.add(value);
+            return newCode;
+        }
+
+        String decode(char code) {
+            return values.get(code);
+        }
+
+        int lookup(@Nullable String value) {
+            Character code = codes.get(value);
+            return code != null ? code : -1;
+        }
+    }
+
+    /**
+     * Şikayeti ekler; aynı id zaten varsa satırını yerinde günceller
+     *
+     * @param complaint Eklenecek şikayet
+     * @return Aynı id'li satır güncellendiyse true
+     */
+    public boolean add(@NonNull Complaint complaint) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = rowById.get(complaint.getId());
+            if (existing != null) {
+                writeRow(existing, complaint, false);
+                return true;
+            }
+            ensureCapacity(size + 1);
+            rowById.put(complaint.getId(), size);
+            writeRow(size, complaint, true);
+            size++;
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Şikayeti siler; sonraki satırlar bir sıra yukarı kayar
+     *
+     * @param id Şikayet ID'si
+     * @return Şikayet bulunduysa true
+     */
+    public boolean remove(@NonNull String id) {
+        lock.writeLock().lock();
+        try {
+            Integer boxed = rowById.remove(id);
+            if (boxed == null) {
+                return false;
+            }
+            int row = boxed;
+            descriptionGarbage += descriptionLengths[row];
+            int moved = size - row - 1;
+            System.arraycopy(ids, row + 1, ids, row, moved);
+            System.arraycopy(departmentCodes, row + 1, departmentCodes, row, moved);
+            System.arraycopy(statusCodes, row + 1, statusCodes, row, moved);
+            System.arraycopy(issueTypeCodes, row + 1, issueTypeCodes, row, moved);
+            System.arraycopy(parkNameCodes, row + 1, parkNameCodes, row, moved);
+            System.arraycopy(reportDates, row + 1, reportDates, row, moved);
+            System.arraycopy(resolvedDates, row + 1, resolvedDates, row, moved);
+            System.arraycopy(descriptionStarts, row + 1, descriptionStarts, row, moved);
+            System.arraycopy(descriptionLengths, row + 1, descriptionLengths, row, moved);
+            size--;
+            ids[size] = null;
+            for (int i = row; i < size; i++) {
+                rowById.put(ids[i], i);
+            }
+            compactDescriptionsIfSparse();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Satırın id'sini değiştirir; satır yerinde kalır
+     *
+     * @param oldId Mevcut ID
+     * @param newId Yeni ID (depoda olmamalı)
+     * @return Şikayet bulunduysa true
+     */
+    public boolean changeId(@NonNull String oldId, @NonNull String newId) {
+        lock.writeLock().lock();
+        try {
+            if (rowById.containsKey(newId)) {
+                throw new IllegalStateException("Id zaten kullanımda: " + newId);
+            }
+            Integer row = rowById.remove(oldId);
+            if (row == null) {
+                return false;
+            }
+            ids[row] = newId;
+            rowById.put(newId, row);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Bir şikayetin durumunu günceller
+     *
+     * @param id Şikayet ID'si
+     * @param status Yeni durum
+     * @return Şikayet bulunduysa true
+     */
+    public boolean updateStatus(@NonNull String id, @Nullable String status) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowById.get(id);
+            if (row == null) {
+                return false;
+            }
+            statusCodes[row] = statuses.encode(status);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Bir şikayetin çözülme tarihini günceller
+     *
+     * @param id Şikayet ID'si
+     * @param resolvedDate Çözülme tarihi (null = yok)
+     * @return Şikayet bulunduysa true
+     */
+    public boolean setResolvedDate(@NonNull String id, @Nullable Date resolvedDate) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowById.get(id);
+            if (row == null) {
+                return false;
+            }
+            resolvedDates[row] = toMillis(resolvedDate);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            Arrays.fill(ids, 0, size, null);
+            rowById.clear();
+            size = 0;
+            descriptionBytesUsed = 0;
+            descriptionGarbage = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(@Nullable String id) {
+        lock.readLock().lock();
+        try {
+            return rowById.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Tek alan okumaları; görünüm üretmeden (ve açıklamayı çözmeden) index bakımı için
+
+    @Nullable
+    public String getDepartment(@NonNull String id) {
+        lock.readLock().lock();
+        try {
+            Integer row = rowById.get(id);
+            return row != null ? departments.decode(departmentCodes[row]) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Nullable
+    public String getStatus(@NonNull String id) {
+        lock.readLock().lock();
+        try {
+            Integer row = rowById.get(id);
+            return row != null ? statuses.decode(statusCodes[row]) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Nullable
+    public String getParkName(@NonNull String id) {
+        lock.readLock().lock();
+        try {
+            Integer row = rowById.get(id);
+            return row != null ? parkNames.decode(parkNameCodes[row]) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Satırı Complaint görünümü olarak üretir
+     *
+     * @param row Satır numarası
+     * @return Yeni Complaint nesnesi
+     */
+    @NonNull
+    public Complaint get(int row) {
+        lock.readLock().lock();
+        try {
+            if (row < 0 || row >= size) {
+                throw new IndexOutOfBoundsException("row: " + row + ", size: " + size);
+            }
+            return new Complaint(ids[row],
+                    parkNames.decode(parkNameCodes[row]),
+                    departments.decode(departmentCodes[row]),
+                    issueTypes.decode(issueTypeCodes[row]),
+                    decodeDescription(row),
+                    statuses.decode(statusCodes[row]),
+                    toDate(reportDates[row]),
+                    toDate(resolvedDates[row]));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Nullable
+    public Complaint getById(@NonNull String id) {
+        lock.readLock().lock();
+        try {
+            Integer row = rowById.get(id);
+            return row != null ? get(row) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Yalnızca açıklamayı çözer (görünüm üretmeden)
+     *
+     * @param row Satır numarası
+     * @return Açıklama
+     */
+    @Nullable
+    public String getDescription(int row) {
+        lock.readLock().lock();
+        try {
+            return decodeDescription(row);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Departmandaki satır numaralarını döndürür; Complaint nesnesi üretmez
+     *
+     * @param department Departman
+     * @return Satır numaraları
+     */
+    @NonNull
+    public int[] rowsForDepartment(@Nullable String department) {
+        lock.readLock().lock();
+        try {
+            int code = departments.lookup(department);
+            if (code < 0) {
+                return new int[0];
+            }
+            int[] rows = new int[size];
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                if (departmentCodes[row] == code) {
+                    rows[count++] = row;
+                }
+            }
+            return Arrays.copyOf(rows, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Departman ve durum eşleşen satır sayısını nesne üretmeden sayar
+     */
+    public int count(@Nullable String department, @Nullable String status) {
+        lock.readLock().lock();
+        try {
+            int departmentCode = departments.lookup(department);
+            int statusCode = statuses.lookup(status);
+            if (departmentCode < 0 || statusCode < 0) {
+                return 0;
+            }
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                if (departmentCodes[row] == departmentCode && statusCodes[row] == statusCode) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adapter'lar için salt okunur liste görünümü. Elemanlar get() ile
+     * erişildikçe üretilir; liste kendisi veri kopyalamaz.
+     *
+     * @return Complaint listesi görünümü
+     */
+    @NonNull
+    public List<Complaint> asList() {
+        return new AbstractList<Complaint>() {
+            @Override
+            public Complaint get(int index) {
+                return ComplaintColumnStore.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return ComplaintColumnStore.this.size();
+            }
+        };
+    }
+
+    private void writeRow(int row, Complaint complaint, boolean isNew) {
+        ids[row] = complaint.getId();
+        departmentCodes[row] = departments.encode(complaint.getDepartment());
+        statusCodes[row] = statuses.encode(complaint.getStatus());
+        issueTypeCodes[row] = issueTypes.encode(complaint.getIssueType());
+        parkNameCodes[row] = parkNames.encode(complaint.getParkName());
+        reportDates[row] = toMillis(complaint.getReportDate());
+        resolvedDates[row] = toMillis(complaint.getResolvedDate());
+        byte[] bytes = encodeDescription(complaint.getDescription());
+        if (isNew) {
+            appendDescription(row, bytes);
+        } else if (!descriptionEquals(row, bytes)) {
+            // Açıklamalar yalnızca sona eklenir; eski metin çöp olarak kalır
+            descriptionGarbage += descriptionLengths[row];
+            appendDescription(row, bytes);
+            compactDescriptionsIfSparse();
+        }
+    }
+
+    private static byte[] encodeDescription(@Nullable String description) {
+        // null açıklama boş metin olarak saklanır
+        return description != null ? description.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    private boolean descriptionEquals(int row, byte[] bytes) {
+        if (descriptionLengths[row] != bytes.length) {
+            return false;
+        }
+        int start = descriptionStarts[row];
+        for (int i = 0; i < bytes.length; i++) {
+            if (descriptionBytes[start + i] != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void appendDescription(int row, byte[] bytes) {
+        int start = descriptionBytesUsed;
+        if (start + bytes.length > descriptionBytes.length) {
+            descriptionBytes = Arrays.copyOf(descriptionBytes,
+                    Math.max(descriptionBytes.length * 2, start + bytes.length));
+        }
+        System.arraycopy(bytes, 0, descriptionBytes, start, bytes.length);
+        descriptionStarts[row] = start;
+        descriptionLengths[row] = bytes.length;
+        descriptionBytesUsed = start + bytes.length;
+    }
+
+    /**
+     * Çöp baytlar havuzun yarısını geçince canlı açıklamaları satır sırasıyla
+     * yeni bir havuza taşır
+     */
+    private void compactDescriptionsIfSparse() {
+        if (descriptionGarbage * 2 <= descriptionBytesUsed) {
+            return;
+        }
+        int live = descriptionBytesUsed - descriptionGarbage;
+        byte[] compacted = new byte[Math.max(INITIAL_CAPACITY * 32, live * 2)];
+        int offset = 0;
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(descriptionBytes, descriptionStarts[row], compacted, offset, descriptionLengths[row]);
+            descriptionStarts[row] = offset;
+            offset += descriptionLengths[row];
+        }
+        descriptionBytes = compacted;
+        descriptionBytesUsed = offset;
+        descriptionGarbage = 0;
+    }
+
+    private String decodeDescription(int row) {
+        return new String(descriptionBytes, descriptionStarts[row], descriptionLengths[row], StandardCharsets.UTF_8);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        departmentCodes = Arrays.copyOf(departmentCodes, capacity);
+        statusCodes = Arrays.copyOf(statusCodes, capacity);
+        issueTypeCodes = Arrays.copyOf(issueTypeCodes, capacity);
+        parkNameCodes = Arrays.copyOf(parkNameCodes, capacity);
+        reportDates = Arrays.copyOf(reportDates, capacity);
+        resolvedDates = Arrays.copyOf(resolvedDates, capacity);
+        descriptionStarts = Arrays.copyOf(descriptionStarts, capacity);
+        descriptionLengths = Arrays.copyOf(descriptionLengths, capacity);
+    }
+
+    private static long toMillis(@Nullable Date date) {
+        return date != null ? date.getTime() : NO_DATE;
+    }
+
+    @Nullable
+    private static Date toDate(long millis) {
+        return millis != NO_DATE ? new Date(millis) : null;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * ComplaintCounters - Departman ve duruma göre artımlı şikayet sayaçları
+ *
+ * ComplaintManager her ekleme, silme ve durum değişikliğinde sayaçları
+ * +1 / -1 olarak günceller; özet için listeyi baştan saymak gerekmez.
+ * Her değişiklik grubundan sonra değişmez bir Snapshot yayınlanır.
+ * getSnapshot() ve Snapshot üzerindeki tüm okumalar O(1) maliyetlidir.
+ *
+ * @version 1.0
+ */
+public class ComplaintCounters {
+
+    // departman -> (durum -> sayı); tüm yazmalar "this" ile korunur
+    private final Map<String, Map<String, Integer>> countsByDepartment = new HashMap<>();
+    private final Map<String, Integer> countsByStatus = new HashMap<>();
+    private int total;
+    private boolean dirty;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private final List<OnCountersChangedListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Sayaçların belirli bir andaki değişmez kopyası
+     */
+    public static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), Collections.emptyMap(), 0);
+
+        private final Map<String, Map<String, Integer>> countsByDepartment;
+        private final Map<String, Integer> totalsByDepartment;
+        private final Map<String, Integer> countsByStatus;
+        private final int total;
+
+        private Snapshot(Map<String, Map<String, Integer>> countsByDepartment,
+                         Map<String, Integer> countsByStatus, int total) {
+            this.countsByDepartment = countsByDepartment;
+            this.countsByStatus = countsByStatus;
+            this.total = total;
+            Map<String, Integer> totals = new HashMap<>();
+            for (Map.Entry<String, Map<String, Integer>> entry : countsByDepartment.entrySet()) {
+                totals.put(entry.getKey(), sum(entry.getValue()));
+            }
+            this.totalsByDepartment = totals;
+        }
+
+        /**
+         * @param department Departman (null = tüm departmanlar)
+         * @return Şikayet sayısı
+         */
+        public int getTotal(@Nullable String department) {
+            if (department == null) {
+                return total;
+            }
+            Integer count = totalsByDepartment.get(department);
+            return count != null ? count : 0;
+        }
+
+        /**
+         * @param department Departman (null = tüm departmanlar)
+         * @param status Durum
+         * @return Departmanda bu durumdaki şikayet sayısı
+         */
+        public int getCount(@Nullable String department, @Nullable String status) {
+            Map<String, Integer> counts = department == null ? countsByStatus : countsByDepartment.get(department);
+            if (counts == null) {
+                return 0;
+            }
+            Integer count = counts.get(status);
+            return count != null ? count : 0;
+        }
+
+        /**
+         * @param department Departman (null = tüm departmanlar)
+         * @return Çözülmemiş (bekleyen veya işlemdeki) şikayet sayısı
+         */
+        public int getUnresolved(@Nullable String department) {
+            return getTotal(department) - getCount(department, Complaint.STATUS_RESOLVED);
+        }
+
+        private static int sum(Map<String, Integer> counts) {
+            int sum = 0;
+            for (int count : counts.values()) {
+                sum += count;
+            }
+            return sum;
+        }
+    }
+
+    @NonNull
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public void addListener(@NonNull OnCountersChangedListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(@NonNull OnCountersChangedListener listener) {
+        listeners.remove(listener);
+    }
+
+    synchronized void increment(String department, String status) {
+        add(department, status, 1);
+    }
+
+    synchronized void decrement(String department, String status) {
+        add(department, status, -1);
+    }
+
+    synchronized void clear() {
+        countsByDepartment.clear();
+        countsByStatus.clear();
+        total = 0;
+        dirty = true;
+    }
+
+    /**
+     * Son yayından bu yana değişiklik olduysa yeni Snapshot yayınlar ve
+     * dinleyicileri bilgilendirir. ComplaintManager kilidi dışında çağrılır.
+     */
+    void publish() {
+        Snapshot published;
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+            Map<String, Map<String, Integer>> departments = new HashMap<>();
+            for (Map.Entry<String, Map<String, Integer>> entry : countsByDepartment.entrySet()) {
+                departments.put(entry.getKey(), new HashMap<>(entry.getValue()));
+            }
+            published = new Snapshot(departments, new HashMap<>(countsByStatus), total);
+            snapshot = published;
+        }
+        for (OnCountersChangedListener listener : listeners) {
+            listener.onCountersChanged(published);
+        }
+    }
+
+    private void add(String department, String status, int delta) {
+        Map<String, Integer> counts = countsByDepartment.get(department);
+        if (counts == null) {
+            counts = new HashMap<>();
+            countsByDepartment.put(department, counts);
+        }
+        addTo(counts, status, delta);
+        if (counts.isEmpty()) {
+            countsByDepartment.remove(department);
+        }
+        addTo(countsByStatus, status, delta);
+        total += delta;
+        dirty = true;
+    }
+
+    private static void addTo(Map<String, Integer> counts, String key, int delta) {
+        Integer current = counts.get(key);
+        int next = (current != null ? current : 0) + delta;
+        if (next == 0) {
+            counts.remove(key);
+        } else {
+            counts.put(key, next);
+        }
+    }
+
+    public interface OnCountersChangedListener {
+        void onCountersChanged(@NonNull Snapshot snapshot);
+    }
+}
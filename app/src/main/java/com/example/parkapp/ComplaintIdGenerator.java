@@ -0,0 +1,106 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ComplaintIdGenerator - Zamana göre sıralanabilir şikayet id üreticisi
+ *
+ * ULID benzeri 128 bitlik id'ler üretir ve 26 karakterlik Crockford Base32
+ * metni olarak döndürür:
+ *
+ *   48 bit zaman (epoch ms) | 16 bit sayaç | 32 bit düğüm | 32 bit rastgele
+ *
+ * Zaman ve sayaç tek bir AtomicLong içinde tutulur ve CAS ile ilerletilir
+ * (kilitsiz). Aynı milisaniyede üretilen id'ler sayaçla ayrışır; sayaç
+ * taşarsa zaman bir ms ileri alınır, böylece bir süreç içindeki id'ler her
+ * zaman artan sıradadır. Düğüm bitleri süreç başına bir kez SecureRandom ile
+ * seçilir ve farklı cihazların aynı anda ürettiği id'leri ayırır.
+ *
+ * Metin gösterimi sayısal sırayı korur; Firestore'da belge id'sine göre
+ * sıralama, oluşturulma zamanına göre sıralama ile aynıdır.
+ *
+ * @version 1.0
+ */
+public final class ComplaintIdGenerator {
+
+    // Constants
+    public static final int ID_LENGTH = 26;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int COUNTER_BITS = 16;
+
+    // (zaman << 16) | sayaç
+    private static final AtomicLong lastTimeAndCounter = new AtomicLong();
+    private static final int NODE_ID = new SecureRandom().nextInt();
+
+    private ComplaintIdGenerator() {
+    }
+
+    /**
+     * Yeni bir id üretir
+     *
+     * @return 26 karakterlik, zamana göre sıralanabilir id
+     */
+    @NonNull
+    public static String newId() {
+        long timeAndCounter = nextTimeAndCounter(System.currentTimeMillis());
+        long low = ((long) NODE_ID << 32) | (ThreadLocalRandom.current().nextInt() & 0xFFFFFFFFL);
+        return encode(timeAndCounter, low);
+    }
+
+    /**
+     * Id'nin içindeki zaman damgasını döndürür
+     *
+     * @param id ComplaintIdGenerator ile üretilmiş id
+     * @return Epoch milisaniye
+     */
+    public static long timestampOf(@NonNull String id) {
+        if (id.length() != ID_LENGTH) {
+            throw new IllegalArgumentException("Geçersiz id: " + id);
+        }
+        // İlk 10 karakter = 50 bit; ilk 2 bit her zaman 0, sonraki 48 bit zaman
+        long time = 0;
+        for (int i = 0; i < 10; i++) {
+            time = (time << 5) | decodeChar(id.charAt(i));
+        }
+        return time;
+    }
+
+    static long nextTimeAndCounter(long now) {
+        while (true) {
+            long previous = lastTimeAndCounter.get();
+            long previousTime = previous >>> COUNTER_BITS;
+            // Saat geri gitse bile sıra bozulmasın: önceki zamanın sayacını artır
+            long next = now > previousTime ? now << COUNTER_BITS : previous + 1;
+            if (lastTimeAndCounter.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * 128 biti (high: zaman+sayaç, low: düğüm+rastgele) 26 karakterlik
+     * Base32 metne çevirir. 26 * 5 = 130 bit; en üstteki 2 bit sıfırdır.
+     */
+    static String encode(long high, long low) {
+        char[] out = new char[ID_LENGTH];
+        for (int i = ID_LENGTH - 1; i >= 0; i--) {
+            out[i] = ALPHABET[(int) (low & 0x1F)];
+            // 128 bitlik değeri 5 bit sağa kaydır
+            low = (low >>> 5) | (high << 59);
+            high >>>= 5;
+        }
+        return new String(out);
+    }
+
+    private static int decodeChar(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Geçersiz karakter: " + c);
+    }
+}
@@ -1,58 +1,426 @@
 package com.example.parkapp;
 
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import com.example.parkapp.Complaint;
 
-public class ComplaintManager {
-    private static ComplaintManager instance;
-    private List<Complaint> complaints;
-    
-    private ComplaintManager() {
-        complaints = new ArrayList<>();
+/**
+ * ComplaintManager - Bellek içi şikayet deposu
+ *
+ * Şikayetler sütunlu ComplaintColumnStore'da tutulur (sözlükle kodlanmış
+ * alanlar, long[] tarihler, yalnızca erişilince çözülen açıklamalar); depo
+ * id'ye göre birincil index'tir. Departman / durum / park adına göre ikincil
+ * hash index'ler id kümeleri tutar. Aramalar O(1) veya O(eşleşme)
+ * maliyetlidir. Getter'lar her çağrıda depodaki satırdan yeni bir Complaint
+ * görünümü üretir.
+ *
+ * Görünümler ve addComplaint ile eklenen nesneler depodaki satıra id ile
+ * bağlıdır: setId ve setStatus alanı kendileri yazmaz; Complaint.ChangeListener
+ * (changeId / changeStatus) ile buraya yönlenir ve nesne, satır ve index'ler
+ * aynı yazma kilidi altında güncellenir. Böylece index'ler her zaman güncel
+ * kalır. Okuma ve yazma işlemleri ReentrantReadWriteLock ile korunur.
+ *
+ * Firestore snapshot listener'larından gelen değişiklikler applyChanges ile
+ * uygulanır; adapter'lar OnComplaintsChangedListener ile yalnızca değişen
+ * satırları alır.
+ *
+ * Departman / durum sayaçları (ComplaintCounters) index'lerle aynı noktalarda
+ * artımlı olarak güncellenir; özetler listeyi yeniden saymadan okunur.
+ */
+public class ComplaintManager implements Complaint.ChangeListener {
+    private static volatile ComplaintManager instance;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Birincil depo ve index: id -> satır (ekleme sırası korunur)
+    private final ComplaintColumnStore store = new ComplaintColumnStore();
+
+    // İkincil index'ler: alan değeri -> şikayet id'leri
+    private final Map<String, Set<String>> idsByDepartment = new HashMap<>();
+    private final Map<String, Set<String>> idsByStatus = new HashMap<>();
+    private final Map<String, Set<String>> idsByParkName = new HashMap<>();
+
+    // Departman / durum sayaçları; index'lerle aynı kilit altında güncellenir
+    private final ComplaintCounters counters = new ComplaintCounters();
+
+    private final List<OnComplaintsChangedListener> observers = new CopyOnWriteArrayList<>();
+
+    ComplaintManager() {
     }
-    
+
     public static ComplaintManager getInstance() {
         if (instance == null) {
-            instance = new ComplaintManager();
+            synchronized (ComplaintManager.class) {
+                if (instance == null) {
+                    instance = new ComplaintManager();
+                }
+            }
         }
         return instance;
     }
-    
+
+    /**
+     * Şikayeti ekler. Aynı id ile kayıtlı bir şikayet varsa yerine geçer.
+     */
     public void addComplaint(Complaint complaint) {
-        complaints.add(complaint);
+        boolean replaced;
+        lock.writeLock().lock();
+        try {
+            replaced = putLocked(complaint);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<Complaint> changed = new ArrayList<>();
+        changed.add(complaint);
+        if (replaced) {
+            notifyObservers(new ArrayList<>(), changed, new ArrayList<>());
+        } else {
+            notifyObservers(changed, new ArrayList<>(), new ArrayList<>());
+        }
+    }
+
+    public Complaint removeComplaint(String id) {
+        Complaint removed;
+        lock.writeLock().lock();
+        try {
+            removed = removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (removed != null) {
+            List<Complaint> removedList = new ArrayList<>();
+            removedList.add(removed);
+            notifyObservers(new ArrayList<>(), new ArrayList<>(), removedList);
+        }
+        return removed;
+    }
+
+    /**
+     * Snapshot listener'dan gelen değişiklikleri tek seferde uygular ve
+     * gözlemcilere tek bir bildirim gönderir. Zaten bilinen bir id "added"
+     * olarak gelirse "modified" sayılır, bilinmeyen bir id "modified" olarak
+     * gelirse "added" sayılır.
+     */
+    public void applyChanges(List<Complaint> added, List<Complaint> modified, List<String> removedIds) {
+        List<Complaint> addedResult = new ArrayList<>();
+        List<Complaint> modifiedResult = new ArrayList<>();
+        List<Complaint> removedResult = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            for (String id : removedIds) {
+                Complaint removed = removeLocked(id);
+                if (removed != null) {
+                    removedResult.add(removed);
+                }
+            }
+            List<Complaint> upserts = new ArrayList<>(added);
+            upserts.addAll(modified);
+            for (Complaint complaint : upserts) {
+                if (putLocked(complaint)) {
+                    modifiedResult.add(complaint);
+                } else {
+                    addedResult.add(complaint);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        notifyObservers(addedResult, modifiedResult, removedResult);
+    }
+
+    public void clear() {
+        List<Complaint> removed;
+        lock.writeLock().lock();
+        try {
+            removed = new ArrayList<>(store.asList());
+            store.clear();
+            idsByDepartment.clear();
+            idsByStatus.clear();
+            idsByParkName.clear();
+            counters.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        notifyObservers(new ArrayList<>(), new ArrayList<>(), removed);
+    }
+
+    public void addObserver(OnComplaintsChangedListener observer) {
+        observers.add(observer);
     }
-    
+
+    public void removeObserver(OnComplaintsChangedListener observer) {
+        observers.remove(observer);
+    }
+
+    public ComplaintCounters getCounters() {
+        return counters;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return store.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     public List<Complaint> getAllComplaints() {
-        return new ArrayList<>(complaints);
+        lock.readLock().lock();
+        try {
+            List<Complaint> result = new ArrayList<>(store.size());
+            for (Complaint complaint : store.asList()) {
+                result.add(managed(complaint));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
-    
+
     public List<Complaint> getComplaintsByDepartment(String department) {
-        List<Complaint> departmentComplaints = new ArrayList<>();
-        for (Complaint complaint : complaints) {
-            if (complaint.getDepartment().equals(department)) {
-                departmentComplaints.add(complaint);
+        return lookup(idsByDepartment, department);
+    }
+
+    public List<Complaint> getComplaintsByStatus(String status) {
+        return lookup(idsByStatus, status);
+    }
+
+    public List<Complaint> getComplaintsByParkName(String parkName) {
+        return lookup(idsByParkName, parkName);
+    }
+
+    public Complaint getComplaintById(String id) {
+        lock.readLock().lock();
+        try {
+            Complaint complaint = store.getById(id);
+            return complaint != null ? managed(complaint) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void updateComplaintStatus(String id, String status) {
+        Complaint modified = null;
+        lock.writeLock().lock();
+        try {
+            if (!store.contains(id)) {
+                return;
+            }
+            if (Complaint.STATUS_RESOLVED.equals(status)) {
+                store.setResolvedDate(id, new Date());
+            }
+            if (changeStatusLocked(id, status)) {
+                modified = managed(store.getById(id));
             }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (modified != null) {
+            notifyModified(modified);
         }
-        return departmentComplaints;
     }
-    
-    public Complaint getComplaintById(String id) {
-        for (Complaint complaint : complaints) {
-            if (complaint.getId().equals(id)) {
-                return complaint;
+
+    @Override
+    public void changeId(Complaint complaint, String id) {
+        lock.writeLock().lock();
+        try {
+            String oldId = complaint.getId();
+            if (Objects.equals(oldId, id)) {
+                return;
+            }
+            if (!store.contains(oldId)) {
+                // Depoda olmayan nesne; yalnızca alan yazılır
+                complaint.setIdField(id);
+                return;
             }
+            // Eski id ile çıkar, satırı ve alanı değiştir, yeni id ile ekle; hepsi aynı kilit altında
+            unindex(oldId);
+            if (store.contains(id)) {
+                // Aynı id'li başka bir kayıt yerinden edilir
+                unindex(id);
+                store.remove(id);
+            }
+            store.changeId(oldId, id);
+            complaint.setIdField(id);
+            index(id);
+        } finally {
+            lock.writeLock().unlock();
         }
-        return null;
+        // Aynı id'li başka bir kayıt yerinden edildiyse toplamlar değişmiştir
+        counters.publish();
     }
-    
-    public void updateComplaintStatus(String id, String status) {
-        Complaint complaint = getComplaintById(id);
-        if (complaint != null) {
-            complaint.setStatus(status);
-            if (status.equals("Çözüldü")) {
-                complaint.setResolvedDate(new java.util.Date());
+
+    @Override
+    public void changeStatus(Complaint complaint, String status) {
+        Complaint modified = null;
+        lock.writeLock().lock();
+        try {
+            String id = complaint.getId();
+            complaint.setStatusField(status);
+            if (store.contains(id) && changeStatusLocked(id, status)) {
+                modified = managed(store.getById(id));
             }
+        } finally {
+            lock.writeLock().unlock();
         }
+        if (modified != null) {
+            notifyModified(modified);
+        }
+    }
+
+    @Override
+    public void changeResolvedDate(Complaint complaint, Date resolvedDate) {
+        lock.writeLock().lock();
+        try {
+            complaint.setResolvedDateField(resolvedDate);
+            store.setResolvedDate(complaint.getId(), resolvedDate);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Kilit tutulurken çağrılır; eski durum satırdan okunur
+    private boolean changeStatusLocked(String id, String status) {
+        String oldStatus = store.getStatus(id);
+        if (Objects.equals(oldStatus, status)) {
+            return false;
+        }
+        store.updateStatus(id, status);
+        removeFromIndex(idsByStatus, oldStatus, id);
+        addToIndex(idsByStatus, status, id);
+        String department = store.getDepartment(id);
+        counters.decrement(department, oldStatus);
+        counters.increment(department, status);
+        return true;
+    }
+
+    private void notifyModified(Complaint complaint) {
+        List<Complaint> modified = new ArrayList<>();
+        modified.add(complaint);
+        notifyObservers(new ArrayList<>(), modified, new ArrayList<>());
+    }
+
+    // Kilit tutulurken çağrılır; aynı id'li eski kayıt varsa satırını yerinde günceller
+    private boolean putLocked(Complaint complaint) {
+        String id = complaint.getId();
+        boolean replaced = store.contains(id);
+        if (!replaced) {
+            store.add(complaint);
+            index(id);
+        } else {
+            String previousDepartment = store.getDepartment(id);
+            String previousStatus = store.getStatus(id);
+            String previousParkName = store.getParkName(id);
+            store.add(complaint);
+            reindex(idsByDepartment, previousDepartment, complaint.getDepartment(), id);
+            reindex(idsByStatus, previousStatus, complaint.getStatus(), id);
+            reindex(idsByParkName, previousParkName, complaint.getParkName(), id);
+            counters.decrement(previousDepartment, previousStatus);
+            counters.increment(complaint.getDepartment(), complaint.getStatus());
+        }
+        complaint.setChangeListener(this);
+        return replaced;
+    }
+
+    private Complaint removeLocked(String id) {
+        Complaint removed = store.getById(id);
+        if (removed != null) {
+            unindex(id);
+            store.remove(id);
+        }
+        return removed;
+    }
+
+    // Depodan üretilen görünümün değişiklikleri de bu depoya yönlenir
+    private Complaint managed(Complaint view) {
+        view.setChangeListener(this);
+        return view;
+    }
+
+    private void notifyObservers(List<Complaint> added, List<Complaint> modified, List<Complaint> removed) {
+        // Gözlemciler bu bildirimde sayaçların güncel halini okuyabilsin
+        counters.publish();
+        if (added.isEmpty() && modified.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        for (OnComplaintsChangedListener observer : observers) {
+            observer.onComplaintsChanged(added, modified, removed);
+        }
+    }
+
+    private List<Complaint> lookup(Map<String, Set<String>> index, String key) {
+        lock.readLock().lock();
+        try {
+            Set<String> ids = index.get(key);
+            if (ids == null) {
+                return new ArrayList<>();
+            }
+            List<Complaint> result = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                result.add(managed(store.getById(id)));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Satırın alanlarını depodan okuyarak ikincil index'lere ve sayaçlara ekler
+    private void index(String id) {
+        String department = store.getDepartment(id);
+        String status = store.getStatus(id);
+        addToIndex(idsByDepartment, department, id);
+        addToIndex(idsByStatus, status, id);
+        addToIndex(idsByParkName, store.getParkName(id), id);
+        counters.increment(department, status);
+    }
+
+    // Satır depodan silinmeden önce çağrılır
+    private void unindex(String id) {
+        String department = store.getDepartment(id);
+        String status = store.getStatus(id);
+        removeFromIndex(idsByDepartment, department, id);
+        removeFromIndex(idsByStatus, status, id);
+        removeFromIndex(idsByParkName, store.getParkName(id), id);
+        counters.decrement(department, status);
+    }
+
+    private static void reindex(Map<String, Set<String>> index, String oldKey, String newKey, String id) {
+        if (!Objects.equals(oldKey, newKey)) {
+            removeFromIndex(index, oldKey, id);
+            addToIndex(index, newKey, id);
+        }
+    }
+
+    private static void addToIndex(Map<String, Set<String>> index, String key, String id) {
+        Set<String> ids = index.get(key);
+        if (ids == null) {
+            ids = new LinkedHashSet<>();
+            index.put(key, ids);
+        }
+        ids.add(id);
+    }
+
+    private static void removeFromIndex(Map<String, Set<String>> index, String key, String id) {
+        Set<String> ids = index.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    public interface OnComplaintsChangedListener {
+        void onComplaintsChanged(List<Complaint> added, List<Complaint> modified, List<Complaint> removed);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,468 @@
+package com.example.parkapp;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import com.google.firebase.firestore.FirebaseFirestoreException;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * ComplaintOutbox - Şikayet gönderimi için kalıcı giden kutusu
+ *
+ * Her şikayet önce uygulamanın dosya dizinindeki append-only bir günlüğe
+ * (journal) yazılır ve çağırana hemen dönülür. Arka plandaki tek bir iş
+ * parçacığı günlüğü sırayla Firestore'a boşaltır:
+ *
+ *  1. Şikayet, önceden atanmış id ile yoksa oluşturulur (idempotent;
+ *     tekrar denemeler yeni doküman oluşturmaz, mevcut olanı ezmez).
+ *  2. Yazma onaylandıktan sonra kullanıcının şikayet sayacı artırılır
+ *     (UserStatsManager.incrementComplaintsCountOnce, şikayet başına bir kez).
+ *
+ * Her adımın sonucu günlüğe eklenir; süreç ölse bile bir sonraki açılışta
+ * günlük yeniden okunur ve kalan adımlardan devam edilir. Geçici hatalar
+ * (ağ, kota vb.) üstel geri çekilme (exponential backoff) ile tekrarlanır.
+ * Tekrar denemekle düzelmeyecek hatalarda (ör. PERMISSION_DENIED,
+ * INVALID_ARGUMENT) kayıt ayrı bir dosyaya (complaint_outbox.failed)
+ * taşınır; böylece kuyruğun başındaki tek kayıt sonrakileri bekletmez.
+ *
+ * Günlüğe yazma ve diske senkronizasyon (fsync) de bu iş parçacığında
+ * yapılır; enqueue çağıranı bekletmez. Sonuç ana iş parçacığında
+ * OnEnqueuedListener ile bildirilir. Şikayet günlüğe yazılamazsa çağıran
+ * kullanıcıya şikayetin kaydedilmediğini bildirmelidir.
+ *
+ * @version 1.0
+ */
+public class ComplaintOutbox {
+
+    // Constants
+    private static final String TAG = "ComplaintOutbox";
+    private static final String JOURNAL_FILE = "complaint_outbox.journal";
+    private static final String FAILED_FILE = "complaint_outbox.failed";
+    private static final String OP_ENQUEUE = "enqueue";
+    private static final String OP_WRITTEN = "written";
+    private static final String OP_COUNTED = "counted";
+    private static final String OP_FAILED = "failed";
+    private static final long INITIAL_BACKOFF_MS = 2_000;
+    private static final long MAX_BACKOFF_MS = 5 * 60_000;
+    private static final int COMPACT_THRESHOLD = 64;
+
+    // Singleton instance
+    private static volatile ComplaintOutbox instance;
+
+    private final File journalFile;
+    private final File failedFile;
+    private final ScheduledExecutorService executor;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Random random = new Random();
+
+    // Bekleyen kayıtlar (id -> kayıt), günlük sırasıyla; "this" ile korunur
+    private final Map<String, Entry> pending = new LinkedHashMap<>();
+    private int journalRecordCount;
+    private boolean inFlight;
+    private int failedAttempts;
+
+    /**
+     * Günlükteki bir şikayet ve gönderim durumu
+     */
+    private static class Entry {
+        final Complaint complaint;
+        final String userId;
+        boolean written;
+
+        Entry(Complaint complaint, String userId) {
+            this.complaint = complaint;
+            this.userId = userId;
+        }
+
+        boolean isDone() {
+            return written && userId == null;
+        }
+    }
+
+    private ComplaintOutbox(@NonNull Context context) {
+        journalFile = new File(context.getApplicationContext().getFilesDir(), JOURNAL_FILE);
+        failedFile = new File(context.getApplicationContext().getFilesDir(), FAILED_FILE);
+        executor = Executors.newSingleThreadScheduledExecutor();
+        replayJournal();
+    }
+
+    /**
+     * Singleton instance'ını döndürür
+     *
+     * @param context Uygulama context'i
+     * @return ComplaintOutbox instance
+     */
+    public static ComplaintOutbox getInstance(@NonNull Context context) {
+        if (instance == null) {
+            synchronized (ComplaintOutbox.class) {
+                if (instance == null) {
+                    instance = new ComplaintOutbox(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Şikayeti arka planda günlüğe yazar ve hemen döner. Kayıt diske
+     * senkronize edilince listener ana iş parçacığında çağrılır; gönderim
+     * ardından arka planda yapılır.
+     *
+     * @param complaint Gönderilecek şikayet
+     * @param userId Şikayet sayacı artırılacak kullanıcı (yoksa null)
+     * @param listener Günlüğe yazma sonucu
+     */
+    public void enqueue(@NonNull Complaint complaint, @Nullable String userId,
+                        @NonNull OnEnqueuedListener listener) {
+        executor.execute(() -> {
+            // complaint.getId() ComplaintIdGenerator ile üretilmiştir ve doküman id'si
+            // olarak kullanılır; tekrar denemeler bu id ile tekilleştirilir
+            try {
+                synchronized (this) {
+                    appendRecord(toRecord(OP_ENQUEUE, complaint, userId));
+                    pending.put(complaint.getId(), new Entry(complaint, userId));
+                }
+            } catch (IOException e) {
+                mainHandler.post(() -> listener.onFailure(e));
+                return;
+            }
+            // Listeler şikayeti sunucu onayını beklemeden göstersin
+            ComplaintManager.getInstance().addComplaint(complaint);
+            mainHandler.post(listener::onEnqueued);
+            drainNext();
+        });
+    }
+
+    /**
+     * Bekleyen şikayetleri arka planda göndermeye başlar
+     */
+    public void drain() {
+        executor.execute(this::drainNext);
+    }
+
+    /**
+     * Henüz sunucuya ulaşmamış şikayet sayısını döndürür
+     *
+     * @return Bekleyen şikayet sayısı
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    private void drainNext() {
+        Entry entry;
+        synchronized (this) {
+            if (inFlight) {
+                return;
+            }
+            if (pending.isEmpty()) {
+                failedAttempts = 0;
+                compact();
+                return;
+            }
+            entry = pending.values().iterator().next();
+            inFlight = true;
+        }
+
+        if (!entry.written) {
+            FirebaseComplaintManager.getInstance().saveComplaint(entry.complaint, new FirebaseComplaintManager.OnComplaintAddedListener() {
+                @Override
+                public void onSuccess(String documentId) {
+                    executor.execute(() -> {
+                        synchronized (ComplaintOutbox.this) {
+                            entry.written = true;
+                            appendMarker(OP_WRITTEN, entry.complaint.getId());
+                            if (entry.isDone()) {
+                                pending.remove(entry.complaint.getId());
+                            }
+                        }
+                        onAttemptSucceeded();
+                    });
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    executor.execute(() -> onAttemptFailed(entry, e));
+                }
+            });
+        } else {
+            // Şikayet yazıldı; sayaç artışı yalnızca bu onaydan sonra gönderilir
+            UserStatsManager.getInstance().incrementComplaintsCountOnce(entry.userId, entry.complaint.getId(),
+                    new UserStatsManager.OnStatsUpdatedListener() {
+                @Override
+                public void onSuccess() {
+                    executor.execute(() -> {
+                        synchronized (ComplaintOutbox.this) {
+                            appendMarker(OP_COUNTED, entry.complaint.getId());
+                            pending.remove(entry.complaint.getId());
+                        }
+                        onAttemptSucceeded();
+                    });
+                }
+
+                @Override
+                public void onFailure(@NonNull Exception e) {
+                    executor.execute(() -> onAttemptFailed(entry, e));
+                }
+            });
+        }
+    }
+
+    private void onAttemptSucceeded() {
+        synchronized (this) {
+            inFlight = false;
+            failedAttempts = 0;
+        }
+        drainNext();
+    }
+
+    private void onAttemptFailed(Entry entry, Exception e) {
+        if (isPermanent(e)) {
+            moveAside(entry, e);
+            onAttemptSucceeded();
+            return;
+        }
+        long delay;
+        synchronized (this) {
+            inFlight = false;
+            delay = Math.min(MAX_BACKOFF_MS, INITIAL_BACKOFF_MS << Math.min(failedAttempts, 16));
+            failedAttempts++;
+        }
+        // Aynı anda tekrar deneyen cihazları dağıtmak için jitter ekle
+        delay += (long) (random.nextDouble() * delay / 2);
+        executor.schedule(this::drainNext, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Tekrar denemekle düzelmeyecek hata mı? Ağ, kota, oturum ve sunucu
+     * kaynaklı hatalar geçici sayılır.
+     */
+    static boolean isPermanent(Exception e) {
+        if (e instanceof IllegalArgumentException) {
+            return true;
+        }
+        if (!(e instanceof FirebaseFirestoreException)) {
+            return false;
+        }
+        switch (((FirebaseFirestoreException) e).getCode()) {
+            case PERMISSION_DENIED:
+            case INVALID_ARGUMENT:
+            case NOT_FOUND:
+            case ALREADY_EXISTS:
+            case OUT_OF_RANGE:
+            case UNIMPLEMENTED:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Kalıcı hata alan kaydı ayrı dosyaya taşır ve kuyruktan çıkarır.
+     * Sunucuya hiç yazılamayan şikayet listelerden de kaldırılır.
+     */
+    private void moveAside(Entry entry, Exception e) {
+        String id = entry.complaint.getId();
+        Log.w(TAG, "Şikayet gönderilemedi, kuyruktan çıkarıldı: " + id, e);
+        synchronized (this) {
+            JSONObject record = toRecord(OP_ENQUEUE, entry.complaint, entry.userId);
+            try (FileOutputStream out = new FileOutputStream(failedFile, true)) {
+                record.put("written", entry.written);
+                record.put("error", String.valueOf(e.getMessage()));
+                writeLine(out, record);
+                out.getFD().sync();
+            } catch (IOException | JSONException writeError) {
+                Log.w(TAG, "Başarısız kayıt dosyasına yazılamadı: " + id, writeError);
+            }
+            appendMarker(OP_FAILED, id);
+            pending.remove(id);
+        }
+        if (!entry.written) {
+            ComplaintManager.getInstance().removeComplaint(id);
+        }
+    }
+
+    // Journal
+
+    /**
+     * Günlüğü baştan okuyarak bekleyen kayıtları geri yükler. Süreç yazma
+     * sırasında öldüyse yarım kalan son satır ayrıştırılamaz ve atlanır.
+     */
+    private synchronized void replayJournal() {
+        if (!journalFile.exists()) {
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(journalFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                journalRecordCount++;
+                try {
+                    applyRecord(new JSONObject(line));
+                } catch (JSONException e) {
+                    // Yarım yazılmış kayıt
+                }
+            }
+        } catch (IOException e) {
+            // Okunabilen kayıtlarla devam et
+        }
+        for (Entry entry : pending.values()) {
+            ComplaintManager.getInstance().addComplaint(entry.complaint);
+        }
+    }
+
+    private void applyRecord(JSONObject record) throws JSONException {
+        String op = record.getString("op");
+        String id = record.getString("id");
+        if (OP_ENQUEUE.equals(op)) {
+            Complaint complaint = new Complaint(id,
+                    record.optString("parkName", null),
+                    record.optString("department", null),
+                    record.optString("issueType", null),
+                    record.optString("description", null),
+                    record.optString("status", Complaint.STATUS_PENDING),
+                    new Date(record.getLong("reportDate")),
+                    null);
+            pending.put(id, new Entry(complaint, record.optString("userId", null)));
+        } else if (OP_WRITTEN.equals(op)) {
+            Entry entry = pending.get(id);
+            if (entry != null) {
+                entry.written = true;
+                if (entry.isDone()) {
+                    pending.remove(id);
+                }
+            }
+        } else if (OP_COUNTED.equals(op) || OP_FAILED.equals(op)) {
+            pending.remove(id);
+        }
+    }
+
+    /**
+     * Kaydı günlüğün sonuna ekler ve diske senkronize eder
+     */
+    private void appendRecord(JSONObject record) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(journalFile, true)) {
+            writeLine(out, record);
+            out.getFD().sync();
+            journalRecordCount++;
+        }
+    }
+
+    /**
+     * İlerleme işaretini günlüğe ekler. Yazılamazsa bellekteki durum yine
+     * ilerler; bir sonraki açılışta adım tekrarlanır ve her adım idempotent
+     * olduğu için (var olanı ezmeyen yazma, şikayet başına bir kez sayaç)
+     * sonuç değişmez.
+     */
+    private void appendMarker(String op, String id) {
+        try {
+            appendRecord(toMarker(op, id));
+        } catch (IOException e) {
+            Log.w(TAG, "Günlüğe yazılamadı: " + op + " " + id, e);
+        }
+    }
+
+    /**
+     * Günlük büyüdüğünde yalnızca bekleyen kayıtları içeren yeni bir günlük
+     * yazar ve atomik olarak eskisinin yerine koyar
+     */
+    private synchronized void compact() {
+        if (pending.isEmpty()) {
+            if (journalRecordCount > 0 && journalFile.delete()) {
+                journalRecordCount = 0;
+            }
+            return;
+        }
+        if (journalRecordCount < COMPACT_THRESHOLD) {
+            return;
+        }
+        File tmp = new File(journalFile.getPath() + ".tmp");
+        int count = 0;
+        try (FileOutputStream out = new FileOutputStream(tmp, false)) {
+            for (Entry entry : pending.values()) {
+                writeLine(out, toRecord(OP_ENQUEUE, entry.complaint, entry.userId));
+                count++;
+                if (entry.written) {
+                    writeLine(out, toMarker(OP_WRITTEN, entry.complaint.getId()));
+                    count++;
+                }
+            }
+            out.getFD().sync();
+        } catch (IOException e) {
+            tmp.delete();
+            return;
+        }
+        if (tmp.renameTo(journalFile)) {
+            journalRecordCount = count;
+        }
+    }
+
+    private static void writeLine(OutputStream out, JSONObject record) throws IOException {
+        out.write((record.toString() + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static JSONObject toRecord(String op, Complaint complaint, String userId) {
+        JSONObject record = toMarker(op, complaint.getId());
+        try {
+            record.put("parkName", complaint.getParkName());
+            record.put("department", complaint.getDepartment());
+            record.put("issueType", complaint.getIssueType());
+            record.put("description", complaint.getDescription());
+            record.put("status", complaint.getStatus());
+            record.put("reportDate", complaint.getReportDate().getTime());
+            if (userId != null) {
+                record.put("userId", userId);
+            }
+        } catch (JSONException e) {
+            throw new IllegalStateException(e);
+        }
+        return record;
+    }
+
+    private static JSONObject toMarker(String op, String id) {
+        JSONObject record = new JSONObject();
+        try {
+            record.put("op", op);
+            record.put("id", id);
+        } catch (JSONException e) {
+            throw new IllegalStateException(e);
+        }
+        return record;
+    }
+
+    /**
+     * Günlüğe yazma sonucu için callback interface
+     */
+    public interface OnEnqueuedListener {
+        /**
+         * Şikayet günlüğe yazıldı ve diske senkronize edildi
+         */
+        void onEnqueued();
+
+        /**
+         * Şikayet diske yazılamadı; kuyruğa alınmadı
+         *
+         * @param e Hata
+         */
+        void onFailure(@NonNull IOException e);
+    }
+}
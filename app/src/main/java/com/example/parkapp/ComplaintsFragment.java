@@ -5,27 +5,44 @@ import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import androidx.fragment.app.Fragment;
-import androidx.fragment.app.FragmentManager;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.ListenerRegistration;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Locale;
 import com.example.parkapp.Complaint;
 import com.example.parkapp.FirebaseComplaintManager;
-import com.example.parkapp.AuthManager;
-import com.example.parkapp.User;
-import com.example.parkapp.AdminPanelFragment;
 
 public class ComplaintsFragment extends Fragment {
     
+    // Liste sonuna bu kadar satır kala bir sonraki sayfa istenir
+    private static final int PREFETCH_DISTANCE = 5;
+    // En fazla bu kadar sayfa canlı dinlenir; daha eski sayfaların listener'ı
+    // kapatılır, şikayetleri önbellekte ve listede kalır
+    private static final int MAX_LIVE_PAGES = 5;
+    
     private RecyclerView complaintsRecyclerView;
     private ComplaintAdapter complaintAdapter;
-    private List<Complaint> complaints;
     private FloatingActionButton fabAddComplaint;
     
+    // Sayfalama durumu: son MAX_LIVE_PAGES sayfa kendi snapshot listener'ı ile canlı dinlenir
+    private final Deque<ListenerRegistration> pageRegistrations = new ArrayDeque<>();
+    private int pageCount;
+    private DocumentSnapshot lastDocument;
+    private boolean hasMore = true;
+    private boolean isLoading = false;
+    
+    // Yerel önbellekteki değişiklikleri satır bazında adapter'a aktarır
+    private final ComplaintManager.OnComplaintsChangedListener cacheObserver = (added, modified, removed) -> {
+        if (complaintAdapter != null) {
+            complaintAdapter.applyChanges(added, modified, removed);
+        }
+    };
+    
     @Override
     public View onCreateView(LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
         View view = inflater.inflate(R.layout.fragment_complaints_modern, container, false);
@@ -33,66 +50,88 @@ public class ComplaintsFragment extends Fragment {
         complaintsRecyclerView = view.findViewById(R.id.complaintsRecyclerView);
         fabAddComplaint = view.findViewById(R.id.fabAddComplaint);
         
-        complaintsRecyclerView.setLayoutManager(new LinearLayoutManager(getContext()));
-        complaints = new ArrayList<>();
-        complaintAdapter = new ComplaintAdapter(complaints);
+        LinearLayoutManager layoutManager = new LinearLayoutManager(getContext());
+        complaintsRecyclerView.setLayoutManager(layoutManager);
+        // Önbellekte olanlar hemen gösterilir, sayfa listener'ları farkları getirir
+        complaintAdapter = new ComplaintAdapter(ComplaintManager.getInstance().getAllComplaints());
         complaintsRecyclerView.setAdapter(complaintAdapter);
         
-        // FAB click listener
-        fabAddComplaint.setOnClickListener(v -> {
-            ReportIssueFragment reportFragment = ReportIssueFragment.newInstance();
-            FragmentManager fragmentManager = getParentFragmentManager();
-            fragmentManager.beginTransaction()
-                    .replace(R.id.fragment_container, reportFragment)
-                    .addToBackStack(null)
-                    .commit();
+        // Sonsuz kaydırma: listenin sonuna yaklaşınca sonraki sayfayı yükle
+        complaintsRecyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0) {
+                    return;
+                }
+                int lastVisible = layoutManager.findLastVisibleItemPosition();
+                if (lastVisible >= complaintAdapter.getItemCount() - PREFETCH_DISTANCE) {
+                    loadNextPage();
+                }
+            }
         });
         
-        // Kullanıcı tipini kontrol et
-        User currentUser = AuthManager.getInstance().getCurrentUser();
-        if (currentUser != null && currentUser.isAdmin()) {
-            // Admin ise admin paneline yönlendir
-            AdminPanelFragment adminFragment = new AdminPanelFragment();
-            FragmentManager fragmentManager = getParentFragmentManager();
-            fragmentManager.beginTransaction()
-                    .replace(R.id.fragment_container, adminFragment)
-                    .commit();
-        } else {
-            // Normal kullanıcı ise şikayetlerini yükle
-            loadComplaints();
-        }
+        // FAB click listener
+        fabAddComplaint.setOnClickListener(v ->
+                MainActivity.openScreen(this, ReportIssueFragment.newInstance()));
+        
+        // Şikayetleri canlı dinle (ilk sayfa); yetkililer bu sekmede yönetim panelini görür
+        ComplaintManager.getInstance().addObserver(cacheObserver);
+        loadNextPage();
         
         return view;
     }
     
     @Override
-    public void onResume() {
-        super.onResume();
-        loadComplaints();
+    public void onDestroyView() {
+        super.onDestroyView();
+        ComplaintManager.getInstance().removeObserver(cacheObserver);
+        for (ListenerRegistration registration : pageRegistrations) {
+            registration.remove();
+        }
+        pageRegistrations.clear();
+        pageCount = 0;
+        lastDocument = null;
+        hasMore = true;
+        isLoading = false;
+        complaintAdapter = null;
     }
     
-    private void loadComplaints() {
-        complaints.clear();
-        FirebaseComplaintManager.getInstance().getAllComplaints(new FirebaseComplaintManager.OnComplaintsLoadedListener() {
+    private void loadNextPage() {
+        if (isLoading || !hasMore) {
+            return;
+        }
+        isLoading = true;
+        final int pageIndex = pageCount++;
+        ListenerRegistration registration = FirebaseComplaintManager.getInstance().listenToComplaintsPage(
+                lastDocument, FirebaseComplaintManager.DEFAULT_PAGE_SIZE,
+                new FirebaseComplaintManager.OnComplaintChangesListener() {
             @Override
-            public void onSuccess(List<Complaint> loadedComplaints) {
-                if (getActivity() != null) {
-                    getActivity().runOnUiThread(() -> {
-                        complaints.clear();
-                        complaints.addAll(loadedComplaints);
-                        complaintAdapter.notifyDataSetChanged();
-                    });
+            public void onChanges(FirebaseComplaintManager.ComplaintChanges changes) {
+                // Önbellek zaten güncellendi; adapter cacheObserver ile bilgilendirildi.
+                // Yalnızca son sayfa imleci ilerletir.
+                if (pageIndex != pageCount - 1) {
+                    return;
+                }
+                if (changes.isInitial) {
+                    isLoading = false;
                 }
+                if (changes.lastDocument != null) {
+                    lastDocument = changes.lastDocument;
+                }
+                hasMore = changes.size == FirebaseComplaintManager.DEFAULT_PAGE_SIZE;
             }
             
             @Override
             public void onFailure(Exception e) {
-                if (getActivity() != null) {
-                    getActivity().runOnUiThread(() -> {
-                        // Hata durumunda kullanıcıya bilgi ver
-                    });
+                if (pageIndex == pageCount - 1) {
+                    isLoading = false;
                 }
+                // Hata durumunda kullanıcıya bilgi ver
             }
         });
+        pageRegistrations.addLast(registration);
+        if (pageRegistrations.size() > MAX_LIVE_PAGES) {
+            pageRegistrations.removeFirst().remove();
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,300 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * CompressedBitmap - Sıkıştırılmış, değişmez int kümesi (Roaring benzeri)
+ *
+ * Değerler üst 16 bitlerine göre 65536'lık parçalara ayrılır. Her parça
+ * yoğunluğuna göre iki biçimden birinde tutulur:
+ *
+ *  - seyrek (en fazla ARRAY_MAX_SIZE değer): alt 16 bitlerin sıralı char[]'ı
+ *  - yoğun: 1024 long'luk bit dizisi (8 KB)
+ *
+ * Böylece birkaç parkta bulunan bir olanak birkaç bayt, neredeyse her
+ * parkta bulunan bir olanak parça başına en fazla 8 KB yer kaplar. Kesişim
+ * parça parça yapılır: yoğun-yoğun kelime kelime AND, seyrek-yoğun bit
+ * kontrolü, seyrek-seyrek sıralı birleştirme.
+ *
+ * @version 1.0
+ */
+final class CompressedBitmap {
+
+    // Constants
+    static final int ARRAY_MAX_SIZE = 4096;
+    private static final int WORDS = 1 << 10;
+    static final CompressedBitmap EMPTY = new CompressedBitmap(new char[0], new Object[0], new int[0], 0);
+
+    // Parça anahtarları (değerin üst 16 biti), artan sırada
+    private final char[] keys;
+    // char[] (seyrek) veya long[] (yoğun)
+    private final Object[] containers;
+    private final int[] cardinalities;
+    private final int cardinality;
+
+    private CompressedBitmap(char[] keys, Object[] containers, int[] cardinalities, int cardinality) {
+        this.keys = keys;
+        this.containers = containers;
+        this.cardinalities = cardinalities;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Artan sıralı, tekrarsız, negatif olmayan değerlerden oluşturur
+     *
+     * @param sorted Değerler
+     * @return Küme
+     */
+    @NonNull
+    static CompressedBitmap of(@NonNull int[] sorted) {
+        return of(sorted, sorted.length);
+    }
+
+    @NonNull
+    static CompressedBitmap of(@NonNull int[] sorted, int length) {
+        Builder builder = new Builder();
+        int start = 0;
+        while (start < length) {
+            int key = sorted[start] >>> 16;
+            int end = start;
+            while (end < length && sorted[end] >>> 16 == key) {
+                end++;
+            }
+            int size = end - start;
+            if (size <= ARRAY_MAX_SIZE) {
+                char[] values = new char[size];
+                for (int i = 0; i < size; i++) {
+                    values[i] = (char) sorted[start + i];
+                }
+                builder.add(key, values, size);
+            } else {
+                long[] words = new long[WORDS];
+                for (int i = start; i < end; i++) {
+                    char low = (char) sorted[i];
+                    words[low >>> 6] |= 1L << low;
+                }
+                builder.add(key, words, size);
+            }
+            start = end;
+        }
+        return builder.build();
+    }
+
+    /**
+     * BitSet'ten oluşturur
+     */
+    @NonNull
+    static CompressedBitmap fromBitSet(@NonNull BitSet bits) {
+        int[] values = new int[bits.cardinality()];
+        int count = 0;
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            values[count++] = i;
+        }
+        return of(values, count);
+    }
+
+    /**
+     * İki kümenin kesişimi
+     *
+     * @param other Diğer küme
+     * @return Kesişim
+     */
+    @NonNull
+    CompressedBitmap and(@NonNull CompressedBitmap other) {
+        Builder builder = new Builder();
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                and(keys[i], containers[i], cardinalities[i], other.containers[j], other.cardinalities[j], builder);
+                i++;
+                j++;
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Kümenin BitSet ile kesişimi; yalnızca bu kümenin değerleri gezilir
+     *
+     * @param bits Diğer küme
+     * @return Kesişim
+     */
+    @NonNull
+    CompressedBitmap and(@NonNull BitSet bits) {
+        int[] values = toArray();
+        int count = 0;
+        for (int value : values) {
+            if (bits.get(value)) {
+                values[count++] = value;
+            }
+        }
+        return count == values.length ? this : of(values, count);
+    }
+
+    boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, (char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        char low = (char) value;
+        Object container = containers[index];
+        if (container instanceof long[]) {
+            return (((long[]) container)[low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch((char[]) container, low) >= 0;
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Değerleri artan sırada döndürür
+     */
+    @NonNull
+    int[] toArray() {
+        int[] out = new int[cardinality];
+        int count = 0;
+        for (int c = 0; c < keys.length; c++) {
+            int high = keys[c] << 16;
+            Object container = containers[c];
+            if (container instanceof long[]) {
+                long[] words = (long[]) container;
+                for (int w = 0; w < WORDS; w++) {
+                    long word = words[w];
+                    while (word != 0) {
+                        out[count++] = high | (w << 6) | Long.numberOfTrailingZeros(word);
+                        word &= word - 1;
+                    }
+                }
+            } else {
+                for (char low : (char[]) container) {
+                    out[count++] = high | low;
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Yaklaşık bellek kullanımı (bayt)
+     */
+    long sizeInBytes() {
+        long size = keys.length * (2L + 4L + 8L);
+        for (Object container : containers) {
+            size += container instanceof long[] ? WORDS * 8L : ((char[]) container).length * 2L;
+        }
+        return size;
+    }
+
+    private static void and(char key, Object a, int cardinalityA, Object b, int cardinalityB, Builder builder) {
+        if (a instanceof long[] && b instanceof long[]) {
+            long[] wordsA = (long[]) a;
+            long[] wordsB = (long[]) b;
+            long[] words = new long[WORDS];
+            int count = 0;
+            for (int w = 0; w < WORDS; w++) {
+                words[w] = wordsA[w] & wordsB[w];
+                count += Long.bitCount(words[w]);
+            }
+            if (count > ARRAY_MAX_SIZE) {
+                builder.add(key, words, count);
+            } else if (count > 0) {
+                builder.add(key, toChars(words, count), count);
+            }
+        } else if (a instanceof long[] || b instanceof long[]) {
+            long[] words = (long[]) (a instanceof long[] ? a : b);
+            char[] values = (char[]) (a instanceof long[] ? b : a);
+            char[] out = new char[values.length];
+            int count = 0;
+            for (char low : values) {
+                if ((words[low >>> 6] & (1L << low)) != 0) {
+                    out[count++] = low;
+                }
+            }
+            if (count > 0) {
+                builder.add(key, Arrays.copyOf(out, count), count);
+            }
+        } else {
+            char[] valuesA = (char[]) a;
+            char[] valuesB = (char[]) b;
+            char[] out = new char[Math.min(cardinalityA, cardinalityB)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < valuesA.length && j < valuesB.length) {
+                if (valuesA[i] < valuesB[j]) {
+                    i++;
+                } else if (valuesA[i] > valuesB[j]) {
+                    j++;
+                } else {
+                    out[count++] = valuesA[i];
+                    i++;
+                    j++;
+                }
+            }
+            if (count > 0) {
+                builder.add(key, Arrays.copyOf(out, count), count);
+            }
+        }
+    }
+
+    private static char[] toChars(long[] words, int count) {
+        char[] out = new char[count];
+        int n = 0;
+        for (int w = 0; w < WORDS; w++) {
+            long word = words[w];
+            while (word != 0) {
+                out[n++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Parçaları artan anahtar sırasıyla toplar
+     */
+    private static final class Builder {
+        private char[] keys = new char[4];
+        private Object[] containers = new Object[4];
+        private int[] cardinalities = new int[4];
+        private int size;
+        private int cardinality;
+
+        void add(int key, Object container, int count) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                containers = Arrays.copyOf(containers, size * 2);
+                cardinalities = Arrays.copyOf(cardinalities, size * 2);
+            }
+            keys[size] = (char) key;
+            containers[size] = container;
+            cardinalities[size] = count;
+            size++;
+            cardinality += count;
+        }
+
+        CompressedBitmap build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new CompressedBitmap(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size),
+                    Arrays.copyOf(cardinalities, size), cardinality);
+        }
+    }
+}
@@ -1,21 +1,35 @@
 package com.example.parkapp;
 
+import com.google.android.gms.tasks.Task;
+import com.google.firebase.firestore.DocumentChange;
+import com.google.firebase.firestore.FieldPath;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.ListenerRegistration;
+import com.google.firebase.firestore.Query;
 import com.google.firebase.firestore.QueryDocumentSnapshot;
+import com.google.firebase.firestore.Source;
+import com.google.firebase.firestore.Transaction;
 import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.WriteBatch;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
 public class FirebaseComplaintManager {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    // Firestore tek bir WriteBatch'te en fazla 500 yazma kabul eder. Parça başına
+    // en fazla bu kadar şikayet güncellenir; kalan yazmalar departman sayaçlarına
+    // ayrılır (departman başına 2 yazma)
+    public static final int MAX_BATCH_SIZE = 400;
+    
     private static FirebaseComplaintManager instance;
-    private FirebaseFirestore db;
     
     private FirebaseComplaintManager() {
-        db = FirebaseFirestore.getInstance();
     }
     
     public static FirebaseComplaintManager getInstance() {
@@ -25,21 +39,20 @@ public class FirebaseComplaintManager {
         return instance;
     }
     
+    // Firestore istemcisi ilk kullanımda oluşturulur
+    private static FirebaseFirestore db() {
+        return FirebaseFirestore.getInstance();
+    }
+    
     public void addComplaint(Complaint complaint, OnComplaintAddedListener listener) {
-        Map<String, Object> complaintData = new HashMap<>();
-        complaintData.put("parkName", complaint.getParkName());
-        complaintData.put("department", complaint.getDepartment());
-        complaintData.put("issueType", complaint.getIssueType());
-        complaintData.put("description", complaint.getDescription());
-        complaintData.put("status", complaint.getStatus());
-        complaintData.put("reportDate", complaint.getReportDate());
-        complaintData.put("resolvedDate", complaint.getResolvedDate());
+        Map<String, Object> complaintData = complaintToMap(complaint);
         
-        db.collection("complaints")
-            .add(complaintData)
-            .addOnSuccessListener(documentReference -> {
+        // Doküman id'si şikayetin zamana göre sıralı id'sidir (ComplaintIdGenerator)
+        DocumentReference reference = db().collection("complaints").document(complaint.getId());
+        reference.set(complaintData)
+            .addOnSuccessListener(aVoid -> {
                 if (listener != null) {
-                    listener.onSuccess(documentReference.getId());
+                    listener.onSuccess(reference.getId());
                 }
             })
             .addOnFailureListener(e -> {
@@ -49,9 +62,48 @@ public class FirebaseComplaintManager {
             });
     }
     
+    /**
+     * Şikayeti kendi id'si ile, doküman henüz yoksa oluşturur.
+     * Aynı şikayet tekrar gönderilirse mevcut doküman olduğu gibi bırakılır;
+     * böylece tekrar denemeler ne yeni doküman oluşturur ne de arada bir
+     * yetkilinin değiştirdiği durumu ezer (ComplaintOutbox bunu kullanır).
+     */
+    public void saveComplaint(Complaint complaint, OnComplaintAddedListener listener) {
+        DocumentReference reference = db().collection("complaints").document(complaint.getId());
+        Map<String, Object> complaintData = complaintToMap(complaint);
+        db().runTransaction((Transaction.Function<Void>) transaction -> {
+            if (!transaction.get(reference).exists()) {
+                transaction.set(reference, complaintData);
+            }
+            return null;
+        })
+            .addOnSuccessListener(aVoid -> {
+                if (listener != null) {
+                    listener.onSuccess(reference.getId());
+                }
+            })
+            .addOnFailureListener(e -> {
+                if (listener != null) {
+                    listener.onFailure(e);
+                }
+            });
+    }
+    
+    private Map<String, Object> complaintToMap(Complaint complaint) {
+        Map<String, Object> complaintData = new HashMap<>();
+        complaintData.put("parkName", complaint.getParkName());
+        complaintData.put("department", complaint.getDepartment());
+        complaintData.put("issueType", complaint.getIssueType());
+        complaintData.put("description", complaint.getDescription());
+        complaintData.put("status", complaint.getStatus());
+        complaintData.put("reportDate", complaint.getReportDate());
+        complaintData.put("resolvedDate", complaint.getResolvedDate());
+        return complaintData;
+    }
+    
     public void getAllComplaints(OnComplaintsLoadedListener listener) {
-        db.collection("complaints")
-            .orderBy("reportDate")
+        db().collection("complaints")
+            .orderBy(FieldPath.documentId())
             .get()
             .addOnSuccessListener(queryDocumentSnapshots -> {
                 List<Complaint> complaints = new ArrayList<>();
@@ -70,30 +122,116 @@ public class FirebaseComplaintManager {
             });
     }
     
+    /**
+     * Şikayetleri canlı dinler (snapshot listener modu).
+     * İlk snapshot sorgunun tamamını "added" olarak getirir; sonrasında yalnızca
+     * eklenen, değişen ve silinen dokümanlar bildirilir. Değişiklikler yerel
+     * ComplaintManager önbelleğine uygulanır, ardından listener çağrılır.
+     * department null ise tüm şikayetler dinlenir.
+     */
+    public ListenerRegistration listenToComplaints(String department, OnComplaintChangesListener listener) {
+        Query query = db().collection("complaints");
+        if (department != null) {
+            query = query.whereEqualTo("department", department);
+        }
+        return listen(query.orderBy(FieldPath.documentId()), false, listener);
+    }
+    
+    /**
+     * Şikayetleri oluşturulma sırasıyla tek bir sayfa olarak canlı dinler.
+     * Doküman id'leri zamana göre sıralı olduğu için sıralama id üzerinden
+     * yapılır. İlk sayfa için lastDocument null verilir; sonraki sayfalar için
+     * bir önceki sayfanın son dokümanı verilir (limit + startAfter).
+     * İlk snapshot sayfanın okunmasıdır, sonraki snapshot'lar yalnızca farkları taşır.
+     * limit'li sorguda "removed", dokümanın silindiği anlamına gelmeyebilir
+     * (öne bir doküman eklenince sonuncusu pencereden kayar); bu yüzden
+     * silinme sunucudan doğrulanmadan önbellekten çıkarılmaz.
+     */
+    public ListenerRegistration listenToComplaintsPage(DocumentSnapshot lastDocument, int pageSize, OnComplaintChangesListener listener) {
+        Query query = db().collection("complaints")
+            .orderBy(FieldPath.documentId());
+        if (lastDocument != null) {
+            query = query.startAfter(lastDocument);
+        }
+        return listen(query.limit(pageSize), true, listener);
+    }
+    
+    private ListenerRegistration listen(Query query, boolean windowed, OnComplaintChangesListener listener) {
+        final boolean[] initial = {true};
+        return query.addSnapshotListener((snapshots, e) -> {
+            if (e != null) {
+                if (listener != null) {
+                    listener.onFailure(e);
+                }
+                return;
+            }
+            if (snapshots == null) {
+                return;
+            }
+            
+            List<Complaint> added = new ArrayList<>();
+            List<Complaint> modified = new ArrayList<>();
+            List<String> removedIds = new ArrayList<>();
+            for (DocumentChange change : snapshots.getDocumentChanges()) {
+                switch (change.getType()) {
+                    case ADDED:
+                        added.add(documentToComplaint(change.getDocument()));
+                        break;
+                    case MODIFIED:
+                        modified.add(documentToComplaint(change.getDocument()));
+                        break;
+                    case REMOVED:
+                        removedIds.add(change.getDocument().getId());
+                        break;
+                }
+            }
+            
+            if (windowed && !removedIds.isEmpty()) {
+                // Pencereden kayan dokümanlar önbellekte kalır; yalnızca gerçekten silinenler çıkarılır
+                for (String id : removedIds) {
+                    removeIfDeleted(id);
+                }
+                removedIds = new ArrayList<>();
+            }
+            ComplaintManager.getInstance().applyChanges(added, modified, removedIds);
+            
+            List<DocumentSnapshot> documents = snapshots.getDocuments();
+            DocumentSnapshot last = documents.isEmpty() ? null : documents.get(documents.size() - 1);
+            ComplaintChanges changes = new ComplaintChanges(added, modified, removedIds, last, documents.size(), initial[0]);
+            initial[0] = false;
+            if (listener != null) {
+                listener.onChanges(changes);
+            }
+        });
+    }
+    
+    // Doküman sunucuda yoksa şikayeti yerel önbellekten çıkarır (gözlemciler bilgilendirilir)
+    private void removeIfDeleted(String id) {
+        db().collection("complaints").document(id)
+            .get(Source.SERVER)
+            .addOnSuccessListener(document -> {
+                if (!document.exists()) {
+                    ComplaintManager.getInstance().removeComplaint(id);
+                }
+            });
+    }
+    
     public void getComplaintsByDepartment(String department, OnComplaintsLoadedListener listener) {
-        // Debug için log
-        System.out.println("FirebaseComplaintManager: Departman için şikayet aranıyor: " + department);
-        
-        db.collection("complaints")
+        db().collection("complaints")
             .whereEqualTo("department", department)
-            .orderBy("reportDate")
+            .orderBy(FieldPath.documentId())
             .get()
             .addOnSuccessListener(queryDocumentSnapshots -> {
                 List<Complaint> complaints = new ArrayList<>();
-                System.out.println("FirebaseComplaintManager: Bulunan şikayet sayısı: " + queryDocumentSnapshots.size());
-                
                 for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
                     Complaint complaint = documentToComplaint(document);
                     complaints.add(complaint);
-                    System.out.println("FirebaseComplaintManager: Şikayet - " + complaint.getIssueType() + " → Departman: " + complaint.getDepartment());
                 }
-                
                 if (listener != null) {
                     listener.onSuccess(complaints);
                 }
             })
             .addOnFailureListener(e -> {
-                System.out.println("FirebaseComplaintManager: Hata oluştu: " + e.getMessage());
                 if (listener != null) {
                     listener.onFailure(e);
                 }
@@ -101,14 +239,7 @@ public class FirebaseComplaintManager {
     }
     
     public void updateComplaintStatus(String id, String status, OnComplaintUpdatedListener listener) {
-        Map<String, Object> updates = new HashMap<>();
-        updates.put("status", status);
-        if (status.equals("Çözüldü")) {
-            updates.put("resolvedDate", new Date());
-        }
-        
-        db.collection("complaints").document(id)
-            .update(updates)
+        commitStatusBatch(Collections.singletonList(id), status)
             .addOnSuccessListener(aVoid -> {
                 if (listener != null) {
                     listener.onSuccess();
@@ -121,6 +252,114 @@ public class FirebaseComplaintManager {
             });
     }
     
+    /**
+     * Birden çok şikayetin durumunu toplu olarak günceller.
+     * Id'ler MAX_BATCH_SIZE'lık parçalara bölünür ve her parça tek bir
+     * WriteBatch ile gönderilir (bkz. commitStatusBatch). Bir batch başarısız
+     * olursa (ör. silinmiş bir doküman yüzünden) o parçadaki id'ler tek tek
+     * güncellenerek hangi id'nin başarısız olduğu ayrıştırılır. Sonuç, tüm
+     * parçalar bitince bir kez bildirilir.
+     */
+    public void updateComplaintStatuses(List<String> complaintIds, String status, OnBulkStatusUpdatedListener listener) {
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(complaintIds));
+        BulkUpdateResult result = new BulkUpdateResult(ids.size(), listener);
+        if (ids.isEmpty()) {
+            result.finish();
+            return;
+        }
+        
+        for (int start = 0; start < ids.size(); start += MAX_BATCH_SIZE) {
+            List<String> chunk = new ArrayList<>(ids.subList(start, Math.min(start + MAX_BATCH_SIZE, ids.size())));
+            commitStatusBatch(chunk, status)
+                .addOnSuccessListener(aVoid -> result.succeeded(chunk))
+                .addOnFailureListener(e -> {
+                    // Batch atomiktir; başarısız id'leri bulmak için parçayı tek tek dene
+                    for (String id : chunk) {
+                        commitStatusBatch(Collections.singletonList(id), status)
+                            .addOnSuccessListener(v -> result.succeeded(Collections.singletonList(id)))
+                            .addOnFailureListener(itemError -> result.failed(id, itemError));
+                    }
+                });
+        }
+    }
+    
+    /**
+     * Şikayetlerin durumunu ve departmanların çözülen şikayet sayaçlarını tek
+     * WriteBatch ile yazar; şikayetler okunmaz. Sayaç farkı önbellekteki
+     * (ComplaintManager) eski durumdan hesaplanır: zaten çözülmüş görünen
+     * şikayet yeniden sayılmaz, çözülmüşken geri alınan şikayet sayaçtan
+     * düşülür. Önbellekte olmayan şikayetin durumu yazılır ama sayaca
+     * eklenmez. Batch atomik olduğu için başarısız bir parça sayacı da
+     * değiştirmez. Doküman yoksa batch NOT_FOUND ile başarısız olur.
+     */
+    private Task<Void> commitStatusBatch(List<String> ids, String status) {
+        Map<String, Object> updates = createStatusUpdates(status);
+        boolean resolving = Complaint.STATUS_RESOLVED.equals(status);
+        WriteBatch batch = db().batch();
+        Map<String, Long> resolvedDeltas = new HashMap<>();
+        for (String id : ids) {
+            batch.update(db().collection("complaints").document(id), updates);
+            Complaint cached = ComplaintManager.getInstance().getComplaintById(id);
+            if (cached == null || cached.getDepartment() == null
+                    || resolving == Complaint.STATUS_RESOLVED.equals(cached.getStatus())) {
+                continue;
+            }
+            Long delta = resolvedDeltas.get(cached.getDepartment());
+            resolvedDeltas.put(cached.getDepartment(), (delta != null ? delta : 0) + (resolving ? 1 : -1));
+        }
+        for (Map.Entry<String, Long> entry : resolvedDeltas.entrySet()) {
+            UserStatsManager.getInstance().incrementDepartmentStats(batch, entry.getKey(),
+                    UserStatsManager.FIELD_RESOLVED_COMPLAINTS, entry.getValue());
+        }
+        return batch.commit();
+    }
+    
+    private Map<String, Object> createStatusUpdates(String status) {
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("status", status);
+        if (status.equals("Çözüldü")) {
+            updates.put("resolvedDate", new Date());
+        }
+        return updates;
+    }
+    
+    /**
+     * Toplu güncelleme sonuçlarını toplar; tüm id'ler sonuçlanınca listener'ı çağırır
+     */
+    private static class BulkUpdateResult {
+        private final int total;
+        private final OnBulkStatusUpdatedListener listener;
+        private final List<String> succeededIds = new ArrayList<>();
+        private final Map<String, Exception> failures = new HashMap<>();
+        
+        BulkUpdateResult(int total, OnBulkStatusUpdatedListener listener) {
+            this.total = total;
+            this.listener = listener;
+        }
+        
+        synchronized void succeeded(List<String> ids) {
+            succeededIds.addAll(ids);
+            finishIfDone();
+        }
+        
+        synchronized void failed(String id, Exception e) {
+            failures.put(id, e);
+            finishIfDone();
+        }
+        
+        private void finishIfDone() {
+            if (succeededIds.size() + failures.size() == total) {
+                finish();
+            }
+        }
+        
+        void finish() {
+            if (listener != null) {
+                listener.onComplete(succeededIds, failures);
+            }
+        }
+    }
+    
     private Complaint documentToComplaint(QueryDocumentSnapshot document) {
         String id = document.getId();
         String parkName = document.getString("parkName");
@@ -131,13 +370,31 @@ public class FirebaseComplaintManager {
         Date reportDate = document.getDate("reportDate");
         Date resolvedDate = document.getDate("resolvedDate");
         
-        Complaint complaint = new Complaint(parkName, department, issueType, description);
-        complaint.setId(id);
-        complaint.setStatus(status);
-        complaint.setReportDate(reportDate);
-        complaint.setResolvedDate(resolvedDate);
+        // Doküman id'si şikayetin id'sidir; yeni id üretilmez
+        return new Complaint(id, parkName, department, issueType, description, status, reportDate, resolvedDate);
+    }
+    
+    /**
+     * Bir snapshot ile gelen doküman değişiklikleri
+     */
+    public static class ComplaintChanges {
+        public final List<Complaint> added;
+        public final List<Complaint> modified;
+        public final List<String> removedIds;
+        // Sorgu sonucundaki son doküman (sayfalama imleci) ve doküman sayısı
+        public final DocumentSnapshot lastDocument;
+        public final int size;
+        public final boolean isInitial;
         
-        return complaint;
+        ComplaintChanges(List<Complaint> added, List<Complaint> modified, List<String> removedIds,
+                         DocumentSnapshot lastDocument, int size, boolean isInitial) {
+            this.added = added;
+            this.modified = modified;
+            this.removedIds = removedIds;
+            this.lastDocument = lastDocument;
+            this.size = size;
+            this.isInitial = isInitial;
+        }
     }
     
     // Listener interfaces
@@ -151,6 +408,16 @@ public class FirebaseComplaintManager {
         void onFailure(Exception e);
     }
     
+    public interface OnComplaintChangesListener {
+        void onChanges(ComplaintChanges changes);
+        void onFailure(Exception e);
+    }
+    
+    public interface OnBulkStatusUpdatedListener {
+        // failures: başarısız id -> hata; hepsi başarılıysa boş
+        void onComplete(List<String> succeededIds, Map<String, Exception> failures);
+    }
+    
     public interface OnComplaintUpdatedListener {
         void onSuccess();
         void onFailure(Exception e);
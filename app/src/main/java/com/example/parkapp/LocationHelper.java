@@ -0,0 +1,71 @@
+package com.example.parkapp;
+
+import android.Manifest;
+import android.content.Context;
+import android.content.pm.PackageManager;
+import android.location.Location;
+import android.location.LocationManager;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.content.ContextCompat;
+
+/**
+ * LocationHelper - Kullanıcının son bilinen konumu
+ *
+ * Yeni konum isteği başlatmaz; sistemin elindeki en güncel konumu döndürür.
+ * Liste sıralaması ve en yakın park önerisi için bu kadarı yeterlidir.
+ *
+ * @version 1.0
+ */
+final class LocationHelper {
+
+    static final String[] PERMISSIONS = {
+            Manifest.permission.ACCESS_FINE_LOCATION,
+            Manifest.permission.ACCESS_COARSE_LOCATION
+    };
+
+    private LocationHelper() {
+    }
+
+    /**
+     * Konum izinlerinden biri verilmiş mi?
+     */
+    static boolean hasPermission(@NonNull Context context) {
+        for (String permission : PERMISSIONS) {
+            if (ContextCompat.checkSelfPermission(context, permission) == PackageManager.PERMISSION_GRANTED) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Etkin sağlayıcılar arasından en güncel son bilinen konumu döndürür
+     *
+     * @param context Context
+     * @return Konum veya izin/konum yoksa null
+     */
+    @Nullable
+    @SuppressWarnings("MissingPermission")
+    static Location getLastKnownLocation(@NonNull Context context) {
+        if (!hasPermission(context)) {
+            return null;
+        }
+        LocationManager manager = (LocationManager) context.getSystemService(Context.LOCATION_SERVICE);
+        if (manager == null) {
+            return null;
+        }
+        Location best = null;
+        for (String provider : manager.getProviders(true)) {
+            try {
+                Location location = manager.getLastKnownLocation(provider);
+                if (location != null && (best == null || location.getTime() > best.getTime())) {
+                    best = location;
+                }
+            } catch (SecurityException e) {
+                // İzin bu arada geri alınmış olabilir
+            }
+        }
+        return best;
+    }
+}
@@ -18,6 +18,7 @@ public class LoginActivity extends AppCompatActivity {
     
     @Override
     protected void onCreate(Bundle savedInstanceState) {
+        StartupTrace.begin(StartupTrace.SPAN_LOGIN_ACTIVITY);
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_login);
         
@@ -27,6 +28,9 @@ public class LoginActivity extends AppCompatActivity {
             return;
         }
         
+        StartupTrace.onFirstFrame(getWindow().getDecorView(),
+                () -> StartupTrace.end(StartupTrace.SPAN_LOGIN_ACTIVITY));
+        
         emailEdit = findViewById(R.id.email_edit);
         passwordEdit = findViewById(R.id.password_edit);
         loginButton = findViewById(R.id.login_button);
@@ -154,6 +158,7 @@ public class LoginActivity extends AppCompatActivity {
     }
     
     private void startMainActivity() {
+        StartupTrace.end(StartupTrace.SPAN_LOGIN_ACTIVITY);
         Intent intent = new Intent(this, MainActivity.class);
         startActivity(intent);
         finish();
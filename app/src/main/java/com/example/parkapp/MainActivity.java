@@ -1,10 +1,16 @@
 package com.example.parkapp;
 
 import android.os.Bundle;
+import android.os.SystemClock;
+import android.util.Log;
 import android.view.Menu;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentManager;
+import androidx.fragment.app.FragmentTransaction;
+import androidx.lifecycle.Lifecycle;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 
 /**
@@ -13,6 +19,13 @@ import com.google.android.material.bottomnavigation.BottomNavigationView;
  * Bu sınıf, uygulamanın ana navigasyon yapısını yönetir ve
  * kullanıcı tipine göre farklı fragment'ları gösterir.
  * 
+ * Her sekmenin tek bir fragment'ı vardır ve ilk seçildiğinde oluşturulur.
+ * Sekme değişiminde fragment'lar değiştirilmez, gösterilip gizlenir:
+ * gizli sekmeler STARTED durumunda bekler, view'ları (kaydırma konumu,
+ * yüklenmiş veriler) ve Firestore dinlemeleri korunur. Alt ekranlar
+ * (detay, yardım vb.) da openScreen ile aynı şekilde açılır. Yetkilinin
+ * şikayetler sekmesi yönetim panelidir.
+ * 
  * @author Berkay Körükmez
  * @version 1.0
  */
@@ -20,6 +33,10 @@ public class MainActivity extends AppCompatActivity {
     
     // Constants
     private static final String TAG = "MainActivity";
+    private static final String TAG_TAB_PARKS = "tab_parks";
+    private static final String TAG_TAB_COMPLAINTS = "tab_complaints";
+    private static final String TAG_TAB_PROFILE = "tab_profile";
+    private static final String[] TAB_TAGS = {TAG_TAB_PARKS, TAG_TAB_COMPLAINTS, TAG_TAB_PROFILE};
     
     // UI Components
     private BottomNavigationView bottomNavigationView;
@@ -33,6 +50,22 @@ public class MainActivity extends AppCompatActivity {
         setupBottomNavigation();
         updateNavigationForUser();
         setDefaultFragment(savedInstanceState);
+        
+        // Günlük/tercih dosyalarını okumak ve Firestore istemcisini kurmak
+        // ilk park listesini geciktirmesin; ilk kareden sonra yapılır
+        StartupTrace.onFirstFrame(bottomNavigationView, () -> {
+            // Önceki oturumdan kalan gönderilmemiş şikayetleri arka planda gönder
+            ComplaintOutbox.getInstance(this).drain();
+            // Önceki oturumdan kalan istatistik artışlarını gönder
+            StatsWriteBuffer.getInstance(this).flush();
+        });
+    }
+    
+    @Override
+    protected void onStop() {
+        super.onStop();
+        // Arka plana geçerken biriken istatistik artışlarını gönder
+        StatsWriteBuffer.getInstance(this).flush();
     }
     
     /**
@@ -46,43 +79,114 @@ public class MainActivity extends AppCompatActivity {
      * Bottom navigation'ı yapılandırır
      */
     private void setupBottomNavigation() {
-        bottomNavigationView.setOnItemSelectedListener(item -> {
-            Fragment selectedFragment = getFragmentForNavigationItem(item.getItemId());
-            
-            if (selectedFragment != null) {
-                navigateToFragment(selectedFragment);
-                return true;
-            }
-            return false;
-        });
+        bottomNavigationView.setOnItemSelectedListener(item -> selectTab(item.getItemId()));
+        // Seçili sekmeye yeniden dokunulursa sekmenin ilk ekranına dönülür
+        bottomNavigationView.setOnItemReselectedListener(item -> popToTabRoot());
     }
     
     /**
-     * Navigation item ID'sine göre uygun fragment'ı döndürür
+     * Navigation item ID'sine karşılık gelen sekme etiketini döndürür
      * 
      * @param itemId Navigation item ID'si
-     * @return Seçilen fragment veya null
+     * @return Sekme etiketi veya null
      */
-    private Fragment getFragmentForNavigationItem(int itemId) {
+    @Nullable
+    private String getTabTag(int itemId) {
         if (itemId == R.id.nav_map) {
-            return new ParkListFragment();
+            return TAG_TAB_PARKS;
         } else if (itemId == R.id.nav_complaints) {
-            return new ComplaintsFragment();
+            return TAG_TAB_COMPLAINTS;
         } else if (itemId == R.id.nav_profile) {
-            return new ProfileFragment();
+            return TAG_TAB_PROFILE;
         }
         return null;
     }
     
     /**
-     * Belirtilen fragment'a geçiş yapar
+     * Sekme için yeni fragment oluşturur
      * 
-     * @param fragment Geçiş yapılacak fragment
+     * @param tag Sekme etiketi
+     * @return Yeni fragment
      */
-    private void navigateToFragment(@NonNull Fragment fragment) {
-        getSupportFragmentManager().beginTransaction()
-            .replace(R.id.fragment_container, fragment)
-            .commit();
+    @NonNull
+    private Fragment createTabFragment(@NonNull String tag) {
+        switch (tag) {
+            case TAG_TAB_COMPLAINTS:
+                User currentUser = AuthManager.getInstance().getCurrentUser();
+                return currentUser != null && currentUser.isAdmin()
+                        ? new AdminPanelFragment()
+                        : new ComplaintsFragment();
+            case TAG_TAB_PROFILE:
+                return new ProfileFragment();
+            default:
+                return new ParkListFragment();
+        }
+    }
+    
+    /**
+     * Sekmeye geçer. Sekmenin fragment'ı varsa gösterilir, yoksa bir kez
+     * oluşturulur; diğer sekmeler gizlenip STARTED durumuna indirilir.
+     * 
+     * @param itemId Navigation item ID'si
+     * @return Sekme bulunduysa true
+     */
+    private boolean selectTab(int itemId) {
+        String tag = getTabTag(itemId);
+        if (tag == null) {
+            return false;
+        }
+        long start = SystemClock.uptimeMillis();
+        // Açık alt ekranlar (detay, yardım vb.) kapatılır
+        popToTabRoot();
+        
+        FragmentManager fragmentManager = getSupportFragmentManager();
+        FragmentTransaction transaction = fragmentManager.beginTransaction().setReorderingAllowed(true);
+        for (String tabTag : TAB_TAGS) {
+            Fragment tab = fragmentManager.findFragmentByTag(tabTag);
+            if (tab != null && !tabTag.equals(tag)) {
+                transaction.hide(tab).setMaxLifecycle(tab, Lifecycle.State.STARTED);
+            }
+        }
+        Fragment selected = fragmentManager.findFragmentByTag(tag);
+        if (selected == null) {
+            transaction.add(R.id.fragment_container, createTabFragment(tag), tag);
+        } else {
+            transaction.show(selected).setMaxLifecycle(selected, Lifecycle.State.RESUMED);
+        }
+        transaction.commit();
+        
+        StartupTrace.onFirstFrame(bottomNavigationView, () ->
+                Log.d(TAG, "Sekme geçişi (" + tag + "): " + (SystemClock.uptimeMillis() - start) + " ms"));
+        return true;
+    }
+    
+    /**
+     * Alt ekranı (detay, yardım vb.) açan ekranın üstüne açar. Açan ekran
+     * değiştirilmez, gizlenip STARTED durumuna indirilir; geri dönüldüğünde
+     * view'ı yeniden oluşturulmaz ve Firestore dinlemeleri yeniden bağlanmaz.
+     * Geri tuşu işlemi tersine çevirir.
+     * 
+     * @param from Alt ekranı açan fragment
+     * @param screen Açılacak fragment
+     */
+    public static void openScreen(@NonNull Fragment from, @NonNull Fragment screen) {
+        from.getParentFragmentManager().beginTransaction()
+                .setReorderingAllowed(true)
+                .hide(from)
+                .setMaxLifecycle(from, Lifecycle.State.STARTED)
+                .add(R.id.fragment_container, screen)
+                .addToBackStack(null)
+                .commit();
+    }
+    
+    /**
+     * Sekmenin üstüne açılmış ekranları kapatır
+     */
+    private void popToTabRoot() {
+        FragmentManager fragmentManager = getSupportFragmentManager();
+        if (fragmentManager.getBackStackEntryCount() > 0 && !fragmentManager.isStateSaved()) {
+            fragmentManager.popBackStackImmediate(null, FragmentManager.POP_BACK_STACK_INCLUSIVE);
+        }
     }
     
     /**
@@ -111,7 +215,7 @@ public class MainActivity extends AppCompatActivity {
      */
     private void setDefaultFragment(Bundle savedInstanceState) {
         if (savedInstanceState == null) {
-            navigateToFragment(new ParkListFragment());
+            selectTab(R.id.nav_map);
         }
     }
 } 
\ No newline at end of file
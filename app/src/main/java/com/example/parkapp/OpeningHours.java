@@ -0,0 +1,302 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * OpeningHours - Açılış saatlerinin haftalık aralık gösterimi
+ *
+ * Açılış saatleri metni haftanın dakikası (Pazartesi 00:00 = 0,
+ * WEEK_MINUTES = 10080) cinsinden sıralı, birleştirilmiş [başlangıç, bitiş)
+ * aralıklarına çevrilir ve tek bir int[] içinde saklanır. Desteklenen
+ * biçimler:
+ *
+ *   "24 Saat Açık", "7/24"                 her zaman açık
+ *   "Kapalı"                               her zaman kapalı
+ *   "06:00 - 22:00"                        her gün
+ *   "22:00 - 02:00"                        gece yarısını geçen aralık
+ *   "08:00-12:00, 13:00-18:00"             gün içinde birden çok aralık
+ *   "Pzt-Cum 08:00-20:00; Cmt, Paz 10:00-18:00"
+ *
+ * Gün adları kısaltma (Pzt, Sal, Çar, Per, Cum, Cmt, Paz) veya tam ad
+ * olarak yazılabilir; büyük/küçük harf ve aksan fark etmez.
+ *
+ * @version 1.0
+ */
+public final class OpeningHours {
+
+    // Constants
+    public static final int DAY_MINUTES = 24 * 60;
+    public static final int WEEK_MINUTES = 7 * DAY_MINUTES;
+
+    public static final OpeningHours ALWAYS_OPEN = new OpeningHours(new int[] {0, WEEK_MINUTES});
+    public static final OpeningHours ALWAYS_CLOSED = new OpeningHours(new int[0]);
+
+    // Katlanmış gün adları; sıra Pazartesi = 0. Uzun adlar önce denenir ("cumartesi" / "cuma")
+    private static final String[][] DAY_NAMES = {
+            {"pazartesi", "pzt", "pts"},
+            {"sali", "sal"},
+            {"carsamba", "car", "crs"},
+            {"persembe", "per", "prs"},
+            {"cumartesi", "cmt", "cts"},
+            {"cuma", "cum"},
+            {"pazar", "paz"}
+    };
+    private static final int[] DAY_INDEX = {0, 1, 2, 3, 5, 4, 6};
+
+    // [başlangıç0, bitiş0, başlangıç1, bitiş1, ...], sıralı ve çakışmasız
+    private final int[] intervals;
+
+    private OpeningHours(int[] intervals) {
+        this.intervals = intervals;
+    }
+
+    /**
+     * Açılış saatleri metnini ayrıştırır
+     *
+     * @param text Açılış saatleri (ör. "06:00 - 22:00")
+     * @return Program veya metin anlaşılamazsa null
+     */
+    @Nullable
+    public static OpeningHours parse(@Nullable String text) {
+        if (text == null) {
+            return null;
+        }
+        String folded = fold(text);
+        if (folded.isEmpty()) {
+            return null;
+        }
+        if (folded.contains("24 saat") || folded.equals("7/24")) {
+            return ALWAYS_OPEN;
+        }
+        if (folded.equals("kapali")) {
+            return ALWAYS_CLOSED;
+        }
+
+        List<int[]> ranges = new ArrayList<>();
+        for (String rule : folded.split(";")) {
+            rule = rule.trim();
+            if (rule.isEmpty()) {
+                continue;
+            }
+            int firstDigit = firstDigit(rule);
+            if (firstDigit < 0) {
+                return null;
+            }
+            boolean[] days = parseDays(rule.substring(0, firstDigit).trim());
+            if (days == null) {
+                return null;
+            }
+            for (String range : rule.substring(firstDigit).split(",")) {
+                int[] minutes = parseTimeRange(range.trim());
+                if (minutes == null) {
+                    return null;
+                }
+                for (int day = 0; day < 7; day++) {
+                    if (days[day]) {
+                        addRange(ranges, day * DAY_MINUTES + minutes[0], day * DAY_MINUTES + minutes[1]);
+                    }
+                }
+            }
+        }
+        return ranges.isEmpty() ? null : new OpeningHours(merge(ranges));
+    }
+
+    /**
+     * Haftanın dakikasında açık mı?
+     *
+     * @param minuteOfWeek 0 (Pazartesi 00:00) .. WEEK_MINUTES - 1
+     * @return Açıksa true
+     */
+    public boolean isOpenAt(int minuteOfWeek) {
+        // minuteOfWeek'ten büyük ilk sınırın konumu tek ise bir aralığın içindeyiz
+        int position = Arrays.binarySearch(intervals, minuteOfWeek);
+        int index = position >= 0 ? position + 1 : -position - 1;
+        return (index & 1) == 1;
+    }
+
+    /**
+     * Durumun değiştiği dakikalar (aralık başlangıç ve bitişleri), sıralı.
+     * Her zaman açık/kapalı programda boştur.
+     *
+     * @return Sınır dakikaları
+     */
+    @NonNull
+    int[] boundaries() {
+        // Pazar gecesinden Pazartesiye açık kalan program için 0 bir sınır değildir
+        boolean wraps = intervals.length > 0 && intervals[0] == 0 && intervals[intervals.length - 1] == WEEK_MINUTES;
+        int from = wraps ? 1 : 0;
+        int to = wraps ? intervals.length - 1 : intervals.length;
+        return Arrays.copyOfRange(intervals, from, to);
+    }
+
+    /**
+     * [fromMinute, toMinute) aralığının tamamında açık mı?
+     */
+    boolean isOpenThroughout(int fromMinute, int toMinute) {
+        for (int i = 0; i < intervals.length; i += 2) {
+            if (intervals[i] <= fromMinute && toMinute <= intervals[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * [fromMinute, toMinute) aralığında hiç açık değil mi?
+     */
+    boolean isClosedThroughout(int fromMinute, int toMinute) {
+        for (int i = 0; i < intervals.length; i += 2) {
+            if (intervals[i] < toMinute && fromMinute < intervals[i + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isAlwaysOpen() {
+        return intervals.length == 2 && intervals[0] == 0 && intervals[1] == WEEK_MINUTES;
+    }
+
+    /**
+     * Takvim zamanını haftanın dakikasına çevirir (Pazartesi 00:00 = 0)
+     *
+     * @param calendar Zaman (saat dilimi takvimdekidir)
+     * @return Haftanın dakikası
+     */
+    public static int minuteOfWeek(@NonNull Calendar calendar) {
+        // Calendar.SUNDAY = 1 ... SATURDAY = 7
+        int day = (calendar.get(Calendar.DAY_OF_WEEK) + 5) % 7;
+        return day * DAY_MINUTES + calendar.get(Calendar.HOUR_OF_DAY) * 60 + calendar.get(Calendar.MINUTE);
+    }
+
+    // Parsing
+
+    private static boolean[] parseDays(String spec) {
+        boolean[] days = new boolean[7];
+        if (spec.isEmpty()) {
+            Arrays.fill(days, true);
+            return days;
+        }
+        for (String part : spec.split(",")) {
+            part = part.trim();
+            if (part.isEmpty()) {
+                continue;
+            }
+            int dash = part.indexOf('-');
+            if (dash >= 0) {
+                int from = parseDay(part.substring(0, dash).trim());
+                int to = parseDay(part.substring(dash + 1).trim());
+                if (from < 0 || to < 0) {
+                    return null;
+                }
+                // Pzt-Cum, Cmt-Pzt gibi hafta sonunu geçen aralıklar
+                for (int day = from; ; day = (day + 1) % 7) {
+                    days[day] = true;
+                    if (day == to) {
+                        break;
+                    }
+                }
+            } else {
+                int day = parseDay(part);
+                if (day < 0) {
+                    return null;
+                }
+                days[day] = true;
+            }
+        }
+        return days;
+    }
+
+    private static int parseDay(String name) {
+        String trimmed = name.endsWith(".") ? name.substring(0, name.length() - 1) : name;
+        for (int i = 0; i < DAY_NAMES.length; i++) {
+            for (String candidate : DAY_NAMES[i]) {
+                if (trimmed.equals(candidate)) {
+                    return DAY_INDEX[i];
+                }
+            }
+        }
+        return -1;
+    }
+
+    // "08:00 - 20:00" -> {480, 1200}; bitiş başlangıçtan küçükse ertesi güne taşar
+    private static int[] parseTimeRange(String range) {
+        int dash = range.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        int start = parseTime(range.substring(0, dash).trim());
+        int end = parseTime(range.substring(dash + 1).trim());
+        if (start < 0 || end < 0 || start == DAY_MINUTES) {
+            return null;
+        }
+        if (end <= start) {
+            end += DAY_MINUTES;
+        }
+        return new int[] {start, end};
+    }
+
+    private static int parseTime(String time) {
+        String[] parts = time.split("[:.]");
+        if (parts.length != 2) {
+            return -1;
+        }
+        try {
+            int hours = Integer.parseInt(parts[0]);
+            int minutes = Integer.parseInt(parts[1]);
+            if (hours < 0 || minutes < 0 || minutes >= 60 || hours > 24 || (hours == 24 && minutes > 0)) {
+                return -1;
+            }
+            return hours * 60 + minutes;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // Haftanın sonunu geçen aralık başa sarılarak ikiye bölünür
+    private static void addRange(List<int[]> ranges, int start, int end) {
+        if (end <= WEEK_MINUTES) {
+            ranges.add(new int[] {start, end});
+        } else {
+            ranges.add(new int[] {start, WEEK_MINUTES});
+            ranges.add(new int[] {0, end - WEEK_MINUTES});
+        }
+    }
+
+    private static int[] merge(List<int[]> ranges) {
+        ranges.sort((a, b) -> Integer.compare(a[0], b[0]));
+        int[] out = new int[ranges.size() * 2];
+        int count = 0;
+        for (int[] range : ranges) {
+            if (count > 0 && range[0] <= out[count - 1]) {
+                out[count - 1] = Math.max(out[count - 1], range[1]);
+            } else {
+                out[count++] = range[0];
+                out[count++] = range[1];
+            }
+        }
+        return Arrays.copyOf(out, count);
+    }
+
+    private static int firstDigit(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isDigit(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String fold(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            builder.append(ParkSearchIndex.fold(text.charAt(i)));
+        }
+        return builder.toString().trim().replaceAll("\\s+", " ").replace('–', '-');
+    }
+}
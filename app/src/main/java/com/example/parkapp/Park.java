@@ -2,8 +2,6 @@ package com.example.parkapp;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Park - Park modeli
@@ -12,6 +10,9 @@ import java.util.List;
  * Park detayları, konum bilgileri, yönetim bilgileri ve istatistikler
  * bu sınıfta saklanır.
  * 
+ * Katalogdan (ParkCatalog) gelen parklarda açıklama, imkanlar ve resim
+ * URL'i ilk erişildiğinde çözülür.
+ * 
  * @author Berkay Körükmez
  * @version 1.0
  */
@@ -29,6 +30,13 @@ public class Park {
     private boolean isOpen;
     private double rating;
     private int reviewCount;
+    // Konum (WGS84 derece); bilinmiyorsa NaN
+    private double latitude = Double.NaN;
+    private double longitude = Double.NaN;
+    
+    // Tembel alanların okunacağı katalog; alanlar çözülünce null olur
+    private volatile ParkCatalog catalog;
+    private int catalogIndex;
     
     /**
      * Park constructor
@@ -62,6 +70,52 @@ public class Park {
         this.reviewCount = reviewCount;
     }
     
+    /**
+     * Konumlu park constructor'ı
+     * 
+     * @param latitude Enlem (derece)
+     * @param longitude Boylam (derece)
+     */
+    public Park(@NonNull String id, @NonNull String name, @Nullable String imageUrl, 
+                @NonNull String description, @NonNull String manager, @NonNull String address, 
+                @NonNull String facilities, @NonNull String openingHours, boolean isOpen, 
+                double rating, int reviewCount, double latitude, double longitude) {
+        this(id, name, imageUrl, description, manager, address, facilities, openingHours, isOpen,
+                rating, reviewCount);
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+    
+    /**
+     * Katalog constructor'ı: açıklama, imkanlar ve resim URL'i
+     * katalogdan ilk erişimde okunur
+     */
+    Park(@NonNull ParkCatalog catalog, int catalogIndex, @NonNull String id, @NonNull String name,
+         @NonNull String manager, @NonNull String address, @NonNull String openingHours,
+         boolean isOpen, double rating, int reviewCount, double latitude, double longitude) {
+        this.catalog = catalog;
+        this.catalogIndex = catalogIndex;
+        this.id = id;
+        this.name = name;
+        this.manager = manager;
+        this.address = address;
+        this.openingHours = openingHours;
+        this.isOpen = isOpen;
+        this.rating = rating;
+        this.reviewCount = reviewCount;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+    
+    private synchronized void loadDetails() {
+        if (catalog != null) {
+            imageUrl = catalog.readImageUrl(catalogIndex);
+            description = catalog.readDescription(catalogIndex);
+            facilities = catalog.readFacilities(catalogIndex);
+            catalog = null;
+        }
+    }
+    
     // Getters
     
     /**
@@ -91,6 +145,9 @@ public class Park {
      */
     @Nullable
     public String getImageUrl() {
+        if (catalog != null) {
+            loadDetails();
+        }
         return imageUrl;
     }
     
@@ -101,6 +158,9 @@ public class Park {
      */
     @NonNull
     public String getDescription() {
+        if (catalog != null) {
+            loadDetails();
+        }
         return description;
     }
     
@@ -131,6 +191,9 @@ public class Park {
      */
     @NonNull
     public String getFacilities() {
+        if (catalog != null) {
+            loadDetails();
+        }
         return facilities;
     }
     
@@ -145,7 +208,9 @@ public class Park {
     }
     
     /**
-     * Parkın açık olup olmadığını döndürür
+     * Parkın hizmette olup olmadığını döndürür. Saate göre açık/kapalı
+     * durumu için ParkOpenIndex kullanılır; false ise park saatlerinden
+     * bağımsız olarak kapalı sayılır.
      * 
      * @return Açık durumu
      */
@@ -171,6 +236,33 @@ public class Park {
         return reviewCount;
     }
     
+    /**
+     * Enlemi döndürür
+     * 
+     * @return Enlem (derece) veya konum bilinmiyorsa NaN
+     */
+    public double getLatitude() {
+        return latitude;
+    }
+    
+    /**
+     * Boylamı döndürür
+     * 
+     * @return Boylam (derece) veya konum bilinmiyorsa NaN
+     */
+    public double getLongitude() {
+        return longitude;
+    }
+    
+    /**
+     * Parkın konumu biliniyor mu?
+     * 
+     * @return Konum durumu
+     */
+    public boolean hasLocation() {
+        return !Double.isNaN(latitude) && !Double.isNaN(longitude);
+    }
+    
     // Setters
     
     /**
@@ -197,6 +289,7 @@ public class Park {
      * @param imageUrl Park resmi URL'i
      */
     public void setImageUrl(@Nullable String imageUrl) {
+        loadDetails();
         this.imageUrl = imageUrl;
     }
     
@@ -206,6 +299,7 @@ public class Park {
      * @param description Park açıklaması
      */
     public void setDescription(@NonNull String description) {
+        loadDetails();
         this.description = description;
     }
     
@@ -233,6 +327,7 @@ public class Park {
      * @param facilities Park imkanları
      */
     public void setFacilities(@NonNull String facilities) {
+        loadDetails();
         this.facilities = facilities;
     }
     
@@ -273,364 +368,14 @@ public class Park {
     }
     
     /**
-     * Malatya'daki tüm parkları döndürür
+     * Park konumunu ayarlar
      * 
-     * @return Malatya parkları listesi
+     * @param latitude Enlem (derece)
+     * @param longitude Boylam (derece)
      */
-    public static List<Park> getAllMalatyaParks() {
-        List<Park> parks = new ArrayList<>();
-        
-        // Kültür Parkı
-        parks.add(new Park("1", "Kültür Parkı", null, 
-            "Malatya'nın merkezindeki en büyük ve en popüler park. Yeşil alanları, yürüyüş yolları, dinlenme alanları ve çeşitli aktivite imkanları ile şehrin kalbi konumunda.", 
-            "Malatya Büyükşehir Belediyesi", "Merkez, Malatya", 
-            "Çocuk Oyun Alanı, Spor Sahaları, Yürüyüş Yolları, Piknik Alanları, Kafeler", 
-            "24 Saat Açık", true, 4.5, 128));
-            
-        // Abdullah Gül Parkı
-        parks.add(new Park("2", "Abdullah Gül Parkı", null, 
-            "Modern tasarımı ve geniş yeşil alanları ile öne çıkan park. Spor alanları ve çocuk oyun parkları ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "Yeşilyurt, Malatya", 
-            "Basketbol Sahası, Tenis Kortu, Çocuk Oyun Alanı, Yürüyüş Yolları", 
-            "06:00 - 23:00", true, 4.3, 95));
-            
-        // Mişmiş Parkı
-        parks.add(new Park("3", "Mişmiş Parkı", null, 
-            "Mişmiş mahallesinde bulunan kompakt ve kullanışlı park. Yerel halkın sıkça kullandığı sosyal alan.", 
-            "Malatya Büyükşehir Belediyesi", "Mişmiş Mahallesi, Yeşilyurt", 
-            "Çocuk Oyun Alanı, Dinlenme Bankları, Yeşil Alan", 
-            "24 Saat Açık", true, 4.1, 67));
-            
-        // Beşkonaklar Parkı
-        parks.add(new Park("4", "Beşkonaklar Parkı", null, 
-            "Beşkonaklar mahallesinde bulunan modern park. Çocuk oyun alanları ve spor imkanları mevcut.", 
-            "Malatya Büyükşehir Belediyesi", "Beşkonaklar Mahallesi, Battalgazi", 
-            "Çocuk Oyun Alanı, Spor Ekipmanları, Yürüyüş Yolları", 
-            "06:00 - 22:00", true, 4.2, 78));
-            
-        // Yeşilyurt Parkı
-        parks.add(new Park("5", "Yeşilyurt Parkı", null, 
-            "Yeşilyurt ilçesindeki büyük park. Piknik alanları ve doğal güzellikleri ile tanınır.", 
-            "Yeşilyurt Belediyesi", "Yeşilyurt Merkez", 
-            "Piknik Alanları, Çocuk Oyun Alanı, Spor Sahaları, Yürüyüş Yolları", 
-            "24 Saat Açık", true, 4.4, 89));
-            
-        // Battalgazi Parkı
-        parks.add(new Park("6", "Battalgazi Parkı", null, 
-            "Battalgazi ilçesinde tarihi dokunun yanında yer alan park. Tarihi atmosfer ile modern park anlayışını birleştirir.", 
-            "Battalgazi Belediyesi", "Battalgazi Merkez", 
-            "Tarihi Dokuda Dinlenme Alanları, Çocuk Oyun Alanı, Kafeler", 
-            "08:00 - 20:00", true, 4.0, 56));
-            
-        // Hacı Halil Parkı
-        parks.add(new Park("7", "Hacı Halil Parkı", null, 
-            "Hacı Halil mahallesinde bulunan modern park. Çocuk oyun alanları ve spor imkanları ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "Hacı Halil Mahallesi, Merkez", 
-            "Çocuk Oyun Alanı, Spor Ekipmanları, Yürüyüş Yolları, Dinlenme Bankları", 
-            "06:00 - 23:00", true, 4.1, 72));
-            
-        // Fırat Parkı
-        parks.add(new Park("8", "Fırat Parkı", null, 
-            "Fırat nehri kenarında bulunan doğal güzellikleri ile öne çıkan park. Piknik alanları ve manzara seyir noktaları mevcut.", 
-            "Malatya Büyükşehir Belediyesi", "Fırat Kenarı, Merkez", 
-            "Piknik Alanları, Manzara Seyir Noktaları, Yürüyüş Yolları, Çocuk Oyun Alanı", 
-            "24 Saat Açık", true, 4.6, 103));
-            
-        // Gazi Parkı
-        parks.add(new Park("9", "Gazi Parkı", null, 
-            "Gazi mahallesinde bulunan modern park. Spor alanları ve çocuk oyun parkları ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "Gazi Mahallesi, Merkez", 
-            "Basketbol Sahası, Çocuk Oyun Alanı, Spor Ekipmanları, Yürüyüş Yolları", 
-            "06:00 - 22:00", true, 4.0, 58));
-            
-        // Cumhuriyet Parkı
-        parks.add(new Park("10", "Cumhuriyet Parkı", null, 
-            "Cumhuriyet mahallesinde bulunan tarihi park. Tarihi dokunun yanında yer alan yeşil alan.", 
-            "Malatya Büyükşehir Belediyesi", "Cumhuriyet Mahallesi, Merkez", 
-            "Tarihi Dokuda Dinlenme Alanları, Çocuk Oyun Alanı, Yürüyüş Yolları", 
-            "08:00 - 20:00", true, 3.9, 45));
-            
-        // Yenişehir Parkı
-        parks.add(new Park("11", "Yenişehir Parkı", null, 
-            "Yenişehir mahallesinde bulunan modern park. Geniş yeşil alanları ve spor imkanları mevcut.", 
-            "Malatya Büyükşehir Belediyesi", "Yenişehir Mahallesi, Merkez", 
-            "Spor Sahaları, Çocuk Oyun Alanı, Yürüyüş Yolları, Piknik Alanları", 
-            "06:00 - 23:00", true, 4.2, 81));
-            
-        // Fatih Parkı
-        parks.add(new Park("12", "Fatih Parkı", null, 
-            "Fatih mahallesinde bulunan kompakt park. Yerel halkın sıkça kullandığı sosyal alan.", 
-            "Malatya Büyükşehir Belediyesi", "Fatih Mahallesi, Merkez", 
-            "Çocuk Oyun Alanı, Dinlenme Bankları, Yeşil Alan", 
-            "24 Saat Açık", true, 4.0, 63));
-            
-        // Atatürk Parkı
-        parks.add(new Park("13", "Atatürk Parkı", null, 
-            "Atatürk mahallesinde bulunan büyük park. Anıt ve heykeller ile donatılmış tarihi park.", 
-            "Malatya Büyükşehir Belediyesi", "Atatürk Mahallesi, Merkez", 
-            "Anıt ve Heykeller, Çocuk Oyun Alanı, Yürüyüş Yolları, Dinlenme Alanları", 
-            "24 Saat Açık", true, 4.3, 92));
-            
-        // İnönü Parkı
-        parks.add(new Park("14", "İnönü Parkı", null, 
-            "İnönü mahallesinde bulunan modern park. Spor alanları ve çocuk oyun parkları ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "İnönü Mahallesi, Merkez", 
-            "Basketbol Sahası, Tenis Kortu, Çocuk Oyun Alanı, Spor Ekipmanları", 
-            "06:00 - 22:00", true, 4.1, 74));
-            
-        // Orduze Parkı
-        parks.add(new Park("15", "Orduze Parkı", null, 
-            "Orduze mahallesinde bulunan doğal güzellikleri ile öne çıkan park. Piknik alanları mevcut.", 
-            "Malatya Büyükşehir Belediyesi", "Orduze Mahallesi, Merkez", 
-            "Piknik Alanları, Çocuk Oyun Alanı, Yürüyüş Yolları, Doğal Güzellikler", 
-            "24 Saat Açık", true, 4.4, 87));
-            
-        // Çarşı Parkı
-        parks.add(new Park("16", "Çarşı Parkı", null, 
-            "Çarşı mahallesinde bulunan merkezi konumdaki park. Alışveriş merkezlerinin yanında yer alır.", 
-            "Malatya Büyükşehir Belediyesi", "Çarşı Mahallesi, Merkez", 
-            "Çocuk Oyun Alanı, Dinlenme Bankları, Yeşil Alan, Kafeler", 
-            "06:00 - 23:00", true, 4.0, 69));
-            
-        // Hürriyet Parkı
-        parks.add(new Park("17", "Hürriyet Parkı", null, 
-            "Hürriyet mahallesinde bulunan modern park. Spor alanları ve çocuk oyun parkları ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "Hürriyet Mahallesi, Merkez", 
-            "Spor Sahaları, Çocuk Oyun Alanı, Yürüyüş Yolları, Spor Ekipmanları", 
-            "06:00 - 22:00", true, 4.2, 76));
-            
-        // Yalvaç Parkı
-        parks.add(new Park("18", "Yalvaç Parkı", null, 
-            "Yalvaç mahallesinde bulunan kompakt park. Yerel halkın sıkça kullandığı sosyal alan.", 
-            "Malatya Büyükşehir Belediyesi", "Yalvaç Mahallesi, Merkez", 
-            "Çocuk Oyun Alanı, Dinlenme Bankları, Yeşil Alan", 
-            "24 Saat Açık", true, 3.9, 52));
-            
-        // Çamlıca Parkı
-        parks.add(new Park("19", "Çamlıca Parkı", null, 
-            "Çamlıca mahallesinde bulunan doğal güzellikleri ile öne çıkan park. Çam ağaçları ile kaplı.", 
-            "Malatya Büyükşehir Belediyesi", "Çamlıca Mahallesi, Merkez", 
-            "Çam Ağaçları, Yürüyüş Yolları, Piknik Alanları, Çocuk Oyun Alanı", 
-            "24 Saat Açık", true, 4.5, 94));
-            
-        // Gündüzbey Parkı
-        parks.add(new Park("20", "Gündüzbey Parkı", null, 
-            "Gündüzbey mahallesinde bulunan modern park. Spor alanları ve çocuk oyun parkları ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "Gündüzbey Mahallesi, Merkez", 
-            "Basketbol Sahası, Çocuk Oyun Alanı, Spor Ekipmanları, Yürüyüş Yolları", 
-            "06:00 - 22:00", true, 4.1, 68));
-            
-        // Beydağı Parkı
-        parks.add(new Park("21", "Beydağı Parkı", null, 
-            "Beydağı mahallesinde bulunan doğal güzellikleri ile öne çıkan park. Manzara seyir noktaları mevcut.", 
-            "Malatya Büyükşehir Belediyesi", "Beydağı Mahallesi, Merkez", 
-            "Manzara Seyir Noktaları, Yürüyüş Yolları, Piknik Alanları, Çocuk Oyun Alanı", 
-            "24 Saat Açık", true, 4.6, 105));
-            
-        // Turgut Özal Parkı
-        parks.add(new Park("22", "Turgut Özal Parkı", null, 
-            "Turgut Özal mahallesinde bulunan modern park. Anıt ve heykeller ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "Turgut Özal Mahallesi, Merkez", 
-            "Anıt ve Heykeller, Çocuk Oyun Alanı, Yürüyüş Yolları, Dinlenme Alanları", 
-            "24 Saat Açık", true, 4.3, 89));
-            
-        // Şehit Fevzi Parkı
-        parks.add(new Park("23", "Şehit Fevzi Parkı", null, 
-            "Şehit Fevzi mahallesinde bulunan anıt park. Şehitlerin anısına yapılmış özel park.", 
-            "Malatya Büyükşehir Belediyesi", "Şehit Fevzi Mahallesi, Merkez", 
-            "Şehit Anıtı, Çocuk Oyun Alanı, Yürüyüş Yolları, Dinlenme Alanları", 
-            "24 Saat Açık", true, 4.7, 112));
-            
-        // Yeni Emek Parkı
-        parks.add(new Park("24", "Yeni Emek Parkı", null, 
-            "Yeni Emek mahallesinde bulunan modern park. Spor alanları ve çocuk oyun parkları ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Emek Mahallesi, Merkez", 
-            "Spor Sahaları, Çocuk Oyun Alanı, Yürüyüş Yolları, Spor Ekipmanları", 
-            "06:00 - 22:00", true, 4.2, 77));
-            
-        // Çilesiz Parkı
-        parks.add(new Park("25", "Çilesiz Parkı", null, 
-            "Çilesiz mahallesinde bulunan kompakt park. Yerel halkın sıkça kullandığı sosyal alan.", 
-            "Malatya Büyükşehir Belediyesi", "Çilesiz Mahallesi, Merkez", 
-            "Çocuk Oyun Alanı, Dinlenme Bankları, Yeşil Alan", 
-            "24 Saat Açık", true, 4.0, 61));
-            
-        // Alacakapı Parkı
-        parks.add(new Park("26", "Alacakapı Parkı", null, 
-            "Alacakapı mahallesinde bulunan tarihi dokunun yanında yer alan park. Tarihi atmosfer ile modern park anlayışını birleştirir.", 
-            "Malatya Büyükşehir Belediyesi", "Alacakapı Mahallesi, Merkez", 
-            "Tarihi Dokuda Dinlenme Alanları, Çocuk Oyun Alanı, Yürüyüş Yolları", 
-            "08:00 - 20:00", true, 4.1, 73));
-            
-        // Yeni Cami Parkı
-        parks.add(new Park("27", "Yeni Cami Parkı", null, 
-            "Yeni Cami mahallesinde bulunan modern park. Cami çevresinde yer alan yeşil alan.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Cami Mahallesi, Merkez", 
-            "Cami Çevresi Dinlenme Alanları, Çocuk Oyun Alanı, Yürüyüş Yolları", 
-            "24 Saat Açık", true, 4.0, 65));
-            
-        // Kırlangıç Parkı
-        parks.add(new Park("28", "Kırlangıç Parkı", null, 
-            "Kırlangıç mahallesinde bulunan doğal güzellikleri ile öne çıkan park. Kuş gözlem noktaları mevcut.", 
-            "Malatya Büyükşehir Belediyesi", "Kırlangıç Mahallesi, Merkez", 
-            "Kuş Gözlem Noktaları, Yürüyüş Yolları, Piknik Alanları, Çocuk Oyun Alanı", 
-            "24 Saat Açık", true, 4.4, 91));
-            
-        // Gültepe Parkı
-        parks.add(new Park("29", "Gültepe Parkı", null, 
-            "Gültepe mahallesinde bulunan modern park. Spor alanları ve çocuk oyun parkları ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "Gültepe Mahallesi, Merkez", 
-            "Basketbol Sahası, Çocuk Oyun Alanı, Spor Ekipmanları, Yürüyüş Yolları", 
-            "06:00 - 22:00", true, 4.1, 69));
-            
-        // Yeni Mahalle Parkı
-        parks.add(new Park("30", "Yeni Mahalle Parkı", null, 
-            "Yeni Mahalle'de bulunan kompakt park. Yerel halkın sıkça kullandığı sosyal alan.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Mahalle, Merkez", 
-            "Çocuk Oyun Alanı, Dinlenme Bankları, Yeşil Alan", 
-            "24 Saat Açık", true, 4.0, 58));
-            
-        // Çarşıbaşı Parkı
-        parks.add(new Park("31", "Çarşıbaşı Parkı", null, 
-            "Çarşıbaşı mahallesinde bulunan merkezi konumdaki park. Alışveriş alanlarının yanında yer alır.", 
-            "Malatya Büyükşehir Belediyesi", "Çarşıbaşı Mahallesi, Merkez", 
-            "Çocuk Oyun Alanı, Dinlenme Bankları, Yeşil Alan, Kafeler", 
-            "06:00 - 23:00", true, 4.1, 71));
-            
-        // Şehit İbrahim Parkı
-        parks.add(new Park("32", "Şehit İbrahim Parkı", null, 
-            "Şehit İbrahim mahallesinde bulunan anıt park. Şehitlerin anısına yapılmış özel park.", 
-            "Malatya Büyükşehir Belediyesi", "Şehit İbrahim Mahallesi, Merkez", 
-            "Şehit Anıtı, Çocuk Oyun Alanı, Yürüyüş Yolları, Dinlenme Alanları", 
-            "24 Saat Açık", true, 4.6, 98));
-            
-        // Yeni İnönü Parkı
-        parks.add(new Park("33", "Yeni İnönü Parkı", null, 
-            "Yeni İnönü mahallesinde bulunan modern park. Spor alanları ve çocuk oyun parkları ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni İnönü Mahallesi, Merkez", 
-            "Spor Sahaları, Çocuk Oyun Alanı, Yürüyüş Yolları, Spor Ekipmanları", 
-            "06:00 - 22:00", true, 4.2, 75));
-            
-        // Yeni Fatih Parkı
-        parks.add(new Park("34", "Yeni Fatih Parkı", null, 
-            "Yeni Fatih mahallesinde bulunan kompakt park. Yerel halkın sıkça kullandığı sosyal alan.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Fatih Mahallesi, Merkez", 
-            "Çocuk Oyun Alanı, Dinlenme Bankları, Yeşil Alan", 
-            "24 Saat Açık", true, 4.0, 62));
-            
-        // Yeni Gazi Parkı
-        parks.add(new Park("35", "Yeni Gazi Parkı", null, 
-            "Yeni Gazi mahallesinde bulunan modern park. Spor alanları ve çocuk oyun parkları ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Gazi Mahallesi, Merkez", 
-            "Basketbol Sahası, Çocuk Oyun Alanı, Spor Ekipmanları, Yürüyüş Yolları", 
-            "06:00 - 22:00", true, 4.1, 67));
-            
-        // Yeni Hürriyet Parkı
-        parks.add(new Park("36", "Yeni Hürriyet Parkı", null, 
-            "Yeni Hürriyet mahallesinde bulunan modern park. Spor alanları ve çocuk oyun parkları ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Hürriyet Mahallesi, Merkez", 
-            "Spor Sahaları, Çocuk Oyun Alanı, Yürüyüş Yolları, Spor Ekipmanları", 
-            "06:00 - 22:00", true, 4.2, 74));
-            
-        // Yeni Cumhuriyet Parkı
-        parks.add(new Park("37", "Yeni Cumhuriyet Parkı", null, 
-            "Yeni Cumhuriyet mahallesinde bulunan tarihi park. Tarihi dokunun yanında yer alan yeşil alan.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Cumhuriyet Mahallesi, Merkez", 
-            "Tarihi Dokuda Dinlenme Alanları, Çocuk Oyun Alanı, Yürüyüş Yolları", 
-            "08:00 - 20:00", true, 4.0, 59));
-            
-        // Yeni Atatürk Parkı
-        parks.add(new Park("38", "Yeni Atatürk Parkı", null, 
-            "Yeni Atatürk mahallesinde bulunan büyük park. Anıt ve heykeller ile donatılmış tarihi park.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Atatürk Mahallesi, Merkez", 
-            "Anıt ve Heykeller, Çocuk Oyun Alanı, Yürüyüş Yolları, Dinlenme Alanları", 
-            "24 Saat Açık", true, 4.3, 83));
-            
-        // Yeni Çarşı Parkı
-        parks.add(new Park("39", "Yeni Çarşı Parkı", null, 
-            "Yeni Çarşı mahallesinde bulunan merkezi konumdaki park. Alışveriş merkezlerinin yanında yer alır.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Çarşı Mahallesi, Merkez", 
-            "Çocuk Oyun Alanı, Dinlenme Bankları, Yeşil Alan, Kafeler", 
-            "06:00 - 23:00", true, 4.1, 70));
-            
-        // Yeni Orduze Parkı
-        parks.add(new Park("40", "Yeni Orduze Parkı", null, 
-            "Yeni Orduze mahallesinde bulunan doğal güzellikleri ile öne çıkan park. Piknik alanları mevcut.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Orduze Mahallesi, Merkez", 
-            "Piknik Alanları, Çocuk Oyun Alanı, Yürüyüş Yolları, Doğal Güzellikler", 
-            "24 Saat Açık", true, 4.4, 86));
-            
-        // Yeni Çamlıca Parkı
-        parks.add(new Park("41", "Yeni Çamlıca Parkı", null, 
-            "Yeni Çamlıca mahallesinde bulunan doğal güzellikleri ile öne çıkan park. Çam ağaçları ile kaplı.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Çamlıca Mahallesi, Merkez", 
-            "Çam Ağaçları, Yürüyüş Yolları, Piknik Alanları, Çocuk Oyun Alanı", 
-            "24 Saat Açık", true, 4.5, 93));
-            
-        // Yeni Gündüzbey Parkı
-        parks.add(new Park("42", "Yeni Gündüzbey Parkı", null, 
-            "Yeni Gündüzbey mahallesinde bulunan modern park. Spor alanları ve çocuk oyun parkları ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Gündüzbey Mahallesi, Merkez", 
-            "Basketbol Sahası, Çocuk Oyun Alanı, Spor Ekipmanları, Yürüyüş Yolları", 
-            "06:00 - 22:00", true, 4.1, 66));
-            
-        // Yeni Beydağı Parkı
-        parks.add(new Park("43", "Yeni Beydağı Parkı", null, 
-            "Yeni Beydağı mahallesinde bulunan doğal güzellikleri ile öne çıkan park. Manzara seyir noktaları mevcut.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Beydağı Mahallesi, Merkez", 
-            "Manzara Seyir Noktaları, Yürüyüş Yolları, Piknik Alanları, Çocuk Oyun Alanı", 
-            "24 Saat Açık", true, 4.6, 104));
-            
-        // Yeni Turgut Özal Parkı
-        parks.add(new Park("44", "Yeni Turgut Özal Parkı", null, 
-            "Yeni Turgut Özal mahallesinde bulunan modern park. Anıt ve heykeller ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Turgut Özal Mahallesi, Merkez", 
-            "Anıt ve Heykeller, Çocuk Oyun Alanı, Yürüyüş Yolları, Dinlenme Alanları", 
-            "24 Saat Açık", true, 4.3, 88));
-            
-        // Yeni Şehit Fevzi Parkı
-        parks.add(new Park("45", "Yeni Şehit Fevzi Parkı", null, 
-            "Yeni Şehit Fevzi mahallesinde bulunan anıt park. Şehitlerin anısına yapılmış özel park.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Şehit Fevzi Mahallesi, Merkez", 
-            "Şehit Anıtı, Çocuk Oyun Alanı, Yürüyüş Yolları, Dinlenme Alanları", 
-            "24 Saat Açık", true, 4.7, 111));
-            
-        // Yeni Emek Parkı
-        parks.add(new Park("46", "Yeni Emek Parkı", null, 
-            "Yeni Emek mahallesinde bulunan modern park. Spor alanları ve çocuk oyun parkları ile donatılmış.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Emek Mahallesi, Merkez", 
-            "Spor Sahaları, Çocuk Oyun Alanı, Yürüyüş Yolları, Spor Ekipmanları", 
-            "06:00 - 22:00", true, 4.2, 76));
-            
-        // Yeni Çilesiz Parkı
-        parks.add(new Park("47", "Yeni Çilesiz Parkı", null, 
-            "Yeni Çilesiz mahallesinde bulunan kompakt park. Yerel halkın sıkça kullandığı sosyal alan.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Çilesiz Mahallesi, Merkez", 
-            "Çocuk Oyun Alanı, Dinlenme Bankları, Yeşil Alan", 
-            "24 Saat Açık", true, 4.0, 60));
-            
-        // Yeni Alacakapı Parkı
-        parks.add(new Park("48", "Yeni Alacakapı Parkı", null, 
-            "Yeni Alacakapı mahallesinde bulunan tarihi dokunun yanında yer alan park. Tarihi atmosfer ile modern park anlayışını birleştirir.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Alacakapı Mahallesi, Merkez", 
-            "Tarihi Dokuda Dinlenme Alanları, Çocuk Oyun Alanı, Yürüyüş Yolları", 
-            "08:00 - 20:00", true, 4.1, 72));
-            
-        // Yeni Yeni Cami Parkı
-        parks.add(new Park("49", "Yeni Yeni Cami Parkı", null, 
-            "Yeni Yeni Cami mahallesinde bulunan modern park. Cami çevresinde yer alan yeşil alan.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Yeni Cami Mahallesi, Merkez", 
-            "Cami Çevresi Dinlenme Alanları, Çocuk Oyun Alanı, Yürüyüş Yolları", 
-            "24 Saat Açık", true, 4.0, 64));
-            
-        // Yeni Kırlangıç Parkı
-        parks.add(new Park("50", "Yeni Kırlangıç Parkı", null, 
-            "Yeni Kırlangıç mahallesinde bulunan doğal güzellikleri ile öne çıkan park. Kuş gözlem noktaları mevcut.", 
-            "Malatya Büyükşehir Belediyesi", "Yeni Kırlangıç Mahallesi, Merkez", 
-            "Kuş Gözlem Noktaları, Yürüyüş Yolları, Piknik Alanları, Çocuk Oyun Alanı", 
-            "24 Saat Açık", true, 4.4, 90));
-        
-        return parks;
+    public void setLocation(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
     }
     
     @Override
@@ -8,8 +8,13 @@ import android.widget.RatingBar;
 import android.widget.TextView;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * ParkAdapter - Park listesi için RecyclerView adapter'ı
@@ -17,6 +22,16 @@ import java.util.List;
  * Bu sınıf, park listesini RecyclerView'da göstermek için kullanılır.
  * Her park için detaylı bilgileri görüntüler ve tıklama olaylarını yönetir.
  * 
+ * Liste güncellemeleri AsyncListDiffer ile arka planda karşılaştırılır ve
+ * yalnızca eklenen, silinen, taşınan ve değişen satırlar bildirilir.
+ * 
+ * Açık/kapalı göstergesi ParkOpenIndex.Status'tan okunur. Yeni durum
+ * verildiğinde yalnızca durumu değişen satırlar göstergeyi güncelleyen bir
+ * payload ile yeniden bağlanır.
+ * 
+ * Puan ve değerlendirme sayısı, varsa parkın RatingSummary'sinden (park
+ * başına tek özet dokümanı) okunur; yoksa katalog değerleri gösterilir.
+ * 
  * @author Berkay Körükmez
  * @version 1.0
  */
@@ -25,10 +40,37 @@ public class ParkAdapter extends RecyclerView.Adapter<ParkAdapter.ParkViewHolder
     // Constants
     private static final String TAG = "ParkAdapter";
     private static final String REVIEW_COUNT_FORMAT = "(%d değerlendirme)";
+    private static final Object PAYLOAD_OPEN_STATUS = new Object();
+    private static final Object PAYLOAD_RATING = new Object();
+    
+    // Park id'si aynıysa aynı satır; bağlanan alanlar aynıysa içerik değişmemiştir
+    private static final DiffUtil.ItemCallback<Park> DIFF_CALLBACK = new DiffUtil.ItemCallback<Park>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull Park oldItem, @NonNull Park newItem) {
+            return oldItem.getId().equals(newItem.getId());
+        }
+        
+        @Override
+        public boolean areContentsTheSame(@NonNull Park oldItem, @NonNull Park newItem) {
+            return oldItem.getName().equals(newItem.getName())
+                    && Objects.equals(oldItem.getAddress(), newItem.getAddress())
+                    && Objects.equals(oldItem.getOpeningHours(), newItem.getOpeningHours())
+                    && oldItem.getRating() == newItem.getRating()
+                    && oldItem.getReviewCount() == newItem.getReviewCount()
+                    && oldItem.isOpen() == newItem.isOpen()
+                    // Katalog parkları paylaşılır; aynı nesnenin açıklamasını çözmeye gerek yok
+                    && (oldItem == newItem || Objects.equals(oldItem.getDescription(), newItem.getDescription()));
+        }
+    };
     
     // Data
-    private final List<Park> parks;
+    private final AsyncListDiffer<Park> differ = new AsyncListDiffer<>(this, DIFF_CALLBACK);
+    private final StableIds stableIds = new StableIds();
     private final OnParkClickListener listener;
+    @Nullable
+    private ParkOpenIndex.Status openStatus;
+    // Park id -> değerlendirme özeti (ParkReviewManager)
+    private Map<String, RatingSummary> ratingSummaries = Collections.emptyMap();
     
     /**
      * Park tıklama olayları için callback interface
@@ -49,8 +91,9 @@ public class ParkAdapter extends RecyclerView.Adapter<ParkAdapter.ParkViewHolder
      * @param listener Tıklama listener'ı
      */
     public ParkAdapter(@NonNull List<Park> parks, @Nullable OnParkClickListener listener) {
-        this.parks = parks;
         this.listener = listener;
+        setHasStableIds(true);
+        differ.submitList(parks);
     }
     
     @NonNull
@@ -63,24 +106,88 @@ public class ParkAdapter extends RecyclerView.Adapter<ParkAdapter.ParkViewHolder
     
     @Override
     public void onBindViewHolder(@NonNull ParkViewHolder holder, int position) {
-        Park park = parks.get(position);
-        holder.bind(park);
+        Park park = differ.getCurrentList().get(position);
+        holder.bind(park, isOpen(park), ratingSummaries.get(park.getId()));
+    }
+    
+    @Override
+    public void onBindViewHolder(@NonNull ParkViewHolder holder, int position, @NonNull List<Object> payloads) {
+        if (payloads.isEmpty() || !payloads.stream().allMatch(payload -> payload == PAYLOAD_OPEN_STATUS
+                || payload == PAYLOAD_RATING)) {
+            onBindViewHolder(holder, position);
+            return;
+        }
+        Park park = differ.getCurrentList().get(position);
+        if (payloads.contains(PAYLOAD_OPEN_STATUS)) {
+            holder.setStatusIndicator(isOpen(park));
+        }
+        if (payloads.contains(PAYLOAD_RATING)) {
+            holder.setRating(park, ratingSummaries.get(park.getId()));
+        }
     }
     
     @Override
     public int getItemCount() {
-        return parks.size();
+        return differ.getCurrentList().size();
+    }
+    
+    @Override
+    public long getItemId(int position) {
+        return stableIds.idFor(differ.getCurrentList().get(position).getId());
     }
     
     /**
-     * Park listesini günceller
+     * Park listesini günceller. Fark arka planda hesaplanır; art arda gelen
+     * güncellemelerde yalnızca sonuncusu uygulanır. Liste bundan sonra
+     * değiştirilmemelidir.
      * 
      * @param newParks Yeni park listesi
      */
     public void updateParks(@NonNull List<Park> newParks) {
-        parks.clear();
-        parks.addAll(newParks);
-        notifyDataSetChanged();
+        differ.submitList(newParks);
+    }
+    
+    /**
+     * Açık/kapalı durumunu günceller; yalnızca durumu değişen satırlar
+     * yeniden bağlanır
+     * 
+     * @param status Yeni durum
+     */
+    public void setOpenStatus(@NonNull ParkOpenIndex.Status status) {
+        List<Park> current = differ.getCurrentList();
+        boolean[] wasOpen = new boolean[current.size()];
+        for (int i = 0; i < wasOpen.length; i++) {
+            wasOpen[i] = isOpen(current.get(i));
+        }
+        openStatus = status;
+        for (int i = 0; i < wasOpen.length; i++) {
+            if (status.isOpen(current.get(i)) != wasOpen[i]) {
+                notifyItemChanged(i, PAYLOAD_OPEN_STATUS);
+            }
+        }
+    }
+    
+    /**
+     * Değerlendirme özetlerini günceller; yalnızca özeti değişen satırlar
+     * yeniden bağlanır
+     * 
+     * @param summaries Park id -> özet (değiştirilmemelidir)
+     */
+    public void setRatingSummaries(@NonNull Map<String, RatingSummary> summaries) {
+        Map<String, RatingSummary> previous = ratingSummaries;
+        ratingSummaries = summaries;
+        List<Park> current = differ.getCurrentList();
+        for (int i = 0; i < current.size(); i++) {
+            String id = current.get(i).getId();
+            if (previous.get(id) != summaries.get(id)) {
+                notifyItemChanged(i, PAYLOAD_RATING);
+            }
+        }
+    }
+    
+    private boolean isOpen(@NonNull Park park) {
+        ParkOpenIndex.Status status = openStatus;
+        return status != null ? status.isOpen(park) : park.isOpen();
     }
     
     /**
@@ -121,22 +228,23 @@ public class ParkAdapter extends RecyclerView.Adapter<ParkAdapter.ParkViewHolder
          * Park verilerini view'a bağlar
          * 
          * @param park Bağlanacak park
+         * @param isOpen Park şu an açık mı
+         * @param summary Değerlendirme özeti (yoksa null)
          */
-        public void bind(@NonNull Park park) {
+        public void bind(@NonNull Park park, boolean isOpen, @Nullable RatingSummary summary) {
             // Set basic information
             parkName.setText(park.getName());
             parkAddress.setText(park.getAddress());
             parkDescription.setText(park.getDescription());
             
             // Set rating and review count
-            parkRating.setRating((float) park.getRating());
-            reviewCount.setText(String.format(REVIEW_COUNT_FORMAT, park.getReviewCount()));
+            setRating(park, summary);
             
             // Set opening hours
             openingHours.setText(park.getOpeningHours());
             
             // Set status indicator
-            setStatusIndicator(park.isOpen());
+            setStatusIndicator(isOpen);
             
             // Set default park image
             parkImage.setImageResource(R.drawable.ic_park_marker);
@@ -145,12 +253,28 @@ public class ParkAdapter extends RecyclerView.Adapter<ParkAdapter.ParkViewHolder
             setupClickListener(park);
         }
         
+        /**
+         * Puanı ve değerlendirme sayısını ayarlar
+         * 
+         * @param park Park
+         * @param summary Değerlendirme özeti (yoksa katalog değerleri)
+         */
+        void setRating(@NonNull Park park, @Nullable RatingSummary summary) {
+            if (summary != null) {
+                parkRating.setRating((float) summary.getAverage());
+                reviewCount.setText(String.format(REVIEW_COUNT_FORMAT, summary.getCount()));
+            } else {
+                parkRating.setRating((float) park.getRating());
+                reviewCount.setText(String.format(REVIEW_COUNT_FORMAT, park.getReviewCount()));
+            }
+        }
+        
         /**
          * Durum göstergesini ayarlar
          * 
          * @param isOpen Park açık durumu
          */
-        private void setStatusIndicator(boolean isOpen) {
+        void setStatusIndicator(boolean isOpen) {
             if (isOpen) {
                 statusIndicator.setBackgroundResource(R.drawable.status_open);
             } else {
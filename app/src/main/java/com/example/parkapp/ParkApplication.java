@@ -0,0 +1,22 @@
+package com.example.parkapp;
+
+import android.app.Application;
+
+/**
+ * ParkApplication - Uygulama sınıfı
+ * 
+ * Açılışta yalnızca ölçüm yapar. Firebase istemcileri (Firestore, Auth)
+ * burada değil ilk kullanımda oluşturulur; böylece ilk park listesi
+ * Firestore istemcisini beklemeden çizilir.
+ * 
+ * @version 1.0
+ */
+public class ParkApplication extends Application {
+    
+    @Override
+    public void onCreate() {
+        StartupTrace.beginAtProcessStart(StartupTrace.SPAN_APPLICATION);
+        super.onCreate();
+        StartupTrace.end(StartupTrace.SPAN_APPLICATION);
+    }
+}
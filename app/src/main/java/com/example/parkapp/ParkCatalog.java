@@ -0,0 +1,408 @@
+package com.example.parkapp;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ParkCatalog - assets/parks.bin park kataloğunu okur
+ *
+ * Katalog bir kez NIO ile belleğe eşlenir (memory-mapped) ve Java heap'ine
+ * kopyalanmaz. Dosya biçimi (big-endian):
+ *
+ *   Başlık (16 bayt):  magic "PKC1" | sürüm | park sayısı | kayıt boyu
+ *   Kayıt tablosu:     park başına RECORD_SIZE baytlık sabit kayıt; her
+ *                      metin alanı, metin havuzundaki bir ofsettir (-1 = null)
+ *   Metin havuzu:      [uzunluk (int) | UTF-8 baytlar]; tekrarlanan metinler
+ *                      (ör. yönetici, açılış saatleri) bir kez yazılır
+ *
+ * Sabit boylu kayıtlar sayesinde i. parkın kaydı HEADER_SIZE + i * RECORD_SIZE
+ * ofsetindedir. Liste için gereken alanlar (id, ad, yönetici, adres, saatler,
+ * puan, konum) Park oluşturulurken okunur; açıklama, imkanlar ve resim URL'i ilk
+ * erişildiklerinde çözülür. Dosya test kaynak kümesindeki ParkCatalogWriter
+ * aracıyla üretilir.
+ *
+ * @version 1.0
+ */
+public class ParkCatalog {
+
+    // Constants
+    static final String ASSET_NAME = "parks.bin";
+    static final int MAGIC = 0x504B4331; // "PKC1"
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 64;
+    static final int NO_STRING = -1;
+
+    // Kayıt içindeki alan ofsetleri
+    static final int FIELD_ID = 0;
+    static final int FIELD_NAME = 4;
+    static final int FIELD_IMAGE_URL = 8;
+    static final int FIELD_DESCRIPTION = 12;
+    static final int FIELD_MANAGER = 16;
+    static final int FIELD_ADDRESS = 20;
+    static final int FIELD_FACILITIES = 24;
+    static final int FIELD_OPENING_HOURS = 28;
+    static final int FIELD_RATING = 32;       // double
+    static final int FIELD_REVIEW_COUNT = 40; // int
+    static final int FIELD_FLAGS = 44;        // int, bit 0 = açık
+    static final int FIELD_LATITUDE = 48;     // double, bilinmiyorsa NaN
+    static final int FIELD_LONGITUDE = 56;    // double, bilinmiyorsa NaN
+    static final int FLAG_OPEN = 1;
+
+    // Singleton instance
+    private static volatile ParkCatalog instance;
+
+    private final ByteBuffer buffer;
+    private final int parkCount;
+    private volatile List<Park> parks;
+    private volatile ParkSearchIndex searchIndex;
+    private volatile ParkTrigramIndex trigramIndex;
+    private volatile ParkSpatialIndex spatialIndex;
+    private volatile ParkClusterIndex clusterIndex;
+    private volatile ParkOpenIndex openIndex;
+    private volatile ParkFacilityIndex facilityIndex;
+    private volatile ParkSortOrders sortOrders;
+
+    private ParkCatalog(@NonNull ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Geçersiz park kataloğu");
+        }
+        if (buffer.getInt(4) != VERSION || buffer.getInt(12) != RECORD_SIZE) {
+            throw new IllegalArgumentException("Desteklenmeyen katalog sürümü: " + buffer.getInt(4));
+        }
+        this.buffer = buffer;
+        this.parkCount = buffer.getInt(8);
+    }
+
+    /**
+     * Uygulamanın park kataloğunu döndürür; asset ilk çağrıda bir kez eşlenir
+     *
+     * @param context Uygulama context'i
+     * @return ParkCatalog instance
+     */
+    public static ParkCatalog getInstance(@NonNull Context context) {
+        if (instance == null) {
+            synchronized (ParkCatalog.class) {
+                if (instance == null) {
+                    try {
+                        instance = new ParkCatalog(mapAsset(context.getApplicationContext()));
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Park kataloğu açılamadı", e);
+                    }
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Bir katalog dosyasını belleğe eşleyerek açar
+     *
+     * @param file ParkCatalogWriter ile yazılmış dosya
+     * @return ParkCatalog
+     */
+    static ParkCatalog open(@NonNull File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            // Eşleme, kanal kapandıktan sonra da geçerlidir
+            return new ParkCatalog(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    static ParkCatalog open(@NonNull ByteBuffer buffer) {
+        return new ParkCatalog(buffer);
+    }
+
+    private static ByteBuffer mapAsset(Context context) throws IOException {
+        try (AssetFileDescriptor descriptor = context.getAssets().openFd(ASSET_NAME);
+             FileInputStream in = descriptor.createInputStream();
+             FileChannel channel = in.getChannel()) {
+            // Asset sıkıştırılmadan paketlenir (build.gradle: noCompress 'bin'),
+            // bu yüzden APK içindeki baytlar doğrudan eşlenebilir
+            return channel.map(FileChannel.MapMode.READ_ONLY, descriptor.getStartOffset(), descriptor.getLength());
+        } catch (IOException e) {
+            // Sıkıştırılmış asset eşlenemez; bir kez okuyup direct buffer'a kopyala
+            try (InputStream in = context.getAssets().open(ASSET_NAME)) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] chunk = new byte[8192];
+                int read;
+                while ((read = in.read(chunk)) != -1) {
+                    out.write(chunk, 0, read);
+                }
+                byte[] bytes = out.toByteArray();
+                ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+                buffer.put(bytes);
+                buffer.flip();
+                return buffer;
+            }
+        }
+    }
+
+    /**
+     * @return Katalogdaki park sayısı
+     */
+    public int size() {
+        return parkCount;
+    }
+
+    /**
+     * Tüm parkları döndürür. Park nesneleri ilk çağrıda bir kez oluşturulur;
+     * her çağrı yeni, değiştirilebilir bir liste döndürür.
+     *
+     * @return Park listesi
+     */
+    @NonNull
+    public List<Park> getParks() {
+        List<Park> result = parks;
+        if (result == null) {
+            synchronized (this) {
+                result = parks;
+                if (result == null) {
+                    List<Park> created = new ArrayList<>(parkCount);
+                    // Havuzda tek kopya olan metinler (yönetici, saatler) heap'te de tek kopya olsun
+                    Map<Integer, String> decoded = new HashMap<>();
+                    for (int i = 0; i < parkCount; i++) {
+                        created.add(createPark(i, decoded));
+                    }
+                    result = Collections.unmodifiableList(created);
+                    parks = result;
+                }
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Katalog parkları üzerindeki arama index'ini döndürür; ilk çağrıda bir
+     * kez oluşturulur
+     *
+     * @return ParkSearchIndex
+     */
+    @NonNull
+    public ParkSearchIndex getSearchIndex() {
+        ParkSearchIndex result = searchIndex;
+        if (result == null) {
+            synchronized (this) {
+                result = searchIndex;
+                if (result == null) {
+                    result = new ParkSearchIndex(getParks());
+                    searchIndex = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Yazım hatalarına dayanıklı, sıralı arama index'ini döndürür; ilk
+     * çağrıda bir kez oluşturulur
+     *
+     * @return ParkTrigramIndex
+     */
+    @NonNull
+    public ParkTrigramIndex getTrigramIndex() {
+        ParkTrigramIndex result = trigramIndex;
+        if (result == null) {
+            synchronized (this) {
+                result = trigramIndex;
+                if (result == null) {
+                    result = new ParkTrigramIndex(getParks());
+                    trigramIndex = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Konum sorguları (en yakın parklar, harita görünümü) için uzamsal
+     * index'i döndürür; ilk çağrıda bir kez oluşturulur
+     *
+     * @return ParkSpatialIndex
+     */
+    @NonNull
+    public ParkSpatialIndex getSpatialIndex() {
+        ParkSpatialIndex result = spatialIndex;
+        if (result == null) {
+            synchronized (this) {
+                result = spatialIndex;
+                if (result == null) {
+                    result = new ParkSpatialIndex(getParks());
+                    spatialIndex = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Harita işaretçi kümelerini döndürür; ilk çağrıda bir kez oluşturulur.
+     * Oluşturma tüm zoom seviyelerini hesapladığı için arka planda çağrılmalıdır.
+     *
+     * @return ParkClusterIndex
+     */
+    @NonNull
+    public ParkClusterIndex getClusterIndex() {
+        ParkClusterIndex result = clusterIndex;
+        if (result == null) {
+            synchronized (this) {
+                result = clusterIndex;
+                if (result == null) {
+                    result = new ParkClusterIndex(getParks());
+                    clusterIndex = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Açılış saatlerinden "hangi parklar açık" index'ini döndürür; ilk
+     * çağrıda bir kez oluşturulur
+     *
+     * @return ParkOpenIndex
+     */
+    @NonNull
+    public ParkOpenIndex getOpenIndex() {
+        ParkOpenIndex result = openIndex;
+        if (result == null) {
+            synchronized (this) {
+                result = openIndex;
+                if (result == null) {
+                    result = new ParkOpenIndex(getParks());
+                    openIndex = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Olanak filtresi index'ini döndürür; ilk çağrıda bir kez oluşturulur
+     *
+     * @return ParkFacilityIndex
+     */
+    @NonNull
+    public ParkFacilityIndex getFacilityIndex() {
+        ParkFacilityIndex result = facilityIndex;
+        if (result == null) {
+            synchronized (this) {
+                result = facilityIndex;
+                if (result == null) {
+                    result = new ParkFacilityIndex(getParks());
+                    facilityIndex = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Önceden hesaplanmış sıralamaları (puan, değerlendirme, A–Z) döndürür;
+     * ilk çağrıda bir kez oluşturulur
+     *
+     * @return ParkSortOrders
+     */
+    @NonNull
+    public ParkSortOrders getSortOrders() {
+        ParkSortOrders result = sortOrders;
+        if (result == null) {
+            synchronized (this) {
+                result = sortOrders;
+                if (result == null) {
+                    result = new ParkSortOrders(getParks());
+                    sortOrders = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tek bir parkı oluşturur (getParks önbelleğini kullanmaz)
+     *
+     * @param index Park sırası
+     * @return Park
+     */
+    @NonNull
+    Park createPark(int index) {
+        return createPark(index, new HashMap<>());
+    }
+
+    private Park createPark(int index, Map<Integer, String> decoded) {
+        int record = recordOffset(index);
+        return new Park(this, index,
+                readString(buffer.getInt(record + FIELD_ID)),
+                readString(buffer.getInt(record + FIELD_NAME)),
+                readShared(buffer.getInt(record + FIELD_MANAGER), decoded),
+                readShared(buffer.getInt(record + FIELD_ADDRESS), decoded),
+                readShared(buffer.getInt(record + FIELD_OPENING_HOURS), decoded),
+                (buffer.getInt(record + FIELD_FLAGS) & FLAG_OPEN) != 0,
+                buffer.getDouble(record + FIELD_RATING),
+                buffer.getInt(record + FIELD_REVIEW_COUNT),
+                buffer.getDouble(record + FIELD_LATITUDE),
+                buffer.getDouble(record + FIELD_LONGITUDE));
+    }
+
+    @Nullable
+    String readImageUrl(int index) {
+        return readString(buffer.getInt(recordOffset(index) + FIELD_IMAGE_URL));
+    }
+
+    @Nullable
+    String readDescription(int index) {
+        return readString(buffer.getInt(recordOffset(index) + FIELD_DESCRIPTION));
+    }
+
+    @Nullable
+    String readFacilities(int index) {
+        return readString(buffer.getInt(recordOffset(index) + FIELD_FACILITIES));
+    }
+
+    private int recordOffset(int index) {
+        if (index < 0 || index >= parkCount) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + parkCount);
+        }
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    // Aynı havuz ofsetini tekrar çözmek yerine önceki String'i kullanır
+    private String readShared(int offset, Map<Integer, String> decoded) {
+        String value = decoded.get(offset);
+        if (value == null) {
+            value = readString(offset);
+            decoded.put(offset, value);
+        }
+        return value;
+    }
+
+    @Nullable
+    private String readString(int offset) {
+        if (offset == NO_STRING) {
+            return null;
+        }
+        int length = buffer.getInt(offset);
+        byte[] bytes = new byte[length];
+        // Mutlak okuma için kopya; paylaşılan buffer'ın konumu değişmez
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset + 4);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,327 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ParkClusterIndex - Harita işaretçileri için zoom seviyesi başına kümeler
+ *
+ * Parklar Web Mercator dünya koordinatlarına ([0, 1) aralığında x, y)
+ * çevrilir. En yakın zoom'dan (MAX_ZOOM) en uzağa (MIN_ZOOM) doğru her
+ * seviye, bir önceki seviyenin noktalarından açgözlü (greedy) olarak
+ * kurulur: sıradaki atanmamış nokta bir küme başlatır ve ekranda
+ * RADIUS_PIXELS yarıçapı içinde kalan atanmamış komşularını toplar. Küme
+ * konumu, içerdiği parkların ağırlıklı ortalamasıdır. Komşular, yarıçap
+ * boyunda hücrelere göre sıralanmış anahtar dizisinde ikili aramayla
+ * bulunur; seviye başına maliyet O(n log n).
+ *
+ * Her seviyenin kümeleri hücre anahtarına göre sıralı tutulur; görünüm
+ * sorgusu yalnızca görünümle kesişen hücre satırlarını okur. Küme id'leri
+ * (zoom, sıra) çiftinden üretilir ve aynı zoom'da kaydırma boyunca
+ * değişmez; harita yalnızca eklenen/çıkan işaretçileri güncelleyebilir.
+ *
+ * Index oluşturulduktan sonra değişmez ve birden çok iş parçacığından
+ * okunabilir. Oluşturma pahalı olabileceği için arka planda yapılmalıdır.
+ *
+ * @version 1.0
+ */
+public class ParkClusterIndex {
+
+    // Constants
+    public static final int MIN_ZOOM = 0;
+    public static final int MAX_ZOOM = 17;
+    static final double RADIUS_PIXELS = 60;
+    static final double TILE_SIZE = 256;
+    // Sıralama anahtarlarının alt bitlerinde nokta sırası tutulur
+    private static final int INDEX_BITS = 21;
+
+    private final List<Park> parks;
+    // levels[z - MIN_ZOOM]; en son eleman MAX_ZOOM + 1 = kümelenmemiş parklar
+    private final Level[] levels;
+
+    /**
+     * Haritada gösterilecek bir küme ya da tek park
+     */
+    public static final class Cluster {
+        public final long id;
+        public final double latitude;
+        public final double longitude;
+        public final int count;
+        // Tek parklık kümede park, aksi halde null
+        @Nullable
+        public final Park park;
+
+        Cluster(long id, double latitude, double longitude, int count, @Nullable Park park) {
+            this.id = id;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.count = count;
+            this.park = park;
+        }
+    }
+
+    /**
+     * Bir zoom seviyesinin kümeleri; hücre anahtarına göre sıralı
+     */
+    private static final class Level {
+        final int zoom;
+        final double cellSize;
+        final long cellsPerAxis;
+        final double[] x;
+        final double[] y;
+        final int[] count;
+        final int[] parkId;   // tek parklık kümede park id'si, aksi halde -1
+        final long[] cellKeys;
+
+        Level(int zoom, double cellSize, double[] x, double[] y, int[] count, int[] parkId) {
+            this.zoom = zoom;
+            this.cellSize = cellSize;
+            this.cellsPerAxis = (long) Math.ceil(1 / cellSize);
+            // Kümeleri hücre anahtarına göre sırala
+            int n = x.length;
+            long[] keyed = new long[n];
+            for (int i = 0; i < n; i++) {
+                keyed[i] = (cellKey(x[i], y[i]) << INDEX_BITS) | i;
+            }
+            Arrays.sort(keyed);
+            this.x = new double[n];
+            this.y = new double[n];
+            this.count = new int[n];
+            this.parkId = new int[n];
+            this.cellKeys = new long[n];
+            for (int i = 0; i < n; i++) {
+                int from = (int) (keyed[i] & ((1 << INDEX_BITS) - 1));
+                this.x[i] = x[from];
+                this.y[i] = y[from];
+                this.count[i] = count[from];
+                this.parkId[i] = parkId[from];
+                this.cellKeys[i] = keyed[i] >>> INDEX_BITS;
+            }
+        }
+
+        long cellKey(double px, double py) {
+            return cell(py) * cellsPerAxis + cell(px);
+        }
+
+        long cell(double coordinate) {
+            return Math.max(0, Math.min(cellsPerAxis - 1, (long) (coordinate / cellSize)));
+        }
+
+        int size() {
+            return x.length;
+        }
+    }
+
+    /**
+     * Verilen parklar için tüm zoom seviyelerini hesaplar. Konumu olmayan
+     * parklar atlanır.
+     *
+     * @param parks Parklar
+     */
+    public ParkClusterIndex(@NonNull List<Park> parks) {
+        if (parks.size() >= (1 << INDEX_BITS)) {
+            throw new IllegalArgumentException("En fazla " + ((1 << INDEX_BITS) - 1) + " park desteklenir");
+        }
+        this.parks = Collections.unmodifiableList(new ArrayList<>(parks));
+        levels = new Level[MAX_ZOOM - MIN_ZOOM + 2];
+
+        int located = 0;
+        for (Park park : parks) {
+            if (park.hasLocation()) {
+                located++;
+            }
+        }
+        double[] x = new double[located];
+        double[] y = new double[located];
+        int[] count = new int[located];
+        int[] parkId = new int[located];
+        int n = 0;
+        for (int id = 0; id < parks.size(); id++) {
+            Park park = parks.get(id);
+            if (park.hasLocation()) {
+                x[n] = longitudeToX(park.getLongitude());
+                y[n] = latitudeToY(park.getLatitude());
+                count[n] = 1;
+                parkId[n] = id;
+                n++;
+            }
+        }
+        Level current = new Level(MAX_ZOOM + 1, radius(MAX_ZOOM + 1), x, y, count, parkId);
+        levels[levels.length - 1] = current;
+        for (int zoom = MAX_ZOOM; zoom >= MIN_ZOOM; zoom--) {
+            current = clusterLevel(current, zoom);
+            levels[zoom - MIN_ZOOM] = current;
+        }
+    }
+
+    /**
+     * Zoom seviyesinde, görünümle kesişen kümeleri döndürür. Görünüm
+     * 180. meridyeni geçmemelidir (minLongitude <= maxLongitude).
+     *
+     * @param zoom Harita zoom seviyesi (kesirli zoom aşağı yuvarlanır)
+     * @return Kümeler
+     */
+    @NonNull
+    public List<Cluster> clusters(double zoom, double minLatitude, double minLongitude,
+                                  double maxLatitude, double maxLongitude) {
+        Level level = levels[levelIndex(zoom)];
+        List<Cluster> result = new ArrayList<>();
+        if (level.size() == 0 || minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            return result;
+        }
+        double minX = longitudeToX(minLongitude);
+        double maxX = longitudeToX(maxLongitude);
+        // Mercator'da y kuzeye doğru azalır
+        double minY = latitudeToY(maxLatitude);
+        double maxY = latitudeToY(minLatitude);
+
+        long columnFrom = level.cell(minX);
+        long columnTo = level.cell(maxX);
+        for (long row = level.cell(minY); row <= level.cell(maxY); row++) {
+            long keyFrom = row * level.cellsPerAxis + columnFrom;
+            long keyTo = row * level.cellsPerAxis + columnTo;
+            for (int i = lowerBound(level.cellKeys, keyFrom); i < level.size() && level.cellKeys[i] <= keyTo; i++) {
+                if (level.x[i] >= minX && level.x[i] <= maxX && level.y[i] >= minY && level.y[i] <= maxY) {
+                    result.add(toCluster(level, i));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Zoom seviyesindeki küme sayısı (tümü)
+     */
+    public int clusterCount(double zoom) {
+        return levels[levelIndex(zoom)].size();
+    }
+
+    @NonNull
+    public List<Park> getParks() {
+        return parks;
+    }
+
+    private Cluster toCluster(Level level, int i) {
+        long id = ((long) level.zoom << 32) | i;
+        int parkId = level.parkId[i];
+        return new Cluster(id, yToLatitude(level.y[i]), xToLongitude(level.x[i]), level.count[i],
+                parkId >= 0 ? parks.get(parkId) : null);
+    }
+
+    /**
+     * Bir alt seviyenin noktalarını zoom için yarıçap içinde birleştirir
+     */
+    private static Level clusterLevel(Level input, int zoom) {
+        double r = radius(zoom);
+        int n = input.size();
+        // Girdiyi r boyunda hücrelere göre sırala (komşu araması için)
+        long cellsPerAxis = (long) Math.ceil(1 / r);
+        long[] keyed = new long[n];
+        for (int i = 0; i < n; i++) {
+            keyed[i] = ((cell(input.y[i], r, cellsPerAxis) * cellsPerAxis + cell(input.x[i], r, cellsPerAxis))
+                    << INDEX_BITS) | i;
+        }
+        Arrays.sort(keyed);
+
+        boolean[] assigned = new boolean[n];
+        double[] x = new double[n];
+        double[] y = new double[n];
+        int[] count = new int[n];
+        int[] parkId = new int[n];
+        int clusters = 0;
+        double r2 = r * r;
+        for (int i = 0; i < n; i++) {
+            if (assigned[i]) {
+                continue;
+            }
+            assigned[i] = true;
+            double sumX = input.x[i] * input.count[i];
+            double sumY = input.y[i] * input.count[i];
+            int total = input.count[i];
+            long cx = cell(input.x[i], r, cellsPerAxis);
+            long cy = cell(input.y[i], r, cellsPerAxis);
+            for (long row = Math.max(0, cy - 1); row <= Math.min(cellsPerAxis - 1, cy + 1); row++) {
+                long keyFrom = row * cellsPerAxis + Math.max(0, cx - 1);
+                long keyTo = row * cellsPerAxis + Math.min(cellsPerAxis - 1, cx + 1);
+                for (int k = lowerBoundKeyed(keyed, keyFrom); k < n && (keyed[k] >>> INDEX_BITS) <= keyTo; k++) {
+                    int j = (int) (keyed[k] & ((1 << INDEX_BITS) - 1));
+                    if (assigned[j]) {
+                        continue;
+                    }
+                    double dx = input.x[j] - input.x[i];
+                    double dy = input.y[j] - input.y[i];
+                    if (dx * dx + dy * dy <= r2) {
+                        assigned[j] = true;
+                        sumX += input.x[j] * input.count[j];
+                        sumY += input.y[j] * input.count[j];
+                        total += input.count[j];
+                    }
+                }
+            }
+            x[clusters] = sumX / total;
+            y[clusters] = sumY / total;
+            count[clusters] = total;
+            parkId[clusters] = total == input.count[i] ? input.parkId[i] : -1;
+            clusters++;
+        }
+        return new Level(zoom, r, Arrays.copyOf(x, clusters), Arrays.copyOf(y, clusters),
+                Arrays.copyOf(count, clusters), Arrays.copyOf(parkId, clusters));
+    }
+
+    private static long cell(double coordinate, double size, long cellsPerAxis) {
+        return Math.max(0, Math.min(cellsPerAxis - 1, (long) (coordinate / size)));
+    }
+
+    // Dünya genişliği 1 iken, zoom'da RADIUS_PIXELS kadar ekran mesafesi
+    private static double radius(int zoom) {
+        return RADIUS_PIXELS / (TILE_SIZE * Math.pow(2, zoom));
+    }
+
+    private int levelIndex(double zoom) {
+        int z = (int) Math.floor(zoom);
+        return Math.max(MIN_ZOOM, Math.min(MAX_ZOOM + 1, z)) - MIN_ZOOM;
+    }
+
+    // key değerinden küçük olmayan ilk elemanın konumu
+    private static int lowerBound(long[] keys, long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Hücre anahtarı cellKey olan ilk eleman; alt bitlerde sıra numarası durur
+    private static int lowerBoundKeyed(long[] keyed, long cellKey) {
+        return lowerBound(keyed, cellKey << INDEX_BITS);
+    }
+
+    static double longitudeToX(double longitude) {
+        return longitude / 360 + 0.5;
+    }
+
+    static double latitudeToY(double latitude) {
+        double sin = Math.sin(Math.toRadians(latitude));
+        double y = 0.5 - 0.25 * Math.log((1 + sin) / (1 - sin)) / Math.PI;
+        return Math.max(0, Math.min(1, y));
+    }
+
+    static double xToLongitude(double x) {
+        return (x - 0.5) * 360;
+    }
+
+    static double yToLatitude(double y) {
+        double n = Math.PI - 2 * Math.PI * y;
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+}
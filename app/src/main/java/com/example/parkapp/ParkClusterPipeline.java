@@ -0,0 +1,108 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ParkClusterPipeline - Harita kümelerini arka planda hesaplar
+ *
+ * Küme index'i ilk istekte arka plandaki tek iş parçacığında bir kez
+ * oluşturulur. Her kaydırma/zoom sonrası request çağrılır; bekleyen istek
+ * iptal edilir ve her istek bir nesil numarası alır. Hesaplanırken daha
+ * yeni bir istek gelmişse sonuç teslim edilmez; harita yalnızca son
+ * görünümün kümelerini alır.
+ *
+ * @version 1.0
+ */
+public class ParkClusterPipeline {
+
+    private final Callable<ParkClusterIndex> indexLoader;
+    private final Executor resultExecutor;
+    private final OnClustersListener listener;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AtomicLong generation = new AtomicLong();
+    private Future<?> pending;
+
+    // Yalnızca arka plan iş parçacığında kullanılır
+    private ParkClusterIndex index;
+
+    /**
+     * @param indexLoader Küme index'ini döndürür; arka planda çağrılır
+     * @param resultExecutor Sonuçların teslim edileceği executor (ör. ana iş parçacığı)
+     * @param listener Sonuç listener'ı
+     */
+    public ParkClusterPipeline(@NonNull Callable<ParkClusterIndex> indexLoader, @NonNull Executor resultExecutor,
+                               @NonNull OnClustersListener listener) {
+        this.indexLoader = indexLoader;
+        this.resultExecutor = resultExecutor;
+        this.listener = listener;
+    }
+
+    /**
+     * Görünümün kümelerini ister; bekleyen isteği iptal eder
+     *
+     * @param zoom Harita zoom seviyesi
+     */
+    public synchronized void request(double zoom, double minLatitude, double minLongitude,
+                                     double maxLatitude, double maxLongitude) {
+        long id = generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        if (executor.isShutdown()) {
+            return;
+        }
+        pending = executor.submit(() -> run(id, zoom, minLatitude, minLongitude, maxLatitude, maxLongitude));
+    }
+
+    /**
+     * Bekleyen isteği iptal eder ve arka plan iş parçacığını kapatır
+     */
+    public synchronized void close() {
+        generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        executor.shutdownNow();
+    }
+
+    private void run(long id, double zoom, double minLatitude, double minLongitude,
+                     double maxLatitude, double maxLongitude) {
+        if (id != generation.get()) {
+            return;
+        }
+        if (index == null) {
+            try {
+                index = indexLoader.call();
+            } catch (Exception e) {
+                // Index oluşturulamadı; sonraki istekte yeniden denenir
+                return;
+            }
+        }
+        if (id != generation.get()) {
+            return;
+        }
+        List<ParkClusterIndex.Cluster> clusters =
+                index.clusters(zoom, minLatitude, minLongitude, maxLatitude, maxLongitude);
+        if (id != generation.get()) {
+            return;
+        }
+        resultExecutor.execute(() -> {
+            // Teslim sırasında daha yeni bir istek gelmiş olabilir
+            if (id == generation.get()) {
+                listener.onClusters(clusters);
+            }
+        });
+    }
+
+    public interface OnClustersListener {
+        void onClusters(@NonNull List<ParkClusterIndex.Cluster> clusters);
+    }
+}
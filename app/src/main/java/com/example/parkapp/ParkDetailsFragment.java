@@ -5,21 +5,25 @@ import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.Button;
+import android.widget.RatingBar;
 import android.widget.TextView;
+import android.widget.Toast;
 import androidx.fragment.app.Fragment;
-import androidx.fragment.app.FragmentManager;
 import com.example.parkapp.Park;
 import com.example.parkapp.ReportIssueFragment;
 import com.example.parkapp.User;
 import com.example.parkapp.AuthManager;
 import com.example.parkapp.UserStatsManager;
+import java.util.Locale;
 
 public class ParkDetailsFragment extends Fragment {
     
+    private static final String ARG_PARK_ID = "park_id";
     private static final String ARG_PARK_NAME = "park_name";
     private static final String ARG_PARK_DESCRIPTION = "park_description";
     private static final String ARG_PARK_DEPARTMENT = "park_department";
     
+    private String parkId;
     private String parkName;
     private String parkDescription;
     private String parkDepartment;
@@ -27,6 +31,7 @@ public class ParkDetailsFragment extends Fragment {
     public static ParkDetailsFragment newInstance(Park park) {
         ParkDetailsFragment fragment = new ParkDetailsFragment();
         Bundle args = new Bundle();
+        args.putString(ARG_PARK_ID, park.getId());
         args.putString(ARG_PARK_NAME, park.getName());
         args.putString(ARG_PARK_DESCRIPTION, park.getDescription());
         args.putString(ARG_PARK_DEPARTMENT, park.getManager());
@@ -38,6 +43,7 @@ public class ParkDetailsFragment extends Fragment {
     public void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         if (getArguments() != null) {
+            parkId = getArguments().getString(ARG_PARK_ID);
             parkName = getArguments().getString(ARG_PARK_NAME);
             parkDescription = getArguments().getString(ARG_PARK_DESCRIPTION);
             parkDepartment = getArguments().getString(ARG_PARK_DEPARTMENT);
@@ -48,16 +54,20 @@ public class ParkDetailsFragment extends Fragment {
     public View onCreateView(LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
         View view = inflater.inflate(R.layout.fragment_park_details, container, false);
         
-        // Park ziyaret sayısını artır
+        // Park ziyaret sayısını artır (tamponlanır, toplu olarak yazılır)
         User currentUser = AuthManager.getInstance().getCurrentUser();
         if (currentUser != null && !currentUser.isAdmin()) {
-            UserStatsManager.getInstance().incrementParksVisited(currentUser.getUid());
+            StatsWriteBuffer.getInstance(requireContext())
+                    .increment(currentUser.getUid(), UserStatsManager.FIELD_PARKS_VISITED, 1);
         }
         
         TextView nameText = view.findViewById(R.id.park_name);
         TextView descriptionText = view.findViewById(R.id.park_description);
         TextView departmentText = view.findViewById(R.id.park_department);
         Button reportButton = view.findViewById(R.id.report_issue_button);
+        TextView ratingSummaryText = view.findViewById(R.id.rating_summary);
+        RatingBar reviewRatingBar = view.findViewById(R.id.review_rating_bar);
+        Button submitReviewButton = view.findViewById(R.id.submit_review_button);
         
         nameText.setText(parkName);
         descriptionText.setText(parkDescription);
@@ -73,16 +83,68 @@ public class ParkDetailsFragment extends Fragment {
         if (currentUser != null && currentUser.isAdmin()) {
             reportButton.setVisibility(View.GONE);
         } else {
-            reportButton.setOnClickListener(v -> {
-                ReportIssueFragment fragment = ReportIssueFragment.newInstance(parkName, parkDepartment);
-                FragmentManager fragmentManager = getParentFragmentManager();
-                fragmentManager.beginTransaction()
-                        .replace(R.id.fragment_container, fragment)
-                        .addToBackStack(null)
-                        .commit();
+            reportButton.setOnClickListener(v ->
+                    MainActivity.openScreen(this, ReportIssueFragment.newInstance(parkName, parkDepartment)));
+        }
+        
+        // Değerlendirme: özet dokümanından okunur, gönderimde artımlı güncellenir
+        Park park = findPark();
+        if (park != null) {
+            RatingSummary summary = ParkReviewManager.getInstance().getSummary(park.getId());
+            showRatingSummary(ratingSummaryText, summary != null ? summary : RatingSummary.fromCatalog(park));
+        }
+        if (park == null || currentUser == null || currentUser.isAdmin()) {
+            reviewRatingBar.setVisibility(View.GONE);
+            submitReviewButton.setVisibility(View.GONE);
+        } else {
+            submitReviewButton.setOnClickListener(v -> {
+                int stars = Math.round(reviewRatingBar.getRating());
+                if (stars < RatingSummary.MIN_STARS) {
+                    Toast.makeText(requireContext(), "Lütfen puan seçin", Toast.LENGTH_SHORT).show();
+                    return;
+                }
+                submitReviewButton.setEnabled(false);
+                ParkReviewManager.getInstance().submitReview(park, currentUser.getUid(), stars, null,
+                        new ParkReviewManager.OnReviewSubmittedListener() {
+                            @Override
+                            public void onSuccess(RatingSummary summary) {
+                                if (!isAdded()) {
+                                    return;
+                                }
+                                submitReviewButton.setEnabled(true);
+                                showRatingSummary(ratingSummaryText, summary);
+                                Toast.makeText(requireContext(), "Değerlendirmeniz kaydedildi", Toast.LENGTH_SHORT).show();
+                            }
+
+                            @Override
+                            public void onFailure(Exception e) {
+                                if (!isAdded()) {
+                                    return;
+                                }
+                                submitReviewButton.setEnabled(true);
+                                Toast.makeText(requireContext(), "Değerlendirme gönderilemedi", Toast.LENGTH_SHORT).show();
+                            }
+                        });
             });
         }
         
         return view;
     }
+    
+    private Park findPark() {
+        if (parkId == null) {
+            return null;
+        }
+        for (Park park : ParkCatalog.getInstance(requireContext()).getParks()) {
+            if (parkId.equals(park.getId())) {
+                return park;
+            }
+        }
+        return null;
+    }
+    
+    private void showRatingSummary(TextView view, RatingSummary summary) {
+        view.setText(String.format(Locale.getDefault(), "★ %.1f (%d değerlendirme)",
+                summary.getAverage(), summary.getCount()));
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,192 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ParkFacilityIndex - Olanaklara göre park filtresi
+ *
+ * Park.facilities serbest metindir ("Çocuk Oyun Alanı, Yürüyüş Yolları,
+ * ..."). Her madde katlanıp sabit olanak sözlüğündeki anahtar kelimelerle
+ * eşlenir; "Basketbol Sahası" ve "Spor Sahaları" aynı SPORTS_FIELD olanağına
+ * düşer. Her olanak için, onu sunan parkların id'leri bir CompressedBitmap'te
+ * tutulur.
+ *
+ * "Çocuk oyun alanı VE spor sahası VE şu an açık" gibi bir sorgu, seçili
+ * olanakların bitmap'lerinin en küçüğünden başlayarak kesişimiyle
+ * yanıtlanır; parkların metinleri yeniden okunmaz.
+ *
+ * Index oluşturulduktan sonra değişmez ve birden çok iş parçacığından
+ * okunabilir.
+ *
+ * @version 1.0
+ */
+public class ParkFacilityIndex {
+
+    // Olanak sözlüğü; değerler LABELS / KEYWORDS sırasıdır
+    public static final int PLAYGROUND = 0;
+    public static final int WALKING_PATH = 1;
+    public static final int PICNIC_AREA = 2;
+    public static final int SPORTS_FIELD = 3;
+    public static final int SPORTS_EQUIPMENT = 4;
+    public static final int REST_AREA = 5;
+    public static final int CAFE = 6;
+    public static final int VIEWPOINT = 7;
+    public static final int MONUMENT = 8;
+    public static final int GREEN_AREA = 9;
+    public static final int FACILITY_COUNT = 10;
+
+    private static final String[] LABELS = {
+            "Çocuk Oyun Alanı",
+            "Yürüyüş Yolu",
+            "Piknik Alanı",
+            "Spor Sahası",
+            "Spor Ekipmanları",
+            "Dinlenme Alanı",
+            "Kafe",
+            "Seyir Noktası",
+            "Anıt",
+            "Yeşil Alan"
+    };
+
+    // Katlanmış metinde aranan anahtar kelimeler
+    private static final String[][] KEYWORDS = {
+            {"oyun alan", "cocuk park"},
+            {"yuruyus", "kosu yol"},
+            {"piknik", "mangal"},
+            {"spor saha", "basketbol", "tenis", "futbol", "voleybol", "hali saha"},
+            {"spor ekipman", "fitness", "spor alet"},
+            {"dinlenme", "bank"},
+            {"kafe", "cafe", "cay bahce"},
+            {"seyir", "manzara", "gozlem"},
+            {"anit", "heykel"},
+            {"yesil alan", "agac", "dogal"}
+    };
+
+    private final List<Park> parks;
+    private final CompressedBitmap[] bitmaps = new CompressedBitmap[FACILITY_COUNT];
+    private final CompressedBitmap all;
+
+    /**
+     * Verilen parklar için index'i oluşturur. Id'ler parkların bu listedeki
+     * sırasıdır.
+     *
+     * @param parks Parklar
+     */
+    public ParkFacilityIndex(@NonNull List<Park> parks) {
+        this.parks = Collections.unmodifiableList(new ArrayList<>(parks));
+        int[][] ids = new int[FACILITY_COUNT][parks.size()];
+        int[] counts = new int[FACILITY_COUNT];
+        int[] allIds = new int[parks.size()];
+        for (int id = 0; id < parks.size(); id++) {
+            allIds[id] = id;
+            int mask = parse(parks.get(id).getFacilities());
+            for (int facility = 0; facility < FACILITY_COUNT; facility++) {
+                if ((mask & (1 << facility)) != 0) {
+                    ids[facility][counts[facility]++] = id;
+                }
+            }
+        }
+        for (int facility = 0; facility < FACILITY_COUNT; facility++) {
+            bitmaps[facility] = CompressedBitmap.of(ids[facility], counts[facility]);
+        }
+        all = CompressedBitmap.of(allIds);
+    }
+
+    /**
+     * Olanaklar metnini sözlükteki olanakların bit maskesine çevirir
+     *
+     * @param facilities Olanaklar (virgülle ayrılmış)
+     * @return Bit maskesi (1 << olanak); tanınmayan maddeler yok sayılır
+     */
+    public static int parse(@Nullable String facilities) {
+        if (facilities == null) {
+            return 0;
+        }
+        int mask = 0;
+        for (String item : facilities.split(",")) {
+            List<String> tokens = ParkSearchIndex.tokenize(item);
+            if (tokens.isEmpty()) {
+                continue;
+            }
+            // Anahtar kelime bir kelimenin başından eşleşmeli ("anit" -> "Şehit Anıtı", "tanıtım" değil)
+            String folded = " " + String.join(" ", tokens);
+            for (int facility = 0; facility < FACILITY_COUNT; facility++) {
+                for (String keyword : KEYWORDS[facility]) {
+                    if (folded.contains(" " + keyword)) {
+                        mask |= 1 << facility;
+                        break;
+                    }
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Maskedeki olanakların tümüne sahip parklar
+     *
+     * @param facilityMask Olanak maskesi; 0 ise tüm parklar
+     * @return Park id'leri
+     */
+    @NonNull
+    CompressedBitmap matching(int facilityMask) {
+        return matching(facilityMask, null);
+    }
+
+    /**
+     * Maskedeki olanakların tümüne sahip ve (verilmişse) ek kümede bulunan
+     * parklar. Olanak kesişimi en küçük bitmap'ten başlar; ek küme en son,
+     * yalnızca kalan adaylar için kontrol edilir.
+     *
+     * @param facilityMask Olanak maskesi
+     * @param restrict Ek küme (ör. ParkOpenIndex'ten şu an açık parklar) veya null
+     * @return Park id'leri
+     */
+    @NonNull
+    CompressedBitmap matching(int facilityMask, @Nullable BitSet restrict) {
+        List<CompressedBitmap> sets = new ArrayList<>();
+        for (int facility = 0; facility < FACILITY_COUNT; facility++) {
+            if ((facilityMask & (1 << facility)) != 0) {
+                sets.add(bitmaps[facility]);
+            }
+        }
+        CompressedBitmap result = all;
+        if (!sets.isEmpty()) {
+            sets.sort((a, b) -> Integer.compare(a.cardinality(), b.cardinality()));
+            result = sets.get(0);
+            for (int i = 1; i < sets.size() && !result.isEmpty(); i++) {
+                result = result.and(sets.get(i));
+            }
+        }
+        return restrict != null ? result.and(restrict) : result;
+    }
+
+    /**
+     * Olanağı sunan park sayısı
+     */
+    public int count(int facility) {
+        return bitmaps[facility].cardinality();
+    }
+
+    /**
+     * Olanağın ekranda gösterilen adı
+     */
+    @NonNull
+    public static String getLabel(int facility) {
+        return LABELS[facility];
+    }
+
+    @NonNull
+    public List<Park> getParks() {
+        return parks;
+    }
+
+    public int size() {
+        return parks.size();
+    }
+}
@@ -1,31 +1,62 @@
 package com.example.parkapp;
 
+import android.location.Location;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.Editable;
 import android.text.TextWatcher;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.EditText;
+import android.widget.PopupMenu;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.activity.result.ActivityResultLauncher;
+import androidx.activity.result.contract.ActivityResultContracts;
 import androidx.fragment.app.Fragment;
-import androidx.fragment.app.FragmentManager;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
-import java.util.ArrayList;
+import com.google.android.material.chip.Chip;
+import com.google.android.material.chip.ChipGroup;
+import com.google.firebase.firestore.ListenerRegistration;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
 
 public class ParkListFragment extends Fragment {
     private RecyclerView recyclerView;
     private ParkAdapter parkAdapter;
     private List<Park> allParks;
-    private List<Park> filteredParks;
+    private ParkSearchPipeline searchPipeline;
     private EditText searchEditText;
+    private ParkCatalog catalog;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    // Açık/kapalı göstergeleri yalnızca bir park açılıp kapandığında yenilenir
+    private final Runnable openStatusRefresh = this::refreshOpenStatus;
+    private ParkOpenIndex.Status openStatus;
+    // Park başına bir özet dokümanı; değerlendirme koleksiyonu okunmaz
+    private ListenerRegistration ratingRegistration;
+    
+    // Seçili olanak çipleri (ParkFacilityIndex maskesi) ve "Şu an açık" çipi
+    private int facilityMask;
+    private boolean openNowOnly;
+    
+    // Sıralama menüsü; ParkSortOrders.ORDER_* dışındaki seçenekler
+    private static final int MENU_DISTANCE = 100;
+    private static final int MENU_TOP_RATED = 101;
+    private static final int TOP_RATED_LIMIT = 10;
+    
+    // İzin verilirse liste kullanıcıya yakından uzağa sıralanır
+    private final ActivityResultLauncher<String[]> locationPermissionLauncher = registerForActivityResult(
+            new ActivityResultContracts.RequestMultiplePermissions(), this::onLocationPermissionResult);
 
     @Nullable
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container, @Nullable Bundle savedInstanceState) {
+        StartupTrace.begin(StartupTrace.SPAN_PARK_LIST_FIRST_FRAME);
         View view = inflater.inflate(R.layout.fragment_park_list, container, false);
         
         recyclerView = view.findViewById(R.id.recyclerViewParks);
@@ -33,14 +64,47 @@ public class ParkListFragment extends Fragment {
         
         recyclerView.setLayoutManager(new LinearLayoutManager(getContext()));
         
-        allParks = Park.getAllMalatyaParks();
-        filteredParks = new ArrayList<>(allParks);
-        
-        parkAdapter = new ParkAdapter(filteredParks, park -> {
+        catalog = ParkCatalog.getInstance(requireContext());
+        allParks = catalog.getParks();
+        parkAdapter = new ParkAdapter(allParks, park -> {
             showParkDetails(park);
         });
         
         recyclerView.setAdapter(parkAdapter);
+        // Katalog puanlarıyla ilk kare çizilir; Firestore dinlemesi ondan sonra başlar
+        StartupTrace.onFirstFrame(recyclerView, () -> {
+            StartupTrace.end(StartupTrace.SPAN_PARK_LIST_FIRST_FRAME);
+            // View bu arada yok edildiyse dinleme başlatılmaz
+            if (getView() == view && ratingRegistration == null) {
+                ratingRegistration = ParkReviewManager.getInstance().listenToSummaries(summaries -> {
+                    if (parkAdapter != null) {
+                        parkAdapter.setRatingSummaries(summaries);
+                    }
+                    // Puan sıraları satırlarda gösterilen değerlerle yeniden hesaplanır
+                    if (searchPipeline != null) {
+                        searchPipeline.setRatingSummaries(summaries);
+                    }
+                });
+            }
+        });
+        
+        // Arama arka planda, yazma durunca çalışır; yalnızca son sorgunun sonucu gösterilir.
+        // Index'ler ana iş parçacığında değil, pipeline'ın iş parçacığında oluşturulur
+        searchPipeline = new ParkSearchPipeline(catalog::getSearchIndex, catalog::getTrigramIndex,
+                mainHandler::post, (query, parks) -> showResults(parks));
+        
+        if (LocationHelper.hasPermission(requireContext())) {
+            sortByDistance();
+        } else if (savedInstanceState == null) {
+            locationPermissionLauncher.launch(LocationHelper.PERMISSIONS);
+        }
+        
+        view.findViewById(R.id.sortButton).setOnClickListener(this::showSortMenu);
+        
+        // Parkları haritada kümelenmiş olarak göster
+        view.findViewById(R.id.mapButton).setOnClickListener(v -> MainActivity.openScreen(this, new ParkMapFragment()));
+        
+        setupFacilityChips(view.findViewById(R.id.facilityChips));
         
         // Arama özelliği
         searchEditText.addTextChangedListener(new TextWatcher() {
@@ -49,7 +113,7 @@ public class ParkListFragment extends Fragment {
 
             @Override
             public void onTextChanged(CharSequence s, int start, int before, int count) {
-                filterParks(s.toString());
+                searchPipeline.submit(s.toString());
             }
 
             @Override
@@ -59,31 +123,146 @@ public class ParkListFragment extends Fragment {
         return view;
     }
 
-    private void filterParks(String query) {
-        filteredParks.clear();
-        
-        if (query.isEmpty()) {
-            filteredParks.addAll(allParks);
-        } else {
-            String lowerCaseQuery = query.toLowerCase();
-            for (Park park : allParks) {
-                if (park.getName().toLowerCase().contains(lowerCaseQuery) ||
-                    park.getAddress().toLowerCase().contains(lowerCaseQuery) ||
-                    park.getDescription().toLowerCase().contains(lowerCaseQuery)) {
-                    filteredParks.add(park);
+    @Override
+    public void onResume() {
+        super.onResume();
+        refreshOpenStatus();
+    }
+
+    @Override
+    public void onPause() {
+        super.onPause();
+        mainHandler.removeCallbacks(openStatusRefresh);
+    }
+
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        if (ratingRegistration != null) {
+            ratingRegistration.remove();
+            ratingRegistration = null;
+        }
+        if (searchPipeline != null) {
+            searchPipeline.close();
+            searchPipeline = null;
+        }
+    }
+
+    private void onLocationPermissionResult(Map<String, Boolean> result) {
+        if (result.containsValue(Boolean.TRUE) && searchPipeline != null) {
+            sortByDistance();
+        }
+    }
+    
+    private void sortByDistance() {
+        Location location = LocationHelper.getLastKnownLocation(requireContext());
+        if (location != null) {
+            searchPipeline.sortByDistance(catalog::getSpatialIndex, location.getLatitude(), location.getLongitude());
+        }
+    }
+    
+    private void showSortMenu(View anchor) {
+        PopupMenu menu = new PopupMenu(requireContext(), anchor);
+        menu.getMenu().add(0, ParkSortOrders.ORDER_CATALOG, 0, "Varsayılan sıra");
+        if (LocationHelper.hasPermission(requireContext())) {
+            menu.getMenu().add(0, MENU_DISTANCE, 1, "Bana en yakın");
+        }
+        menu.getMenu().add(0, ParkSortOrders.ORDER_RATING, 2, "En yüksek puan");
+        menu.getMenu().add(0, ParkSortOrders.ORDER_REVIEWS, 3, "En çok değerlendirilen");
+        menu.getMenu().add(0, ParkSortOrders.ORDER_NAME, 4, "A–Z");
+        menu.getMenu().add(0, MENU_TOP_RATED, 5, "En iyi " + TOP_RATED_LIMIT + " park");
+        menu.setOnMenuItemClickListener(item -> {
+            if (searchPipeline == null) {
+                return false;
+            }
+            int id = item.getItemId();
+            if (id == MENU_DISTANCE) {
+                sortByDistance();
+            } else if (id == MENU_TOP_RATED) {
+                searchPipeline.sortBy(catalog::getSortOrders, ParkSortOrders.ORDER_RATING, TOP_RATED_LIMIT);
+            } else {
+                searchPipeline.sortBy(catalog::getSortOrders, id, 0);
+            }
+            return true;
+        });
+        menu.show();
+    }
+    
+    private void refreshOpenStatus() {
+        mainHandler.removeCallbacks(openStatusRefresh);
+        if (searchPipeline == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        TimeZone timeZone = TimeZone.getDefault();
+        // Açılış index'i ilk seferde arka planda oluşturulur
+        searchPipeline.load(() -> catalog.getOpenIndex().statusAt(now, timeZone), status -> {
+            openStatus = status;
+            parkAdapter.setOpenStatus(status);
+            if (openNowOnly) {
+                applyFilters();
+            }
+            // Bu arada sekme gizlendiyse yenileme onResume'a kalır
+            if (isResumed() && status.getValidUntilMillis() != Long.MAX_VALUE) {
+                mainHandler.removeCallbacks(openStatusRefresh);
+                mainHandler.postDelayed(openStatusRefresh, status.getValidUntilMillis() - System.currentTimeMillis());
+            }
+        });
+    }
+    
+    private void setupFacilityChips(ChipGroup chipGroup) {
+        Chip openNowChip = createFilterChip(chipGroup, "Şu an açık");
+        openNowChip.setOnCheckedChangeListener((chip, checked) -> {
+            openNowOnly = checked;
+            applyFilters();
+        });
+        // Olanak çipleri, olanak index'i arka planda oluşturulunca eklenir
+        searchPipeline.load(catalog::getFacilityIndex, facilityIndex -> {
+            for (int facility = 0; facility < ParkFacilityIndex.FACILITY_COUNT; facility++) {
+                if (facilityIndex.count(facility) == 0) {
+                    continue;
                 }
+                int bit = 1 << facility;
+                Chip chip = createFilterChip(chipGroup, ParkFacilityIndex.getLabel(facility));
+                chip.setOnCheckedChangeListener((view, checked) -> {
+                    facilityMask = checked ? facilityMask | bit : facilityMask & ~bit;
+                    applyFilters();
+                });
             }
+        });
+    }
+    
+    private Chip createFilterChip(ChipGroup chipGroup, String text) {
+        Chip chip = new Chip(requireContext());
+        chip.setText(text);
+        chip.setCheckable(true);
+        chipGroup.addView(chip);
+        return chip;
+    }
+    
+    // Seçili olanakların ve "şu an açık" kümesinin kesişimi arama sonuçlarına uygulanır
+    private void applyFilters() {
+        if (searchPipeline == null) {
+            return;
         }
-        
-        parkAdapter.notifyDataSetChanged();
+        if (facilityMask == 0 && !openNowOnly) {
+            searchPipeline.setFilter(null);
+            return;
+        }
+        BitSet openNow = openNowOnly && openStatus != null ? openStatus.openIds() : null;
+        int mask = facilityMask;
+        searchPipeline.setFilter(() -> catalog.getFacilityIndex().matching(mask, openNow));
+    }
+    
+    private void showResults(List<Park> parks) {
+        if (searchPipeline == null) {
+            return;
+        }
+        parkAdapter.updateParks(parks);
     }
 
     private void showParkDetails(Park park) {
-        ParkDetailsFragment fragment = ParkDetailsFragment.newInstance(park);
-        FragmentManager fragmentManager = getParentFragmentManager();
-        fragmentManager.beginTransaction()
-                .replace(R.id.fragment_container, fragment)
-                .addToBackStack(null)
-                .commit();
+        // Liste gizlenir, değiştirilmez; geri dönüldüğünde puan dinlemesi yeniden bağlanmaz
+        MainActivity.openScreen(this, ParkDetailsFragment.newInstance(park));
     }
 } 
\ No newline at end of file
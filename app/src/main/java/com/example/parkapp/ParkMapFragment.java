@@ -0,0 +1,160 @@
+package com.example.parkapp;
+
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.Fragment;
+import com.google.android.gms.maps.CameraUpdateFactory;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.SupportMapFragment;
+import com.google.android.gms.maps.model.BitmapDescriptorFactory;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.MarkerOptions;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ParkMapFragment - Parkları haritada kümelenmiş işaretçilerle gösterir
+ *
+ * Kümeler ParkClusterPipeline ile arka planda, yalnızca görünür alan için
+ * hesaplanır. Kamera her durduğunda yeni görünüm istenir; gelen sonuç
+ * mevcut işaretçilerle küme id'sine göre karşılaştırılır ve yalnızca
+ * görünümden çıkan işaretçiler silinip yeni girenler eklenir.
+ *
+ * @version 1.0
+ */
+public class ParkMapFragment extends Fragment {
+
+    // Malatya merkezi
+    private static final LatLng DEFAULT_CENTER = new LatLng(38.3552, 38.3095);
+    private static final float DEFAULT_ZOOM = 12f;
+    private static final float CLUSTER_ZOOM_STEP = 2f;
+
+    private GoogleMap map;
+    private ParkClusterPipeline clusterPipeline;
+    // Küme id'si -> haritadaki işaretçi
+    private final Map<Long, Marker> markers = new HashMap<>();
+
+    @Nullable
+    @Override
+    public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
+                             @Nullable Bundle savedInstanceState) {
+        View view = inflater.inflate(R.layout.fragment_map, container, false);
+
+        ParkCatalog catalog = ParkCatalog.getInstance(requireContext());
+        Handler mainHandler = new Handler(Looper.getMainLooper());
+        clusterPipeline = new ParkClusterPipeline(catalog::getClusterIndex, mainHandler::post, this::showClusters);
+
+        SupportMapFragment mapFragment = (SupportMapFragment) getChildFragmentManager().findFragmentById(R.id.map);
+        if (mapFragment != null) {
+            mapFragment.getMapAsync(this::onMapReady);
+        }
+        return view;
+    }
+
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        if (clusterPipeline != null) {
+            clusterPipeline.close();
+            clusterPipeline = null;
+        }
+        markers.clear();
+        map = null;
+    }
+
+    private void onMapReady(GoogleMap googleMap) {
+        if (clusterPipeline == null) {
+            return;
+        }
+        map = googleMap;
+        map.moveCamera(CameraUpdateFactory.newLatLngZoom(DEFAULT_CENTER, DEFAULT_ZOOM));
+        map.setOnCameraIdleListener(this::requestClusters);
+        map.setOnMarkerClickListener(this::onMarkerClick);
+        map.setOnInfoWindowClickListener(marker -> {
+            Object tag = marker.getTag();
+            if (tag instanceof ParkClusterIndex.Cluster && ((ParkClusterIndex.Cluster) tag).park != null) {
+                showParkDetails(((ParkClusterIndex.Cluster) tag).park);
+            }
+        });
+        requestClusters();
+    }
+
+    private void requestClusters() {
+        if (map == null || clusterPipeline == null) {
+            return;
+        }
+        LatLngBounds bounds = map.getProjection().getVisibleRegion().latLngBounds;
+        clusterPipeline.request(map.getCameraPosition().zoom, bounds.southwest.latitude,
+                bounds.southwest.longitude, bounds.northeast.latitude, bounds.northeast.longitude);
+    }
+
+    /**
+     * Görünümden çıkan işaretçileri siler, yeni kümeleri ekler
+     */
+    private void showClusters(List<ParkClusterIndex.Cluster> clusters) {
+        if (map == null) {
+            return;
+        }
+        Set<Long> visible = new HashSet<>();
+        for (ParkClusterIndex.Cluster cluster : clusters) {
+            visible.add(cluster.id);
+        }
+        Iterator<Map.Entry<Long, Marker>> iterator = markers.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Marker> entry = iterator.next();
+            if (!visible.contains(entry.getKey())) {
+                entry.getValue().remove();
+                iterator.remove();
+            }
+        }
+        for (ParkClusterIndex.Cluster cluster : clusters) {
+            if (markers.containsKey(cluster.id)) {
+                continue;
+            }
+            Marker marker = map.addMarker(createMarkerOptions(cluster));
+            if (marker != null) {
+                marker.setTag(cluster);
+                markers.put(cluster.id, marker);
+            }
+        }
+    }
+
+    private MarkerOptions createMarkerOptions(ParkClusterIndex.Cluster cluster) {
+        MarkerOptions options = new MarkerOptions().position(new LatLng(cluster.latitude, cluster.longitude));
+        if (cluster.park != null) {
+            return options.title(cluster.park.getName())
+                    .snippet(cluster.park.getAddress())
+                    .icon(BitmapDescriptorFactory.defaultMarker(BitmapDescriptorFactory.HUE_GREEN));
+        }
+        return options.title(cluster.count + " park")
+                .icon(BitmapDescriptorFactory.defaultMarker(BitmapDescriptorFactory.HUE_AZURE));
+    }
+
+    private boolean onMarkerClick(Marker marker) {
+        Object tag = marker.getTag();
+        if (tag instanceof ParkClusterIndex.Cluster && ((ParkClusterIndex.Cluster) tag).park == null) {
+            // Kümeye tıklanınca yakınlaş; kümeler dağılır
+            map.animateCamera(CameraUpdateFactory.newLatLngZoom(marker.getPosition(),
+                    map.getCameraPosition().zoom + CLUSTER_ZOOM_STEP));
+            return true;
+        }
+        // Tek park: varsayılan davranış (bilgi penceresi)
+        return false;
+    }
+
+    private void showParkDetails(Park park) {
+        MainActivity.openScreen(this, ParkDetailsFragment.newInstance(park));
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * ParkOpenIndex - "Şu an / T anında hangi parklar açık?" index'i
+ *
+ * Her parkın açılış saatleri OpeningHours ile haftalık aralıklara çevrilir.
+ * Hafta BUCKET_MINUTES uzunluğunda dilimlere bölünür ve her dilim için
+ *
+ *  - dilimin tamamında açık olan parklar (BitSet) ve
+ *  - dilim içinde açılan ya da kapanan parklar (genellikle çok az)
+ *
+ * tutulur. Sorguda dilimin BitSet'i kopyalanır ve yalnızca o dilimde durumu
+ * değişen parkların programı tek tek kontrol edilir; tüm programlar
+ * değerlendirilmez.
+ *
+ * Tüm parkların sınır dakikaları (açılış/kapanış) tek bir sıralı dizide
+ * tutulur; statusAt bir sonraki sınıra kadar geçerli bir Status döndürür,
+ * böylece liste yalnızca bir park gerçekten açılıp kapandığında yeniden
+ * değerlendirilir.
+ *
+ * Park.isOpen() false ise park saatlerinden bağımsız olarak kapalı sayılır
+ * (ör. bakım). Açılış saatleri anlaşılamayan parklarda yalnızca bu bayrak
+ * kullanılır.
+ *
+ * Index oluşturulduktan sonra değişmez ve birden çok iş parçacığından
+ * okunabilir.
+ *
+ * @version 1.0
+ */
+public class ParkOpenIndex {
+
+    // Constants
+    static final int BUCKET_MINUTES = 60;
+    static final int BUCKET_COUNT = OpeningHours.WEEK_MINUTES / BUCKET_MINUTES;
+    private static final long MINUTE_MILLIS = 60_000L;
+
+    private final List<Park> parks;
+    private final Map<String, Integer> idByParkId = new HashMap<>();
+    private final OpeningHours[] schedules;
+    private final BitSet[] openThroughout = new BitSet[BUCKET_COUNT];
+    private final int[][] changing = new int[BUCKET_COUNT][];
+    // Tüm parkların tekrarsız, sıralı sınır dakikaları
+    private final int[] boundaries;
+
+    /**
+     * Verilen parklar için index'i oluşturur. Id'ler parkların bu listedeki
+     * sırasıdır.
+     *
+     * @param parks Parklar
+     */
+    public ParkOpenIndex(@NonNull List<Park> parks) {
+        this.parks = Collections.unmodifiableList(new ArrayList<>(parks));
+        schedules = new OpeningHours[parks.size()];
+
+        BitSet allBoundaries = new BitSet(OpeningHours.WEEK_MINUTES);
+        for (int id = 0; id < parks.size(); id++) {
+            Park park = parks.get(id);
+            idByParkId.put(park.getId(), id);
+            OpeningHours schedule = park.isOpen() ? OpeningHours.parse(park.getOpeningHours()) : null;
+            if (schedule == null) {
+                schedule = park.isOpen() ? OpeningHours.ALWAYS_OPEN : OpeningHours.ALWAYS_CLOSED;
+            }
+            schedules[id] = schedule;
+            for (int minute : schedule.boundaries()) {
+                allBoundaries.set(minute);
+            }
+        }
+        boundaries = allBoundaries.stream().toArray();
+
+        int[] buffer = new int[parks.size()];
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            int from = bucket * BUCKET_MINUTES;
+            int to = from + BUCKET_MINUTES;
+            BitSet open = new BitSet(parks.size());
+            int count = 0;
+            for (int id = 0; id < schedules.length; id++) {
+                if (schedules[id].isOpenThroughout(from, to)) {
+                    open.set(id);
+                } else if (!schedules[id].isClosedThroughout(from, to)) {
+                    buffer[count++] = id;
+                }
+            }
+            openThroughout[bucket] = open;
+            changing[bucket] = Arrays.copyOf(buffer, count);
+        }
+    }
+
+    /**
+     * Haftanın dakikasında açık olan parkların id'leri
+     *
+     * @param minuteOfWeek 0 (Pazartesi 00:00) .. WEEK_MINUTES - 1
+     * @return Açık park id'leri (çağıran değiştirebilir)
+     */
+    @NonNull
+    public BitSet openIds(int minuteOfWeek) {
+        int minute = Math.floorMod(minuteOfWeek, OpeningHours.WEEK_MINUTES);
+        int bucket = minute / BUCKET_MINUTES;
+        BitSet result = (BitSet) openThroughout[bucket].clone();
+        for (int id : changing[bucket]) {
+            if (schedules[id].isOpenAt(minute)) {
+                result.set(id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Verilen dakikadan sonra herhangi bir parkın açıldığı ya da kapandığı
+     * ilk dakikaya kadar geçen süre
+     *
+     * @param minuteOfWeek Haftanın dakikası
+     * @return Dakika (1 .. WEEK_MINUTES) veya hiçbir park durum değiştirmiyorsa -1
+     */
+    public int minutesUntilNextChange(int minuteOfWeek) {
+        if (boundaries.length == 0) {
+            return -1;
+        }
+        int minute = Math.floorMod(minuteOfWeek, OpeningHours.WEEK_MINUTES);
+        int position = Arrays.binarySearch(boundaries, minute + 1);
+        int index = position >= 0 ? position : -position - 1;
+        int next = index < boundaries.length ? boundaries[index] : boundaries[0] + OpeningHours.WEEK_MINUTES;
+        return next - minute;
+    }
+
+    /**
+     * Verilen zamandaki açık/kapalı durumunu ve bu durumun ne zamana kadar
+     * geçerli olduğunu döndürür
+     *
+     * @param timeMillis Zaman (epoch milisaniye)
+     * @param timeZone Açılış saatlerinin yorumlandığı saat dilimi
+     * @return Status
+     */
+    @NonNull
+    public Status statusAt(long timeMillis, @NonNull TimeZone timeZone) {
+        Calendar calendar = Calendar.getInstance(timeZone);
+        calendar.setTimeInMillis(timeMillis);
+        int minuteOfWeek = OpeningHours.minuteOfWeek(calendar);
+        int minutes = minutesUntilNextChange(minuteOfWeek);
+        long validUntil = Long.MAX_VALUE;
+        if (minutes > 0) {
+            // Dakikanın başına hizala; sınır dakikasının ilk anında geçersiz olur
+            long minuteStart = timeMillis - calendar.get(Calendar.SECOND) * 1000L - calendar.get(Calendar.MILLISECOND);
+            validUntil = minuteStart + minutes * MINUTE_MILLIS;
+        }
+        return new Status(this, openIds(minuteOfWeek), validUntil);
+    }
+
+    @NonNull
+    public List<Park> getParks() {
+        return parks;
+    }
+
+    public int size() {
+        return parks.size();
+    }
+
+    /**
+     * Belirli bir andaki açık/kapalı durumu. validUntilMillis'e kadar değişmez.
+     */
+    public static final class Status {
+        private final ParkOpenIndex index;
+        private final BitSet open;
+        private final long validUntilMillis;
+
+        Status(ParkOpenIndex index, BitSet open, long validUntilMillis) {
+            this.index = index;
+            this.open = open;
+            this.validUntilMillis = validUntilMillis;
+        }
+
+        /**
+         * Park açık mı? Index'te olmayan parklarda Park.isOpen() kullanılır.
+         *
+         * @param park Park
+         * @return Açıksa true
+         */
+        public boolean isOpen(@NonNull Park park) {
+            Integer id = index.idByParkId.get(park.getId());
+            return id != null ? open.get(id) : park.isOpen();
+        }
+
+        /**
+         * Açık parkların id'leri (çağıran değiştirebilir)
+         */
+        @NonNull
+        BitSet openIds() {
+            return (BitSet) open.clone();
+        }
+
+        /**
+         * Bu durumun geçerli olduğu son an (hariç); hiç değişmeyecekse Long.MAX_VALUE
+         */
+        public long getValidUntilMillis() {
+            return validUntilMillis;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.firebase.firestore.DocumentChange;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.ListenerRegistration;
+import com.google.firebase.firestore.Transaction;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ParkReviewManager - Park değerlendirmeleri ve puan özetleri
+ *
+ * Her kullanıcının bir parka tek değerlendirmesi vardır
+ * (park_reviews/{parkId}_{userId}). Değerlendirme gönderildiğinde tek bir
+ * transaction içinde parkın özet dokümanı (park_ratings/{parkId}) okunur,
+ * kullanıcının varsa eski puanı histogramdan düşülüp yeni puan eklenir ve
+ * değerlendirme ile özet birlikte yazılır. Değerlendirme geçmişi hiçbir
+ * zaman taranmaz; eşzamanlı gönderimler transaction ile sıraya girer.
+ *
+ * Liste ekranı yalnızca park_ratings koleksiyonunu dinler: park başına bir
+ * küçük doküman. İlk snapshot'tan sonra yalnızca değişen özetler gelir.
+ *
+ * @version 1.0
+ */
+public class ParkReviewManager {
+
+    // Constants
+    private static final String REVIEWS_COLLECTION = "park_reviews";
+    private static final String RATINGS_COLLECTION = "park_ratings";
+    private static final String FIELD_PARK_ID = "parkId";
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_STARS = "stars";
+    private static final String FIELD_COMMENT = "comment";
+    private static final String FIELD_DATE = "date";
+
+    // Singleton instance
+    private static volatile ParkReviewManager instance;
+
+    // Park id -> son bilinen özet; "this" ile korunur
+    private final Map<String, RatingSummary> summaries = new HashMap<>();
+
+    private ParkReviewManager() {
+    }
+
+    /**
+     * Singleton instance'ını döndürür
+     *
+     * @return ParkReviewManager instance
+     */
+    public static ParkReviewManager getInstance() {
+        if (instance == null) {
+            synchronized (ParkReviewManager.class) {
+                if (instance == null) {
+                    instance = new ParkReviewManager();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Firestore istemcisi ilk kullanımda oluşturulur; özet okumak
+     * (getSummary) istemciyi kurmaz
+     */
+    private static FirebaseFirestore db() {
+        return FirebaseFirestore.getInstance();
+    }
+
+    /**
+     * Kullanıcının park değerlendirmesini kaydeder ve parkın özetini
+     * artımlı olarak günceller. Kullanıcı parkı daha önce değerlendirdiyse
+     * eski puanın yerini alır.
+     *
+     * @param park Park
+     * @param userId Kullanıcı ID'si
+     * @param stars 1-5 yıldız
+     * @param comment Yorum (isteğe bağlı)
+     * @param listener Sonuç listener'ı
+     */
+    public void submitReview(@NonNull Park park, @NonNull String userId, int stars, @Nullable String comment,
+                             @Nullable OnReviewSubmittedListener listener) {
+        if (stars < RatingSummary.MIN_STARS || stars > RatingSummary.MAX_STARS) {
+            if (listener != null) {
+                listener.onFailure(new IllegalArgumentException("Geçersiz puan: " + stars));
+            }
+            return;
+        }
+        DocumentReference summaryReference = db().collection(RATINGS_COLLECTION).document(park.getId());
+        DocumentReference reviewReference = db().collection(REVIEWS_COLLECTION).document(park.getId() + "_" + userId);
+
+        Map<String, Object> review = new HashMap<>();
+        review.put(FIELD_PARK_ID, park.getId());
+        review.put(FIELD_USER_ID, userId);
+        review.put(FIELD_STARS, stars);
+        review.put(FIELD_COMMENT, comment != null ? comment : "");
+        review.put(FIELD_DATE, new Date());
+
+        db().runTransaction((Transaction.Function<RatingSummary>) transaction -> {
+            // Transaction'da tüm okumalar yazmalardan önce yapılmalı
+            DocumentSnapshot summaryDocument = transaction.get(summaryReference);
+            DocumentSnapshot reviewDocument = transaction.get(reviewReference);
+
+            RatingSummary summary = summaryDocument.exists()
+                    ? RatingSummary.fromMap(park.getId(), summaryDocument.getData()) : null;
+            if (summary == null) {
+                summary = RatingSummary.fromCatalog(park);
+            }
+            Long previous = reviewDocument.exists() ? reviewDocument.getLong(FIELD_STARS) : null;
+            if (previous != null && previous >= RatingSummary.MIN_STARS && previous <= RatingSummary.MAX_STARS) {
+                summary = summary.without(previous.intValue());
+            }
+            summary = summary.with(stars);
+
+            transaction.set(reviewReference, review);
+            transaction.set(summaryReference, summary.toMap());
+            return summary;
+        })
+            .addOnSuccessListener(summary -> {
+                synchronized (this) {
+                    summaries.put(summary.getParkId(), summary);
+                }
+                if (listener != null) {
+                    listener.onSuccess(summary);
+                }
+            })
+            .addOnFailureListener(e -> {
+                if (listener != null) {
+                    listener.onFailure(e);
+                }
+            });
+    }
+
+    /**
+     * Tüm parkların özet dokümanlarını canlı dinler. Her değişiklikte
+     * listener'a güncel özetlerin değişmez bir kopyası verilir.
+     *
+     * @param listener Özet listener'ı
+     * @return Dinlemeyi durdurmak için registration
+     */
+    @NonNull
+    public ListenerRegistration listenToSummaries(@NonNull OnSummariesChangedListener listener) {
+        return db().collection(RATINGS_COLLECTION).addSnapshotListener((snapshots, e) -> {
+            if (e != null || snapshots == null) {
+                return;
+            }
+            Map<String, RatingSummary> published;
+            synchronized (this) {
+                for (DocumentChange change : snapshots.getDocumentChanges()) {
+                    String parkId = change.getDocument().getId();
+                    if (change.getType() == DocumentChange.Type.REMOVED) {
+                        summaries.remove(parkId);
+                        continue;
+                    }
+                    RatingSummary summary = RatingSummary.fromMap(parkId, change.getDocument().getData());
+                    if (summary != null) {
+                        summaries.put(parkId, summary);
+                    }
+                }
+                published = Collections.unmodifiableMap(new HashMap<>(summaries));
+            }
+            listener.onSummariesChanged(published);
+        });
+    }
+
+    /**
+     * Parkın son bilinen özeti
+     *
+     * @param parkId Park id'si
+     * @return Özet veya henüz okunmadıysa null
+     */
+    @Nullable
+    public synchronized RatingSummary getSummary(@NonNull String parkId) {
+        return summaries.get(parkId);
+    }
+
+    // Listener interfaces
+    public interface OnReviewSubmittedListener {
+        void onSuccess(@NonNull RatingSummary summary);
+        void onFailure(@NonNull Exception e);
+    }
+
+    public interface OnSummariesChangedListener {
+        void onSummariesChanged(@NonNull Map<String, RatingSummary> summaries);
+    }
+}
@@ -0,0 +1,363 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ParkSearchIndex - Park adı ve adresi için önek arama index'i
+ *
+ * Metinler Türkçe kurallarıyla küçük harfe çevrilir (İ -> i, I -> ı) ve
+ * ardından aksanlardan arındırılır (ı -> i, ş -> s, ğ -> g, ü -> u, ö -> o,
+ * ç -> c, â -> a ...). Böylece "İnönü", "inönü", "INONU" ve "inonu" aynı
+ * anahtara düşer. Ad ve adres harf/rakam olmayan karakterlerden kelimelere
+ * bölünür ve her kelime bir trie'ye eklenir.
+ *
+ * Trie'nin her düğümü, o öneki taşıyan bir kelimesi olan parkların sıralı
+ * listesini (posting list) tutar. Sorgudaki her kelime trie'de yürünerek
+ * kendi listesine ulaşır (O(kelime uzunluğu)); listeler en kısadan başlanarak
+ * kesiştirilir. Maliyet katalog boyutuna değil, eşleşme sayısına bağlıdır.
+ *
+ * Index oluşturulduktan sonra değişmez ve birden çok iş parçacığından
+ * okunabilir.
+ *
+ * @version 1.0
+ */
+public class ParkSearchIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final List<Park> parks;
+    private final Node root = new Node();
+    private final int[] allIds;
+    // Park id -> ad ve adresin katlanmış kelimeleri (daraltma için)
+    private final String[][] tokensById;
+
+    /**
+     * Trie düğümü: çocuklar küçük, sıralı dizilerde tutulur
+     */
+    private static final class Node {
+        char[] keys = new char[0];
+        Node[] children = new Node[0];
+        int[] postings = new int[4];
+        int postingCount;
+
+        Node child(char key) {
+            int position = Arrays.binarySearch(keys, key);
+            return position >= 0 ? children[position] : null;
+        }
+
+        Node getOrCreateChild(char key) {
+            int position = Arrays.binarySearch(keys, key);
+            if (position >= 0) {
+                return children[position];
+            }
+            int insertAt = -position - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = key;
+            Node created = new Node();
+            newChildren[insertAt] = created;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+            return created;
+        }
+
+        // Parklar artan sırayla eklenir; aynı park aynı düğüme bir kez yazılır
+        void addPosting(int parkId) {
+            if (postingCount > 0 && postings[postingCount - 1] == parkId) {
+                return;
+            }
+            if (postingCount == postings.length) {
+                postings = Arrays.copyOf(postings, postings.length * 2);
+            }
+            postings[postingCount++] = parkId;
+        }
+
+        void trim() {
+            if (postings.length != postingCount) {
+                postings = Arrays.copyOf(postings, postingCount);
+            }
+            for (Node child : children) {
+                child.trim();
+            }
+        }
+    }
+
+    /**
+     * Verilen parklar için index'i oluşturur. Posting list'lerdeki id'ler
+     * parkların bu listedeki sırasıdır.
+     *
+     * @param parks Parklar
+     */
+    public ParkSearchIndex(@NonNull List<Park> parks) {
+        this.parks = Collections.unmodifiableList(new ArrayList<>(parks));
+        allIds = new int[parks.size()];
+        tokensById = new String[parks.size()][];
+        for (int id = 0; id < parks.size(); id++) {
+            allIds[id] = id;
+            Park park = parks.get(id);
+            List<String> tokens = tokenize(park.getName());
+            tokens.addAll(tokenize(park.getAddress()));
+            tokensById[id] = tokens.toArray(new String[0]);
+            addTokens(tokens, id);
+        }
+        root.trim();
+    }
+
+    /**
+     * Sorgudaki her kelimeyi ad veya adresteki bir kelimenin öneki olarak
+     * içeren parkları katalog sırasıyla döndürür. Boş sorgu tüm parkları döndürür.
+     *
+     * @param query Kullanıcının yazdığı metin
+     * @return Eşleşen parklar
+     */
+    @NonNull
+    public List<Park> search(@NonNull String query) {
+        return toParks(searchIds(query));
+    }
+
+    /**
+     * search ile aynı, park yerine sıra numaralarını döndürür
+     *
+     * @param query Sorgu
+     * @return Artan sıralı park id'leri (döndürülen diziyi değiştirmeyin)
+     */
+    @NonNull
+    public int[] searchIds(@NonNull String query) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return allIds;
+        }
+        Node[] nodes = new Node[tokens.size()];
+        for (int i = 0; i < tokens.size(); i++) {
+            Node node = find(tokens.get(i));
+            if (node == null) {
+                return EMPTY;
+            }
+            nodes[i] = node;
+        }
+        // En kısa listeden başla; kesişim en fazla onun boyu kadar olur
+        Arrays.sort(nodes, (a, b) -> Integer.compare(a.postingCount, b.postingCount));
+        int[] result = nodes[0].postings;
+        for (int i = 1; i < nodes.length && result.length > 0; i++) {
+            result = intersect(result, nodes[i].postings);
+        }
+        return result;
+    }
+
+    /**
+     * Önceki bir sorgunun sonucunu yeni sorguya göre daraltır. Yeni sorgu
+     * öncekini genişletiyorsa (bkz. refines) sonuç, önceki sonucun alt
+     * kümesidir; aday sayısı posting list'lerden azsa adaylar tek tek
+     * denetlenir, aksi halde normal arama yapılıp adaylarla kesiştirilir.
+     *
+     * @param candidates Önceki sorgunun artan sıralı sonuçları
+     * @param query Yeni sorgu
+     * @return Artan sıralı park id'leri
+     */
+    @NonNull
+    public int[] narrow(@NonNull int[] candidates, @NonNull String query) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return candidates;
+        }
+        int smallestPostings = Integer.MAX_VALUE;
+        for (String token : tokens) {
+            Node node = find(token);
+            if (node == null) {
+                return EMPTY;
+            }
+            smallestPostings = Math.min(smallestPostings, node.postingCount);
+        }
+        if (smallestPostings <= candidates.length) {
+            return intersect(candidates, searchIds(query));
+        }
+        int[] out = new int[candidates.length];
+        int count = 0;
+        for (int id : candidates) {
+            if (matchesAll(tokensById[id], tokens)) {
+                out[count++] = id;
+            }
+        }
+        return Arrays.copyOf(out, count);
+    }
+
+    /**
+     * next sorgusunun sonuçları previous sorgusunun sonuçlarının alt kümesi
+     * mi? Önceki her kelime, yeni sorgunun aynı sıradaki kelimesinin öneki
+     * olmalıdır (yeni sorgu ek kelimeler içerebilir).
+     *
+     * @param previous Önceki sorgunun kelimeleri
+     * @param next Yeni sorgunun kelimeleri
+     * @return Daraltma yapılabiliyorsa true
+     */
+    static boolean refines(@NonNull List<String> previous, @NonNull List<String> next) {
+        if (next.size() < previous.size()) {
+            return false;
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            if (!next.get(i).startsWith(previous.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * İd'leri parklara çevirir
+     *
+     * @param ids Park id'leri
+     * @return Parklar
+     */
+    @NonNull
+    public List<Park> toParks(@NonNull int[] ids) {
+        List<Park> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(parks.get(id));
+        }
+        return result;
+    }
+
+    @NonNull
+    public List<Park> getParks() {
+        return parks;
+    }
+
+    public int size() {
+        return parks.size();
+    }
+
+    private Node find(String token) {
+        Node node = root;
+        for (int i = 0; i < token.length() && node != null; i++) {
+            node = node.child(token.charAt(i));
+        }
+        return node;
+    }
+
+    private void addTokens(List<String> tokens, int parkId) {
+        for (String token : tokens) {
+            Node node = root;
+            for (int i = 0; i < token.length(); i++) {
+                node = node.getOrCreateChild(token.charAt(i));
+                node.addPosting(parkId);
+            }
+        }
+    }
+
+    private static boolean matchesAll(String[] parkTokens, List<String> queryTokens) {
+        for (String queryToken : queryTokens) {
+            boolean found = false;
+            for (String parkToken : parkTokens) {
+                if (parkToken.startsWith(queryToken)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * İki sıralı listeyi kesiştirir. Uzunluklar çok farklıysa kısa listenin
+     * her elemanı uzun listede ikili aramayla aranır.
+     */
+    private static int[] intersect(int[] a, int[] b) {
+        if (a.length > b.length) {
+            int[] swap = a;
+            a = b;
+            b = swap;
+        }
+        int[] out = new int[a.length];
+        int count = 0;
+        if ((long) a.length * 16 < b.length) {
+            int from = 0;
+            for (int value : a) {
+                int position = Arrays.binarySearch(b, from, b.length, value);
+                if (position >= 0) {
+                    out[count++] = value;
+                    from = position + 1;
+                } else {
+                    from = -position - 1;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    out[count++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return count == out.length ? out : Arrays.copyOf(out, count);
+    }
+
+    /**
+     * Metni katlanmış kelimelere böler
+     *
+     * @param text Metin
+     * @return Türkçe küçük harf + aksansız kelimeler
+     */
+    @NonNull
+    static List<String> tokenize(@NonNull String text) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char folded = fold(text.charAt(i));
+            if (Character.isLetterOrDigit(folded)) {
+                token.append(folded);
+            } else if (token.length() > 0) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    /**
+     * Tek bir karakteri Türkçe küçük harfe çevirip aksanını kaldırır.
+     * Varsayılan locale'e bağlı değildir.
+     */
+    static char fold(char c) {
+        switch (c) {
+            case 'I': case 'İ': case 'ı': case 'Î': case 'î': case 'Ì': case 'ì': case 'Í': case 'í':
+                return 'i';
+            case 'Ş': case 'ş':
+                return 's';
+            case 'Ğ': case 'ğ':
+                return 'g';
+            case 'Ü': case 'ü': case 'Û': case 'û': case 'Ù': case 'ù': case 'Ú': case 'ú':
+                return 'u';
+            case 'Ö': case 'ö': case 'Ô': case 'ô': case 'Ò': case 'ò': case 'Ó': case 'ó':
+                return 'o';
+            case 'Ç': case 'ç':
+                return 'c';
+            case 'Â': case 'â': case 'À': case 'à': case 'Á': case 'á': case 'Ä': case 'ä':
+                return 'a';
+            case 'Ê': case 'ê': case 'È': case 'è': case 'É': case 'é': case 'Ë': case 'ë':
+                return 'e';
+            default:
+                return Character.toLowerCase(c);
+        }
+    }
+}
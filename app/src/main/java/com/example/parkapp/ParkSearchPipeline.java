@@ -0,0 +1,366 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ParkSearchPipeline - Arama kutusu için geciktirilmiş arka plan araması
+ *
+ * Her tuş vuruşunda submit çağrılır. Arama DEBOUNCE_MS kadar yeni giriş
+ * gelmezse arka plandaki tek iş parçacığında çalışır; bu sürede gelen her
+ * yeni sorgu bekleyen aramayı iptal eder. Her sorgu bir nesil numarası alır:
+ * sonucu hesaplanırken daha yeni bir sorgu gelmişse sonuç atılır, böylece
+ * listeye yalnızca en son sorgunun sonucu ulaşır.
+ *
+ * Yeni sorgu bir önceki tamamlanmış sorguyu genişletiyorsa ("ino" ->
+ * "inon") tüm index yerine önceki sonuç kümesi daraltılır.
+ *
+ * Önek araması hiç sonuç vermezse (ör. "Kultr Parki") sorgu trigram
+ * index'inde aranır ve benzerliğe göre sıralı en iyi sonuçlar gösterilir.
+ *
+ * sortByDistance çağrıldıktan sonra önek araması sonuçları (ve boş sorguda
+ * tüm liste) kullanıcıya yakından uzağa, sortBy çağrıldıktan sonra
+ * ParkSortOrders'taki önceden hesaplanmış sıraya göre sıralanır; liste
+ * yeniden sıralanmaz, sonuçlar permütasyonla kesiştirilir.
+ *
+ * setFilter ile verilen küme (ör. olanak ve "şu an açık" filtresi) tüm
+ * sonuçlara uygulanır. setRatingSummaries ile gelen canlı değerlendirme
+ * özetleri puan sıralarına ve bulanık aramanın puan katkısına yansıtılır;
+ * sıra, listede gösterilen puanlarla tutarlı kalır.
+ *
+ * Index'ler loader olarak verilir ve ilk ihtiyaç duyulduklarında arka plan
+ * iş parçacığında bir kez oluşturulur; ana iş parçacığı index oluşturmayı
+ * beklemez. Liste ekranının ihtiyaç duyduğu diğer index'ler (ör. açılış
+ * saatleri) de load ile aynı iş parçacığında oluşturulabilir.
+ *
+ * @version 1.0
+ */
+public class ParkSearchPipeline {
+
+    // Constants
+    static final long DEBOUNCE_MS = 150;
+
+    private final Callable<ParkSearchIndex> indexLoader;
+    @Nullable
+    private final Callable<ParkTrigramIndex> fuzzyIndexLoader;
+    private final Executor resultExecutor;
+    private final OnResultsListener listener;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicLong generation = new AtomicLong();
+    private ScheduledFuture<?> pending;
+    private String lastQuery = "";
+
+    // Yalnızca arka plan iş parçacığında kullanılır
+    private ParkSearchIndex index;
+    private ParkTrigramIndex fuzzyIndex;
+    private List<String> lastTokens;
+    private int[] lastIds;
+    // Canlı değerlendirme özetleri (henüz gelmediyse null)
+    private Map<String, RatingSummary> ratingSummaries;
+    // Seçili önceden hesaplanmış sıralar ve anahtar (katalog ve mesafe sırasında null)
+    private ParkSortOrders sortOrders;
+    private int sortOrder;
+    // Park id -> sıra numarası ve tersi (katalog sırasında null)
+    private int[] orderRanks;
+    private int[] orderPermutation;
+    // 0'dan büyükse yalnızca sıradaki ilk limit sonuç
+    private int limit;
+    // Gösterilebilecek park id'leri (filtre yoksa null)
+    private CompressedBitmap filter;
+
+    /**
+     * @param indexLoader Arama index'ini döndürür; arka planda çağrılır
+     * @param fuzzyIndexLoader Önek araması boş kalınca kullanılacak trigram index'ini döndürür (yoksa null)
+     * @param resultExecutor Sonuçların teslim edileceği executor (ör. ana iş parçacığı)
+     * @param listener Sonuç listener'ı
+     */
+    public ParkSearchPipeline(@NonNull Callable<ParkSearchIndex> indexLoader,
+                              @Nullable Callable<ParkTrigramIndex> fuzzyIndexLoader,
+                              @NonNull Executor resultExecutor, @NonNull OnResultsListener listener) {
+        this.indexLoader = indexLoader;
+        this.fuzzyIndexLoader = fuzzyIndexLoader;
+        this.resultExecutor = resultExecutor;
+        this.listener = listener;
+    }
+
+    /**
+     * Yeni sorguyu geciktirerek aramaya gönderir; bekleyen aramayı iptal eder
+     *
+     * @param query Arama kutusundaki metin
+     */
+    public synchronized void submit(@NonNull String query) {
+        submit(query, DEBOUNCE_MS);
+    }
+
+    synchronized void submit(@NonNull String query, long delayMs) {
+        lastQuery = query;
+        long id = generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        if (executor.isShutdown()) {
+            return;
+        }
+        pending = executor.schedule(() -> run(id, query), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Bundan sonraki sonuçları verilen noktaya yakından uzağa sıralar ve
+     * mevcut sorguyu yeniden çalıştırır. Uzamsal index, arama index'iyle
+     * aynı park listesinden (aynı sırayla) oluşturulmuş olmalıdır; değilse
+     * ya da oluşturulamazsa sıra değişmez.
+     *
+     * @param spatialIndexLoader Uzamsal index'i döndürür; arka planda çağrılır
+     * @param latitude Kullanıcının enlemi
+     * @param longitude Kullanıcının boylamı
+     */
+    public synchronized void sortByDistance(@NonNull Callable<ParkSpatialIndex> spatialIndexLoader,
+                                            double latitude, double longitude) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.execute(() -> {
+            ParkSpatialIndex spatialIndex = tryLoad(spatialIndexLoader);
+            if (spatialIndex == null || !ensureIndex() || spatialIndex.size() != index.size()) {
+                return;
+            }
+            sortOrders = null;
+            int[] nearest = spatialIndex.nearestIds(latitude, longitude, spatialIndex.size());
+            int[] ranks = new int[spatialIndex.size()];
+            Arrays.fill(ranks, -1);
+            for (int rank = 0; rank < nearest.length; rank++) {
+                ranks[nearest[rank]] = rank;
+            }
+            // Konumu olmayan parklar sona, kendi aralarında katalog sırasıyla
+            int[] permutation = Arrays.copyOf(nearest, ranks.length);
+            int next = nearest.length;
+            for (int id = 0; id < ranks.length; id++) {
+                if (ranks[id] < 0) {
+                    ranks[id] = next;
+                    permutation[next++] = id;
+                }
+            }
+            setOrder(ranks, permutation, 0);
+        });
+        // Aynı iş parçacığında sıralamadan sonra çalışır
+        submit(lastQuery, 0);
+    }
+
+    /**
+     * Bundan sonraki sonuçları önceden hesaplanmış bir sıraya göre dizer ve
+     * mevcut sorguyu yeniden çalıştırır. Sıralar, arama index'iyle aynı park
+     * listesinden (aynı sırayla) oluşturulmuş olmalıdır; değilse ya da
+     * oluşturulamazsa sıra değişmez.
+     *
+     * @param ordersLoader Önceden hesaplanmış sıraları döndürür; arka planda çağrılır
+     * @param order ParkSortOrders.ORDER_* sabitlerinden biri
+     * @param limit 0'dan büyükse yalnızca ilk limit sonuç (ör. "en iyi 10 park")
+     */
+    public synchronized void sortBy(@NonNull Callable<ParkSortOrders> ordersLoader, int order, int limit) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.execute(() -> {
+            if (order == ParkSortOrders.ORDER_CATALOG) {
+                sortOrders = null;
+                setOrder(null, null, limit);
+                return;
+            }
+            ParkSortOrders orders = tryLoad(ordersLoader);
+            if (orders != null && ensureIndex() && orders.size() == index.size()) {
+                sortOrders = ratingSummaries != null ? orders.withRatingSummaries(ratingSummaries) : orders;
+                sortOrder = order;
+                setOrder(sortOrders.ranks(order), sortOrders.permutation(order), limit);
+            }
+        });
+        submit(lastQuery, 0);
+    }
+
+    // Yalnızca arka plan iş parçacığında çağrılır
+    private void setOrder(@Nullable int[] ranks, @Nullable int[] permutation, int limit) {
+        orderRanks = ranks;
+        orderPermutation = permutation;
+        this.limit = limit;
+    }
+
+    /**
+     * Puan ve değerlendirme sıralarını ve bulanık aramanın puan katkısını
+     * verilen özetlerle yeniden hesaplar ve mevcut sorguyu yeniden çalıştırır.
+     * Özeti olmayan parklar için katalog değerleri kullanılır.
+     *
+     * @param summaries Park id -> değerlendirme özeti
+     */
+    public synchronized void setRatingSummaries(@NonNull Map<String, RatingSummary> summaries) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.execute(() -> {
+            ratingSummaries = summaries;
+            if (fuzzyIndex != null) {
+                fuzzyIndex = fuzzyIndex.withRatingSummaries(summaries);
+            }
+            if (sortOrders != null) {
+                sortOrders = sortOrders.withRatingSummaries(summaries);
+                setOrder(sortOrders.ranks(sortOrder), sortOrders.permutation(sortOrder), limit);
+            }
+        });
+        submit(lastQuery, 0);
+    }
+
+    /**
+     * Bundan sonraki sonuçları verilen park id'leriyle sınırlar ve mevcut
+     * sorguyu yeniden çalıştırır. Küme, arama index'iyle aynı park
+     * listesinin (aynı sırayla) id'lerinden oluşmalıdır; oluşturulamazsa
+     * filtre kaldırılır.
+     *
+     * @param allowedLoader Gösterilebilecek park id'lerini döndürür (arka planda
+     *                      çağrılır); null ise filtre kaldırılır
+     */
+    synchronized void setFilter(@Nullable Callable<CompressedBitmap> allowedLoader) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.execute(() -> filter = allowedLoader != null ? tryLoad(allowedLoader) : null);
+        submit(lastQuery, 0);
+    }
+
+    /**
+     * loader'ı arka plan iş parçacığında çalıştırır ve sonucu sonuç
+     * executor'ında listener'a verir. Ana iş parçacığında oluşturulması
+     * pahalı index'ler (ör. ParkOpenIndex, ParkFacilityIndex) için kullanılır.
+     * loader hata verirse ya da pipeline bu arada kapatılırsa listener çağrılmaz.
+     *
+     * @param loader Değeri döndürür; arka planda çağrılır
+     * @param listener Sonuç listener'ı
+     */
+    public synchronized <T> void load(@NonNull Callable<T> loader, @NonNull OnLoadedListener<T> listener) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.execute(() -> {
+            T value = tryLoad(loader);
+            if (value == null) {
+                return;
+            }
+            resultExecutor.execute(() -> {
+                if (!executor.isShutdown()) {
+                    listener.onLoaded(value);
+                }
+            });
+        });
+    }
+
+    /**
+     * Bekleyen aramayı iptal eder ve arka plan iş parçacığını kapatır
+     */
+    public synchronized void close() {
+        generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        executor.shutdownNow();
+    }
+
+    private void run(long id, String query) {
+        if (id != generation.get() || !ensureIndex()) {
+            return;
+        }
+        List<String> tokens = ParkSearchIndex.tokenize(query);
+        int[] ids;
+        if (lastIds != null && !tokens.isEmpty() && ParkSearchIndex.refines(lastTokens, tokens)) {
+            ids = index.narrow(lastIds, query);
+        } else {
+            ids = index.searchIds(query);
+        }
+        lastTokens = new ArrayList<>(tokens);
+        lastIds = ids;
+
+        if (id != generation.get()) {
+            return;
+        }
+        CompressedBitmap allowed = filter;
+        List<Park> parks;
+        boolean fuzzy = ids.length == 0 && !tokens.isEmpty();
+        if (fuzzy && fuzzyIndex == null && fuzzyIndexLoader != null) {
+            // Trigram index'i ilk bulanık aramada oluşturulur
+            fuzzyIndex = tryLoad(fuzzyIndexLoader);
+            if (fuzzyIndex != null && ratingSummaries != null) {
+                fuzzyIndex = fuzzyIndex.withRatingSummaries(ratingSummaries);
+            }
+        }
+        if (fuzzy && fuzzyIndex != null) {
+            parks = index.toParks(applyFilter(fuzzyIndex.searchIds(query, ParkTrigramIndex.DEFAULT_LIMIT), allowed));
+        } else {
+            parks = index.toParks(order(applyFilter(ids, allowed)));
+        }
+        resultExecutor.execute(() -> {
+            // Teslim sırasında daha yeni bir sorgu gelmiş olabilir
+            if (id == generation.get()) {
+                listener.onResults(query, parks);
+            }
+        });
+    }
+
+    // Yalnızca arka plan iş parçacığında çağrılır; index oluşturulamazsa sonraki çağrıda yeniden denenir
+    private boolean ensureIndex() {
+        if (index == null) {
+            index = tryLoad(indexLoader);
+        }
+        return index != null;
+    }
+
+    @Nullable
+    private static <T> T tryLoad(@NonNull Callable<T> loader) {
+        try {
+            return loader.call();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // Sırayı koruyarak yalnızca kümede bulunan id'leri bırakır
+    private static int[] applyFilter(int[] ids, @Nullable CompressedBitmap allowed) {
+        if (allowed == null) {
+            return ids;
+        }
+        int[] out = new int[Math.min(ids.length, allowed.cardinality())];
+        int count = 0;
+        for (int id : ids) {
+            if (count < out.length && allowed.contains(id)) {
+                out[count++] = id;
+            }
+        }
+        return Arrays.copyOf(out, count);
+    }
+
+    // Seçili sıraya göre dizer; limit varsa tüm sonuçları sıralamadan ilk limit kadarını seçer
+    private int[] order(int[] ids) {
+        if (orderRanks == null) {
+            return limit > 0 && ids.length > limit ? Arrays.copyOf(ids, limit) : ids;
+        }
+        if (limit > 0) {
+            return ParkSortOrders.top(ids, orderRanks, orderPermutation, limit);
+        }
+        return ParkSortOrders.sort(ids, orderRanks, orderPermutation);
+    }
+
+    public interface OnResultsListener {
+        void onResults(@NonNull String query, @NonNull List<Park> parks);
+    }
+
+    public interface OnLoadedListener<T> {
+        void onLoaded(@NonNull T value);
+    }
+}
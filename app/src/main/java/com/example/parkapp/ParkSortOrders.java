@@ -0,0 +1,270 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ParkSortOrders - Katalog için önceden hesaplanmış sıralamalar
+ *
+ * Her sıralama anahtarı için bir kez hesaplanan iki dizi tutulur:
+ *
+ *  - permütasyon: parkların o sıraya göre id'leri
+ *  - sıra (rank): park id -> permütasyondaki konumu
+ *
+ * Ad sırası için Türkçe Collator anahtarları (CollationKey) bir kez
+ * üretilir; "Çınar" C'den sonra, "İnönü" I'dan sonra gelir.
+ *
+ * Puan ve değerlendirme sıraları katalog değerleriyle oluşturulur.
+ * withRatingSummaries, bu iki sırayı listede gösterilen canlı
+ * RatingSummary değerleriyle yeniden hesaplar; ad sırası paylaşılır.
+ *
+ * Filtrelenmiş m sonucun sıralanması tüm listeyi yeniden sıralamaz: az
+ * sonuçta (m·log m < n) sonuçlar sıra numarasına göre sıralanır, çok sonuçta
+ * permütasyon baştan sona gezilip sonuçta olanlar alınır. "En iyi 10 park"
+ * gibi istekler sıra numarası üzerinden sınırlı bir heap (TopK) ile
+ * O(m · log K) sürede yanıtlanır.
+ *
+ * Oluşturulduktan sonra değişmez ve birden çok iş parçacığından okunabilir.
+ *
+ * @version 1.0
+ */
+public class ParkSortOrders {
+
+    // Sıralama anahtarları
+    public static final int ORDER_CATALOG = 0;
+    public static final int ORDER_RATING = 1;
+    public static final int ORDER_REVIEWS = 2;
+    public static final int ORDER_NAME = 3;
+    public static final int ORDER_COUNT = 4;
+
+    private static final Locale TURKISH = new Locale("tr", "TR");
+
+    private final List<Park> parks;
+    private final int[][] permutations = new int[ORDER_COUNT][];
+    private final int[][] ranks = new int[ORDER_COUNT][];
+
+    /**
+     * Verilen parklar için tüm sıralamaları hesaplar. Id'ler parkların bu
+     * listedeki sırasıdır.
+     *
+     * @param parks Parklar
+     */
+    public ParkSortOrders(@NonNull List<Park> parks) {
+        this.parks = Collections.unmodifiableList(new ArrayList<>(parks));
+        int n = parks.size();
+
+        Collator collator = Collator.getInstance(TURKISH);
+        CollationKey[] nameKeys = new CollationKey[n];
+        for (int id = 0; id < n; id++) {
+            nameKeys[id] = collator.getCollationKey(parks.get(id).getName());
+        }
+        Comparator<Integer> byName = (a, b) -> nameKeys[a].compareTo(nameKeys[b]);
+
+        setOrder(ORDER_CATALOG, n, Integer::compare);
+        setOrder(ORDER_NAME, n, byName.thenComparing(Integer::compare));
+        setRatingOrders(Collections.emptyMap());
+    }
+
+    private ParkSortOrders(ParkSortOrders base, Map<String, RatingSummary> summaries) {
+        parks = base.parks;
+        for (int order : new int[] {ORDER_CATALOG, ORDER_NAME}) {
+            permutations[order] = base.permutations[order];
+            ranks[order] = base.ranks[order];
+        }
+        setRatingOrders(summaries);
+    }
+
+    /**
+     * Puan ve değerlendirme sıraları verilen özetlerle yeniden hesaplanmış
+     * kopyayı döndürür. Özeti olmayan parklar için katalog değerleri kullanılır.
+     *
+     * @param summaries Park id -> değerlendirme özeti
+     * @return Yeni sıralar
+     */
+    @NonNull
+    public ParkSortOrders withRatingSummaries(@NonNull Map<String, RatingSummary> summaries) {
+        return new ParkSortOrders(this, summaries);
+    }
+
+    /**
+     * Parkları verilen sıraya göre döndürür
+     *
+     * @param order ORDER_* sabitlerinden biri
+     * @return Sıralı parklar
+     */
+    @NonNull
+    public List<Park> sorted(int order) {
+        return toParks(permutations[order]);
+    }
+
+    /**
+     * Verilen sıradaki ilk k parkı döndürür
+     *
+     * @param order ORDER_* sabitlerinden biri
+     * @param k En fazla park sayısı
+     * @return Parklar
+     */
+    @NonNull
+    public List<Park> top(int order, int k) {
+        return toParks(Arrays.copyOf(permutations[order], Math.max(0, Math.min(k, parks.size()))));
+    }
+
+    /**
+     * Park id -> sıra numarası dizisi (değiştirilmemelidir)
+     */
+    @NonNull
+    int[] ranks(int order) {
+        return ranks[order];
+    }
+
+    /**
+     * Sıraya göre park id'leri (değiştirilmemelidir)
+     */
+    @NonNull
+    int[] permutation(int order) {
+        return permutations[order];
+    }
+
+    /**
+     * Id'leri sıra numarasına göre sıralar. Az sonuçta sıra numaraları
+     * sıralanır, çok sonuçta permütasyon gezilir.
+     *
+     * @param ids Tekrarsız park id'leri
+     * @param ranks Park id -> sıra numarası
+     * @param permutation ranks'ın tersi (sıra numarası -> park id)
+     * @return Sıralı id'ler
+     */
+    @NonNull
+    static int[] sort(@NonNull int[] ids, @NonNull int[] ranks, @NonNull int[] permutation) {
+        int m = ids.length;
+        if (m <= 1) {
+            return ids;
+        }
+        if ((long) m * (32 - Integer.numberOfLeadingZeros(m)) < permutation.length) {
+            long[] keys = new long[m];
+            for (int i = 0; i < m; i++) {
+                keys[i] = ((long) ranks[ids[i]] << 32) | ids[i];
+            }
+            Arrays.sort(keys);
+            int[] sorted = new int[m];
+            for (int i = 0; i < m; i++) {
+                sorted[i] = (int) keys[i];
+            }
+            return sorted;
+        }
+        BitSet matches = new BitSet(permutation.length);
+        for (int id : ids) {
+            matches.set(id);
+        }
+        int[] sorted = new int[m];
+        int count = 0;
+        for (int i = 0; i < permutation.length && count < m; i++) {
+            if (matches.get(permutation[i])) {
+                sorted[count++] = permutation[i];
+            }
+        }
+        return sorted;
+    }
+
+    /**
+     * Sıra numarası en küçük k id'yi sıralı döndürür. Sonuçlar sınırlı bir
+     * heap'te (TopK) toplanır; sonuç kümesi katalogun büyük kısmıysa
+     * permütasyonun başından k eşleşme bulunana kadar gezilir.
+     *
+     * @param ids Tekrarsız park id'leri
+     * @param ranks Park id -> sıra numarası
+     * @param permutation ranks'ın tersi
+     * @param k En fazla sonuç sayısı
+     * @return Sıralı id'ler
+     */
+    @NonNull
+    static int[] top(@NonNull int[] ids, @NonNull int[] ranks, @NonNull int[] permutation, int k) {
+        if (k <= 0 || ids.length == 0) {
+            return new int[0];
+        }
+        int size = Math.min(k, ids.length);
+        if ((long) ids.length * (32 - Integer.numberOfLeadingZeros(size)) >= permutation.length) {
+            BitSet matches = new BitSet(permutation.length);
+            for (int id : ids) {
+                matches.set(id);
+            }
+            int[] out = new int[size];
+            int count = 0;
+            for (int i = 0; i < permutation.length && count < size; i++) {
+                if (matches.get(permutation[i])) {
+                    out[count++] = permutation[i];
+                }
+            }
+            return out;
+        }
+        TopK top = new TopK(size);
+        for (int id : ids) {
+            // TopK en yüksek skoru tutar; küçük sıra numarası = yüksek skor
+            top.offer(id, -ranks[id]);
+        }
+        return top.drainDescending();
+    }
+
+    @NonNull
+    public List<Park> getParks() {
+        return parks;
+    }
+
+    public int size() {
+        return parks.size();
+    }
+
+    // Eşitlikte diğer anahtar, sonra ad sırası; ad sıraları tekrarsız olduğu için sıra kesindir
+    private void setRatingOrders(Map<String, RatingSummary> summaries) {
+        int n = parks.size();
+        double[] ratings = new double[n];
+        long[] reviewCounts = new long[n];
+        for (int id = 0; id < n; id++) {
+            Park park = parks.get(id);
+            RatingSummary summary = summaries.get(park.getId());
+            ratings[id] = summary != null ? summary.getAverage() : park.getRating();
+            reviewCounts[id] = summary != null ? summary.getCount() : park.getReviewCount();
+        }
+
+        int[] nameRanks = ranks[ORDER_NAME];
+        Comparator<Integer> byName = (a, b) -> Integer.compare(nameRanks[a], nameRanks[b]);
+        Comparator<Integer> byRating = (a, b) -> Double.compare(ratings[b], ratings[a]);
+        Comparator<Integer> byReviews = (a, b) -> Long.compare(reviewCounts[b], reviewCounts[a]);
+
+        setOrder(ORDER_RATING, n, byRating.thenComparing(byReviews).thenComparing(byName));
+        setOrder(ORDER_REVIEWS, n, byReviews.thenComparing(byRating).thenComparing(byName));
+    }
+
+    private void setOrder(int order, int n, Comparator<Integer> comparator) {
+        Integer[] boxed = new Integer[n];
+        for (int id = 0; id < n; id++) {
+            boxed[id] = id;
+        }
+        Arrays.sort(boxed, comparator);
+        int[] permutation = new int[n];
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            permutation[i] = boxed[i];
+            rank[boxed[i]] = i;
+        }
+        permutations[order] = permutation;
+        ranks[order] = rank;
+    }
+
+    private List<Park> toParks(int[] ids) {
+        List<Park> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(parks.get(id));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ParkSpatialIndex - Park konumları için ızgara (grid) index'i
+ *
+ * Konumu bilinen parkların sınır kutusu, hücre başına ortalama
+ * TARGET_PER_CELL park düşecek boyda kare hücrelere bölünür. Hücreler
+ * satır-sütun sırasıyla tek bir dizide (CSR) tutulur: cellStart[c] ile
+ * cellStart[c + 1] arası, c hücresindeki park id'leridir.
+ *
+ *  - En yakın N park: sorgu noktasının hücresinden başlayarak halka halka
+ *    dışarı doğru gezilir; bulunan en iyi N mesafe TopK heap'inde tutulur.
+ *    Henüz gezilmemiş halkaların alt sınırı N. mesafeyi geçince durulur;
+ *    yalnızca çevredeki hücreler okunur.
+ *  - Görünüm (viewport): yalnızca dikdörtgenle kesişen hücreler okunur.
+ *
+ * Mesafeler şehir ölçeğinde yeterli olan eşdikdörtgen (equirectangular)
+ * yaklaşımla metre cinsinden hesaplanır. Index oluşturulduktan sonra
+ * değişmez ve birden çok iş parçacığından okunabilir.
+ *
+ * @version 1.0
+ */
+public class ParkSpatialIndex {
+
+    // Constants
+    static final int TARGET_PER_CELL = 8;
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final double MIN_CELL_DEGREES = 1e-4;
+    private static final int[] EMPTY = new int[0];
+
+    private final List<Park> parks;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int locatedCount;
+
+    // Izgara
+    private final double minLatitude;
+    private final double minLongitude;
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+    private final int[] cellStart;
+    private final int[] cellIds;
+
+    /**
+     * Verilen parklar için index'i oluşturur. Konumu olmayan parklar
+     * index'e girmez. Id'ler parkların bu listedeki sırasıdır.
+     *
+     * @param parks Parklar
+     */
+    public ParkSpatialIndex(@NonNull List<Park> parks) {
+        this.parks = Collections.unmodifiableList(new ArrayList<>(parks));
+        latitudes = new double[parks.size()];
+        longitudes = new double[parks.size()];
+
+        double minLat = Double.POSITIVE_INFINITY;
+        double minLng = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double maxLng = Double.NEGATIVE_INFINITY;
+        int located = 0;
+        for (int id = 0; id < parks.size(); id++) {
+            Park park = parks.get(id);
+            latitudes[id] = park.getLatitude();
+            longitudes[id] = park.getLongitude();
+            if (park.hasLocation()) {
+                located++;
+                minLat = Math.min(minLat, latitudes[id]);
+                minLng = Math.min(minLng, longitudes[id]);
+                maxLat = Math.max(maxLat, latitudes[id]);
+                maxLng = Math.max(maxLng, longitudes[id]);
+            }
+        }
+        locatedCount = located;
+
+        if (located == 0) {
+            minLatitude = 0;
+            minLongitude = 0;
+            cellDegrees = 1;
+            rows = 0;
+            columns = 0;
+            cellStart = new int[1];
+            cellIds = EMPTY;
+            return;
+        }
+
+        // Alanı, hücre başına TARGET_PER_CELL park düşecek kadar hücreye böl
+        double area = Math.max((maxLat - minLat) * (maxLng - minLng), MIN_CELL_DEGREES * MIN_CELL_DEGREES);
+        double cells = Math.max(1.0, (double) located / TARGET_PER_CELL);
+        minLatitude = minLat;
+        minLongitude = minLng;
+        cellDegrees = Math.max(MIN_CELL_DEGREES, Math.sqrt(area / cells));
+        rows = (int) ((maxLat - minLat) / cellDegrees) + 1;
+        columns = (int) ((maxLng - minLng) / cellDegrees) + 1;
+
+        // Sayma sıralaması: önce hücre dolulukları, sonra id'ler yerine
+        cellStart = new int[rows * columns + 1];
+        int[] cellOf = new int[parks.size()];
+        for (int id = 0; id < parks.size(); id++) {
+            if (!Double.isNaN(latitudes[id]) && !Double.isNaN(longitudes[id])) {
+                cellOf[id] = row(latitudes[id]) * columns + column(longitudes[id]);
+                cellStart[cellOf[id] + 1]++;
+            } else {
+                cellOf[id] = -1;
+            }
+        }
+        for (int c = 0; c < rows * columns; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        cellIds = new int[located];
+        int[] fill = Arrays.copyOf(cellStart, rows * columns);
+        for (int id = 0; id < parks.size(); id++) {
+            if (cellOf[id] >= 0) {
+                cellIds[fill[cellOf[id]]++] = id;
+            }
+        }
+    }
+
+    /**
+     * Noktaya en yakın en fazla n parkı yakından uzağa döndürür
+     *
+     * @param latitude Enlem
+     * @param longitude Boylam
+     * @param n En fazla park sayısı
+     * @return Parklar
+     */
+    @NonNull
+    public List<Park> nearest(double latitude, double longitude, int n) {
+        return toParks(nearestIds(latitude, longitude, n));
+    }
+
+    /**
+     * nearest ile aynı, park yerine sıra numaralarını döndürür
+     *
+     * @return Yakından uzağa park id'leri
+     */
+    @NonNull
+    public int[] nearestIds(double latitude, double longitude, int n) {
+        if (n <= 0 || locatedCount == 0 || Double.isNaN(latitude) || Double.isNaN(longitude)) {
+            return EMPTY;
+        }
+        TopK top = new TopK(Math.min(n, locatedCount));
+        double cosLatitude = Math.cos(Math.toRadians(latitude));
+        // Sorgu ızgaranın dışında olabilir; hücre koordinatları sınırlanmaz
+        int centerRow = (int) Math.floor((latitude - minLatitude) / cellDegrees);
+        int centerColumn = (int) Math.floor((longitude - minLongitude) / cellDegrees);
+        int firstRing = Math.max(Math.max(0, Math.max(centerRow - (rows - 1), -centerRow)),
+                Math.max(centerColumn - (columns - 1), -centerColumn));
+
+        for (int ring = firstRing; ; ring++) {
+            int rowFrom = Math.max(0, centerRow - ring);
+            int rowTo = Math.min(rows - 1, centerRow + ring);
+            for (int r = rowFrom; r <= rowTo; r++) {
+                if (r == centerRow - ring || r == centerRow + ring) {
+                    // Halkanın üst/alt kenarı: satırın tamamı
+                    int columnFrom = Math.max(0, centerColumn - ring);
+                    int columnTo = Math.min(columns - 1, centerColumn + ring);
+                    for (int c = columnFrom; c <= columnTo; c++) {
+                        offerCell(r * columns + c, latitude, longitude, cosLatitude, top);
+                    }
+                } else {
+                    // Yan kenarlar: yalnızca iki uç hücre
+                    if (centerColumn - ring >= 0 && centerColumn - ring < columns) {
+                        offerCell(r * columns + centerColumn - ring, latitude, longitude, cosLatitude, top);
+                    }
+                    if (ring > 0 && centerColumn + ring >= 0 && centerColumn + ring < columns) {
+                        offerCell(r * columns + centerColumn + ring, latitude, longitude, cosLatitude, top);
+                    }
+                }
+            }
+            boolean coversGrid = centerRow - ring <= 0 && centerRow + ring >= rows - 1
+                    && centerColumn - ring <= 0 && centerColumn + ring >= columns - 1;
+            if (coversGrid) {
+                break;
+            }
+            // Gezilmemiş hücreler en az ring hücre uzakta
+            if (top.isFull() && -top.worstScore() <= ringLowerBound(ring, cosLatitude)) {
+                break;
+            }
+        }
+        return top.drainDescending();
+    }
+
+    /**
+     * Dikdörtgen görünümün içindeki parkları katalog sırasıyla döndürür.
+     * minLongitude <= maxLongitude olmalıdır (180. meridyeni geçen görünüm
+     * desteklenmez).
+     *
+     * @return Parklar
+     */
+    @NonNull
+    public List<Park> inViewport(double minLatitude, double minLongitude,
+                                 double maxLatitude, double maxLongitude) {
+        return toParks(viewportIds(minLatitude, minLongitude, maxLatitude, maxLongitude));
+    }
+
+    /**
+     * inViewport ile aynı, park yerine artan sıralı id'leri döndürür
+     */
+    @NonNull
+    public int[] viewportIds(double minLatitude, double minLongitude,
+                             double maxLatitude, double maxLongitude) {
+        if (locatedCount == 0 || minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            return EMPTY;
+        }
+        int rowFrom = Math.max(0, (int) Math.floor((minLatitude - this.minLatitude) / cellDegrees));
+        int rowTo = Math.min(rows - 1, (int) Math.floor((maxLatitude - this.minLatitude) / cellDegrees));
+        int columnFrom = Math.max(0, (int) Math.floor((minLongitude - this.minLongitude) / cellDegrees));
+        int columnTo = Math.min(columns - 1, (int) Math.floor((maxLongitude - this.minLongitude) / cellDegrees));
+        if (rowFrom > rowTo || columnFrom > columnTo) {
+            return EMPTY;
+        }
+        int[] out = new int[16];
+        int count = 0;
+        for (int r = rowFrom; r <= rowTo; r++) {
+            for (int c = columnFrom; c <= columnTo; c++) {
+                int cell = r * columns + c;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    int id = cellIds[i];
+                    double lat = latitudes[id];
+                    double lng = longitudes[id];
+                    if (lat >= minLatitude && lat <= maxLatitude && lng >= minLongitude && lng <= maxLongitude) {
+                        if (count == out.length) {
+                            out = Arrays.copyOf(out, count * 2);
+                        }
+                        out[count++] = id;
+                    }
+                }
+            }
+        }
+        Arrays.sort(out, 0, count);
+        return Arrays.copyOf(out, count);
+    }
+
+    /**
+     * İki nokta arasındaki yaklaşık mesafe (metre). Boylam farkı birinci
+     * noktanın enlemine göre ölçeklenir.
+     */
+    public static double distanceMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        return distance(latitude1, longitude1, latitude2, longitude2, Math.cos(Math.toRadians(latitude1)));
+    }
+
+    @NonNull
+    public List<Park> getParks() {
+        return parks;
+    }
+
+    public int size() {
+        return parks.size();
+    }
+
+    private void offerCell(int cell, double latitude, double longitude, double cosLatitude, TopK top) {
+        for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+            int id = cellIds[i];
+            // TopK en yüksek skoru tutar; yakın park = yüksek skor
+            top.offer(id, -distance(latitude, longitude, latitudes[id], longitudes[id], cosLatitude));
+        }
+    }
+
+    private double ringLowerBound(int ring, double cosLatitude) {
+        double degrees = ring * cellDegrees;
+        return EARTH_RADIUS_METERS * Math.toRadians(degrees) * Math.min(1.0, Math.abs(cosLatitude));
+    }
+
+    private static double distance(double latitude1, double longitude1, double latitude2, double longitude2,
+                                   double cosLatitude) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLng = Math.toRadians(longitude2 - longitude1) * cosLatitude;
+        return EARTH_RADIUS_METERS * Math.sqrt(dLat * dLat + dLng * dLng);
+    }
+
+    private int row(double latitude) {
+        return Math.min(rows - 1, (int) ((latitude - minLatitude) / cellDegrees));
+    }
+
+    private int column(double longitude) {
+        return Math.min(columns - 1, (int) ((longitude - minLongitude) / cellDegrees));
+    }
+
+    private List<Park> toParks(int[] ids) {
+        List<Park> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(parks.get(id));
+        }
+        return result;
+    }
+}
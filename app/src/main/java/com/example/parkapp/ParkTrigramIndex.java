@@ -0,0 +1,237 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ParkTrigramIndex - Yazım hatalarına dayanıklı, sıralı park araması
+ *
+ * Ad ve adres ParkSearchIndex ile aynı şekilde katlanıp kelimelere bölünür
+ * ("Kultur Parki" ile "Kültür Parkı" aynı kelimeleri verir). Her kelime
+ * başına iki, sonuna bir boşluk eklenerek 3 harflik parçalara (trigram)
+ * ayrılır: "kultur" -> "  k", " ku", "kul", "ult", "ltu", "tur", "ur ".
+ * Her trigram için onu içeren parkların sıralı listesi tutulur.
+ *
+ * Sorguda, sorgunun trigramları listelerde aranıp park başına ortak trigram
+ * sayısı toplanır. Benzerlik, sorgu trigramlarının parkta bulunan oranıdır;
+ * böylece "kultr" veya "beskonaklr" gibi eksik/hatalı yazımlar da eşleşir.
+ * Skor, benzerliğin puan ve değerlendirme sayısıyla biraz artırılmış halidir;
+ * withRatingSummaries ile bu değerler listede gösterilen canlı özetlerden alınır.
+ * Tüm adaylar sıralanmaz; en iyi K sonuç K boyutlu bir min-heap'te tutulur
+ * (O(aday · log K)).
+ *
+ * Index oluşturulduktan sonra değişmez ve birden çok iş parçacığından
+ * okunabilir.
+ *
+ * @version 1.0
+ */
+public class ParkTrigramIndex {
+
+    // Constants
+    public static final int DEFAULT_LIMIT = 50;
+    // Sorgu trigramlarının en az bu oranı parkta bulunmalı
+    static final double MIN_SIMILARITY = 0.5;
+    // Puan/değerlendirme katkısı; benzerlik her zaman baskın kalır
+    static final double QUALITY_WEIGHT = 0.25;
+    private static final double MAX_RATING = 5.0;
+    private static final char PAD = ' ';
+
+    private final List<Park> parks;
+    private final Map<Long, int[]> postings;
+    // Park id -> 0..1 arası puan/değerlendirme kalitesi
+    private final double[] quality;
+
+    /**
+     * Verilen parklar için index'i oluşturur
+     *
+     * @param parks Parklar
+     */
+    public ParkTrigramIndex(@NonNull List<Park> parks) {
+        this.parks = Collections.unmodifiableList(new ArrayList<>(parks));
+
+        Map<Long, IntList> lists = new HashMap<>();
+        for (int id = 0; id < parks.size(); id++) {
+            Park park = parks.get(id);
+            List<String> tokens = ParkSearchIndex.tokenize(park.getName());
+            tokens.addAll(ParkSearchIndex.tokenize(park.getAddress()));
+            for (long trigram : trigrams(tokens)) {
+                IntList list = lists.get(trigram);
+                if (list == null) {
+                    list = new IntList();
+                    lists.put(trigram, list);
+                }
+                list.add(id);
+            }
+        }
+        postings = new HashMap<>();
+        for (Map.Entry<Long, IntList> entry : lists.entrySet()) {
+            postings.put(entry.getKey(), entry.getValue().toArray());
+        }
+        quality = quality(this.parks, Collections.emptyMap());
+    }
+
+    private ParkTrigramIndex(List<Park> parks, Map<Long, int[]> postings, double[] quality) {
+        this.parks = parks;
+        this.postings = postings;
+        this.quality = quality;
+    }
+
+    /**
+     * Trigram listelerini paylaşan, puan/değerlendirme katkısı verilen
+     * özetlerden hesaplanmış index döndürür. Özeti olmayan parklar için
+     * katalog değerleri kullanılır.
+     *
+     * @param summaries Park id -> değerlendirme özeti
+     * @return Yeni index
+     */
+    @NonNull
+    public ParkTrigramIndex withRatingSummaries(@NonNull Map<String, RatingSummary> summaries) {
+        return new ParkTrigramIndex(parks, postings, quality(parks, summaries));
+    }
+
+    /**
+     * Sorguya en çok benzeyen en fazla limit kadar parkı skora göre azalan
+     * sırada döndürür. Boş sorgu boş liste döndürür.
+     *
+     * @param query Kullanıcının yazdığı metin
+     * @param limit En fazla sonuç sayısı
+     * @return Sıralı parklar
+     */
+    @NonNull
+    public List<Park> search(@NonNull String query, int limit) {
+        int[] ids = searchIds(query, limit);
+        List<Park> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(parks.get(id));
+        }
+        return result;
+    }
+
+    /**
+     * search ile aynı, park yerine sıra numaralarını döndürür
+     *
+     * @param query Sorgu
+     * @param limit En fazla sonuç sayısı
+     * @return Skora göre azalan park id'leri
+     */
+    @NonNull
+    public int[] searchIds(@NonNull String query, int limit) {
+        long[] queryTrigrams = trigrams(ParkSearchIndex.tokenize(query));
+        if (queryTrigrams.length == 0 || limit <= 0) {
+            return new int[0];
+        }
+
+        // Park başına ortak trigram sayısı; yalnızca dokunulan parklar gezilir
+        int[] shared = new int[parks.size()];
+        IntList touched = new IntList();
+        for (long trigram : queryTrigrams) {
+            int[] list = postings.get(trigram);
+            if (list == null) {
+                continue;
+            }
+            for (int id : list) {
+                if (shared[id]++ == 0) {
+                    touched.add(id);
+                }
+            }
+        }
+
+        int minShared = (int) Math.ceil(MIN_SIMILARITY * queryTrigrams.length);
+        TopK top = new TopK(limit);
+        for (int i = 0; i < touched.size; i++) {
+            int id = touched.values[i];
+            if (shared[id] < minShared) {
+                continue;
+            }
+            double similarity = (double) shared[id] / queryTrigrams.length;
+            top.offer(id, similarity * (1 + QUALITY_WEIGHT * quality[id]));
+        }
+        return top.drainDescending();
+    }
+
+    public int size() {
+        return parks.size();
+    }
+
+    // Puan ve log ölçekli değerlendirme sayısının çarpımı; değerlendirme sayısı en çok değerlendirilen parka göre ölçeklenir
+    private static double[] quality(List<Park> parks, Map<String, RatingSummary> summaries) {
+        int n = parks.size();
+        double[] ratings = new double[n];
+        long[] reviewCounts = new long[n];
+        long maxReviews = 0;
+        for (int id = 0; id < n; id++) {
+            Park park = parks.get(id);
+            RatingSummary summary = summaries.get(park.getId());
+            ratings[id] = summary != null ? summary.getAverage() : park.getRating();
+            reviewCounts[id] = summary != null ? summary.getCount() : park.getReviewCount();
+            maxReviews = Math.max(maxReviews, reviewCounts[id]);
+        }
+        double reviewScale = Math.log1p(maxReviews);
+
+        double[] quality = new double[n];
+        for (int id = 0; id < n; id++) {
+            double rating = Math.max(0, Math.min(MAX_RATING, ratings[id])) / MAX_RATING;
+            double reviews = reviewScale > 0 ? Math.log1p(Math.max(0, reviewCounts[id])) / reviewScale : 0;
+            quality[id] = rating * reviews;
+        }
+        return quality;
+    }
+
+    /**
+     * Kelimelerin tekrarsız, sıralı trigram anahtarlarını döndürür
+     */
+    static long[] trigrams(@NonNull List<String> tokens) {
+        int total = 0;
+        for (String token : tokens) {
+            total += token.length() + 1;
+        }
+        long[] keys = new long[total];
+        int count = 0;
+        for (String token : tokens) {
+            char a = PAD;
+            char b = PAD;
+            for (int i = 0; i <= token.length(); i++) {
+                char c = i < token.length() ? token.charAt(i) : PAD;
+                keys[count++] = key(a, b, c);
+                a = b;
+                b = c;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || keys[distinct - 1] != keys[i]) {
+                keys[distinct++] = keys[i];
+            }
+        }
+        return Arrays.copyOf(keys, distinct);
+    }
+
+    private static long key(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    /**
+     * Büyüyebilen int dizisi (boxing olmadan)
+     */
+    private static final class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -7,15 +7,31 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
 import androidx.fragment.app.Fragment;
-import androidx.fragment.app.FragmentManager;
 import androidx.cardview.widget.CardView;
+import com.google.android.material.bottomnavigation.BottomNavigationView;
+import java.util.Map;
 import com.example.parkapp.AuthManager;
 import com.example.parkapp.User;
-import com.example.parkapp.AdminPanelFragment;
 import com.example.parkapp.UserStatsManager;
 
 public class ProfileFragment extends Fragment {
     
+    private TextView complaintsCount;
+    private TextView complaintsLabel;
+    private boolean showsAdminStats;
+    private String adminDepartment;
+    // Departmanın parçalı sayacındaki sunucu toplamı; okunana kadar null
+    private Long serverComplaintsTotal;
+    // Sekme yeniden gösterildiğinde istatistikleri yeniden yükler
+    private Runnable statsLoader;
+    
+    // Yetkili için "Toplam Şikayet", bellekteki sayaçlar değiştikçe güncellenir
+    private final ComplaintCounters.OnCountersChangedListener countersListener = snapshot -> {
+        if (getActivity() != null) {
+            getActivity().runOnUiThread(() -> showAdminComplaintsCount(snapshot));
+        }
+    };
+    
     @Override
     public View onCreateView(LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
         View view = inflater.inflate(R.layout.fragment_profile_modern, container, false);
@@ -23,8 +39,8 @@ public class ProfileFragment extends Fragment {
         TextView userName = view.findViewById(R.id.userName);
         TextView userEmail = view.findViewById(R.id.userEmail);
         TextView userRole = view.findViewById(R.id.userRole);
-        TextView complaintsCount = view.findViewById(R.id.complaintsCount);
-        TextView complaintsLabel = view.findViewById(R.id.complaintsLabel);
+        complaintsCount = view.findViewById(R.id.complaintsCount);
+        complaintsLabel = view.findViewById(R.id.complaintsLabel);
         TextView parksVisited = view.findViewById(R.id.parksVisited);
         TextView parksLabel = view.findViewById(R.id.parksLabel);
         CardView adminPanelCard = view.findViewById(R.id.adminPanelCard);
@@ -38,7 +54,7 @@ public class ProfileFragment extends Fragment {
             userEmail.setText(currentUser.getEmail());
             
             // Kullanıcı istatistiklerini yükle
-            UserStatsManager.getInstance().loadUserStats(currentUser.getUid(), new UserStatsManager.OnStatsLoadedListener() {
+            statsLoader = () -> UserStatsManager.getInstance().loadUserStats(currentUser.getUid(), new UserStatsManager.OnStatsLoadedListener() {
                 @Override
                 public void onSuccess(User updatedUser) {
                     if (getActivity() != null) {
@@ -58,17 +74,11 @@ public class ProfileFragment extends Fragment {
                     }
                 }
             });
+            statsLoader.run();
         }
         
         // Yardım butonuna tıklandığında
-        helpCard.setOnClickListener(v -> {
-            HelpFragment helpFragment = new HelpFragment();
-            FragmentManager fragmentManager = getParentFragmentManager();
-            fragmentManager.beginTransaction()
-                    .replace(R.id.fragment_container, helpFragment)
-                    .addToBackStack(null)
-                    .commit();
-        });
+        helpCard.setOnClickListener(v -> MainActivity.openScreen(this, new HelpFragment()));
         
         logoutCard.setOnClickListener(v -> {
             AuthManager.getInstance().logout();
@@ -80,6 +90,79 @@ public class ProfileFragment extends Fragment {
         return view;
     }
     
+    @Override
+    public void onStart() {
+        super.onStart();
+        ComplaintCounters counters = ComplaintManager.getInstance().getCounters();
+        counters.addListener(countersListener);
+        showAdminComplaintsCount(counters.getSnapshot());
+    }
+    
+    @Override
+    public void onStop() {
+        super.onStop();
+        ComplaintManager.getInstance().getCounters().removeListener(countersListener);
+    }
+    
+    @Override
+    public void onHiddenChanged(boolean hidden) {
+        super.onHiddenChanged(hidden);
+        // Sekme yeniden gösterildiğinde istatistikler yenilenir; UserRepository
+        // önbelleği tazeyse sunucudan okunmaz
+        if (!hidden && statsLoader != null) {
+            statsLoader.run();
+        }
+    }
+    
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        statsLoader = null;
+        showsAdminStats = false;
+        serverComplaintsTotal = null;
+    }
+    
+    /**
+     * Departmanın parçalı sayacındaki sunucu toplamını okur; ikinci değer
+     * olarak etiketin altında gösterilir. Okunamazsa yalnızca bellekteki
+     * sayaç gösterilir.
+     */
+    private void loadDepartmentTotal() {
+        UserStatsManager.getInstance().loadDepartmentStats(adminDepartment, new UserStatsManager.OnShardedCountsLoadedListener() {
+            @Override
+            public void onSuccess(Map<String, Long> totals) {
+                Long total = totals.get(UserStatsManager.FIELD_COMPLAINTS_COUNT);
+                if (getActivity() == null) {
+                    return;
+                }
+                getActivity().runOnUiThread(() -> {
+                    serverComplaintsTotal = total != null ? total : 0;
+                    showAdminComplaintsCount(ComplaintManager.getInstance().getCounters().getSnapshot());
+                });
+            }
+            
+            @Override
+            public void onFailure(Exception e) {
+                // Bellekteki sayaç gösterilmeye devam eder
+            }
+        });
+    }
+    
+    /**
+     * Yetkilinin "Toplam Şikayet" değeri bellekteki ComplaintCounters
+     * anlık görüntüsüdür (yüklenen şikayetlerin O(1) özeti). Sunucu toplamı
+     * okunduysa etikette ayrıca gösterilir.
+     */
+    private void showAdminComplaintsCount(ComplaintCounters.Snapshot snapshot) {
+        if (!showsAdminStats || complaintsCount == null) {
+            return;
+        }
+        complaintsCount.setText(String.valueOf(snapshot.getTotal(adminDepartment)));
+        complaintsLabel.setText(serverComplaintsTotal != null
+                ? "Toplam Şikayet\nSunucu: " + serverComplaintsTotal
+                : "Toplam Şikayet");
+    }
+    
     private void updateUI(User user, TextView complaintsCount, TextView complaintsLabel, 
                          TextView parksVisited, TextView parksLabel, TextView userRole, CardView adminPanelCard) {
         
@@ -88,28 +171,33 @@ public class ProfileFragment extends Fragment {
             adminPanelCard.setVisibility(View.VISIBLE);
             
             // Admin için farklı istatistikler
-            complaintsLabel.setText("Toplam Şikayet");
             parksLabel.setText("Toplam Park");
-            complaintsCount.setText(String.valueOf(user.getComplaintsCount()));
             parksVisited.setText(String.valueOf(user.getParksVisited()));
             
+            showsAdminStats = true;
+            adminDepartment = user.getDepartment();
+            showAdminComplaintsCount(ComplaintManager.getInstance().getCounters().getSnapshot());
+            loadDepartmentTotal();
+            
+            // Yönetim paneli yetkilinin şikayetler sekmesidir; ikinci bir kopya açılmaz
             adminPanelCard.setOnClickListener(v -> {
-                AdminPanelFragment fragment = new AdminPanelFragment();
-                FragmentManager fragmentManager = getParentFragmentManager();
-                fragmentManager.beginTransaction()
-                        .replace(R.id.fragment_container, fragment)
-                        .addToBackStack(null)
-                        .commit();
+                BottomNavigationView navigation = requireActivity().findViewById(R.id.bottom_navigation);
+                navigation.setSelectedItemId(R.id.nav_complaints);
             });
         } else {
             userRole.setText("Kullanıcı");
             adminPanelCard.setVisibility(View.GONE);
+            showsAdminStats = false;
             
             // Normal kullanıcı için farklı istatistikler
             complaintsLabel.setText("Şikayet");
             parksLabel.setText("Park Ziyaret");
             complaintsCount.setText(String.valueOf(user.getComplaintsCount()));
-            parksVisited.setText(String.valueOf(user.getParksVisited()));
+            // Henüz gönderilmemiş ziyaretler de sayılsın
+            long pendingVisits = getContext() != null
+                    ? StatsWriteBuffer.getInstance(getContext()).getPending(user.getUid(), UserStatsManager.FIELD_PARKS_VISITED)
+                    : 0;
+            parksVisited.setText(String.valueOf(user.getParksVisited() + pendingVisits));
         }
     }
 } 
\ No newline at end of file
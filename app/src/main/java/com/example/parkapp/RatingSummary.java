@@ -0,0 +1,201 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RatingSummary - Bir parkın değerlendirme özeti (park_ratings dokümanı)
+ *
+ * Uygulamadan gönderilen değerlendirmeler 1-5 yıldız histogramında
+ * sayılır. Katalogdaki başlangıç puanı ve değerlendirme sayısı (yıldız
+ * dağılımı bilinmediği için) ayrı bir taban olarak tutulur. Her yeni ya da
+ * değiştirilen değerlendirme özeti O(1) sürede günceller; değerlendirme
+ * geçmişi yeniden okunmaz.
+ *
+ * Sıralamada kullanılan skor Bayes yöntemiyle yumuşatılır: az
+ * değerlendirmesi olan park, PRIOR_WEIGHT kadar PRIOR_MEAN puanlı hayali
+ * değerlendirmeyle karışır; böylece tek 5 yıldızlı park 300 değerlendirmeli
+ * 4,6 puanlı parkın önüne geçmez.
+ *
+ * Nesne değişmezdir; with/without yeni bir özet döndürür.
+ *
+ * @version 1.0
+ */
+public final class RatingSummary {
+
+    // Constants
+    public static final int MIN_STARS = 1;
+    public static final int MAX_STARS = 5;
+    static final double PRIOR_MEAN = 3.5;
+    static final double PRIOR_WEIGHT = 10;
+
+    // Firestore alanları
+    static final String FIELD_HISTOGRAM = "histogram";
+    static final String FIELD_BASE_COUNT = "baseCount";
+    static final String FIELD_BASE_SUM = "baseSum";
+    static final String FIELD_COUNT = "count";
+    static final String FIELD_AVERAGE = "average";
+    static final String FIELD_SCORE = "score";
+
+    private final String parkId;
+    // histogram[s - 1] = s yıldızlı değerlendirme sayısı
+    private final long[] histogram;
+    private final long baseCount;
+    private final double baseSum;
+
+    private RatingSummary(String parkId, long[] histogram, long baseCount, double baseSum) {
+        this.parkId = parkId;
+        this.histogram = histogram;
+        this.baseCount = baseCount;
+        this.baseSum = baseSum;
+    }
+
+    /**
+     * Katalog puanını taban alan, henüz değerlendirme almamış özet
+     *
+     * @param park Park
+     * @return Özet
+     */
+    @NonNull
+    public static RatingSummary fromCatalog(@NonNull Park park) {
+        long count = Math.max(0, park.getReviewCount());
+        return new RatingSummary(park.getId(), new long[MAX_STARS], count, park.getRating() * count);
+    }
+
+    /**
+     * Yeni bir değerlendirme eklenmiş özet
+     *
+     * @param stars 1-5
+     * @return Yeni özet
+     */
+    @NonNull
+    public RatingSummary with(int stars) {
+        return add(stars, 1);
+    }
+
+    /**
+     * Bir değerlendirmesi geri alınmış özet (kullanıcı puanını değiştirdiğinde)
+     *
+     * @param stars 1-5
+     * @return Yeni özet
+     */
+    @NonNull
+    public RatingSummary without(int stars) {
+        return add(stars, -1);
+    }
+
+    private RatingSummary add(int stars, int delta) {
+        checkStars(stars);
+        long[] next = Arrays.copyOf(histogram, MAX_STARS);
+        next[stars - 1] = Math.max(0, next[stars - 1] + delta);
+        return new RatingSummary(parkId, next, baseCount, baseSum);
+    }
+
+    @NonNull
+    public String getParkId() {
+        return parkId;
+    }
+
+    /**
+     * @param stars 1-5
+     * @return Uygulamadan gönderilen bu yıldızlı değerlendirme sayısı
+     */
+    public long getHistogramCount(int stars) {
+        checkStars(stars);
+        return histogram[stars - 1];
+    }
+
+    /**
+     * Katalog tabanı dahil toplam değerlendirme sayısı
+     */
+    public long getCount() {
+        long count = baseCount;
+        for (long value : histogram) {
+            count += value;
+        }
+        return count;
+    }
+
+    /**
+     * Katalog tabanı dahil ortalama puan (değerlendirme yoksa 0)
+     */
+    public double getAverage() {
+        long count = getCount();
+        return count > 0 ? sum() / count : 0;
+    }
+
+    /**
+     * Bayes yöntemiyle yumuşatılmış puan:
+     * (PRIOR_WEIGHT · PRIOR_MEAN + toplam) / (PRIOR_WEIGHT + sayı)
+     */
+    public double getScore() {
+        return (PRIOR_WEIGHT * PRIOR_MEAN + sum()) / (PRIOR_WEIGHT + getCount());
+    }
+
+    private double sum() {
+        double sum = baseSum;
+        for (int stars = MIN_STARS; stars <= MAX_STARS; stars++) {
+            sum += (double) stars * histogram[stars - 1];
+        }
+        return sum;
+    }
+
+    /**
+     * Firestore dokümanına yazılacak alanlar. count, average ve score
+     * okuyucuların (ör. sıralama sorguları) hesaplamadan kullanması içindir.
+     */
+    @NonNull
+    Map<String, Object> toMap() {
+        List<Long> values = new ArrayList<>(MAX_STARS);
+        for (long value : histogram) {
+            values.add(value);
+        }
+        Map<String, Object> data = new HashMap<>();
+        data.put(FIELD_HISTOGRAM, values);
+        data.put(FIELD_BASE_COUNT, baseCount);
+        data.put(FIELD_BASE_SUM, baseSum);
+        data.put(FIELD_COUNT, getCount());
+        data.put(FIELD_AVERAGE, getAverage());
+        data.put(FIELD_SCORE, getScore());
+        return data;
+    }
+
+    /**
+     * Firestore dokümanından özeti okur
+     *
+     * @param parkId Park id'si (doküman id'si)
+     * @param data Doküman alanları
+     * @return Özet veya doküman beklenen biçimde değilse null
+     */
+    @Nullable
+    static RatingSummary fromMap(@NonNull String parkId, @Nullable Map<String, Object> data) {
+        if (data == null || !(data.get(FIELD_HISTOGRAM) instanceof List)) {
+            return null;
+        }
+        List<?> values = (List<?>) data.get(FIELD_HISTOGRAM);
+        if (values.size() != MAX_STARS) {
+            return null;
+        }
+        long[] histogram = new long[MAX_STARS];
+        for (int i = 0; i < MAX_STARS; i++) {
+            Object value = values.get(i);
+            histogram[i] = value instanceof Number ? Math.max(0, ((Number) value).longValue()) : 0;
+        }
+        Object baseCount = data.get(FIELD_BASE_COUNT);
+        Object baseSum = data.get(FIELD_BASE_SUM);
+        return new RatingSummary(parkId, histogram,
+                baseCount instanceof Number ? ((Number) baseCount).longValue() : 0,
+                baseSum instanceof Number ? ((Number) baseSum).doubleValue() : 0);
+    }
+
+    private static void checkStars(int stars) {
+        if (stars < MIN_STARS || stars > MAX_STARS) {
+            throw new IllegalArgumentException("Puan " + MIN_STARS + "-" + MAX_STARS + " arasında olmalı: " + stars);
+        }
+    }
+}
@@ -12,9 +12,9 @@ import android.widget.Toast;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentManager;
 import com.example.parkapp.Complaint;
-import com.example.parkapp.FirebaseComplaintManager;
-import com.example.parkapp.UserStatsManager;
+import com.example.parkapp.ComplaintOutbox;
 import com.example.parkapp.AuthManager;
+import java.io.IOException;
 import java.util.List;
 
 public class ReportIssueFragment extends Fragment {
@@ -48,7 +48,7 @@ public class ReportIssueFragment extends Fragment {
             parkName = getArguments().getString(ARG_PARK_NAME);
             parkDepartment = getArguments().getString(ARG_PARK_DEPARTMENT);
         }
-        allParks = Park.getAllMalatyaParks();
+        allParks = ParkCatalog.getInstance(requireContext()).getParks();
     }
     
     @Override
@@ -89,7 +89,7 @@ public class ReportIssueFragment extends Fragment {
             }
         });
         
-        // Eğer park adı verilmişse, o parkı seç
+        // Eğer park adı verilmişse, o parkı seç; yoksa kullanıcıya en yakın parkı öner
         if (parkName != null) {
             for (int i = 0; i < allParks.size(); i++) {
                 if (allParks.get(i).getName().equals(parkName)) {
@@ -98,6 +98,8 @@ public class ReportIssueFragment extends Fragment {
                     break;
                 }
             }
+        } else {
+            preselectNearestPark(parkSpinner);
         }
         
         // Tüm sorun türlerini yükle
@@ -151,28 +153,33 @@ public class ReportIssueFragment extends Fragment {
             // Debug bilgisi - Park adını kontrol et
             System.out.println("ReportIssueFragment: Şikayet kaydediliyor - Park: " + parkName + ", Tür: " + issueType + " → Birim: " + responsibleDepartment);
             
-            FirebaseComplaintManager.getInstance().addComplaint(complaint, new FirebaseComplaintManager.OnComplaintAddedListener() {
+            // Şikayeti kalıcı giden kutusuna yaz; günlük yazımı, gönderim ve kullanıcı
+            // istatistiği güncellemesi arka planda yapılır. Günlük yazılana kadar
+            // buton kapalı kalır, böylece aynı şikayet iki kez kuyruğa alınmaz
+            User currentUser = AuthManager.getInstance().getCurrentUser();
+            submitButton.setEnabled(false);
+            ComplaintOutbox.getInstance(requireContext()).enqueue(complaint,
+                    currentUser != null ? currentUser.getUid() : null,
+                    new ComplaintOutbox.OnEnqueuedListener() {
                 @Override
-                public void onSuccess(String documentId) {
-                    // Kullanıcı istatistiklerini güncelle
-                    User currentUser = AuthManager.getInstance().getCurrentUser();
-                    if (currentUser != null) {
-                        UserStatsManager.getInstance().incrementComplaintsCount(currentUser.getUid());
+                public void onEnqueued() {
+                    if (!isAdded()) {
+                        return;
                     }
-                    
-                    getActivity().runOnUiThread(() -> {
-                        Toast.makeText(getContext(), "✅ Şikayetiniz başarıyla gönderildi\n📍 Park: " + parkName, Toast.LENGTH_LONG).show();
-                        // Ana sayfaya dön
-                        FragmentManager fragmentManager = getParentFragmentManager();
-                        fragmentManager.popBackStack();
-                    });
+                    Toast.makeText(getContext(), "✅ Şikayetiniz kaydedildi, gönderiliyor\n📍 Park: " + parkName, Toast.LENGTH_LONG).show();
+                    // Ana sayfaya dön
+                    FragmentManager fragmentManager = getParentFragmentManager();
+                    fragmentManager.popBackStack();
                 }
                 
                 @Override
-                public void onFailure(Exception e) {
-                    getActivity().runOnUiThread(() -> {
-                        Toast.makeText(getContext(), "❌ Şikayet gönderilirken hata oluştu: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                    });
+                public void onFailure(IOException e) {
+                    if (!isAdded()) {
+                        return;
+                    }
+                    // Diske yazılamadı; kullanıcı ekranda kalır ve tekrar deneyebilir
+                    submitButton.setEnabled(true);
+                    Toast.makeText(getContext(), "Şikayet kaydedilemedi, lütfen tekrar deneyin", Toast.LENGTH_LONG).show();
                 }
             });
         });
@@ -180,6 +187,24 @@ public class ReportIssueFragment extends Fragment {
         return view;
     }
     
+    /**
+     * Son bilinen konuma en yakın parkı spinner'da seçer. Spinner
+     * katalog sırasıyla doldurulduğu için uzamsal index'in id'si doğrudan
+     * spinner konumudur. Katalogda konumu bilinen park yoksa seçim yapılmaz.
+     */
+    private void preselectNearestPark(Spinner parkSpinner) {
+        android.location.Location location = LocationHelper.getLastKnownLocation(requireContext());
+        if (location == null) {
+            return;
+        }
+        int[] nearest = ParkCatalog.getInstance(requireContext()).getSpatialIndex()
+                .nearestIds(location.getLatitude(), location.getLongitude(), 1);
+        if (nearest.length > 0 && nearest[0] < allParks.size()) {
+            parkSpinner.setSelection(nearest[0]);
+            selectedPark = allParks.get(nearest[0]);
+        }
+    }
+    
     private String[] getAllIssueTypes() {
         return new String[]{
             "Kırık Bank", "Çöp Kutusu Arızası", "Çevre Kirliliği", "Gürültü Kirliliği",
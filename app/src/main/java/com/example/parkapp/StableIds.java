@@ -0,0 +1,29 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * StableIds - String anahtarlar için RecyclerView stable id üretici
+ *
+ * Her farklı anahtara ilk görüldüğünde sıradaki long değeri atanır; aynı
+ * anahtar adapter ömrü boyunca hep aynı id'yi alır. Hash kullanılmadığı
+ * için çakışma olmaz. Yalnızca ana iş parçacığından çağrılmalıdır.
+ *
+ * @version 1.0
+ */
+class StableIds {
+
+    private final Map<String, Long> ids = new HashMap<>();
+    private long nextId;
+
+    long idFor(@NonNull String key) {
+        Long id = ids.get(key);
+        if (id == null) {
+            id = nextId++;
+            ids.put(key, id);
+        }
+        return id;
+    }
+}
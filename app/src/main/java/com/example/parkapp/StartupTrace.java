@@ -0,0 +1,116 @@
+package com.example.parkapp;
+
+import android.os.Build;
+import android.os.Process;
+import android.os.SystemClock;
+import android.os.Trace;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import androidx.annotation.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * StartupTrace - Soğuk açılış ölçümü
+ *
+ * Açılış adımları adlandırılmış aralıklar (span) olarak işaretlenir:
+ *
+ *  - Application: süreç başlangıcından Application.onCreate sonuna
+ *    (FirebaseInitProvider gibi content provider'lar dahil)
+ *  - LoginActivity: onCreate başından giriş ekranının ilk karesine ya da
+ *    oturum açıksa MainActivity'ye geçişe
+ *  - ParkListFragment: onCreateView başından park listesinin ilk karesine
+ *
+ * Her aralık kapandığında süresi ve süreç başlangıcından geçen süre
+ * "StartupTrace" etiketiyle loglanır. API 29+ cihazlarda aralıklar ayrıca
+ * asenkron trace bölümü olarak yazılır ve Perfetto/systrace kaydında görünür.
+ * Her aralık süreç ömründe bir kez ölçülür; tekrar eden begin/end çağrıları
+ * (ör. ekran döndürme) yok sayılır.
+ *
+ * Yalnızca ana iş parçacığından çağrılması beklenir.
+ *
+ * @version 1.0
+ */
+public final class StartupTrace {
+
+    // Constants
+    private static final String TAG = "StartupTrace";
+    public static final String SPAN_APPLICATION = "Application";
+    public static final String SPAN_LOGIN_ACTIVITY = "LoginActivity";
+    public static final String SPAN_PARK_LIST_FIRST_FRAME = "ParkListFragment";
+
+    // Span adı -> başlangıç (uptime ms); kapanan aralıklar -1 ile işaretlenir
+    private static final Map<String, Long> spans = new HashMap<>();
+
+    private StartupTrace() {
+    }
+
+    /**
+     * Aralığı şimdi başlatır
+     *
+     * @param name Aralık adı (SPAN_* sabitlerinden biri)
+     */
+    public static void begin(@NonNull String name) {
+        begin(name, SystemClock.uptimeMillis());
+    }
+
+    /**
+     * Aralığı süreç başlangıcından başlatır
+     *
+     * @param name Aralık adı
+     */
+    public static void beginAtProcessStart(@NonNull String name) {
+        begin(name, Process.getStartUptimeMillis());
+    }
+
+    private static synchronized void begin(String name, long startMillis) {
+        if (spans.containsKey(name)) {
+            return;
+        }
+        spans.put(name, startMillis);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            Trace.beginAsyncSection(name, 0);
+        }
+    }
+
+    /**
+     * Aralığı kapatır ve süresini loglar. Başlatılmamış ya da zaten
+     * kapanmış aralık için bir şey yapmaz.
+     *
+     * @param name Aralık adı
+     */
+    public static synchronized void end(@NonNull String name) {
+        Long start = spans.get(name);
+        if (start == null || start < 0) {
+            return;
+        }
+        spans.put(name, -1L);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            Trace.endAsyncSection(name, 0);
+        }
+        long now = SystemClock.uptimeMillis();
+        Log.i(TAG, name + ": " + (now - start) + " ms (süreç başlangıcından "
+                + (now - Process.getStartUptimeMillis()) + " ms)");
+    }
+
+    /**
+     * View'ın ilk (zaten çizildiyse bir sonraki) karesinden sonra action'ı
+     * ana iş parçacığında bir kez çalıştırır. Açılışta gerekli olmayan
+     * işler (ağ, disk) ilk kareyi geciktirmesin diye buraya ertelenir.
+     *
+     * @param view İzlenecek view
+     * @param action Çalıştırılacak iş
+     */
+    public static void onFirstFrame(@NonNull View view, @NonNull Runnable action) {
+        view.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                view.getViewTreeObserver().removeOnPreDrawListener(this);
+                // onPreDraw karenin çizilmesinden hemen önce gelir; post ile çizimin ardına bırakılır
+                view.post(action);
+                return true;
+            }
+        });
+    }
+}
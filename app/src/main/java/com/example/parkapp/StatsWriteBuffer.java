@@ -0,0 +1,209 @@
+package com.example.parkapp;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import androidx.annotation.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StatsWriteBuffer - İstatistik artışlarını biriktirip toplu yazan tampon
+ *
+ * Park ziyareti gibi sık artışlar her seferinde Firestore'a yazılmaz;
+ * kullanıcı + alan bazında yerelde toplanır ve kullanıcı başına tek bir
+ * birleşik FieldValue.increment yazmasıyla gönderilir. Gönderim şu
+ * durumlarda yapılır:
+ *
+ *  - İlk artıştan FLUSH_INTERVAL_MS sonra (zamanlayıcı)
+ *  - Bekleyen toplam artış FLUSH_THRESHOLD'a ulaştığında
+ *  - Uygulama arka plana geçtiğinde (MainActivity.onStop -> flush)
+ *
+ * Bekleyen artışlar SharedPreferences'ta tutulur; süreç ölse bile bir
+ * sonraki açılışta gönderilir. Yazma Firestore'a verildiği anda tampondan
+ * düşülür: Firestore çevrimdışı yazmaları kendi kalıcı kuyruğunda tutup
+ * süreç ölümünden sonra da yeniden gönderdiği için, sunucu onayını beklemek
+ * aynı artışın ikinci kez gönderilmesine yol açardı. Sunucu yazmayı
+ * reddederse miktar tampona geri eklenir.
+ *
+ * @version 1.0
+ */
+public class StatsWriteBuffer {
+
+    // Constants
+    private static final String PREFS_NAME = "stats_write_buffer";
+    private static final String KEY_SEPARATOR = "|";
+    private static final long FLUSH_INTERVAL_MS = 5 * 60_000;
+    private static final int FLUSH_THRESHOLD = 10;
+
+    // Singleton instance
+    private static volatile StatsWriteBuffer instance;
+
+    private final SharedPreferences prefs;
+    private final ScheduledExecutorService executor;
+
+    // "userId|alan" -> bekleyen artış; "this" ile korunur
+    private final Map<String, Long> pending = new HashMap<>();
+    private long pendingTotal;
+    private ScheduledFuture<?> scheduledFlush;
+
+    private StatsWriteBuffer(@NonNull Context context) {
+        prefs = context.getApplicationContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        executor = Executors.newSingleThreadScheduledExecutor();
+        restore();
+    }
+
+    /**
+     * Singleton instance'ını döndürür
+     *
+     * @param context Uygulama context'i
+     * @return StatsWriteBuffer instance
+     */
+    public static StatsWriteBuffer getInstance(@NonNull Context context) {
+        if (instance == null) {
+            synchronized (StatsWriteBuffer.class) {
+                if (instance == null) {
+                    instance = new StatsWriteBuffer(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Artışı tampona ekler
+     *
+     * @param userId Kullanıcı ID'si
+     * @param field İstatistik alanı
+     * @param delta Artış miktarı
+     */
+    public void increment(@NonNull String userId, @NonNull String field, long delta) {
+        boolean flushNow;
+        synchronized (this) {
+            String key = userId + KEY_SEPARATOR + field;
+            Long current = pending.get(key);
+            long next = (current != null ? current : 0) + delta;
+            pending.put(key, next);
+            pendingTotal += Math.abs(delta);
+            prefs.edit().putLong(key, next).apply();
+            flushNow = pendingTotal >= FLUSH_THRESHOLD;
+            if (!flushNow && scheduledFlush == null) {
+                scheduledFlush = executor.schedule(this::flush, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (flushNow) {
+            flush();
+        }
+    }
+
+    /**
+     * Henüz gönderilmemiş artışı döndürür (ekranda sunucu değerine eklemek için)
+     *
+     * @param userId Kullanıcı ID'si
+     * @param field İstatistik alanı
+     * @return Bekleyen artış
+     */
+    public synchronized long getPending(@NonNull String userId, @NonNull String field) {
+        Long delta = pending.get(userId + KEY_SEPARATOR + field);
+        return delta != null ? delta : 0;
+    }
+
+    /**
+     * Bekleyen artışları kullanıcı başına tek bir yazmayla Firestore'a verir
+     */
+    public void flush() {
+        Map<String, Map<String, Long>> byUser = new HashMap<>();
+        synchronized (this) {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+            if (pending.isEmpty()) {
+                return;
+            }
+            for (Map.Entry<String, Long> entry : pending.entrySet()) {
+                if (entry.getValue() == 0) {
+                    continue;
+                }
+                int separator = entry.getKey().lastIndexOf(KEY_SEPARATOR);
+                String userId = entry.getKey().substring(0, separator);
+                String field = entry.getKey().substring(separator + 1);
+                Map<String, Long> deltas = byUser.get(userId);
+                if (deltas == null) {
+                    deltas = new HashMap<>();
+                    byUser.put(userId, deltas);
+                }
+                deltas.put(field, entry.getValue());
+            }
+            if (byUser.isEmpty()) {
+                return;
+            }
+            // Yazma Firestore'un kalıcı kuyruğuna verildiği anda tampondan düşülür;
+            // süreç ölse bile aynı miktar bir sonraki açılışta yeniden gönderilmez
+            for (Map.Entry<String, Map<String, Long>> entry : byUser.entrySet()) {
+                addPending(entry.getKey(), entry.getValue(), -1);
+            }
+        }
+
+        for (Map.Entry<String, Map<String, Long>> entry : byUser.entrySet()) {
+            String userId = entry.getKey();
+            Map<String, Long> deltas = entry.getValue();
+            UserStatsManager.getInstance().applyStatDeltas(userId, deltas, new UserStatsManager.OnStatsUpdatedListener() {
+                @Override
+                public void onSuccess() {
+                }
+
+                @Override
+                public void onFailure(@NonNull Exception e) {
+                    // Sunucu yazmayı reddetti; artışlar tampona döner ve bir sonraki tetikleyicide tekrar denenir
+                    synchronized (StatsWriteBuffer.this) {
+                        addPending(userId, deltas, 1);
+                        if (scheduledFlush == null) {
+                            scheduledFlush = executor.schedule(StatsWriteBuffer.this::flush, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Artışları sign yönünde bekleyenlere ekler (-1: gönderilen miktarı düşer,
+     * 1: reddedilen miktarı geri ekler) ve SharedPreferences'a yazar. Gönderim
+     * sırasında eklenen yeni artışlar tamponda kalır.
+     */
+    private void addPending(String userId, Map<String, Long> deltas, int sign) {
+        SharedPreferences.Editor editor = prefs.edit();
+        for (Map.Entry<String, Long> delta : deltas.entrySet()) {
+            String key = userId + KEY_SEPARATOR + delta.getKey();
+            Long current = pending.get(key);
+            long next = (current != null ? current : 0) + sign * delta.getValue();
+            if (sign < 0) {
+                pendingTotal = Math.max(0, pendingTotal - Math.abs(delta.getValue()));
+            } else {
+                pendingTotal += Math.abs(delta.getValue());
+            }
+            if (next == 0) {
+                pending.remove(key);
+                editor.remove(key);
+            } else {
+                pending.put(key, next);
+                editor.putLong(key, next);
+            }
+        }
+        editor.apply();
+    }
+
+    private synchronized void restore() {
+        for (Map.Entry<String, ?> entry : prefs.getAll().entrySet()) {
+            if (entry.getValue() instanceof Long) {
+                long delta = (Long) entry.getValue();
+                pending.put(entry.getKey(), delta);
+                pendingTotal += Math.abs(delta);
+            }
+        }
+    }
+}
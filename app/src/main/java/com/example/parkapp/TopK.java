@@ -0,0 +1,113 @@
+package com.example.parkapp;
+
+/**
+ * TopK - En yüksek skorlu K id'yi tutan sınırlı min-heap
+ *
+ * Kökte en zayıf sonuç durur; yeni aday ondan iyiyse yerine geçer. Eşit
+ * skorda küçük id öne geçer. Tüm adayları sıralamak yerine O(n · log K).
+ *
+ * @version 1.0
+ */
+final class TopK {
+
+    private final int capacity;
+    private final int[] ids;
+    private final double[] scores;
+    private int size;
+
+    TopK(int capacity) {
+        this.capacity = capacity;
+        ids = new int[capacity];
+        scores = new double[capacity];
+    }
+
+    void offer(int id, double score) {
+        if (size < capacity) {
+            ids[size] = id;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (size > 0 && worse(0, id, score)) {
+            ids[0] = id;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isFull() {
+        return size == capacity;
+    }
+
+    /**
+     * Heap'teki en düşük skor (heap boşsa negatif sonsuz)
+     */
+    double worstScore() {
+        return size > 0 ? scores[0] : Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Heap'i boşaltarak id'leri skora göre azalan sırada döndürür
+     */
+    int[] drainDescending() {
+        int[] out = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            out[i] = ids[0];
+            size--;
+            ids[0] = ids[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+        return out;
+    }
+
+    // heap[i], (id, score) adayından daha mı zayıf?
+    private boolean worse(int i, int id, double score) {
+        return scores[i] < score || (scores[i] == score && ids[i] > id);
+    }
+
+    private boolean less(int i, int j) {
+        return worse(i, ids[j], scores[j]);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!less(i, parent)) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && less(right, left)) {
+                smallest = right;
+            }
+            if (!less(smallest, i)) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        double score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.parkapp;
+
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UserRepository - users/{uid} dokümanları için ortak önbellek
+ *
+ * AuthManager ve UserStatsManager kullanıcıyı buradan okur. Yüklenen User
+ * nesneleri CACHE_TTL_MS boyunca bellekte tutulur. Aynı uid için aynı anda
+ * gelen istekler tek bir Firestore okumasında birleştirilir (single-flight);
+ * okuma bitince bekleyen tüm listener'lar aynı sonucu alır.
+ *
+ * Kullanıcının istatistikleri değiştiğinde invalidate çağrılır ve bir
+ * sonraki okuma sunucudan yapılır. Okuma sürerken gelen invalidate,
+ * o okumanın sonucunun önbelleğe yazılmasını engeller.
+ *
+ * @version 1.0
+ */
+public class UserRepository {
+
+    // Constants
+    private static final String USERS_COLLECTION = "users";
+    private static final String FIELD_UID = "uid";
+    private static final String FIELD_EMAIL = "email";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_ROLE = "role";
+    private static final String FIELD_DEPARTMENT = "department";
+    private static final long CACHE_TTL_MS = 5 * 60_000;
+
+    // Singleton instance
+    private static volatile UserRepository instance;
+
+    // Aşağıdaki alanlar "this" ile korunur
+    private final Map<String, CacheEntry> cache = new HashMap<>();
+    private final Map<String, List<OnUserLoadedListener>> inFlight = new HashMap<>();
+    // uid -> invalidate sayacı; okuma başladıktan sonra artmışsa sonuç önbelleğe yazılmaz
+    private final Map<String, Integer> versions = new HashMap<>();
+
+    private static class CacheEntry {
+        final User user;
+        final long loadedAt;
+
+        CacheEntry(User user, long loadedAt) {
+            this.user = user;
+            this.loadedAt = loadedAt;
+        }
+
+        boolean isFresh(long now) {
+            return now - loadedAt < CACHE_TTL_MS;
+        }
+    }
+
+    private UserRepository() {
+    }
+
+    /**
+     * Singleton instance'ını döndürür
+     *
+     * @return UserRepository instance
+     */
+    public static UserRepository getInstance() {
+        if (instance == null) {
+            synchronized (UserRepository.class) {
+                if (instance == null) {
+                    instance = new UserRepository();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Firestore istemcisi ilk okumada oluşturulur
+     */
+    private static FirebaseFirestore db() {
+        return FirebaseFirestore.getInstance();
+    }
+
+    /**
+     * Kullanıcıyı önbellekten veya Firestore'dan yükler. Önbellekteki kayıt
+     * tazeyse listener hemen (aynı çağrı içinde) çağrılır.
+     *
+     * @param uid Kullanıcı ID'si
+     * @param listener Sonuç listener'ı
+     */
+    public void getUser(@NonNull String uid, @NonNull OnUserLoadedListener listener) {
+        User cached;
+        int version;
+        synchronized (this) {
+            CacheEntry entry = cache.get(uid);
+            cached = entry != null && entry.isFresh(SystemClock.elapsedRealtime()) ? entry.user : null;
+            if (cached == null) {
+                List<OnUserLoadedListener> waiting = inFlight.get(uid);
+                if (waiting != null) {
+                    // Aynı uid için okuma zaten sürüyor; sonucunu bekle
+                    waiting.add(listener);
+                    return;
+                }
+                waiting = new ArrayList<>();
+                waiting.add(listener);
+                inFlight.put(uid, waiting);
+            }
+            version = versionOf(uid);
+        }
+        if (cached != null) {
+            listener.onSuccess(cached);
+            return;
+        }
+
+        db().collection(USERS_COLLECTION).document(uid).get()
+                .addOnSuccessListener(documentSnapshot -> {
+                    if (!documentSnapshot.exists()) {
+                        complete(uid, version, null, new Exception("Kullanıcı bulunamadı"));
+                        return;
+                    }
+                    User user = createUserFromDocument(documentSnapshot);
+                    if (user == null) {
+                        complete(uid, version, null, new Exception("Kullanıcı verisi okunamadı"));
+                    } else {
+                        complete(uid, version, user, null);
+                    }
+                })
+                .addOnFailureListener(e -> complete(uid, version, null, e));
+    }
+
+    /**
+     * Firestore'a yazılmış bir kullanıcıyı önbelleğe koyar (ör. kayıt sonrası)
+     *
+     * @param user Kullanıcı
+     */
+    public synchronized void put(@NonNull User user) {
+        cache.put(user.getUid(), new CacheEntry(user, SystemClock.elapsedRealtime()));
+    }
+
+    /**
+     * Kullanıcının önbellek kaydını geçersiz kılar
+     *
+     * @param uid Kullanıcı ID'si
+     */
+    public synchronized void invalidate(@NonNull String uid) {
+        cache.remove(uid);
+        versions.put(uid, versionOf(uid) + 1);
+    }
+
+    /**
+     * Tüm önbelleği temizler (çıkış yapıldığında)
+     */
+    public synchronized void clear() {
+        cache.clear();
+        for (String uid : inFlight.keySet()) {
+            versions.put(uid, versionOf(uid) + 1);
+        }
+    }
+
+    private void complete(String uid, int version, @Nullable User user, @Nullable Exception error) {
+        List<OnUserLoadedListener> waiting;
+        synchronized (this) {
+            waiting = inFlight.remove(uid);
+            if (user != null && versionOf(uid) == version) {
+                cache.put(uid, new CacheEntry(user, SystemClock.elapsedRealtime()));
+            }
+        }
+        if (waiting == null) {
+            return;
+        }
+        for (OnUserLoadedListener listener : waiting) {
+            if (user != null) {
+                listener.onSuccess(user);
+            } else {
+                listener.onFailure(error);
+            }
+        }
+    }
+
+    private int versionOf(String uid) {
+        Integer version = versions.get(uid);
+        return version != null ? version : 0;
+    }
+
+    /**
+     * Firestore document'ından User objesi oluşturur
+     *
+     * @param documentSnapshot Firestore document
+     * @return User objesi veya null
+     */
+    @Nullable
+    static User createUserFromDocument(@NonNull DocumentSnapshot documentSnapshot) {
+        try {
+            User user = new User();
+            user.setUid(documentSnapshot.getString(FIELD_UID));
+            user.setEmail(documentSnapshot.getString(FIELD_EMAIL));
+            user.setName(documentSnapshot.getString(FIELD_NAME));
+            user.setRole(documentSnapshot.getString(FIELD_ROLE));
+            user.setDepartment(documentSnapshot.getString(FIELD_DEPARTMENT));
+
+            // Statistics
+            Long complaintsCount = documentSnapshot.getLong(UserStatsManager.FIELD_COMPLAINTS_COUNT);
+            Long parksVisited = documentSnapshot.getLong(UserStatsManager.FIELD_PARKS_VISITED);
+            Long resolvedComplaints = documentSnapshot.getLong(UserStatsManager.FIELD_RESOLVED_COMPLAINTS);
+
+            user.setComplaintsCount(complaintsCount != null ? complaintsCount.intValue() : 0);
+            user.setParksVisited(parksVisited != null ? parksVisited.intValue() : 0);
+            user.setResolvedComplaints(resolvedComplaints != null ? resolvedComplaints.intValue() : 0);
+
+            return user;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Kullanıcı yükleme işlemleri için callback interface
+     */
+    public interface OnUserLoadedListener {
+        /**
+         * Başarılı yükleme callback'i
+         *
+         * @param user Yüklenen kullanıcı
+         */
+        void onSuccess(@NonNull User user);
+
+        /**
+         * Başarısız yükleme callback'i
+         *
+         * @param e Hata
+         */
+        void onFailure(@NonNull Exception e);
+    }
+}
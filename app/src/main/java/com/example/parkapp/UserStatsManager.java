@@ -5,8 +5,13 @@ import androidx.annotation.Nullable;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.DocumentReference;
 import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.SetOptions;
+import com.google.firebase.firestore.Transaction;
+import com.google.firebase.firestore.WriteBatch;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * UserStatsManager - Kullanıcı istatistikleri yönetimi
@@ -15,6 +20,12 @@ import java.util.Map;
  * yönetir. Şikayet sayıları, park ziyaretleri ve çözülen şikayetler
  * gibi verileri takip eder.
  * 
+ * Tüm artışlar sunucu tarafında FieldValue.increment ile yapılır; eşzamanlı
+ * artışlar birbirini ezmez. Saniyede çok sayıda yazma alan departman ve
+ * genel toplamlar parçalı sayaç (sharded counter) olarak tutulur:
+ * stats/{sayaç}/shards/{0..SHARD_COUNT-1} dokümanlarından rastgele biri
+ * artırılır, okumada tüm parçalar toplanır.
+ * 
  * @author Berkay Körükmez
  * @version 1.0
  */
@@ -23,21 +34,26 @@ public class UserStatsManager {
     // Constants
     private static final String TAG = "UserStatsManager";
     private static final String USERS_COLLECTION = "users";
-    private static final String FIELD_COMPLAINTS_COUNT = "complaintsCount";
-    private static final String FIELD_PARKS_VISITED = "parksVisited";
-    private static final String FIELD_RESOLVED_COMPLAINTS = "resolvedComplaints";
+    private static final String COMPLAINTS_COLLECTION = "complaints";
+    private static final String FIELD_STATS_COUNTED = "statsCounted";
+    public static final String FIELD_COMPLAINTS_COUNT = "complaintsCount";
+    public static final String FIELD_PARKS_VISITED = "parksVisited";
+    public static final String FIELD_RESOLVED_COMPLAINTS = "resolvedComplaints";
+    private static final String STATS_COLLECTION = "stats";
+    private static final String SHARDS_COLLECTION = "shards";
+    private static final String ALL_DEPARTMENTS_COUNTER = "all";
+    private static final String DEPARTMENT_COUNTER_PREFIX = "department_";
+    
+    // Her parça dokümanı saniyede ~1 yazma kaldırır; 10 parça ~10 yazma/sn
+    static final int SHARD_COUNT = 10;
     
     // Singleton instance
     private static UserStatsManager instance;
     
-    // Firebase components
-    private final FirebaseFirestore db;
-    
     /**
      * Private constructor for singleton pattern
      */
     private UserStatsManager() {
-        db = FirebaseFirestore.getInstance();
     }
     
     /**
@@ -57,97 +73,160 @@ public class UserStatsManager {
     }
     
     /**
-     * Kullanıcı istatistiklerini günceller
+     * Firestore istemcisi ilk yazmada oluşturulur
+     */
+    private static FirebaseFirestore db() {
+        return FirebaseFirestore.getInstance();
+    }
+    
+    /**
+     * Kullanıcı istatistiğini sunucu tarafında artırır
      * 
      * @param userId Kullanıcı ID'si
      * @param statType İstatistik türü
      * @param increment Artırılacak değer
      */
     public void updateUserStats(@NonNull String userId, @NonNull String statType, int increment) {
-        DocumentReference userRef = db.collection(USERS_COLLECTION).document(userId);
+        updateUserStats(userId, statType, increment, null);
+    }
+    
+    /**
+     * Kullanıcı istatistiğini sunucu tarafında artırır. Değer
+     * FieldValue.increment ile eklenir, bu yüzden eşzamanlı artışlar kaybolmaz.
+     * Doküman yoksa merge ile oluşturulur.
+     * 
+     * @param userId Kullanıcı ID'si
+     * @param statType İstatistik türü
+     * @param increment Artırılacak değer
+     * @param listener Sonuç listener'ı
+     */
+    public void updateUserStats(@NonNull String userId, @NonNull String statType, int increment,
+                                @Nullable OnStatsUpdatedListener listener) {
+        DocumentReference userRef = db().collection(USERS_COLLECTION).document(userId);
         
         Map<String, Object> updates = new HashMap<>();
-        updates.put(statType, increment);
+        updates.put(statType, FieldValue.increment(increment));
         
-        userRef.update(statType, increment)
+        userRef.set(updates, SetOptions.merge())
                 .addOnSuccessListener(aVoid -> {
-                    // Başarılı güncelleme log'u eklenebilir
+                    UserRepository.getInstance().invalidate(userId);
+                    if (listener != null) {
+                        listener.onSuccess();
+                    }
                 })
                 .addOnFailureListener(e -> {
-                    // Hata durumu log'u eklenebilir
+                    if (listener != null) {
+                        listener.onFailure(e);
+                    }
                 });
     }
     
     /**
-     * Kullanıcı istatistiklerini yükler
+     * Birden çok istatistik artışını tek bir yazmayla uygular
+     * (StatsWriteBuffer'ın biriktirdiği artışlar için)
      * 
      * @param userId Kullanıcı ID'si
-     * @param listener Stats loaded listener
+     * @param deltas Alan adı -> artış miktarı
+     * @param listener Sonuç listener'ı
      */
-    public void loadUserStats(@NonNull String userId, @Nullable OnStatsLoadedListener listener) {
-        DocumentReference userRef = db.collection(USERS_COLLECTION).document(userId);
+    public void applyStatDeltas(@NonNull String userId, @NonNull Map<String, Long> deltas,
+                                @Nullable OnStatsUpdatedListener listener) {
+        DocumentReference userRef = db().collection(USERS_COLLECTION).document(userId);
         
-        userRef.get().addOnSuccessListener(documentSnapshot -> {
-            if (documentSnapshot.exists()) {
-                User user = createUserFromDocument(documentSnapshot);
-                if (user != null) {
+        Map<String, Object> updates = new HashMap<>();
+        for (Map.Entry<String, Long> delta : deltas.entrySet()) {
+            updates.put(delta.getKey(), FieldValue.increment(delta.getValue()));
+        }
+        
+        userRef.set(updates, SetOptions.merge())
+                .addOnSuccessListener(aVoid -> {
+                    UserRepository.getInstance().invalidate(userId);
                     if (listener != null) {
-                        listener.onSuccess(user);
+                        listener.onSuccess();
                     }
-                } else {
+                })
+                .addOnFailureListener(e -> {
                     if (listener != null) {
-                        listener.onFailure(new Exception("Kullanıcı verisi okunamadı"));
+                        listener.onFailure(e);
                     }
-                }
-            } else {
+                });
+    }
+    
+    /**
+     * Kullanıcı istatistiklerini yükler. Kullanıcı UserRepository
+     * önbelleğinden okunur; istatistik değişince önbellek geçersiz kılınır.
+     * 
+     * @param userId Kullanıcı ID'si
+     * @param listener Stats loaded listener
+     */
+    public void loadUserStats(@NonNull String userId, @Nullable OnStatsLoadedListener listener) {
+        UserRepository.getInstance().getUser(userId, new UserRepository.OnUserLoadedListener() {
+            @Override
+            public void onSuccess(@NonNull User user) {
                 if (listener != null) {
-                    listener.onFailure(new Exception("Kullanıcı bulunamadı"));
+                    listener.onSuccess(user);
                 }
             }
-        }).addOnFailureListener(e -> {
-            if (listener != null) {
-                listener.onFailure(e);
+            
+            @Override
+            public void onFailure(@NonNull Exception e) {
+                if (listener != null) {
+                    listener.onFailure(e);
+                }
             }
         });
     }
     
     /**
-     * Firestore document'ından User objesi oluşturur
+     * Şikayet sayısını artırır
      * 
-     * @param documentSnapshot Firestore document
-     * @return User objesi veya null
-     */
-    private User createUserFromDocument(@NonNull DocumentSnapshot documentSnapshot) {
-        try {
-            User user = new User();
-            user.setUid(documentSnapshot.getString("uid"));
-            user.setEmail(documentSnapshot.getString("email"));
-            user.setName(documentSnapshot.getString("name"));
-            user.setRole(documentSnapshot.getString("role"));
-            user.setDepartment(documentSnapshot.getString("department"));
-            
-            // Statistics
-            Long complaintsCount = documentSnapshot.getLong(FIELD_COMPLAINTS_COUNT);
-            Long parksVisited = documentSnapshot.getLong(FIELD_PARKS_VISITED);
-            Long resolvedComplaints = documentSnapshot.getLong(FIELD_RESOLVED_COMPLAINTS);
-            
-            user.setComplaintsCount(complaintsCount != null ? complaintsCount.intValue() : 0);
-            user.setParksVisited(parksVisited != null ? parksVisited.intValue() : 0);
-            user.setResolvedComplaints(resolvedComplaints != null ? resolvedComplaints.intValue() : 0);
-            
-            return user;
-        } catch (Exception e) {
-            return null;
-        }
+     * @param userId Kullanıcı ID'si
+     */
+    public void incrementComplaintsCount(@NonNull String userId) {
+        updateUserStats(userId, FIELD_COMPLAINTS_COUNT, 1);
     }
     
     /**
-     * Şikayet sayısını artırır
+     * Şikayet sayısını verilen şikayet için yalnızca bir kez artırır.
+     * Şikayet dokümanındaki statsCounted işareti ile sayaç artışı aynı
+     * transaction içinde yazılır; bu yüzden tekrar denemeler sayacı iki kez
+     * artırmaz. Şikayet dokümanı önceden yazılmış olmalıdır.
      * 
      * @param userId Kullanıcı ID'si
+     * @param complaintId Şikayet ID'si
+     * @param listener Sonuç listener'ı
      */
-    public void incrementComplaintsCount(@NonNull String userId) {
-        updateUserStats(userId, FIELD_COMPLAINTS_COUNT, 1);
+    public void incrementComplaintsCountOnce(@NonNull String userId, @NonNull String complaintId,
+                                             @Nullable OnStatsUpdatedListener listener) {
+        DocumentReference userRef = db().collection(USERS_COLLECTION).document(userId);
+        DocumentReference complaintRef = db().collection(COMPLAINTS_COLLECTION).document(complaintId);
+        
+        db().runTransaction((Transaction.Function<Void>) transaction -> {
+            DocumentSnapshot complaint = transaction.get(complaintRef);
+            if (Boolean.TRUE.equals(complaint.getBoolean(FIELD_STATS_COUNTED))) {
+                return null;
+            }
+            Map<String, Object> increment = new HashMap<>();
+            increment.put(FIELD_COMPLAINTS_COUNT, FieldValue.increment(1));
+            transaction.update(complaintRef, FIELD_STATS_COUNTED, true);
+            transaction.set(userRef, increment, SetOptions.merge());
+            // Departman ve genel toplamlar da aynı transaction'da, rastgele bir parçada artar
+            String department = complaint.getString("department");
+            if (department != null) {
+                transaction.set(randomShard(departmentCounterId(department)), increment, SetOptions.merge());
+            }
+            transaction.set(randomShard(ALL_DEPARTMENTS_COUNTER), increment, SetOptions.merge());
+            return null;
+        }).addOnSuccessListener(aVoid -> {
+            UserRepository.getInstance().invalidate(userId);
+            if (listener != null) {
+                listener.onSuccess();
+            }
+        }).addOnFailureListener(e -> {
+            if (listener != null) {
+                listener.onFailure(e);
+            }
+        });
     }
     
     /**
@@ -169,30 +248,129 @@ public class UserStatsManager {
     }
     
     /**
-     * Admin için toplam istatistikleri günceller
+     * Departmanın parçalı sayacında bir alanı artırır (ör. çözülen şikayetler).
+     * Departman sayacının yanında genel toplam sayacı da artırılır.
      * 
-     * @param userId Kullanıcı ID'si
-     * @param totalComplaints Toplam şikayet sayısı
-     * @param totalParks Toplam park sayısı
-     * @param resolvedComplaints Çözülen şikayet sayısı
+     * @param department Departman
+     * @param field Sayaç alanı (complaintsCount, resolvedComplaints)
+     * @param delta Artış miktarı
+     * @param listener Sonuç listener'ı
      */
-    public void updateAdminStats(@NonNull String userId, int totalComplaints, int totalParks, int resolvedComplaints) {
-        DocumentReference userRef = db.collection(USERS_COLLECTION).document(userId);
+    public void incrementDepartmentStats(@NonNull String department, @NonNull String field, long delta,
+                                         @Nullable OnStatsUpdatedListener listener) {
+        Map<String, Object> increment = new HashMap<>();
+        increment.put(field, FieldValue.increment(delta));
         
-        Map<String, Object> updates = new HashMap<>();
-        updates.put(FIELD_COMPLAINTS_COUNT, totalComplaints);
-        updates.put(FIELD_PARKS_VISITED, totalParks);
-        updates.put(FIELD_RESOLVED_COMPLAINTS, resolvedComplaints);
+        WriteBatch batch = db().batch();
+        batch.set(randomShard(departmentCounterId(department)), increment, SetOptions.merge());
+        batch.set(randomShard(ALL_DEPARTMENTS_COUNTER), increment, SetOptions.merge());
+        batch.commit()
+                .addOnSuccessListener(aVoid -> {
+                    if (listener != null) {
+                        listener.onSuccess();
+                    }
+                })
+                .addOnFailureListener(e -> {
+                    if (listener != null) {
+                        listener.onFailure(e);
+                    }
+                });
+    }
+    
+    /**
+     * Departmanın parçalı sayacını verilen batch'e ekler; artış batch'teki
+     * diğer yazmalarla birlikte uygulanır ya da hiç uygulanmaz. Batch'e iki
+     * yazma ekler (departman ve genel toplam parçaları).
+     * 
+     * @param batch WriteBatch
+     * @param department Departman
+     * @param field Sayaç alanı
+     * @param delta Artış miktarı (negatif olabilir)
+     */
+    void incrementDepartmentStats(@NonNull WriteBatch batch, @NonNull String department,
+                                  @NonNull String field, long delta) {
+        Map<String, Object> increment = new HashMap<>();
+        increment.put(field, FieldValue.increment(delta));
+        batch.set(randomShard(departmentCounterId(department)), increment, SetOptions.merge());
+        batch.set(randomShard(ALL_DEPARTMENTS_COUNTER), increment, SetOptions.merge());
+    }
+    
+    /**
+     * Departmanın toplam istatistiklerini parçaları toplayarak yükler
+     * 
+     * @param department Departman (null = tüm departmanlar)
+     * @param listener Toplamlar listener'ı
+     */
+    public void loadDepartmentStats(@Nullable String department, @NonNull OnShardedCountsLoadedListener listener) {
+        loadShardedCounter(department != null ? departmentCounterId(department) : ALL_DEPARTMENTS_COUNTER, listener);
+    }
+    
+    /**
+     * Parçalı sayacın rastgele bir parçasında bir alanı artırır
+     * 
+     * @param counterId Sayaç ID'si (stats koleksiyonundaki doküman)
+     * @param field Sayaç alanı
+     * @param delta Artış miktarı
+     * @param listener Sonuç listener'ı
+     */
+    public void incrementShardedCounter(@NonNull String counterId, @NonNull String field, long delta,
+                                        @Nullable OnStatsUpdatedListener listener) {
+        Map<String, Object> increment = new HashMap<>();
+        increment.put(field, FieldValue.increment(delta));
         
-        userRef.update(updates)
+        randomShard(counterId).set(increment, SetOptions.merge())
                 .addOnSuccessListener(aVoid -> {
-                    // Başarılı güncelleme log'u eklenebilir
+                    if (listener != null) {
+                        listener.onSuccess();
+                    }
                 })
                 .addOnFailureListener(e -> {
-                    // Hata durumu log'u eklenebilir
+                    if (listener != null) {
+                        listener.onFailure(e);
+                    }
                 });
     }
     
+    /**
+     * Parçalı sayacın tüm parçalarını okuyup alan bazında toplar. Parça sayısı
+     * sonradan değişse bile var olan tüm parça dokümanları toplanır.
+     * 
+     * @param counterId Sayaç ID'si
+     * @param listener Toplamlar listener'ı
+     */
+    public void loadShardedCounter(@NonNull String counterId, @NonNull OnShardedCountsLoadedListener listener) {
+        db().collection(STATS_COLLECTION).document(counterId).collection(SHARDS_COLLECTION).get()
+                .addOnSuccessListener(shards -> {
+                    Map<String, Long> totals = new HashMap<>();
+                    for (DocumentSnapshot shard : shards.getDocuments()) {
+                        Map<String, Object> data = shard.getData();
+                        if (data == null) {
+                            continue;
+                        }
+                        for (Map.Entry<String, Object> entry : data.entrySet()) {
+                            if (entry.getValue() instanceof Number) {
+                                Long current = totals.get(entry.getKey());
+                                long value = ((Number) entry.getValue()).longValue();
+                                totals.put(entry.getKey(), current != null ? current + value : value);
+                            }
+                        }
+                    }
+                    listener.onSuccess(totals);
+                })
+                .addOnFailureListener(listener::onFailure);
+    }
+    
+    private DocumentReference randomShard(@NonNull String counterId) {
+        int shard = ThreadLocalRandom.current().nextInt(SHARD_COUNT);
+        return db().collection(STATS_COLLECTION).document(counterId)
+                .collection(SHARDS_COLLECTION).document(String.valueOf(shard));
+    }
+    
+    private static String departmentCounterId(@NonNull String department) {
+        // Doküman id'lerinde '/' kullanılamaz
+        return DEPARTMENT_COUNTER_PREFIX + department.replace('/', '_');
+    }
+    
     /**
      * İstatistik yükleme işlemleri için callback interface
      */
@@ -211,4 +389,40 @@ public class UserStatsManager {
          */
         void onFailure(@NonNull Exception e);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Parçalı sayaç okuma işlemleri için callback interface
+     */
+    public interface OnShardedCountsLoadedListener {
+        /**
+         * Başarılı okuma callback'i
+         * 
+         * @param totals Alan adı -> tüm parçaların toplamı
+         */
+        void onSuccess(@NonNull Map<String, Long> totals);
+        
+        /**
+         * Başarısız okuma callback'i
+         * 
+         * @param e Hata
+         */
+        void onFailure(@NonNull Exception e);
+    }
+    
+    /**
+     * İstatistik güncelleme işlemleri için callback interface
+     */
+    public interface OnStatsUpdatedListener {
+        /**
+         * Başarılı güncelleme callback'i
+         */
+        void onSuccess();
+        
+        /**
+         * Başarısız güncelleme callback'i
+         * 
+         * @param e Hata
+         */
+        void onFailure(@NonNull Exception e);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,208 @@
+package com.example.parkapp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * ComplaintColumnStore doğruluk testleri ve List&lt;Complaint&gt; ile bellek
+ * karşılaştırması.
+ */
+public class ComplaintColumnStoreBenchmarkTest {
+
+    private static final int COMPLAINT_COUNT = 100_000;
+
+    private static final String[] DEPARTMENTS = {
+            "Park ve Bahçeler", "Temizlik İşleri", "Fen İşleri", "Zabıta", "Su ve Kanalizasyon"
+    };
+    private static final String[] ISSUE_TYPES = {
+            "Kırık Bank", "Çöp Birikimi", "Aydınlatma", "Oyun Alanı", "Sulama"
+    };
+
+    @Test
+    public void roundTrip_preservesAllFields() {
+        ComplaintColumnStore store = new ComplaintColumnStore();
+        List<Complaint> originals = createComplaints(1_000);
+        for (Complaint complaint : originals) {
+            store.add(complaint);
+        }
+
+        assertEquals(originals.size(), store.size());
+        for (int i = 0; i < originals.size(); i++) {
+            Complaint expected = originals.get(i);
+            Complaint actual = store.get(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getParkName(), actual.getParkName());
+            assertEquals(expected.getDepartment(), actual.getDepartment());
+            assertEquals(expected.getIssueType(), actual.getIssueType());
+            assertEquals(expected.getDescription(), actual.getDescription());
+            assertEquals(expected.getStatus(), actual.getStatus());
+            assertEquals(expected.getReportDate(), actual.getReportDate());
+            assertEquals(expected.getResolvedDate(), actual.getResolvedDate());
+        }
+    }
+
+    @Test
+    public void updateStatus_updatesViewsAndCounts() {
+        ComplaintColumnStore store = new ComplaintColumnStore();
+        Complaint complaint = new Complaint("İnönü Parkı", DEPARTMENTS[0], ISSUE_TYPES[0], "Bank kırık");
+        store.add(complaint);
+        assertNull(store.getById(complaint.getId()).getResolvedDate());
+
+        Date resolvedDate = new Date();
+        assertTrue(store.updateStatus(complaint.getId(), Complaint.STATUS_RESOLVED));
+        assertTrue(store.setResolvedDate(complaint.getId(), resolvedDate));
+        assertFalse(store.updateStatus("yok", Complaint.STATUS_RESOLVED));
+
+        Complaint view = store.getById(complaint.getId());
+        assertEquals(Complaint.STATUS_RESOLVED, view.getStatus());
+        assertEquals(resolvedDate, view.getResolvedDate());
+        assertEquals(Complaint.STATUS_RESOLVED, store.getStatus(complaint.getId()));
+        assertEquals(1, store.count(DEPARTMENTS[0], Complaint.STATUS_RESOLVED));
+        assertEquals(0, store.count(DEPARTMENTS[0], Complaint.STATUS_PENDING));
+        assertEquals(1, store.rowsForDepartment(DEPARTMENTS[0]).length);
+    }
+
+    @Test
+    public void remove_keepsInsertionOrderAndDescriptions() {
+        ComplaintColumnStore store = new ComplaintColumnStore();
+        List<Complaint> originals = createComplaints(300);
+        for (Complaint complaint : originals) {
+            store.add(complaint);
+        }
+
+        // Her üç satırdan ikisini sil; çöp baytlar havuzun yarısını geçince havuz sıkıştırılır
+        List<Complaint> remaining = new ArrayList<>();
+        for (int i = 0; i < originals.size(); i++) {
+            if (i % 3 == 0) {
+                remaining.add(originals.get(i));
+            } else {
+                assertTrue(store.remove(originals.get(i).getId()));
+            }
+        }
+        assertFalse(store.remove(originals.get(1).getId()));
+
+        assertEquals(remaining.size(), store.size());
+        for (int i = 0; i < remaining.size(); i++) {
+            Complaint expected = remaining.get(i);
+            assertEquals(expected.getId(), store.get(i).getId());
+            assertEquals(expected.getDescription(), store.getDescription(i));
+            assertEquals(expected.getDescription(), store.getById(expected.getId()).getDescription());
+        }
+        assertFalse(store.contains(originals.get(1).getId()));
+    }
+
+    @Test
+    public void add_existingId_replacesRowInPlace() {
+        ComplaintColumnStore store = new ComplaintColumnStore();
+        List<Complaint> originals = createComplaints(3);
+        for (Complaint complaint : originals) {
+            assertFalse(store.add(complaint));
+        }
+
+        Complaint middle = originals.get(1);
+        for (int i = 0; i < 100; i++) {
+            Complaint replacement = new Complaint(middle.getId(), middle.getParkName(), DEPARTMENTS[2],
+                    middle.getIssueType(), "Güncel açıklama #" + i, Complaint.STATUS_IN_PROGRESS,
+                    middle.getReportDate(), null);
+            assertTrue(store.add(replacement));
+        }
+
+        assertEquals(3, store.size());
+        Complaint view = store.get(1);
+        assertEquals(middle.getId(), view.getId());
+        assertEquals(DEPARTMENTS[2], view.getDepartment());
+        assertEquals("Güncel açıklama #99", view.getDescription());
+        assertEquals(originals.get(0).getDescription(), store.getDescription(0));
+        assertEquals(originals.get(2).getDescription(), store.getDescription(2));
+    }
+
+    @Test
+    public void changeId_keepsRow() {
+        ComplaintColumnStore store = new ComplaintColumnStore();
+        List<Complaint> originals = createComplaints(3);
+        for (Complaint complaint : originals) {
+            store.add(complaint);
+        }
+
+        String newId = ComplaintIdGenerator.newId();
+        assertTrue(store.changeId(originals.get(0).getId(), newId));
+
+        assertEquals(newId, store.get(0).getId());
+        assertNull(store.getById(originals.get(0).getId()));
+        assertEquals(originals.get(0).getDescription(), store.getById(newId).getDescription());
+        assertFalse(store.changeId(originals.get(0).getId(), ComplaintIdGenerator.newId()));
+    }
+
+    @Test
+    public void memory_columnStoreVersusObjectList() {
+        List<Complaint> source = createComplaints(COMPLAINT_COUNT);
+
+        long before = usedHeap();
+        List<Complaint> objects = new ArrayList<>();
+        for (Complaint complaint : source) {
+            objects.add(copyOf(complaint));
+        }
+        long objectBytes = usedHeap() - before;
+
+        before = usedHeap();
+        ComplaintColumnStore store = new ComplaintColumnStore();
+        for (Complaint complaint : source) {
+            // Depo da Firestore'dan gelen kopyaları alır; yalnızca id String'i saklanır
+            store.add(copyOf(complaint));
+        }
+        long columnBytes = usedHeap() - before;
+
+        System.out.println(String.format("%d şikayet: List<Complaint> %d KB, ComplaintColumnStore %d KB",
+                COMPLAINT_COUNT, objectBytes / 1024, columnBytes / 1024));
+
+        // source ölçüm boyunca canlı kalmalı, yoksa GC'si sonucu bozar
+        assertEquals(source.size(), objects.size());
+        assertEquals(source.size(), store.size());
+    }
+
+    private static List<Complaint> createComplaints(int count) {
+        List<Complaint> complaints = new ArrayList<>(count);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            Complaint complaint = new Complaint(
+                    "Park " + (i % 50),
+                    DEPARTMENTS[i % DEPARTMENTS.length],
+                    ISSUE_TYPES[(i / 7) % ISSUE_TYPES.length],
+                    "Şikayet açıklaması #" + i);
+            complaint.setReportDate(new Date(now - i * 60_000L));
+            if (i % 3 == 0) {
+                complaint.setStatus(Complaint.STATUS_RESOLVED);
+                complaint.setResolvedDate(new Date(now));
+            }
+            complaints.add(complaint);
+        }
+        return complaints;
+    }
+
+    // Firestore'dan gelen her doküman kendi String nesnelerini taşır; bunu taklit et
+    private static Complaint copyOf(Complaint complaint) {
+        return new Complaint(new String(complaint.getId()),
+                new String(complaint.getParkName()),
+                new String(complaint.getDepartment()),
+                new String(complaint.getIssueType()),
+                new String(complaint.getDescription()),
+                new String(complaint.getStatus()),
+                new Date(complaint.getReportDate().getTime()),
+                complaint.getResolvedDate() != null ? new Date(complaint.getResolvedDate().getTime()) : null);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
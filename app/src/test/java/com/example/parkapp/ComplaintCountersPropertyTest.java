@@ -0,0 +1,235 @@
+package com.example.parkapp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Rastgele işlem dizilerinden sonra ComplaintCounters değerlerinin
+ * ComplaintManager içeriğinin baştan sayılmasıyla aynı olduğunu doğrular.
+ */
+public class ComplaintCountersPropertyTest {
+
+    private static final int SEEDS = 50;
+    private static final int OPERATIONS = 2_000;
+
+    private static final String[] DEPARTMENTS = {"Park ve Bahçeler", "Temizlik İşleri", "Fen İşleri", null};
+    private static final String[] STATUSES = {
+            Complaint.STATUS_PENDING, Complaint.STATUS_IN_PROGRESS, Complaint.STATUS_RESOLVED
+    };
+
+    @Test
+    public void countersMatchFullRecount() {
+        for (int seed = 0; seed < SEEDS; seed++) {
+            Random random = new Random(seed);
+            ComplaintManager manager = new ComplaintManager();
+            List<String> knownIds = new ArrayList<>();
+
+            for (int op = 0; op < OPERATIONS; op++) {
+                switch (random.nextInt(7)) {
+                    case 0:
+                    case 1: {
+                        Complaint complaint = randomComplaint(random);
+                        manager.addComplaint(complaint);
+                        knownIds.add(complaint.getId());
+                        break;
+                    }
+                    case 2: {
+                        // Aynı id ile farklı departman / durumda yeni nesne
+                        if (!knownIds.isEmpty()) {
+                            Complaint replacement = randomComplaint(random);
+                            replacement.setId(pick(random, knownIds));
+                            manager.addComplaint(replacement);
+                        }
+                        break;
+                    }
+                    case 3: {
+                        if (!knownIds.isEmpty()) {
+                            manager.removeComplaint(pick(random, knownIds));
+                        }
+                        break;
+                    }
+                    case 4: {
+                        if (!knownIds.isEmpty()) {
+                            manager.updateComplaintStatus(pick(random, knownIds), pick(random, STATUSES));
+                        }
+                        break;
+                    }
+                    case 5: {
+                        // Nesne üzerinden doğrudan durum ve id değişikliği
+                        if (!knownIds.isEmpty()) {
+                            Complaint complaint = manager.getComplaintById(pick(random, knownIds));
+                            if (complaint != null) {
+                                complaint.setStatus(pick(random, STATUSES));
+                                if (random.nextBoolean()) {
+                                    complaint.setId(pick(random, knownIds));
+                                }
+                            }
+                        }
+                        break;
+                    }
+                    default: {
+                        List<Complaint> added = new ArrayList<>();
+                        List<Complaint> modified = new ArrayList<>();
+                        List<String> removed = new ArrayList<>();
+                        for (int i = random.nextInt(5); i > 0; i--) {
+                            Complaint complaint = randomComplaint(random);
+                            added.add(complaint);
+                            knownIds.add(complaint.getId());
+                        }
+                        if (!knownIds.isEmpty()) {
+                            Complaint complaint = randomComplaint(random);
+                            complaint.setId(pick(random, knownIds));
+                            modified.add(complaint);
+                            removed.add(pick(random, knownIds));
+                        }
+                        manager.applyChanges(added, modified, removed);
+                        break;
+                    }
+                }
+                if (random.nextInt(500) == 0) {
+                    manager.clear();
+                }
+                assertMatchesRecount("seed " + seed + ", op " + op, manager);
+            }
+        }
+    }
+
+    @Test
+    public void concurrentStatusChangesKeepIndexConsistent() throws InterruptedException {
+        ComplaintManager manager = new ComplaintManager();
+        List<Complaint> complaints = new ArrayList<>();
+        Random seeds = new Random(7);
+        for (int i = 0; i < 20; i++) {
+            Complaint complaint = randomComplaint(seeds);
+            manager.addComplaint(complaint);
+            complaints.add(complaint);
+        }
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            Random random = new Random(t);
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    pick(random, complaints).setStatus(pick(random, STATUSES));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertMatchesRecount("eşzamanlı setStatus", manager);
+        for (String status : STATUSES) {
+            for (Complaint complaint : manager.getComplaintsByStatus(status)) {
+                assertEquals(status, complaint.getStatus());
+            }
+        }
+    }
+
+    @Test
+    public void concurrentIdChangesKeepIndexConsistent() throws InterruptedException {
+        ComplaintManager manager = new ComplaintManager();
+        List<Complaint> complaints = new ArrayList<>();
+        Random seeds = new Random(11);
+        for (int i = 0; i < 20; i++) {
+            Complaint complaint = randomComplaint(seeds);
+            manager.addComplaint(complaint);
+            complaints.add(complaint);
+        }
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int thread = t;
+            Random random = new Random(t);
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    Complaint complaint = pick(random, complaints);
+                    if (thread % 2 == 0) {
+                        // Her iş parçacığı kendi önekini kullanır; id'ler çakışmaz
+                        complaint.setId("T" + thread + "_" + i);
+                    } else {
+                        complaint.setStatus(pick(random, STATUSES));
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertMatchesRecount("eşzamanlı setId", manager);
+        assertEquals(complaints.size(), manager.size());
+        for (Complaint complaint : complaints) {
+            // Her nesne depoda kendi id'siyle, kendi durumuyla bulunur
+            Complaint stored = manager.getComplaintById(complaint.getId());
+            assertEquals(complaint.getStatus(), stored.getStatus());
+            assertTrue(idsOf(manager.getComplaintsByStatus(complaint.getStatus())).contains(complaint.getId()));
+        }
+    }
+
+    private static void assertMatchesRecount(String message, ComplaintManager manager) {
+        ComplaintCounters.Snapshot snapshot = manager.getCounters().getSnapshot();
+        List<Complaint> all = manager.getAllComplaints();
+        assertEquals(message, all.size(), snapshot.getTotal(null));
+
+        List<String> departments = new ArrayList<>();
+        Collections.addAll(departments, DEPARTMENTS);
+        for (String department : departments) {
+            int total = 0;
+            int unresolved = 0;
+            for (Complaint complaint : all) {
+                if (equals(department, complaint.getDepartment())) {
+                    total++;
+                    if (!Complaint.STATUS_RESOLVED.equals(complaint.getStatus())) {
+                        unresolved++;
+                    }
+                }
+            }
+            if (department != null) {
+                assertEquals(message, total, snapshot.getTotal(department));
+                assertEquals(message, unresolved, snapshot.getUnresolved(department));
+            }
+            for (String status : STATUSES) {
+                int count = 0;
+                for (Complaint complaint : all) {
+                    if ((department == null || department.equals(complaint.getDepartment()))
+                            && status.equals(complaint.getStatus())) {
+                        count++;
+                    }
+                }
+                assertEquals(message, count, snapshot.getCount(department, status));
+            }
+        }
+    }
+
+    private static List<String> idsOf(List<Complaint> complaints) {
+        List<String> ids = new ArrayList<>(complaints.size());
+        for (Complaint complaint : complaints) {
+            ids.add(complaint.getId());
+        }
+        return ids;
+    }
+
+    private static Complaint randomComplaint(Random random) {
+        Complaint complaint = new Complaint("Park " + random.nextInt(10), pick(random, DEPARTMENTS),
+                "Test", "Açıklama");
+        complaint.setStatus(pick(random, STATUSES));
+        return complaint;
+    }
+
+    private static boolean equals(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
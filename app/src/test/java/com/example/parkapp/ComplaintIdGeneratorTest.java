@@ -0,0 +1,119 @@
+package com.example.parkapp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.Test;
+
+/**
+ * ComplaintIdGenerator sıralama, sayaç taşması, zaman damgası ve
+ * eşzamanlı tekillik testleri.
+ */
+public class ComplaintIdGeneratorTest {
+
+    private static final int COUNTER_BITS = 16;
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 20_000;
+
+    @Test
+    public void sameMillisecond_idsAreStrictlyIncreasing() {
+        long now = futureMillis();
+        String previous = null;
+        long previousTimeAndCounter = -1;
+        for (int i = 0; i < 1_000; i++) {
+            long timeAndCounter = ComplaintIdGenerator.nextTimeAndCounter(now);
+            assertEquals(now, timeAndCounter >>> COUNTER_BITS);
+            assertTrue(timeAndCounter > previousTimeAndCounter);
+
+            // Düşük bitler rastgele olsa da metin sırası sayaçla belirlenir
+            String id = ComplaintIdGenerator.encode(timeAndCounter, ~0L - i);
+            if (previous != null) {
+                assertTrue(previous + " < " + id, previous.compareTo(id) < 0);
+            }
+            previous = id;
+            previousTimeAndCounter = timeAndCounter;
+        }
+    }
+
+    @Test
+    public void counterOverflow_rollsIntoNextMillisecond() {
+        long now = futureMillis();
+        long first = ComplaintIdGenerator.nextTimeAndCounter(now);
+        assertEquals(now << COUNTER_BITS, first);
+
+        long last = first;
+        for (int i = 1; i < (1 << COUNTER_BITS); i++) {
+            last = ComplaintIdGenerator.nextTimeAndCounter(now);
+        }
+        assertEquals(now, last >>> COUNTER_BITS);
+        assertEquals((1 << COUNTER_BITS) - 1, last & ((1 << COUNTER_BITS) - 1));
+
+        // Sayaç taştı: zaman bir ms ileri alınır, sayaç sıfırdan başlar
+        long overflowed = ComplaintIdGenerator.nextTimeAndCounter(now);
+        assertEquals((now + 1) << COUNTER_BITS, overflowed);
+        assertEquals(overflowed + 1, ComplaintIdGenerator.nextTimeAndCounter(now));
+    }
+
+    @Test
+    public void timestampOf_roundTrips() {
+        long now = System.currentTimeMillis();
+        for (int counter = 0; counter < (1 << COUNTER_BITS); counter += 4_097) {
+            String id = ComplaintIdGenerator.encode((now << COUNTER_BITS) | counter, 0x0123456789ABCDEFL);
+            assertEquals(ComplaintIdGenerator.ID_LENGTH, id.length());
+            assertEquals(now, ComplaintIdGenerator.timestampOf(id));
+        }
+
+        // newId diğer testlerin ileri aldığı zamanın gerisinde kalmaz
+        long before = System.currentTimeMillis();
+        assertTrue(ComplaintIdGenerator.timestampOf(ComplaintIdGenerator.newId()) >= before);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void timestampOf_rejectsForeignIds() {
+        ComplaintIdGenerator.timestampOf("COMP_" + System.currentTimeMillis());
+    }
+
+    @Test
+    public void concurrentGeneration_idsAreUniqueAndOrderedPerThread() throws InterruptedException {
+        Set<String> all = ConcurrentHashMap.newKeySet();
+        List<AssertionError> errors = new ArrayList<>();
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                Set<String> own = new HashSet<>();
+                String previous = null;
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    String id = ComplaintIdGenerator.newId();
+                    own.add(id);
+                    if (previous != null && previous.compareTo(id) >= 0) {
+                        synchronized (errors) {
+                            errors.add(new AssertionError("Sıra bozuk: " + previous + " >= " + id));
+                        }
+                        return;
+                    }
+                    previous = id;
+                }
+                all.addAll(own);
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (!errors.isEmpty()) {
+            throw errors.get(0);
+        }
+        assertEquals(THREADS * IDS_PER_THREAD, all.size());
+    }
+
+    // Üreticinin şimdiye kadar kullandığı her zamandan ileride bir milisaniye
+    private static long futureMillis() {
+        long current = ComplaintIdGenerator.nextTimeAndCounter(System.currentTimeMillis()) >>> COUNTER_BITS;
+        return current + 1_000;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.parkapp;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+import org.junit.Test;
+
+/**
+ * OpeningHours: açılış saatleri metninin haftalık aralıklara ayrıştırılması.
+ */
+public class OpeningHoursTest {
+
+    private static final int MONDAY = 0;
+    private static final int FRIDAY = 4 * OpeningHours.DAY_MINUTES;
+    private static final int SATURDAY = 5 * OpeningHours.DAY_MINUTES;
+    private static final int SUNDAY = 6 * OpeningHours.DAY_MINUTES;
+
+    @Test
+    public void parse_catalogFormats() {
+        assertSame(OpeningHours.ALWAYS_OPEN, OpeningHours.parse("24 Saat Açık"));
+        assertSame(OpeningHours.ALWAYS_CLOSED, OpeningHours.parse("Kapalı"));
+
+        OpeningHours daily = OpeningHours.parse("06:00 - 22:00");
+        assertFalse(daily.isOpenAt(MONDAY + 5 * 60 + 59));
+        assertTrue(daily.isOpenAt(MONDAY + 6 * 60));
+        assertTrue(daily.isOpenAt(SUNDAY + 21 * 60 + 59));
+        assertFalse(daily.isOpenAt(SUNDAY + 22 * 60));
+        assertEquals(14, daily.boundaries().length);
+    }
+
+    @Test
+    public void parse_overnightRangeWrapsAroundWeek() {
+        OpeningHours overnight = OpeningHours.parse("22:00 - 02:00");
+        assertTrue(overnight.isOpenAt(SUNDAY + 23 * 60));
+        assertTrue(overnight.isOpenAt(MONDAY + 60));
+        assertFalse(overnight.isOpenAt(MONDAY + 2 * 60));
+        assertFalse(overnight.isOpenAt(MONDAY + 12 * 60));
+        // Pazar 22:00'den Pazartesi 02:00'ye kesintisiz; hafta başı bir sınır değil
+        int[] boundaries = overnight.boundaries();
+        assertEquals(14, boundaries.length);
+        assertEquals(2 * 60, boundaries[0]);
+    }
+
+    @Test
+    public void parse_dayRulesAndSplitRanges() {
+        OpeningHours hours = OpeningHours.parse("Pzt-Cum 08:00-12:00, 13:00-18:00; Cumartesi, paz 10.00 – 16.00");
+        assertTrue(hours.isOpenAt(FRIDAY + 9 * 60));
+        assertFalse(hours.isOpenAt(FRIDAY + 12 * 60 + 30));
+        assertTrue(hours.isOpenAt(FRIDAY + 13 * 60));
+        assertFalse(hours.isOpenAt(SATURDAY + 9 * 60));
+        assertTrue(hours.isOpenAt(SATURDAY + 10 * 60));
+        assertTrue(hours.isOpenAt(SUNDAY + 15 * 60));
+
+        OpeningHours weekend = OpeningHours.parse("Cmt-Pzt 00:00-24:00");
+        assertTrue(weekend.isOpenAt(MONDAY + 12 * 60));
+        assertFalse(weekend.isOpenAt(MONDAY + OpeningHours.DAY_MINUTES));
+        assertArrayEquals(new int[] {OpeningHours.DAY_MINUTES, SATURDAY}, weekend.boundaries());
+    }
+
+    @Test
+    public void parse_rejectsUnknownText() {
+        assertNull(OpeningHours.parse(null));
+        assertNull(OpeningHours.parse(""));
+        assertNull(OpeningHours.parse("Gün doğumundan batımına"));
+        assertNull(OpeningHours.parse("Hafta içi 08:00-20:00"));
+        assertNull(OpeningHours.parse("25:00 - 26:00"));
+        assertNull(OpeningHours.parse("08:00"));
+    }
+
+    @Test
+    public void minuteOfWeek_startsOnMonday() {
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("Europe/Istanbul"));
+        calendar.clear();
+        calendar.set(2024, Calendar.JUNE, 3, 8, 30); // Pazartesi
+        assertEquals(8 * 60 + 30, OpeningHours.minuteOfWeek(calendar));
+        calendar.set(2024, Calendar.JUNE, 9, 23, 59); // Pazar
+        assertEquals(OpeningHours.WEEK_MINUTES - 1, OpeningHours.minuteOfWeek(calendar));
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.parkapp;
+
+import static com.example.parkapp.TestParks.createCatalogParks;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * ParkCatalog doğruluk testleri ve 10.000 parklık katalog için açılış süresi
+ * ile heap kullanımının constructor listesiyle karşılaştırılması.
+ */
+public class ParkCatalogBenchmarkTest {
+
+    private static final int PARK_COUNT = 10_000;
+
+    // Birim testler modül dizininde (app/) çalışır
+    private static final File SOURCE_TSV = new File("catalog/malatya_parks.tsv");
+    private static final File BUNDLED_ASSET = new File("src/main/assets/parks.bin");
+
+    @Test
+    public void bundledAsset_matchesSourceTsv() throws Exception {
+        List<Park> expected;
+        try (Reader reader = new InputStreamReader(new FileInputStream(SOURCE_TSV), StandardCharsets.UTF_8)) {
+            expected = ParkCatalogWriter.readTsv(reader);
+        }
+        assertSameParks(expected, ParkCatalog.open(BUNDLED_ASSET).getParks());
+    }
+
+    @Test
+    public void roundTrip_preservesAllFields() throws Exception {
+        List<Park> expected = createCatalogParks(1_000);
+        assertSameParks(expected, ParkCatalog.open(writeCatalog(expected)).getParks());
+    }
+
+    @Test
+    public void benchmark_openTimeAndHeap() throws Exception {
+        File file = writeCatalog(createCatalogParks(PARK_COUNT));
+
+        // Isınma
+        for (int i = 0; i < 5; i++) {
+            createCatalogParks(PARK_COUNT);
+            ParkCatalog.open(file).getParks();
+        }
+
+        long start = System.nanoTime();
+        ParkCatalog catalog = ParkCatalog.open(file);
+        long openNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        catalog.getParks();
+        long catalogListNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        createCatalogParks(PARK_COUNT);
+        long constructorNanos = System.nanoTime() - start;
+
+        long before = usedHeap();
+        List<Park> constructed = createCatalogParks(PARK_COUNT);
+        long constructorBytes = usedHeap() - before;
+
+        before = usedHeap();
+        List<Park> mapped = ParkCatalog.open(file).getParks();
+        long catalogBytes = usedHeap() - before;
+
+        System.out.println(String.format("%d park: katalog açılışı %.2f ms, liste %.2f ms | constructor listesi %.2f ms",
+                PARK_COUNT, openNanos / 1e6, catalogListNanos / 1e6, constructorNanos / 1e6));
+        System.out.println(String.format("Heap: constructor listesi %d KB, katalog %d KB (dosya %d KB, heap dışı)",
+                constructorBytes / 1024, catalogBytes / 1024, file.length() / 1024));
+
+        assertEquals(constructed.size(), mapped.size());
+        // Açıklama ve imkanlar heap'e alınmadığı için katalog belirgin şekilde küçük olmalı
+        assertTrue(catalogBytes < constructorBytes);
+    }
+
+    private static void assertSameParks(List<Park> expected, List<Park> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Park e = expected.get(i);
+            Park a = actual.get(i);
+            assertEquals(e.getId(), a.getId());
+            assertEquals(e.getName(), a.getName());
+            assertEquals(e.getImageUrl(), a.getImageUrl());
+            assertEquals(e.getDescription(), a.getDescription());
+            assertEquals(e.getManager(), a.getManager());
+            assertEquals(e.getAddress(), a.getAddress());
+            assertEquals(e.getFacilities(), a.getFacilities());
+            assertEquals(e.getOpeningHours(), a.getOpeningHours());
+            assertEquals(e.isOpen(), a.isOpen());
+            assertEquals(e.getRating(), a.getRating(), 0.0);
+            assertEquals(e.getReviewCount(), a.getReviewCount());
+        }
+    }
+
+    private static File writeCatalog(List<Park> parks) throws Exception {
+        File file = File.createTempFile("parks", ".bin");
+        file.deleteOnExit();
+        try (OutputStream out = new FileOutputStream(file)) {
+            ParkCatalogWriter.write(parks, out);
+        }
+        return file;
+    }
+
+    // Mevcut kataloğa benzer uzunlukta metinlerle parklar üretir
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.parkapp;
+
+import androidx.annotation.NonNull;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ParkCatalogWriter - ParkCatalog biçiminde park kataloğu yazar
+ *
+ * Kaynak katalog app/catalog/*.tsv dosyalarında tutulur. Park eklemek veya
+ * yeni bir şehir kataloğu oluşturmak için TSV düzenlenir ve asset yeniden
+ * üretilir; kod değişmez. Araç test kaynak kümesinde durur ve APK'ya girmez;
+ * birim test classpath'iyle çalıştırılır:
+ *
+ *   java -cp TEST_CLASSPATH com.example.parkapp.ParkCatalogWriter \
+ *       app/catalog/malatya_parks.tsv app/src/main/assets/parks.bin
+ *
+ * @version 1.0
+ */
+final class ParkCatalogWriter {
+
+    private static final int TSV_COLUMNS = 13;
+
+    private ParkCatalogWriter() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Kullanım: ParkCatalogWriter <kaynak.tsv> <parks.bin>");
+            System.exit(2);
+        }
+        List<Park> parks;
+        try (Reader reader = new InputStreamReader(new FileInputStream(args[0]), StandardCharsets.UTF_8)) {
+            parks = readTsv(reader);
+        }
+        try (OutputStream out = new FileOutputStream(args[1])) {
+            write(parks, out);
+        }
+        System.out.println(parks.size() + " park yazıldı: " + args[1]);
+    }
+
+    /**
+     * Başlık satırı olan sekmeyle ayrılmış park listesini okur. Sütunlar:
+     * id, name, imageUrl, description, manager, address, facilities,
+     * openingHours, isOpen, rating, reviewCount, latitude, longitude.
+     * Boş imageUrl = null, boş konum = bilinmiyor.
+     */
+    @NonNull
+    static List<Park> readTsv(@NonNull Reader source) throws IOException {
+        List<Park> parks = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(source);
+        String line = reader.readLine(); // başlık
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] columns = line.split("\t", -1);
+            if (columns.length != TSV_COLUMNS) {
+                throw new IOException("Satır " + lineNumber + ": " + TSV_COLUMNS + " sütun bekleniyordu, "
+                        + columns.length + " bulundu");
+            }
+            parks.add(new Park(columns[0], columns[1], columns[2].isEmpty() ? null : columns[2],
+                    columns[3], columns[4], columns[5], columns[6], columns[7],
+                    Boolean.parseBoolean(columns[8]), Double.parseDouble(columns[9]),
+                    Integer.parseInt(columns[10]), parseCoordinate(columns[11]),
+                    parseCoordinate(columns[12])));
+        }
+        return parks;
+    }
+
+    /**
+     * Parkları katalog biçiminde yazar
+     *
+     * @param parks Parklar
+     * @param out Hedef
+     */
+    static void write(@NonNull List<Park> parks, @NonNull OutputStream out) throws IOException {
+        int poolStart = ParkCatalog.HEADER_SIZE + parks.size() * ParkCatalog.RECORD_SIZE;
+        ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+        DataOutputStream pool = new DataOutputStream(poolBytes);
+        Map<String, Integer> offsets = new HashMap<>();
+
+        ByteBuffer records = ByteBuffer.allocate(parks.size() * ParkCatalog.RECORD_SIZE);
+        for (Park park : parks) {
+            int record = records.position();
+            records.putInt(record + ParkCatalog.FIELD_ID, intern(park.getId(), poolStart, pool, offsets));
+            records.putInt(record + ParkCatalog.FIELD_NAME, intern(park.getName(), poolStart, pool, offsets));
+            records.putInt(record + ParkCatalog.FIELD_IMAGE_URL, intern(park.getImageUrl(), poolStart, pool, offsets));
+            records.putInt(record + ParkCatalog.FIELD_DESCRIPTION, intern(park.getDescription(), poolStart, pool, offsets));
+            records.putInt(record + ParkCatalog.FIELD_MANAGER, intern(park.getManager(), poolStart, pool, offsets));
+            records.putInt(record + ParkCatalog.FIELD_ADDRESS, intern(park.getAddress(), poolStart, pool, offsets));
+            records.putInt(record + ParkCatalog.FIELD_FACILITIES, intern(park.getFacilities(), poolStart, pool, offsets));
+            records.putInt(record + ParkCatalog.FIELD_OPENING_HOURS, intern(park.getOpeningHours(), poolStart, pool, offsets));
+            records.putDouble(record + ParkCatalog.FIELD_RATING, park.getRating());
+            records.putInt(record + ParkCatalog.FIELD_REVIEW_COUNT, park.getReviewCount());
+            records.putInt(record + ParkCatalog.FIELD_FLAGS, park.isOpen() ? ParkCatalog.FLAG_OPEN : 0);
+            records.putDouble(record + ParkCatalog.FIELD_LATITUDE, park.getLatitude());
+            records.putDouble(record + ParkCatalog.FIELD_LONGITUDE, park.getLongitude());
+            records.position(record + ParkCatalog.RECORD_SIZE);
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(ParkCatalog.MAGIC);
+        data.writeInt(ParkCatalog.VERSION);
+        data.writeInt(parks.size());
+        data.writeInt(ParkCatalog.RECORD_SIZE);
+        data.write(records.array());
+        pool.flush();
+        poolBytes.writeTo(data);
+        data.flush();
+    }
+
+    private static double parseCoordinate(String value) {
+        return value.isEmpty() ? Double.NaN : Double.parseDouble(value);
+    }
+
+    private static int intern(String value, int poolStart, DataOutputStream pool,
+                              Map<String, Integer> offsets) throws IOException {
+        if (value == null) {
+            return ParkCatalog.NO_STRING;
+        }
+        Integer existing = offsets.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        int offset = poolStart + pool.size();
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        pool.writeInt(bytes.length);
+        pool.write(bytes);
+        offsets.put(value, offset);
+        return offset;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.parkapp;
+
+import static com.example.parkapp.TestParks.CENTER_LATITUDE;
+import static com.example.parkapp.TestParks.CENTER_LONGITUDE;
+import static com.example.parkapp.TestParks.createClusteredParks;
+import static com.example.parkapp.TestParks.park;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+/**
+ * ParkClusterIndex: her zoom'da park sayısının korunması, görünüm sorgusunun
+ * tüm kümeleri süzmekle aynı sonucu vermesi ve 20.000 noktada süre ölçümü.
+ */
+public class ParkClusterIndexTest {
+
+    private static final int POINT_COUNT = 20_000;
+
+    @Test
+    public void everyZoom_keepsAllParksAndShrinksTowardsWorldView() {
+        List<Park> parks = createClusteredParks(5_000, new Random(2), 100, 0.004, 0.003);
+        ParkClusterIndex index = new ParkClusterIndex(parks);
+        int previous = Integer.MAX_VALUE;
+        for (int zoom = ParkClusterIndex.MAX_ZOOM + 1; zoom >= ParkClusterIndex.MIN_ZOOM; zoom--) {
+            List<ParkClusterIndex.Cluster> clusters = index.clusters(zoom, -85, -180, 85, 180);
+            int total = 0;
+            Set<Long> ids = new HashSet<>();
+            for (ParkClusterIndex.Cluster cluster : clusters) {
+                total += cluster.count;
+                assertTrue(ids.add(cluster.id));
+                assertEquals(cluster.count == 1, cluster.park != null);
+            }
+            // Konumu olmayan parklar (her 100'de bir) sayılmaz
+            assertEquals("zoom " + zoom, 5_000 - 50, total);
+            assertEquals(index.clusterCount(zoom), clusters.size());
+            assertTrue("zoom " + zoom, clusters.size() <= previous);
+            previous = clusters.size();
+        }
+        assertEquals(1, index.clusterCount(ParkClusterIndex.MIN_ZOOM));
+        assertEquals(5_000 - 50, index.clusterCount(ParkClusterIndex.MAX_ZOOM + 1));
+    }
+
+    @Test
+    public void viewport_matchesFilteringAllClusters() {
+        List<Park> parks = createClusteredParks(5_000, new Random(4), 100, 0.004, 0.003);
+        ParkClusterIndex index = new ParkClusterIndex(parks);
+        Random random = new Random(6);
+        for (int i = 0; i < 200; i++) {
+            int zoom = 8 + random.nextInt(11);
+            double span = 0.5 / (1 << Math.max(0, zoom - 8));
+            double minLatitude = CENTER_LATITUDE + (random.nextDouble() - 0.5) * 0.2;
+            double minLongitude = CENTER_LONGITUDE + (random.nextDouble() - 0.5) * 0.2;
+            double maxLatitude = minLatitude + span;
+            double maxLongitude = minLongitude + span;
+
+            Set<Long> expected = new HashSet<>();
+            for (ParkClusterIndex.Cluster cluster : index.clusters(zoom, -85, -180, 85, 180)) {
+                if (cluster.latitude >= minLatitude - 1e-9 && cluster.latitude <= maxLatitude + 1e-9
+                        && cluster.longitude >= minLongitude && cluster.longitude <= maxLongitude) {
+                    expected.add(cluster.id);
+                }
+            }
+            Set<Long> actual = new HashSet<>();
+            for (ParkClusterIndex.Cluster cluster
+                    : index.clusters(zoom, minLatitude, minLongitude, maxLatitude, maxLongitude)) {
+                actual.add(cluster.id);
+            }
+            assertEquals("zoom " + zoom, expected, actual);
+        }
+    }
+
+    @Test
+    public void pipeline_deliversOnlyLatestViewport() throws Exception {
+        ParkClusterIndex index = new ParkClusterIndex(createClusteredParks(2_000, new Random(8), 100, 0.004, 0.003));
+        AtomicReference<List<ParkClusterIndex.Cluster>> delivered = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        List<Integer> deliveries = new ArrayList<>();
+        ParkClusterPipeline pipeline = new ParkClusterPipeline(() -> index, Runnable::run, clusters -> {
+            synchronized (deliveries) {
+                deliveries.add(clusters.size());
+            }
+            delivered.set(clusters);
+            done.countDown();
+        });
+        for (int zoom = 5; zoom <= 15; zoom++) {
+            pipeline.request(zoom, 38.2, 38.1, 38.5, 38.5);
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        pipeline.close();
+        assertNotNull(delivered.get());
+        assertEquals(index.clusters(15, 38.2, 38.1, 38.5, 38.5).size(), delivered.get().size());
+        synchronized (deliveries) {
+            assertTrue("Teslim sayısı: " + deliveries.size(), deliveries.size() < 11);
+        }
+    }
+
+    @Test
+    public void benchmark_20kPoints() {
+        List<Park> parks = createClusteredParks(POINT_COUNT, new Random(1), 100, 0.004, 0.003);
+        long start = System.nanoTime();
+        ParkClusterIndex index = new ParkClusterIndex(parks);
+        double buildMillis = (System.nanoTime() - start) / 1e6;
+
+        Random random = new Random(3);
+        int queries = 2_000;
+        double[][] viewports = new double[queries][];
+        for (int i = 0; i < queries; i++) {
+            int zoom = 10 + random.nextInt(8);
+            // Yaklaşık bir telefon ekranı: 1080x2000 piksel
+            double width = 1080 / (256.0 * (1 << zoom)) * 360;
+            double height = width * 2000 / 1080 * 0.78;
+            double latitude = CENTER_LATITUDE + (random.nextDouble() - 0.5) * 0.2;
+            double longitude = CENTER_LONGITUDE + (random.nextDouble() - 0.5) * 0.2;
+            viewports[i] = new double[] {zoom, latitude, longitude, latitude + height, longitude + width};
+        }
+        for (int round = 0; round < 5; round++) {
+            for (double[] v : viewports) {
+                index.clusters(v[0], v[1], v[2], v[3], v[4]);
+            }
+        }
+        long results = 0;
+        start = System.nanoTime();
+        for (double[] v : viewports) {
+            results += index.clusters(v[0], v[1], v[2], v[3], v[4]).size();
+        }
+        double queryMicros = (System.nanoTime() - start) / 1e3 / queries;
+
+        System.out.println(String.format("%d nokta: %d zoom seviyesi %.0f ms'de hesaplandı; görünüm sorgusu"
+                        + " ortalama %.1f µs (%.0f küme); zoom 12'de %d, zoom 16'da %d küme",
+                POINT_COUNT, ParkClusterIndex.MAX_ZOOM - ParkClusterIndex.MIN_ZOOM + 1, buildMillis, queryMicros,
+                (double) results / queries, index.clusterCount(12), index.clusterCount(16)));
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.parkapp;
+
+import static com.example.parkapp.TestParks.parkWithFacilities;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * ParkFacilityIndex: olanak metninin sözlüğe eşlenmesi, bitmap
+ * kesişimlerinin kaba kuvvetle karşılaştırılması ve 10.000 parkta metin
+ * eşleştirmeye karşı süre ölçümü.
+ */
+public class ParkFacilityIndexTest {
+
+    // Katalogdaki olanak metinlerinden örnekler
+    private static final String[] FACILITIES = {
+            "Çocuk Oyun Alanı, Spor Sahaları, Yürüyüş Yolları, Piknik Alanları, Kafeler",
+            "Basketbol Sahası, Tenis Kortu, Çocuk Oyun Alanı, Spor Ekipmanları",
+            "Çocuk Oyun Alanı, Dinlenme Bankları, Yeşil Alan",
+            "Şehit Anıtı, Çocuk Oyun Alanı, Yürüyüş Yolları, Dinlenme Alanları",
+            "Kuş Gözlem Noktaları, Yürüyüş Yolları, Piknik Alanları, Çocuk Oyun Alanı",
+            "Çam Ağaçları, Yürüyüş Yolları, Piknik Alanları",
+            "Spor Sahaları, Yürüyüş Yolları, Spor Ekipmanları",
+            "Tarihi Dokuda Dinlenme Alanları, Kafeler",
+            "Manzara Seyir Noktaları, Yürüyüş Yolları"
+    };
+
+    @Test
+    public void parse_mapsCatalogTextToVocabulary() {
+        assertEquals(bits(ParkFacilityIndex.SPORTS_FIELD, ParkFacilityIndex.PLAYGROUND,
+                        ParkFacilityIndex.SPORTS_EQUIPMENT),
+                ParkFacilityIndex.parse(FACILITIES[1]));
+        assertEquals(bits(ParkFacilityIndex.MONUMENT, ParkFacilityIndex.PLAYGROUND, ParkFacilityIndex.WALKING_PATH,
+                        ParkFacilityIndex.REST_AREA),
+                ParkFacilityIndex.parse(FACILITIES[3]));
+        assertEquals(bits(ParkFacilityIndex.GREEN_AREA, ParkFacilityIndex.WALKING_PATH, ParkFacilityIndex.PICNIC_AREA),
+                ParkFacilityIndex.parse("cam agaclari, YÜRÜYÜŞ YOLU, piknik"));
+        assertEquals(bits(ParkFacilityIndex.CAFE), ParkFacilityIndex.parse("Tanıtım Merkezi, Kafe"));
+        assertEquals(0, ParkFacilityIndex.parse(""));
+        assertEquals(0, ParkFacilityIndex.parse(null));
+    }
+
+    @Test
+    public void compressedBitmap_matchesBitSet() {
+        Random random = new Random(17);
+        for (int round = 0; round < 50; round++) {
+            // Seyrek ve yoğun parçalar birlikte
+            BitSet a = randomBits(random, 200_000, random.nextDouble() * 0.2);
+            BitSet b = randomBits(random, 200_000, random.nextDouble());
+            CompressedBitmap bitmapA = CompressedBitmap.fromBitSet(a);
+            CompressedBitmap bitmapB = CompressedBitmap.fromBitSet(b);
+            assertArrayEquals(a.stream().toArray(), bitmapA.toArray());
+
+            BitSet expected = (BitSet) a.clone();
+            expected.and(b);
+            CompressedBitmap actual = bitmapA.and(bitmapB);
+            assertEquals(expected.cardinality(), actual.cardinality());
+            assertArrayEquals(expected.stream().toArray(), actual.toArray());
+            BitSet restricted = (BitSet) expected.clone();
+            BitSet c = randomBits(random, 200_000, 0.5);
+            restricted.and(c);
+            assertArrayEquals(restricted.stream().toArray(), actual.and(c).toArray());
+            for (int i = 0; i < 100; i++) {
+                int value = random.nextInt(210_000);
+                assertEquals(expected.get(value), actual.contains(value));
+            }
+        }
+        assertFalse(CompressedBitmap.EMPTY.contains(0));
+        assertTrue(CompressedBitmap.of(new int[0]).isEmpty());
+    }
+
+    @Test
+    public void matching_matchesBruteForce() {
+        Random random = new Random(19);
+        List<Park> parks = createParks(5_000, random);
+        ParkFacilityIndex index = new ParkFacilityIndex(parks);
+        ParkOpenIndex openIndex = new ParkOpenIndex(parks);
+        for (int round = 0; round < 200; round++) {
+            int mask = random.nextInt(1 << ParkFacilityIndex.FACILITY_COUNT) & random.nextInt(1 << ParkFacilityIndex.FACILITY_COUNT);
+            int minute = random.nextInt(OpeningHours.WEEK_MINUTES);
+            BitSet open = openIndex.openIds(minute);
+            boolean openNow = random.nextBoolean();
+
+            List<Integer> expected = new ArrayList<>();
+            for (int id = 0; id < parks.size(); id++) {
+                int facilities = ParkFacilityIndex.parse(parks.get(id).getFacilities());
+                if ((facilities & mask) == mask && (!openNow || open.get(id))) {
+                    expected.add(id);
+                }
+            }
+            int[] actual = index.matching(mask, openNow ? open : null).toArray();
+            assertEquals(expected.size(), actual.length);
+            for (int i = 0; i < actual.length; i++) {
+                assertEquals((int) expected.get(i), actual[i]);
+            }
+        }
+    }
+
+    @Test
+    public void benchmark_bitmapIntersectionVersusStringMatching() {
+        Random random = new Random(23);
+        List<Park> parks = createParks(10_000, random);
+        ParkFacilityIndex index = new ParkFacilityIndex(parks);
+        ParkOpenIndex openIndex = new ParkOpenIndex(parks);
+        OpeningHours[] schedules = new OpeningHours[parks.size()];
+        for (int id = 0; id < parks.size(); id++) {
+            schedules[id] = OpeningHours.parse(parks.get(id).getOpeningHours());
+        }
+        int mask = bits(ParkFacilityIndex.PLAYGROUND, ParkFacilityIndex.SPORTS_FIELD);
+        int[] minutes = new int[500];
+        for (int i = 0; i < minutes.length; i++) {
+            minutes[i] = random.nextInt(OpeningHours.WEEK_MINUTES);
+        }
+
+        long sink = 0;
+        for (int round = 0; round < 3; round++) {
+            for (int minute : minutes) {
+                sink += bitmapQuery(index, openIndex, mask, minute);
+                sink += stringQuery(parks, schedules, minute);
+            }
+        }
+        assertEquals(bitmapQuery(index, openIndex, mask, minutes[0]), stringQuery(parks, schedules, minutes[0]));
+
+        long start = System.nanoTime();
+        for (int minute : minutes) {
+            sink += bitmapQuery(index, openIndex, mask, minute);
+        }
+        long bitmap = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int minute : minutes) {
+            sink += stringQuery(parks, schedules, minute);
+        }
+        long string = System.nanoTime() - start;
+
+        long bytes = 0;
+        for (int facility = 0; facility < ParkFacilityIndex.FACILITY_COUNT; facility++) {
+            bytes += index.matching(1 << facility).sizeInBytes();
+        }
+        System.out.println(String.format("%d park, oyun alanı + spor sahası + açık: sorgu başına bitmap ile %.1f µs,"
+                        + " metin aramasıyla %.1f µs; bitmap'ler %d bayt (kontrol toplamı %d)",
+                parks.size(), bitmap / 1000.0 / minutes.length, string / 1000.0 / minutes.length, bytes, sink));
+    }
+
+    private static int bitmapQuery(ParkFacilityIndex index, ParkOpenIndex openIndex, int mask, int minute) {
+        return index.matching(mask, openIndex.openIds(minute)).cardinality();
+    }
+
+    // Eski yol: her parkın metninde alt dize arama ve programını değerlendirme
+    private static int stringQuery(List<Park> parks, OpeningHours[] schedules, int minute) {
+        int count = 0;
+        for (int id = 0; id < parks.size(); id++) {
+            Park park = parks.get(id);
+            String facilities = park.getFacilities();
+            boolean sports = facilities.contains("Spor Saha") || facilities.contains("Basketbol")
+                    || facilities.contains("Tenis");
+            if (facilities.contains("Çocuk Oyun Alanı") && sports && park.isOpen()
+                    && (schedules[id] == null || schedules[id].isOpenAt(minute))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static BitSet randomBits(Random random, int size, double density) {
+        BitSet bits = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (random.nextDouble() < density) {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+
+    private static int bits(int... facilities) {
+        int mask = 0;
+        for (int facility : facilities) {
+            mask |= 1 << facility;
+        }
+        return mask;
+    }
+
+    private static List<Park> createParks(int count, Random random) {
+        String[] hours = {"24 Saat Açık", "06:00 - 22:00", "06:00 - 23:00", "08:00 - 20:00"};
+        List<Park> parks = new ArrayList<>(count);
+        for (int id = 0; id < count; id++) {
+            parks.add(parkWithFacilities(String.valueOf(id), FACILITIES[random.nextInt(FACILITIES.length)],
+                    hours[random.nextInt(hours.length)], random.nextInt(20) != 0));
+        }
+        return parks;
+    }
+}
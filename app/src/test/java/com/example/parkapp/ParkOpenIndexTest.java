@@ -0,0 +1,145 @@
+package com.example.parkapp;
+
+import static com.example.parkapp.TestParks.parkWithHours;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import org.junit.Test;
+
+/**
+ * ParkOpenIndex: açık park kümesinin ve bir sonraki değişim anının her
+ * programı tek tek değerlendiren kaba kuvvetle karşılaştırılması.
+ */
+public class ParkOpenIndexTest {
+
+    private static final TimeZone ISTANBUL = TimeZone.getTimeZone("Europe/Istanbul");
+
+    @Test
+    public void openIds_matchBruteForceEveryMinute() {
+        List<Park> parks = createParks(300, new Random(11));
+        ParkOpenIndex index = new ParkOpenIndex(parks);
+        OpeningHours[] schedules = new OpeningHours[parks.size()];
+        for (int id = 0; id < parks.size(); id++) {
+            schedules[id] = OpeningHours.parse(parks.get(id).getOpeningHours());
+        }
+
+        BitSet previous = bruteForce(parks, schedules, OpeningHours.WEEK_MINUTES - 1);
+        for (int minute = 0; minute < OpeningHours.WEEK_MINUTES; minute++) {
+            BitSet expected = bruteForce(parks, schedules, minute);
+            assertEquals("minute " + minute, expected, index.openIds(minute));
+            // Durum değişen her dakika, bir önceki dakikanın "sonraki değişim"i olmalı
+            int previousMinute = Math.floorMod(minute - 1, OpeningHours.WEEK_MINUTES);
+            boolean changed = !expected.equals(previous);
+            assertEquals("minute " + minute, changed, index.minutesUntilNextChange(previousMinute) == 1);
+            previous = expected;
+        }
+    }
+
+    @Test
+    public void statusAt_isValidUntilNextBoundary() {
+        List<Park> parks = new ArrayList<>();
+        parks.add(parkWithHours("0", "08:00 - 20:00", true));
+        parks.add(parkWithHours("1", "24 Saat Açık", true));
+        parks.add(parkWithHours("2", "06:00 - 22:00", false));
+        parks.add(parkWithHours("3", "Her zaman", true));
+        ParkOpenIndex index = new ParkOpenIndex(parks);
+
+        Calendar calendar = Calendar.getInstance(ISTANBUL);
+        calendar.clear();
+        calendar.set(2024, Calendar.JUNE, 5, 19, 42, 30); // Çarşamba
+        ParkOpenIndex.Status status = index.statusAt(calendar.getTimeInMillis(), ISTANBUL);
+        assertTrue(status.isOpen(parks.get(0)));
+        assertTrue(status.isOpen(parks.get(1)));
+        // Hizmet dışı park saatinden bağımsız kapalı; anlaşılamayan saatlerde bayrak geçerli
+        assertFalse(status.isOpen(parks.get(2)));
+        assertTrue(status.isOpen(parks.get(3)));
+        // Index'te olmayan park kendi bayrağını kullanır
+        assertFalse(status.isOpen(parkWithHours("x", "08:00 - 20:00", false)));
+
+        calendar.set(2024, Calendar.JUNE, 5, 20, 0, 0);
+        assertEquals(calendar.getTimeInMillis(), status.getValidUntilMillis());
+        assertFalse(index.statusAt(status.getValidUntilMillis(), ISTANBUL).isOpen(parks.get(0)));
+
+        ParkOpenIndex alwaysOpen = new ParkOpenIndex(parks.subList(1, 2));
+        assertEquals(-1, alwaysOpen.minutesUntilNextChange(0));
+        assertEquals(Long.MAX_VALUE, alwaysOpen.statusAt(0, ISTANBUL).getValidUntilMillis());
+    }
+
+    @Test
+    public void benchmark_openNowVersusEvaluatingEverySchedule() {
+        Random random = new Random(13);
+        List<Park> parks = createParks(10_000, random);
+        ParkOpenIndex index = new ParkOpenIndex(parks);
+        OpeningHours[] schedules = new OpeningHours[parks.size()];
+        for (int id = 0; id < parks.size(); id++) {
+            schedules[id] = OpeningHours.parse(parks.get(id).getOpeningHours());
+        }
+        int[] minutes = new int[2_000];
+        for (int i = 0; i < minutes.length; i++) {
+            minutes[i] = random.nextInt(OpeningHours.WEEK_MINUTES);
+        }
+
+        long sink = 0;
+        for (int round = 0; round < 3; round++) {
+            for (int minute : minutes) {
+                sink += index.openIds(minute).cardinality();
+                sink += bruteForce(parks, schedules, minute).cardinality();
+            }
+        }
+
+        long start = System.nanoTime();
+        for (int minute : minutes) {
+            sink += index.openIds(minute).cardinality();
+        }
+        long indexed = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int minute : minutes) {
+            sink += bruteForce(parks, schedules, minute).cardinality();
+        }
+        long scanned = System.nanoTime() - start;
+
+        System.out.println(String.format("%d park: açık parklar sorgu başına index ile %.1f µs, tam taramayla %.1f µs"
+                        + " (kontrol toplamı %d)",
+                parks.size(), indexed / 1000.0 / minutes.length, scanned / 1000.0 / minutes.length, sink));
+    }
+
+    private static BitSet bruteForce(List<Park> parks, OpeningHours[] schedules, int minute) {
+        BitSet open = new BitSet(parks.size());
+        for (int id = 0; id < parks.size(); id++) {
+            OpeningHours schedule = schedules[id] != null ? schedules[id] : OpeningHours.ALWAYS_OPEN;
+            if (parks.get(id).isOpen() && schedule.isOpenAt(minute)) {
+                open.set(id);
+            }
+        }
+        return open;
+    }
+
+    private static List<Park> createParks(int count, Random random) {
+        String[] fixed = {"24 Saat Açık", "06:00 - 22:00", "06:00 - 23:00", "08:00 - 20:00", "Kapalı",
+                "22:00 - 02:00", "Pzt-Cum 08:00-12:00, 13:00-18:00; Cmt 10:00-14:00", "Bilinmiyor"};
+        List<Park> parks = new ArrayList<>(count);
+        for (int id = 0; id < count; id++) {
+            String hours;
+            if (random.nextInt(4) == 0) {
+                int open = random.nextInt(24 * 4) * 15;
+                int close = random.nextInt(24 * 4) * 15;
+                hours = String.format("%02d:%02d - %02d:%02d", open / 60, open % 60, close / 60, close % 60);
+                if (open == close) {
+                    hours = "24 Saat Açık";
+                }
+            } else {
+                hours = fixed[random.nextInt(fixed.length)];
+            }
+            parks.add(parkWithHours(String.valueOf(id), hours, random.nextInt(20) != 0));
+        }
+        return parks;
+    }
+}
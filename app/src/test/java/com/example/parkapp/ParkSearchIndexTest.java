@@ -0,0 +1,163 @@
+package com.example.parkapp;
+
+import static com.example.parkapp.TestParks.DISTRICTS;
+import static com.example.parkapp.TestParks.NAMES;
+import static com.example.parkapp.TestParks.createNamedParks;
+import static com.example.parkapp.TestParks.park;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * ParkSearchIndex doğruluk testleri, kaba kuvvet aramayla karşılaştırma ve
+ * 10.000 parkta sorgu süresi ölçümü.
+ */
+public class ParkSearchIndexTest {
+
+    private static final int PARK_COUNT = 10_000;
+
+    @Test
+    public void turkishCaseAndDiacriticsFold() {
+        ParkSearchIndex index = new ParkSearchIndex(Arrays.asList(
+                park("1", "İnönü Parkı", "Merkez, Malatya"),
+                park("2", "Işıklı Parkı", "Yeşilyurt, Malatya"),
+                park("3", "Çınaraltı Parkı", "Şehit Mahallesi, Battalgazi")));
+
+        for (String query : new String[] {"inönü", "İNÖNÜ", "INONU", "ino", "İn"}) {
+            assertEquals(query, "1", single(index.search(query)));
+        }
+        for (String query : new String[] {"ışıklı", "IŞIKLI", "isikli", "Işık"}) {
+            assertEquals(query, "2", single(index.search(query)));
+        }
+        assertEquals("3", single(index.search("cinar")));
+        assertEquals("3", single(index.search("sehit battal")));
+        assertEquals(2, index.search("yesilyurt").size() + index.search("merkez").size());
+        assertEquals(3, index.search("parki").size());
+        assertEquals(3, index.search("").size());
+        assertEquals(0, index.search("inönü yeşilyurt").size());
+        assertEquals(0, index.search("xyz").size());
+    }
+
+    @Test
+    public void matchesBruteForce() {
+        List<Park> parks = createNamedParks(2_000, new Random(7));
+        ParkSearchIndex index = new ParkSearchIndex(parks);
+        Random random = new Random(11);
+        for (int i = 0; i < 500; i++) {
+            String query = randomQuery(random);
+            List<String> expected = new ArrayList<>();
+            List<String> queryTokens = ParkSearchIndex.tokenize(query);
+            for (Park park : parks) {
+                if (matches(park, queryTokens)) {
+                    expected.add(park.getId());
+                }
+            }
+            List<String> actual = new ArrayList<>();
+            for (Park park : index.search(query)) {
+                actual.add(park.getId());
+            }
+            assertEquals(query, expected, actual);
+        }
+    }
+
+    @Test
+    public void narrow_matchesFullSearchForRefinedQueries() {
+        List<Park> parks = createNamedParks(2_000, new Random(13));
+        ParkSearchIndex index = new ParkSearchIndex(parks);
+        Random random = new Random(17);
+        for (int i = 0; i < 300; i++) {
+            String full = randomQuery(random);
+            int[] previous = index.searchIds("");
+            List<String> previousTokens = ParkSearchIndex.tokenize("");
+            // Sorguyu karakter karakter yazıyormuş gibi daralt
+            for (int end = 1; end <= full.length(); end++) {
+                String query = full.substring(0, end);
+                List<String> tokens = ParkSearchIndex.tokenize(query);
+                assertTrue(query, ParkSearchIndex.refines(previousTokens, tokens));
+                previous = index.narrow(previous, query);
+                assertArrayEquals(query, index.searchIds(query), previous);
+                previousTokens = tokens;
+            }
+        }
+        assertFalse(ParkSearchIndex.refines(ParkSearchIndex.tokenize("inon"), ParkSearchIndex.tokenize("ino")));
+        assertFalse(ParkSearchIndex.refines(ParkSearchIndex.tokenize("ino mer"), ParkSearchIndex.tokenize("ino")));
+    }
+
+    @Test
+    public void benchmark_queriesUnderOneMillisecondFor10kParks() {
+        List<Park> parks = createNamedParks(PARK_COUNT, new Random(1));
+        long start = System.nanoTime();
+        ParkSearchIndex index = new ParkSearchIndex(parks);
+        long buildNanos = System.nanoTime() - start;
+
+        Random random = new Random(3);
+        String[] queries = new String[1_000];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = randomQuery(random);
+        }
+        // Isınma
+        for (int round = 0; round < 20; round++) {
+            for (String query : queries) {
+                index.searchIds(query);
+            }
+        }
+
+        long matches = 0;
+        start = System.nanoTime();
+        for (String query : queries) {
+            matches += index.searchIds(query).length;
+        }
+        double averageMicros = (System.nanoTime() - start) / 1e3 / queries.length;
+
+        System.out.println(String.format("%d park: index %.1f ms, sorgu başına ortalama %.1f µs (%.0f eşleşme)",
+                PARK_COUNT, buildNanos / 1e6, averageMicros, (double) matches / queries.length));
+    }
+
+    private static boolean matches(Park park, List<String> queryTokens) {
+        List<String> parkTokens = new ArrayList<>(ParkSearchIndex.tokenize(park.getName()));
+        parkTokens.addAll(ParkSearchIndex.tokenize(park.getAddress()));
+        for (String queryToken : queryTokens) {
+            boolean found = false;
+            for (String parkToken : parkTokens) {
+                if (parkToken.startsWith(queryToken)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String randomQuery(Random random) {
+        String word = random.nextBoolean()
+                ? NAMES[random.nextInt(NAMES.length)]
+                : DISTRICTS[random.nextInt(DISTRICTS.length)];
+        String query = word.substring(0, 1 + random.nextInt(word.length()));
+        if (random.nextInt(4) == 0) {
+            String second = DISTRICTS[random.nextInt(DISTRICTS.length)];
+            query += " " + second.substring(0, 1 + random.nextInt(second.length()));
+        }
+        return random.nextBoolean() ? query.toUpperCase() : query;
+    }
+
+    private static String single(List<Park> parks) {
+        assertEquals(1, parks.size());
+        return parks.get(0).getId();
+    }
+
+    @Test
+    public void emptyQuery_returnsAllIds() {
+        ParkSearchIndex index = new ParkSearchIndex(createNamedParks(10, new Random(5)));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, index.searchIds("  , "));
+    }
+}
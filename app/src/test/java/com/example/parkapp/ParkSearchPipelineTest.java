@@ -0,0 +1,187 @@
+package com.example.parkapp;
+
+import static com.example.parkapp.TestParks.park;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+/**
+ * ParkSearchPipeline: hızlı yazımda yalnızca son sorgunun sonucu teslim
+ * edilmeli, kapatıldıktan sonra hiçbir sonuç gelmemeli, index'ler çağıranın
+ * değil pipeline'ın iş parçacığında oluşturulmalı.
+ */
+public class ParkSearchPipelineTest {
+
+    private final ParkSearchIndex index = new ParkSearchIndex(Arrays.asList(
+            park("1", "İnönü Parkı", "Merkez, Malatya"),
+            park("2", "Işıklı Parkı", "Yeşilyurt, Malatya"),
+            park("3", "İnönü Gençlik Parkı", "Battalgazi, Malatya")));
+
+    @Test
+    public void burstOfKeystrokes_deliversOnlyLatestResult() throws Exception {
+        List<String> delivered = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        ParkSearchPipeline pipeline = new ParkSearchPipeline(() -> index, null, Runnable::run, (query, parks) -> {
+            synchronized (delivered) {
+                delivered.add(query + "=" + parks.size());
+            }
+            done.countDown();
+        });
+        for (String query : new String[] {"i", "in", "inö", "inön", "inönü", "inönü g"}) {
+            pipeline.submit(query);
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        Thread.sleep(ParkSearchPipeline.DEBOUNCE_MS * 2);
+        pipeline.close();
+        synchronized (delivered) {
+            assertEquals(Arrays.asList("inönü g=1"), delivered);
+        }
+    }
+
+    @Test
+    public void refinedQueries_narrowPreviousResults() throws Exception {
+        List<String> delivered = new ArrayList<>();
+        ParkSearchPipeline pipeline = new ParkSearchPipeline(() -> index, null, Runnable::run, (query, parks) -> {
+            synchronized (delivered) {
+                delivered.add(query + "=" + parks.size());
+            }
+        });
+        for (String query : new String[] {"park", "parki", "parki mal", "parki malatya bat", "ışık", ""}) {
+            pipeline.submit(query, 0);
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (System.currentTimeMillis() < deadline) {
+                synchronized (delivered) {
+                    if (!delivered.isEmpty() && delivered.get(delivered.size() - 1).startsWith(query + "=")) {
+                        break;
+                    }
+                }
+                Thread.sleep(5);
+            }
+        }
+        pipeline.close();
+        assertEquals(Arrays.asList("park=3", "parki=3", "parki mal=3", "parki malatya bat=1", "ışık=1", "=3"),
+                delivered);
+    }
+
+    @Test
+    public void noPrefixMatch_fallsBackToTrigramRanking() throws Exception {
+        List<String> delivered = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        ParkTrigramIndex fuzzyIndex = new ParkTrigramIndex(index.getParks());
+        ParkSearchPipeline pipeline = new ParkSearchPipeline(() -> index, () -> fuzzyIndex, Runnable::run, (query, parks) -> {
+            for (Park park : parks) {
+                delivered.add(park.getId());
+            }
+            done.countDown();
+        });
+        pipeline.submit("inonu genclk", 0);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        pipeline.close();
+        assertEquals("3", delivered.get(0));
+    }
+
+    @Test
+    public void filter_restrictsResultsAndRerunsQuery() throws Exception {
+        List<String> delivered = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+        ParkSearchPipeline pipeline = new ParkSearchPipeline(() -> index, null, Runnable::run, (query, parks) -> {
+            StringBuilder ids = new StringBuilder();
+            for (Park park : parks) {
+                ids.append(park.getId());
+            }
+            delivered.add(query + "=" + ids);
+            done.countDown();
+        });
+        pipeline.submit("parki", 0);
+        Thread.sleep(ParkSearchPipeline.DEBOUNCE_MS);
+        pipeline.setFilter(() -> CompressedBitmap.of(new int[] {0, 2}));
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        pipeline.close();
+        assertEquals(Arrays.asList("parki=123", "parki=13"), delivered);
+    }
+
+    @Test
+    public void sortBy_ordersAndLimitsResults() throws Exception {
+        List<String> delivered = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+        ParkSearchPipeline pipeline = new ParkSearchPipeline(() -> index, null, Runnable::run, (query, parks) -> {
+            StringBuilder ids = new StringBuilder();
+            for (Park park : parks) {
+                ids.append(park.getId());
+            }
+            delivered.add(ids.toString());
+            done.countDown();
+        });
+        ParkSortOrders orders = new ParkSortOrders(index.getParks());
+        pipeline.sortBy(() -> orders, ParkSortOrders.ORDER_NAME, 0);
+        Thread.sleep(ParkSearchPipeline.DEBOUNCE_MS);
+        pipeline.sortBy(() -> orders, ParkSortOrders.ORDER_NAME, 2);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        pipeline.close();
+        assertEquals(Arrays.asList("231", "23"), delivered);
+    }
+
+    @Test
+    public void ratingSummaries_reorderRatingSort() throws Exception {
+        List<String> delivered = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+        ParkSearchPipeline pipeline = new ParkSearchPipeline(() -> index, null, Runnable::run, (query, parks) -> {
+            StringBuilder ids = new StringBuilder();
+            for (Park park : parks) {
+                ids.append(park.getId());
+            }
+            delivered.add(ids.toString());
+            done.countDown();
+        });
+        ParkSortOrders orders = new ParkSortOrders(index.getParks());
+        pipeline.sortBy(() -> orders, ParkSortOrders.ORDER_RATING, 0);
+        Thread.sleep(ParkSearchPipeline.DEBOUNCE_MS);
+        RatingSummary summary = RatingSummary.fromCatalog(index.getParks().get(2)).with(5).with(5);
+        pipeline.setRatingSummaries(Collections.singletonMap("3", summary));
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        pipeline.close();
+        // Puanlar eşitken ad sırası (Işıklı, İnönü Gençlik, İnönü); canlı özetle "3" öne geçer
+        assertEquals(Arrays.asList("231", "321"), delivered);
+    }
+
+    @Test
+    public void indexLoaders_runOnPipelineThread() throws Exception {
+        List<Thread> loaderThreads = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+        ParkSearchPipeline pipeline = new ParkSearchPipeline(() -> {
+            loaderThreads.add(Thread.currentThread());
+            return index;
+        }, null, Runnable::run, (query, parks) -> done.countDown());
+        pipeline.load(() -> {
+            loaderThreads.add(Thread.currentThread());
+            return new ParkOpenIndex(index.getParks());
+        }, openIndex -> done.countDown());
+        pipeline.submit("park", 0);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        pipeline.close();
+        assertEquals(2, loaderThreads.size());
+        for (Thread thread : loaderThreads) {
+            assertNotSame(Thread.currentThread(), thread);
+        }
+    }
+
+    @Test
+    public void closedPipeline_deliversNothing() throws Exception {
+        List<String> delivered = new ArrayList<>();
+        ParkSearchPipeline pipeline = new ParkSearchPipeline(() -> index, null, Runnable::run,
+                (query, parks) -> delivered.add(query));
+        pipeline.submit("park");
+        pipeline.close();
+        pipeline.submit("inönü");
+        Thread.sleep(ParkSearchPipeline.DEBOUNCE_MS * 2);
+        assertTrue(delivered.isEmpty());
+    }
+}
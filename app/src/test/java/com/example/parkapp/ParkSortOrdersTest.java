@@ -0,0 +1,179 @@
+package com.example.parkapp;
+
+import static com.example.parkapp.TestParks.park;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * ParkSortOrders: Türkçe ad sırası, filtrelenmiş sonuçların permütasyonla
+ * sıralanmasının ve top-K'nın tam sıralamayla karşılaştırılması, 10.000
+ * parkta listeyi yeniden sıralamaya karşı süre ölçümü.
+ */
+public class ParkSortOrdersTest {
+
+    @Test
+    public void nameOrder_followsTurkishAlphabet() {
+        List<Park> parks = Arrays.asList(
+                park("1", "Orduzu Parkı", "Merkez", 4.0, 10),
+                park("2", "Çınar Parkı", "Merkez", 4.0, 10),
+                park("3", "İnönü Parkı", "Merkez", 4.0, 10),
+                park("4", "Işıklı Parkı", "Merkez", 4.0, 10),
+                park("5", "Cumhuriyet Parkı", "Merkez", 4.0, 10),
+                park("6", "Özal Parkı", "Merkez", 4.0, 10));
+        List<String> names = new ArrayList<>();
+        for (Park park : new ParkSortOrders(parks).sorted(ParkSortOrders.ORDER_NAME)) {
+            names.add(park.getName());
+        }
+        assertEquals(Arrays.asList("Cumhuriyet Parkı", "Çınar Parkı", "Işıklı Parkı", "İnönü Parkı",
+                "Orduzu Parkı", "Özal Parkı"), names);
+    }
+
+    @Test
+    public void ratingOrder_breaksTiesByReviewCount() {
+        List<Park> parks = Arrays.asList(
+                park("1", "A", "Merkez", 4.5, 10),
+                park("2", "B", "Merkez", 4.8, 5),
+                park("3", "C", "Merkez", 4.5, 200),
+                park("4", "D", "Merkez", 3.9, 1000));
+        ParkSortOrders orders = new ParkSortOrders(parks);
+        assertArrayEquals(new int[] {1, 2, 0, 3}, orders.permutation(ParkSortOrders.ORDER_RATING));
+        assertArrayEquals(new int[] {3, 2, 0, 1}, orders.permutation(ParkSortOrders.ORDER_REVIEWS));
+        assertEquals("B", orders.top(ParkSortOrders.ORDER_RATING, 1).get(0).getName());
+        assertArrayEquals(new int[] {0, 1, 2, 3}, orders.permutation(ParkSortOrders.ORDER_CATALOG));
+    }
+
+    @Test
+    public void ratingSummaries_replaceCatalogValuesInRatingOrders() {
+        List<Park> parks = Arrays.asList(
+                park("1", "A", "Merkez", 4.5, 10),
+                park("2", "B", "Merkez", 4.8, 5),
+                park("3", "C", "Merkez", 4.5, 200),
+                park("4", "D", "Merkez", 3.9, 1000));
+        ParkSortOrders orders = new ParkSortOrders(parks);
+        // B'ye beş tane 1 yıldız: ortalama 2,9, 10 değerlendirme
+        RatingSummary summary = RatingSummary.fromCatalog(parks.get(1));
+        for (int i = 0; i < 5; i++) {
+            summary = summary.with(1);
+        }
+        Map<String, RatingSummary> summaries = new HashMap<>();
+        summaries.put("2", summary);
+
+        ParkSortOrders live = orders.withRatingSummaries(summaries);
+        assertArrayEquals(new int[] {2, 0, 3, 1}, live.permutation(ParkSortOrders.ORDER_RATING));
+        assertArrayEquals(new int[] {3, 2, 0, 1}, live.permutation(ParkSortOrders.ORDER_REVIEWS));
+        assertArrayEquals(orders.permutation(ParkSortOrders.ORDER_NAME), live.permutation(ParkSortOrders.ORDER_NAME));
+        // Özgün sıralar değişmez
+        assertArrayEquals(new int[] {1, 2, 0, 3}, orders.permutation(ParkSortOrders.ORDER_RATING));
+    }
+
+    @Test
+    public void sortAndTop_matchFullSort() {
+        Random random = new Random(29);
+        List<Park> parks = createParks(5_000, random);
+        ParkSortOrders orders = new ParkSortOrders(parks);
+        for (int round = 0; round < 200; round++) {
+            int order = random.nextInt(ParkSortOrders.ORDER_COUNT);
+            int[] ranks = orders.ranks(order);
+            // Hem az (rank sıralama) hem çok (permütasyon gezme) sonuç
+            double density = round % 2 == 0 ? 0.01 : 0.6;
+            int[] ids = randomSubset(random, parks.size(), density);
+            Integer[] expected = Arrays.stream(ids).boxed().toArray(Integer[]::new);
+            Arrays.sort(expected, Comparator.comparingInt(id -> ranks[id]));
+            int[] expectedIds = Arrays.stream(expected).mapToInt(Integer::intValue).toArray();
+
+            assertArrayEquals(expectedIds, ParkSortOrders.sort(ids, ranks, orders.permutation(order)));
+            int k = 1 + random.nextInt(20);
+            assertArrayEquals(Arrays.copyOf(expectedIds, Math.min(k, expectedIds.length)),
+                    ParkSortOrders.top(ids, ranks, orders.permutation(order), k));
+        }
+    }
+
+    @Test
+    public void benchmark_permutationVersusResort() {
+        Random random = new Random(31);
+        List<Park> parks = createParks(10_000, random);
+        ParkSortOrders orders = new ParkSortOrders(parks);
+        int[] ranks = orders.ranks(ParkSortOrders.ORDER_RATING);
+        int[] permutation = orders.permutation(ParkSortOrders.ORDER_RATING);
+        Comparator<Park> byRating = Comparator.comparingDouble(Park::getRating).reversed()
+                .thenComparing(Comparator.comparingInt(Park::getReviewCount).reversed());
+        int[][] filters = new int[200][];
+        for (int i = 0; i < filters.length; i++) {
+            filters[i] = randomSubset(random, parks.size(), i % 2 == 0 ? 0.02 : 0.5);
+        }
+
+        long sink = 0;
+        for (int round = 0; round < 3; round++) {
+            for (int[] ids : filters) {
+                sink += ParkSortOrders.sort(ids, ranks, permutation)[0];
+                sink += resort(parks, ids, byRating).size();
+            }
+        }
+
+        long start = System.nanoTime();
+        for (int[] ids : filters) {
+            sink += ParkSortOrders.sort(ids, ranks, permutation)[0];
+        }
+        long permuted = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int[] ids : filters) {
+            sink += ParkSortOrders.top(ids, ranks, permutation, 10)[0];
+        }
+        long topK = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int[] ids : filters) {
+            sink += resort(parks, ids, byRating).size();
+        }
+        long resorted = System.nanoTime() - start;
+
+        System.out.println(String.format("%d park: filtre başına permütasyonla %.1f µs, ilk 10 %.1f µs,"
+                        + " yeniden sıralamayla %.1f µs (kontrol toplamı %d)",
+                parks.size(), permuted / 1000.0 / filters.length, topK / 1000.0 / filters.length,
+                resorted / 1000.0 / filters.length, sink));
+    }
+
+    // Eski yol: filtrelenmiş listeyi her seferinde karşılaştırıcıyla sıralamak
+    private static List<Park> resort(List<Park> parks, int[] ids, Comparator<Park> comparator) {
+        List<Park> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(parks.get(id));
+        }
+        result.sort(comparator);
+        return result;
+    }
+
+    private static int[] randomSubset(Random random, int n, double density) {
+        int[] ids = new int[n];
+        int count = 0;
+        for (int id = 0; id < n; id++) {
+            if (random.nextDouble() < density) {
+                ids[count++] = id;
+            }
+        }
+        if (count == 0) {
+            ids[count++] = random.nextInt(n);
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    private static List<Park> createParks(int count, Random random) {
+        String[] words = {"Kültür", "İnönü", "Çınar", "Özal", "Şehit", "Işıklı", "Gündüz", "Beşkonak"};
+        List<Park> parks = new ArrayList<>(count);
+        for (int id = 0; id < count; id++) {
+            String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " Parkı";
+            parks.add(park(String.valueOf(id), name, "Merkez", 1 + random.nextInt(41) / 10.0, random.nextInt(500)));
+        }
+        return parks;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.parkapp;
+
+import static com.example.parkapp.TestParks.CENTER_LATITUDE;
+import static com.example.parkapp.TestParks.CENTER_LONGITUDE;
+import static com.example.parkapp.TestParks.createClusteredParks;
+import static com.example.parkapp.TestParks.park;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * ParkSpatialIndex: en yakın N park ve görünüm sorgularının kaba kuvvet
+ * taramayla karşılaştırılması ve 50.000 parkta süre ölçümü.
+ */
+public class ParkSpatialIndexTest {
+
+    // Malatya çevresi
+
+    @Test
+    public void nearest_matchesBruteForce() {
+        Random random = new Random(3);
+        List<Park> parks = createClusteredParks(5_000, random, 50, 0.003, 0.002);
+        ParkSpatialIndex index = new ParkSpatialIndex(parks);
+        for (int i = 0; i < 300; i++) {
+            // Bazı sorgular ızgaranın dışından
+            double spread = i % 10 == 0 ? 2.0 : 0.1;
+            double latitude = CENTER_LATITUDE + (random.nextDouble() - 0.5) * spread;
+            double longitude = CENTER_LONGITUDE + (random.nextDouble() - 0.5) * spread;
+            int n = 1 + random.nextInt(30);
+            assertArrayEquals(bruteForceNearest(parks, latitude, longitude, n),
+                    index.nearestIds(latitude, longitude, n));
+        }
+    }
+
+    @Test
+    public void viewport_matchesBruteForce() {
+        Random random = new Random(5);
+        List<Park> parks = createClusteredParks(5_000, random, 50, 0.003, 0.002);
+        ParkSpatialIndex index = new ParkSpatialIndex(parks);
+        for (int i = 0; i < 300; i++) {
+            double minLatitude = CENTER_LATITUDE + (random.nextDouble() - 0.6) * 0.1;
+            double minLongitude = CENTER_LONGITUDE + (random.nextDouble() - 0.6) * 0.1;
+            double maxLatitude = minLatitude + random.nextDouble() * 0.05;
+            double maxLongitude = minLongitude + random.nextDouble() * 0.05;
+            List<Integer> expected = new ArrayList<>();
+            for (int id = 0; id < parks.size(); id++) {
+                Park park = parks.get(id);
+                if (park.hasLocation() && park.getLatitude() >= minLatitude && park.getLatitude() <= maxLatitude
+                        && park.getLongitude() >= minLongitude && park.getLongitude() <= maxLongitude) {
+                    expected.add(id);
+                }
+            }
+            int[] actual = index.viewportIds(minLatitude, minLongitude, maxLatitude, maxLongitude);
+            assertEquals(expected.size(), actual.length);
+            for (int j = 0; j < actual.length; j++) {
+                assertEquals((int) expected.get(j), actual[j]);
+            }
+        }
+    }
+
+    @Test
+    public void parksWithoutLocation_areSkipped() {
+        List<Park> parks = Arrays.asList(
+                park("0", Double.NaN, Double.NaN),
+                park("1", 38.35, 38.31),
+                park("2", 38.36, 38.32));
+        ParkSpatialIndex index = new ParkSpatialIndex(parks);
+        assertArrayEquals(new int[] {1, 2}, index.nearestIds(38.35, 38.31, 10));
+        assertEquals("2", index.nearest(38.361, 38.321, 1).get(0).getId());
+        assertEquals(0, new ParkSpatialIndex(parks.subList(0, 1)).nearestIds(38.35, 38.31, 5).length);
+    }
+
+    @Test
+    public void benchmark_nearestWithoutScanningAllParks() {
+        Random random = new Random(1);
+        List<Park> parks = createClusteredParks(50_000, random, 50, 0.003, 0.002);
+        ParkSpatialIndex index = new ParkSpatialIndex(parks);
+        double[][] queries = new double[1_000][];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = new double[] {CENTER_LATITUDE + (random.nextDouble() - 0.5) * 0.1,
+                    CENTER_LONGITUDE + (random.nextDouble() - 0.5) * 0.1};
+        }
+        for (int round = 0; round < 5; round++) {
+            for (double[] query : queries) {
+                index.nearestIds(query[0], query[1], 10);
+            }
+            bruteForceNearest(parks, queries[round][0], queries[round][1], 10);
+        }
+
+        long start = System.nanoTime();
+        for (double[] query : queries) {
+            index.nearestIds(query[0], query[1], 10);
+        }
+        double indexMicros = (System.nanoTime() - start) / 1e3 / queries.length;
+        start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            bruteForceNearest(parks, queries[i][0], queries[i][1], 10);
+        }
+        double scanMicros = (System.nanoTime() - start) / 1e3 / 20;
+
+        System.out.println(String.format("50000 park, en yakın 10: index %.1f µs, tam tarama %.0f µs",
+                indexMicros, scanMicros));
+        assertTrue("index: " + indexMicros + " µs, tarama: " + scanMicros + " µs", indexMicros * 10 < scanMicros);
+    }
+
+    private static int[] bruteForceNearest(List<Park> parks, double latitude, double longitude, int n) {
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 0; id < parks.size(); id++) {
+            if (parks.get(id).hasLocation()) {
+                ids.add(id);
+            }
+        }
+        double[] distances = new double[parks.size()];
+        for (int id : ids) {
+            distances[id] = ParkSpatialIndex.distanceMeters(latitude, longitude,
+                    parks.get(id).getLatitude(), parks.get(id).getLongitude());
+        }
+        ids.sort(Comparator.<Integer>comparingDouble(id -> distances[id]).thenComparingInt(id -> id));
+        int[] out = new int[Math.min(n, ids.size())];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = ids.get(i);
+        }
+        return out;
+    }
+}
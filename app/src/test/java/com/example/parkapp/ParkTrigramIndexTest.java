@@ -0,0 +1,147 @@
+package com.example.parkapp;
+
+import static com.example.parkapp.TestParks.DISTRICTS;
+import static com.example.parkapp.TestParks.NAMES;
+import static com.example.parkapp.TestParks.createNamedParks;
+import static com.example.parkapp.TestParks.park;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * ParkTrigramIndex: yazım hatalı sorgular, puan/değerlendirme etkisi, top-K
+ * heap'in tam sıralamayla karşılaştırılması ve 10.000-50.000 parkta süre ölçümü.
+ */
+public class ParkTrigramIndexTest {
+
+    @Test
+    public void misspelledQueries_findThePark() {
+        ParkTrigramIndex index = new ParkTrigramIndex(Arrays.asList(
+                park("1", "Kültür Parkı", "Merkez, Malatya", 4.5, 120),
+                park("2", "Beşkonaklar Parkı", "Beşkonaklar Mahallesi, Yeşilyurt", 4.1, 40),
+                park("3", "İnönü Parkı", "Battalgazi, Malatya", 4.0, 80)));
+
+        assertEquals("1", first(index.search("Kultur Parki", 10)));
+        assertEquals("1", first(index.search("kultr", 10)));
+        assertEquals("1", first(index.search("KÜLTÜRR", 10)));
+        assertEquals("2", first(index.search("Beskonaklar", 10)));
+        assertEquals("2", first(index.search("beskonaklr", 10)));
+        assertEquals("2", first(index.search("beşkonaklarr parkı", 10)));
+        assertEquals("3", first(index.search("inonu", 10)));
+        assertEquals(0, index.search("", 10).size());
+        assertEquals(0, index.search("zzqxw", 10).size());
+    }
+
+    @Test
+    public void equalSimilarity_prefersBetterRatedAndReviewedPark() {
+        ParkTrigramIndex index = new ParkTrigramIndex(Arrays.asList(
+                park("az", "Çınar Parkı", "Merkez", 3.0, 2),
+                park("cok", "Çınar Parkı", "Merkez", 4.8, 300),
+                park("orta", "Çınar Parkı", "Merkez", 4.8, 20)));
+        List<Park> result = index.search("cinar", 10);
+        assertEquals("cok", result.get(0).getId());
+        assertEquals("orta", result.get(1).getId());
+        assertEquals("az", result.get(2).getId());
+        assertEquals(1, index.search("cinar", 1).size());
+    }
+
+    @Test
+    public void ratingSummaries_replaceCatalogRatingsInScore() {
+        List<Park> parks = Arrays.asList(
+                park("az", "Çınar Parkı", "Merkez", 3.0, 2),
+                park("cok", "Çınar Parkı", "Merkez", 4.8, 300));
+        ParkTrigramIndex index = new ParkTrigramIndex(parks);
+        RatingSummary summary = RatingSummary.fromCatalog(parks.get(0));
+        for (int i = 0; i < 400; i++) {
+            summary = summary.with(5);
+        }
+        Map<String, RatingSummary> summaries = new HashMap<>();
+        summaries.put("az", summary);
+
+        assertEquals("az", first(index.withRatingSummaries(summaries).search("cinar", 10)));
+        // Özgün index değişmez
+        assertEquals("cok", first(index.search("cinar", 10)));
+    }
+
+    @Test
+    public void topK_matchesFullSort() {
+        List<Park> parks = createNamedParks(3_000, new Random(5));
+        ParkTrigramIndex index = new ParkTrigramIndex(parks);
+        Random random = new Random(9);
+        for (int i = 0; i < 200; i++) {
+            String query = misspell(NAMES[random.nextInt(NAMES.length)], random);
+            int[] all = index.searchIds(query, parks.size());
+            for (int limit : new int[] {1, 10, 50}) {
+                int[] top = index.searchIds(query, limit);
+                assertArrayEquals(query, Arrays.copyOf(all, Math.min(limit, all.length)), top);
+            }
+        }
+    }
+
+    @Test
+    public void benchmark_rankedQueriesStayFastUpTo50kParks() {
+        for (int count : new int[] {10_000, 50_000}) {
+            List<Park> parks = createNamedParks(count, new Random(1));
+            long start = System.nanoTime();
+            ParkTrigramIndex index = new ParkTrigramIndex(parks);
+            long buildNanos = System.nanoTime() - start;
+
+            Random random = new Random(3);
+            String[] queries = new String[500];
+            for (int i = 0; i < queries.length; i++) {
+                queries[i] = misspell(NAMES[random.nextInt(NAMES.length)], random);
+            }
+            // Isınma
+            for (int round = 0; round < 5; round++) {
+                for (String query : queries) {
+                    index.searchIds(query, ParkTrigramIndex.DEFAULT_LIMIT);
+                }
+            }
+
+            long results = 0;
+            start = System.nanoTime();
+            for (String query : queries) {
+                results += index.searchIds(query, ParkTrigramIndex.DEFAULT_LIMIT).length;
+            }
+            double averageMicros = (System.nanoTime() - start) / 1e3 / queries.length;
+
+            System.out.println(String.format("%d park: index %.0f ms, sıralı sorgu başına ortalama %.0f µs"
+                    + " (top-%d, ortalama %.0f sonuç)", count, buildNanos / 1e6, averageMicros,
+                    ParkTrigramIndex.DEFAULT_LIMIT, (double) results / queries.length));
+        }
+    }
+
+    /**
+     * Kelimeden bir harf siler, değiştirir veya aksanları kaldırır
+     */
+    private static String misspell(String word, Random random) {
+        StringBuilder builder = new StringBuilder(word);
+        int position = 1 + random.nextInt(word.length() - 1);
+        switch (random.nextInt(3)) {
+            case 0:
+                builder.deleteCharAt(position);
+                break;
+            case 1:
+                builder.setCharAt(position, (char) ('a' + random.nextInt(26)));
+                break;
+            default:
+                for (int i = 0; i < builder.length(); i++) {
+                    builder.setCharAt(i, ParkSearchIndex.fold(builder.charAt(i)));
+                }
+                break;
+        }
+        return builder.toString();
+    }
+
+    private static String first(List<Park> parks) {
+        assertTrue(parks.size() > 0);
+        return parks.get(0).getId();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.parkapp;
+
+import static com.example.parkapp.TestParks.park;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * RatingSummary: artımlı güncellemenin tüm değerlendirmelerden yeniden
+ * hesaplamayla karşılaştırılması, Bayes skoru ve Firestore alanlarına
+ * gidiş-dönüş.
+ */
+public class RatingSummaryTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void incrementalUpdates_matchRecompute() {
+        Random random = new Random(37);
+        Park park = park("p1", "Kernek Parkı", "Merkez", 4.2, 120);
+        RatingSummary summary = RatingSummary.fromCatalog(park);
+        // Kullanıcı -> son puanı; kullanıcılar puanlarını değiştirebilir
+        Map<Integer, Integer> reviews = new HashMap<>();
+        for (int step = 0; step < 5_000; step++) {
+            int user = random.nextInt(300);
+            int stars = 1 + random.nextInt(5);
+            Integer previous = reviews.put(user, stars);
+            if (previous != null) {
+                summary = summary.without(previous);
+            }
+            summary = summary.with(stars);
+
+            if (step % 250 == 0) {
+                assertMatches(park, reviews, summary);
+            }
+        }
+        assertMatches(park, reviews, summary);
+    }
+
+    @Test
+    public void score_shrinksSmallSamplesTowardPrior() {
+        RatingSummary single = RatingSummary.fromCatalog(park("p1", "Kernek Parkı", "Merkez", 0, 0)).with(5);
+        RatingSummary established = RatingSummary.fromCatalog(park("p1", "Kernek Parkı", "Merkez", 4.6, 300));
+        assertEquals(5.0, single.getAverage(), EPSILON);
+        assertTrue(single.getScore() < established.getScore());
+        assertEquals((RatingSummary.PRIOR_WEIGHT * RatingSummary.PRIOR_MEAN + 5) / (RatingSummary.PRIOR_WEIGHT + 1),
+                single.getScore(), EPSILON);
+
+        RatingSummary empty = RatingSummary.fromCatalog(park("p1", "Kernek Parkı", "Merkez", 0, 0));
+        assertEquals(0, empty.getCount());
+        assertEquals(0, empty.getAverage(), EPSILON);
+        assertEquals(RatingSummary.PRIOR_MEAN, empty.getScore(), EPSILON);
+    }
+
+    @Test
+    public void map_roundTrips() {
+        RatingSummary summary = RatingSummary.fromCatalog(park("p1", "Kernek Parkı", "Merkez", 4.4, 85))
+                .with(5).with(3).with(3).with(1);
+        Map<String, Object> data = summary.toMap();
+        RatingSummary read = RatingSummary.fromMap("p1", data);
+        assertEquals(summary.getCount(), read.getCount());
+        assertEquals(summary.getAverage(), read.getAverage(), EPSILON);
+        assertEquals(summary.getScore(), read.getScore(), EPSILON);
+        for (int stars = RatingSummary.MIN_STARS; stars <= RatingSummary.MAX_STARS; stars++) {
+            assertEquals(summary.getHistogramCount(stars), read.getHistogramCount(stars));
+        }
+        assertEquals(89L, data.get(RatingSummary.FIELD_COUNT));
+
+        assertNull(RatingSummary.fromMap("p1", null));
+        assertNull(RatingSummary.fromMap("p1", new HashMap<>()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void with_rejectsOutOfRangeStars() {
+        RatingSummary.fromCatalog(park("p1", "Kernek Parkı", "Merkez", 4.0, 10)).with(6);
+    }
+
+    // Tüm değerlendirmelerden baştan hesaplanan değerlerle karşılaştırır
+    private static void assertMatches(Park park, Map<Integer, Integer> reviews, RatingSummary summary) {
+        long[] histogram = new long[RatingSummary.MAX_STARS];
+        double sum = park.getRating() * park.getReviewCount();
+        for (int stars : reviews.values()) {
+            histogram[stars - 1]++;
+            sum += stars;
+        }
+        long count = park.getReviewCount() + reviews.size();
+        for (int stars = RatingSummary.MIN_STARS; stars <= RatingSummary.MAX_STARS; stars++) {
+            assertEquals(histogram[stars - 1], summary.getHistogramCount(stars));
+        }
+        assertEquals(count, summary.getCount());
+        assertEquals(sum / count, summary.getAverage(), EPSILON);
+        assertEquals((RatingSummary.PRIOR_WEIGHT * RatingSummary.PRIOR_MEAN + sum) / (RatingSummary.PRIOR_WEIGHT + count),
+                summary.getScore(), EPSILON);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.parkapp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * TestParks - Index testlerinin ortak park fixture'ları
+ *
+ * Tüm fabrikalar aynı varsayılanlarla (yönetici, açıklama, puan, konum yok)
+ * tek bir park(...) üzerinden Park üretir; testler yalnızca sınadıkları
+ * alanları verir. Rastgele üreticiler verilen Random ile belirlenimlidir.
+ *
+ * @version 1.0
+ */
+final class TestParks {
+
+    static final double CENTER_LATITUDE = 38.355;
+    static final double CENTER_LONGITUDE = 38.309;
+
+    static final String[] NAMES = {
+            "Kültür", "Beşkonaklar", "İnönü", "Işıklı", "Şehitler", "Gündoğdu", "Çınar", "Ilıca", "Yeşilyurt",
+            "Ağaçlı", "Öğretmenler", "Fırat", "Karakaya", "Aslantepe", "Kernek", "Sümer", "Hasırcılar", "Bostanbaşı"
+    };
+    static final String[] DISTRICTS = {"Merkez", "Yeşilyurt", "Battalgazi", "Doğanşehir", "Akçadağ"};
+
+    private static final String MANAGER = "Malatya Büyükşehir Belediyesi";
+    private static final String ALWAYS_OPEN = "24 Saat Açık";
+
+    private TestParks() {
+    }
+
+    static Park park(String id, String name, String address) {
+        return park(id, name, address, 4.0, 10);
+    }
+
+    static Park park(String id, String name, String address, double rating, int reviewCount) {
+        return park(id, name, address, "", ALWAYS_OPEN, true, rating, reviewCount, Double.NaN, Double.NaN);
+    }
+
+    static Park park(String id, double latitude, double longitude) {
+        return park(id, "Park " + id, "Merkez", "", ALWAYS_OPEN, true, 4.0, 10, latitude, longitude);
+    }
+
+    static Park parkWithHours(String id, String openingHours, boolean inService) {
+        return parkWithFacilities(id, "", openingHours, inService);
+    }
+
+    static Park parkWithFacilities(String id, String facilities, String openingHours, boolean inService) {
+        return park(id, "Park " + id, "Merkez", facilities, openingHours, inService, 4.0, 10, Double.NaN, Double.NaN);
+    }
+
+    private static Park park(String id, String name, String address, String facilities, String openingHours,
+                             boolean inService, double rating, int reviewCount, double latitude, double longitude) {
+        return new Park(id, name, null, "", MANAGER, address, facilities, openingHours, inService,
+                rating, reviewCount, latitude, longitude);
+    }
+
+    /**
+     * Katalog testleri için tüm alanları dolu, belirlenimli parklar (id'ler 1'den başlar)
+     */
+    static List<Park> createCatalogParks(int count) {
+        List<Park> parks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            parks.add(new Park(String.valueOf(i + 1), "Park " + i,
+                    i % 10 == 0 ? "https://example.com/parks/" + i + ".jpg" : null,
+                    "Mahallenin merkezinde bulunan geniş yeşil alanlı park #" + i
+                            + ". Yürüyüş yolları, dinlenme alanları ve çocuk oyun alanları ile aileler için uygundur.",
+                    MANAGER,
+                    "Mahalle " + (i % 400) + ", Yeşilyurt",
+                    "Çocuk Oyun Alanı, Yürüyüş Yolları, Piknik Alanları, Spor Aletleri #" + (i % 7),
+                    i % 2 == 0 ? ALWAYS_OPEN : "06:00 - 23:00",
+                    i % 5 != 0, 3.0 + (i % 20) / 10.0, i % 300));
+        }
+        return parks;
+    }
+
+    /**
+     * Arama testleri için NAMES ve DISTRICTS'ten isim ve adres, rastgele puan
+     */
+    static List<Park> createNamedParks(int count, Random random) {
+        List<Park> parks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = NAMES[random.nextInt(NAMES.length)] + " " + (i % 97) + " Parkı";
+            String address = DISTRICTS[random.nextInt(DISTRICTS.length)] + " Mahalle" + (i % 31) + ", Malatya";
+            parks.add(park(String.valueOf(i), name, address, 1 + random.nextInt(40) / 10.0, random.nextInt(500)));
+        }
+        return parks;
+    }
+
+    /**
+     * Mahalle merkezleri etrafında kümelenmiş konumlar (Malatya merkezli,
+     * 40x40 merkez ızgarası)
+     *
+     * @param withoutLocationEvery Her bu kadar parktan biri konumsuz (NaN)
+     * @param centerSpacing Küme merkezleri arası derece
+     * @param spread Küme içi Gauss sapması (derece)
+     */
+    static List<Park> createClusteredParks(int count, Random random, int withoutLocationEvery,
+                                           double centerSpacing, double spread) {
+        List<Park> parks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i % withoutLocationEvery == 0) {
+                parks.add(park(String.valueOf(i), Double.NaN, Double.NaN));
+                continue;
+            }
+            double clusterLatitude = CENTER_LATITUDE + ((i * 7919) % 40 - 20) * centerSpacing;
+            double clusterLongitude = CENTER_LONGITUDE + ((i * 104729) % 40 - 20) * centerSpacing;
+            parks.add(park(String.valueOf(i), clusterLatitude + random.nextGaussian() * spread,
+                    clusterLongitude + random.nextGaussian() * spread));
+        }
+        return parks;
+    }
+}